@@ -0,0 +1,76 @@
+package com.srinivasa.refrigerationworks.srw.utility;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Measures login throughput (password checks per second) at different BCrypt costs, with 8 concurrent logins.
+ * Compares hashing on the calling thread with the bounded pool at half the available processors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Threads(8)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    /*
+     * BCrypt cost factor.
+     */
+    @Param({"8", "10", "12"})
+    public int cost;
+
+    /*
+     * Where hashes run: the calling thread, or the bounded pool.
+     */
+    @Param({"caller", "bounded"})
+    public String encoder;
+
+    /*
+     * Encoder under test.
+     */
+    private PasswordEncoder passwordEncoder;
+
+    /*
+     * Stored hash checked by every login.
+     */
+    private String encodedPassword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        passwordEncoder = encoder.equals("caller")
+                ? new BCryptPasswordEncoder(cost)
+                : new BoundedPasswordEncoder(cost, cost, Math.max(1, Runtime.getRuntime().availableProcessors() / 2), 1000);
+        encodedPassword = passwordEncoder.encode("password@123");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (passwordEncoder instanceof BoundedPasswordEncoder boundedPasswordEncoder) {
+            boundedPasswordEncoder.shutdown();
+        }
+    }
+
+    @Benchmark
+    public boolean login() {
+        return passwordEncoder.matches("password@123", encodedPassword);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.srinivasa.refrigerationworks.srw.utility.analytics;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintGroupDTO;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintDimension;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintState;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/*
+ * Compares group-by queries over the columnar complaint snapshot with streams over complaint DTOs.
+ * Each query counts active complaints per group, as the analytics endpoint does with a state filter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ComplaintAnalyticsBenchmark {
+
+    /*
+     * Number of complaints.
+     */
+    @Param({"100000", "1000000"})
+    public int size;
+
+    /*
+     * Dimension grouped by: a dictionary-encoded column, or the month derived from the creation time.
+     */
+    @Param({"BRAND", "MONTH"})
+    public ComplaintDimension dimension;
+
+    /*
+     * Complaints as DTOs, as loaded by the list pages.
+     */
+    private List<ComplaintDTO> complaints;
+
+    /*
+     * The same complaints as a columnar snapshot.
+     */
+    private ComplaintColumns columns;
+
+    /*
+     * Filter applied by every query.
+     */
+    private ComplaintColumns.Filter filter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        complaints = complaints(size);
+        columns = new ComplaintColumns(size);
+        for (int index = 0; index < complaints.size(); index++) {
+            ComplaintDTO complaint = complaints.get(index);
+            columns.upsert(index + 1, complaint.getStatus(), complaint.getState(), complaint.getCreatedAt(), complaint.getClosedAt(),
+                    complaint.getBrand(), complaint.getProductType(), complaint.getProductModel(), complaint.getTechnicianId());
+        }
+        filter = ComplaintColumns.Filter.builder().state(ComplaintState.ACTIVE).build();
+    }
+
+    @Benchmark
+    public List<ComplaintGroupDTO> columnar() {
+        return columns.groupBy(dimension, filter, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public Map<String, Long> dtoStream() {
+        return group(complaints.stream());
+    }
+
+    @Benchmark
+    public Map<String, Long> dtoParallelStream() {
+        return group(complaints.parallelStream());
+    }
+
+    /*
+     * Counts active complaints per group of the dimension.
+     */
+    private Map<String, Long> group(Stream<ComplaintDTO> stream) {
+        return stream
+                .filter(complaint -> complaint.getState() == ComplaintState.ACTIVE)
+                .collect(Collectors.groupingBy(complaint -> Objects.requireNonNullElse(dimension.groupOf(complaint), ""), Collectors.counting()));
+    }
+
+    /*
+     * Builds complaints spread over five years, with a few brands and product types, a hundred models and twenty technicians.
+     */
+    static List<ComplaintDTO> complaints(int size) {
+        String[] brands = {"LG", "Samsung", "Whirlpool", "Godrej", "Voltas", "Blue Star", "Haier", "Panasonic"};
+        String[] productTypes = {"Refrigerator", "Air Conditioner", "Washing Machine", "Water Cooler"};
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 9, 0);
+        List<ComplaintDTO> complaints = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            LocalDateTime createdAt = start.plusMinutes(index * (5L * 365 * 24 * 60 / size));
+            ComplaintStatus status = ComplaintStatus.values()[index % ComplaintStatus.values().length];
+            complaints.add(ComplaintDTO.builder()
+                    .complaintId(String.format("SRWC%08d", index + 1))
+                    .brand(new String(brands[index % brands.length]))
+                    .productType(new String(productTypes[index % productTypes.length]))
+                    .productModel("MODEL-" + (index % 100))
+                    .createdAt(createdAt)
+                    .closedAt(status == ComplaintStatus.RESOLVED ? createdAt.plusHours(index % 72) : null)
+                    .status(status)
+                    .technicianId("SRWE" + String.format("%06d", index % 20))
+                    .state(index % 10 == 0 ? ComplaintState.IN_ACTIVE : ComplaintState.ACTIVE)
+                    .build());
+        }
+        return complaints;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,191 @@
+package com.srinivasa.refrigerationworks.srw.utility.cache;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.CustomerDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.EmployeeDTO;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintState;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintStatus;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserStatus;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Compares the binary cache codec with JDK serialization on the cached complaint, employee and customer lists.
+ * Times are reported by JMH, with the encoded size as the 'encodedBytes' secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheCodecBenchmark {
+
+    /*
+     * Number of entries in the cached list: one page, or a full legacy list.
+     */
+    @Param({"25", "1000"})
+    public int size;
+
+    /*
+     * DTOs in the cached list.
+     */
+    @Param({"complaint", "employee", "customer"})
+    public String list;
+
+    /*
+     * Codec under test: JDK serialization, binary without compression, binary with GZIP above 1 KiB.
+     */
+    @Param({"jdk", "binary", "binary-gzip"})
+    public String codec;
+
+    /*
+     * Serializer under test.
+     */
+    private RedisSerializer<Object> serializer;
+
+    /*
+     * Value encoded by the encode benchmark.
+     */
+    private List<?> values;
+
+    /*
+     * Bytes decoded by the decode benchmark.
+     */
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ClassLoader classLoader = getClass().getClassLoader();
+        serializer = switch (codec) {
+            case "jdk" -> RedisSerializer.java(classLoader);
+            case "binary" -> new BinaryCacheSerializer(classLoader, 0);
+            default -> new BinaryCacheSerializer(classLoader, 1024);
+        };
+        values = switch (list) {
+            case "complaint" -> complaints(size);
+            case "employee" -> employees(size);
+            default -> customers(size);
+        };
+        encoded = serializer.serialize(values);
+    }
+
+    @Benchmark
+    public byte[] encode(EncodedSize encodedSize) {
+        byte[] bytes = serializer.serialize(values);
+        encodedSize.encodedBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public Object decode(EncodedSize encodedSize) {
+        encodedSize.encodedBytes = encoded.length;
+        return serializer.deserialize(encoded);
+    }
+
+    /*
+     * Secondary result reporting the encoded size of the list; set by each invocation, since JMH zeroes it after setup.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+
+        /*
+         * Encoded size in bytes.
+         */
+        public long encodedBytes;
+    }
+
+    /*
+     * Builds complaints shaped like production rows: few customers, bookers and technicians, varied free text.
+     */
+    static List<ComplaintDTO> complaints(int size) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 9, 30);
+        List<ComplaintDTO> complaints = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            complaints.add(ComplaintDTO.builder()
+                    .complaintId(String.format("SRWC%08d", index + 1))
+                    .bookedById("SRWCU" + String.format("%06d", index % 40))
+                    .customerName("Customer " + (index % 40))
+                    .contactNumber("+9198" + String.format("%08d", index % 40))
+                    .email("customer" + (index % 40) + "@example.com")
+                    .address((index % 40) + ", Main Road, Hyderabad, Telangana 5000" + (index % 10))
+                    .productType(index % 2 == 0 ? "Refrigerator" : "Air Conditioner")
+                    .brand(index % 3 == 0 ? "LG" : "Samsung")
+                    .productModel("MODEL-" + (index % 12))
+                    .description("Unit not cooling properly, compressor noise reported on visit " + index)
+                    .createdAt(createdAt.plusMinutes(index * 17L))
+                    .status(ComplaintStatus.values()[index % ComplaintStatus.values().length])
+                    .updatedAt(createdAt.plusMinutes(index * 17L + 60))
+                    .technicianId("SRWE" + String.format("%06d", index % 8))
+                    .state(ComplaintState.ACTIVE)
+                    .build());
+        }
+        return complaints;
+    }
+
+    /*
+     * Builds employees with a few designations, as listed on the employee pages.
+     */
+    static List<EmployeeDTO> employees(int size) {
+        LocalDateTime hiredAt = LocalDateTime.of(2020, 6, 1, 10, 0);
+        List<EmployeeDTO> employees = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            employees.add(EmployeeDTO.builder()
+                    .employeeId("SRW" + String.format("%04d", index + 1))
+                    .firstName("Employee")
+                    .lastName("Number " + index)
+                    .dateOfBirth(LocalDate.of(1980 + index % 20, 1 + index % 12, 1 + index % 28))
+                    .gender(index % 2 == 0 ? "Male" : "Female")
+                    .phoneNumber("+9197" + String.format("%08d", index))
+                    .email("employee" + index + "@example.com")
+                    .address(index + ", Main Road, Hyderabad, Telangana 5000" + (index % 10))
+                    .nationalIdNumber(String.format("%012d", index))
+                    .dateOfHire(hiredAt.plusDays(index))
+                    .designation(index % 4 == 0 ? "Supervisor" : "Technician")
+                    .salary(25000L + index % 10 * 1000L)
+                    .status(UserStatus.ACTIVE)
+                    .build());
+        }
+        return employees;
+    }
+
+    /*
+     * Builds customers, as listed on the customer pages.
+     */
+    static List<CustomerDTO> customers(int size) {
+        List<CustomerDTO> customers = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            customers.add(CustomerDTO.builder()
+                    .customerId("SRW" + String.format("%07d", index + 1))
+                    .firstName("Customer")
+                    .lastName("Number " + index)
+                    .dateOfBirth(LocalDate.of(1970 + index % 30, 1 + index % 12, 1 + index % 28))
+                    .gender(index % 2 == 0 ? "Male" : "Female")
+                    .phoneNumber("+9198" + String.format("%08d", index))
+                    .email("customer" + index + "@example.com")
+                    .address(index + ", Main Road, Hyderabad, Telangana 5000" + (index % 10))
+                    .status(UserStatus.ACTIVE)
+                    .build());
+        }
+        return customers;
+    }
+}
\ No newline at end of file
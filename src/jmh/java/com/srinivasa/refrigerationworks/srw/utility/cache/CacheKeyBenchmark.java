@@ -0,0 +1,155 @@
+package com.srinivasa.refrigerationworks.srw.utility.cache;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintIdentifierDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.EmployeeDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.PasswordResetDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Measures cache hits through the @Cacheable interceptor with the key expressions the services use.
+ * Every call hits an in-memory cache, so the difference to the default key is the cost of evaluating the SpEL key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheKeyBenchmark {
+
+    /*
+     * Context holding the caching proxy.
+     */
+    private AnnotationConfigApplicationContext context;
+
+    /*
+     * Proxied lookups under test.
+     */
+    private CachedLookups lookups;
+
+    /*
+     * Arguments passed to the lookups.
+     */
+    private EmployeeDTO employeeDTO;
+    private PasswordResetDTO passwordResetDTO;
+    private ComplaintIdentifierDTO complaintIdentifierDTO;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(CachingConfiguration.class);
+        lookups = context.getBean(CachedLookups.class);
+        employeeDTO = EmployeeDTO.builder().employeeId("SRWE001").build();
+        passwordResetDTO = PasswordResetDTO.builder().username("ravikumar").phoneNumber("9800000002").build();
+        complaintIdentifierDTO = ComplaintIdentifierDTO.builder().identifier("+919800000001").registeredDate(LocalDate.of(2024, 1, 1)).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object defaultKey() {
+        return lookups.defaultKey("SRWE001");
+    }
+
+    @Benchmark
+    public Object literalKey() {
+        return lookups.literalKey();
+    }
+
+    @Benchmark
+    public Object parameterKey() {
+        return lookups.parameterKey("SRWE001");
+    }
+
+    @Benchmark
+    public Object propertyKey() {
+        return lookups.propertyKey(employeeDTO);
+    }
+
+    @Benchmark
+    public Object compositeKey() {
+        return lookups.compositeKey(passwordResetDTO);
+    }
+
+    @Benchmark
+    public Object staticMethodKey() {
+        return lookups.staticMethodKey(complaintIdentifierDTO, "SRWCU000001", "ROLE_CUSTOMER");
+    }
+
+    /*
+     * Caching configuration over an in-memory cache, so only the interceptor and key evaluation are measured.
+     */
+    @Configuration
+    @EnableCaching
+    public static class CachingConfiguration {
+
+        @Bean
+        public CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager("lookup");
+        }
+
+        @Bean
+        public CachedLookups cachedLookups() {
+            return new CachedLookups();
+        }
+    }
+
+    /*
+     * Lookups keyed like the service methods, e.g. EmployeeService, UserCredentialService and ComplaintService.
+     */
+    public static class CachedLookups {
+
+        @Cacheable("lookup")
+        public Object defaultKey(String employeeId) {
+            return employeeId;
+        }
+
+        @Cacheable(value = "lookup", key = "'employee_list'")
+        public Object literalKey() {
+            return "list";
+        }
+
+        @Cacheable(value = "lookup", key = "'fetch-' + #identifier")
+        public Object parameterKey(String identifier) {
+            return identifier;
+        }
+
+        @Cacheable(value = "lookup", key = "'update-' + #employeeDTO.employeeId")
+        public Object propertyKey(EmployeeDTO employeeDTO) {
+            return employeeDTO.getEmployeeId();
+        }
+
+        @Cacheable(value = "lookup", key = "'validate-' + #passwordResetDTO.username + '&' + #passwordResetDTO.phoneNumber")
+        public Object compositeKey(PasswordResetDTO passwordResetDTO) {
+            return passwordResetDTO.getUsername();
+        }
+
+        @Cacheable(value = "lookup", key = "T(com.srinivasa.refrigerationworks.srw.service.ComplaintService).searchCacheKey(#complaintIdentifierDTO, #bookedById, #userRole)")
+        public Object staticMethodKey(ComplaintIdentifierDTO complaintIdentifierDTO, String bookedById, String userRole) {
+            return complaintIdentifierDTO.getIdentifier();
+        }
+    }
+}
\ No newline at end of file
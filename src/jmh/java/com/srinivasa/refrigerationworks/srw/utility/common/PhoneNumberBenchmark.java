@@ -0,0 +1,65 @@
+package com.srinivasa.refrigerationworks.srw.utility.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/*
+ * Measures phone number checks and formatting on identifiers as typed into the search and recovery forms.
+ * String.matches("\\d{10}"), as PasswordResetValidation uses it, compiles its pattern on every call; the precompiled
+ * pattern and IdentifierClassifier's character scan are measured alongside it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PhoneNumberBenchmark {
+
+    /*
+     * Ten-digit phone number, phone number with country code, and email.
+     */
+    @Param({"9876543210", "+919876543210", "customer1@example.com"})
+    public String identifier;
+
+    /*
+     * Pattern of a ten-digit phone number, compiled once.
+     */
+    private static final Pattern TEN_DIGITS = Pattern.compile("\\d{10}");
+
+    @Benchmark
+    public String formatPhoneNumber() {
+        return PhoneNumberFormatter.formatPhoneNumber(identifier);
+    }
+
+    @Benchmark
+    public String normalize() {
+        return IdentifierClassifier.normalize(identifier);
+    }
+
+    @Benchmark
+    public Object classify() {
+        return IdentifierClassifier.classify(identifier);
+    }
+
+    @Benchmark
+    public boolean stringMatches() {
+        return identifier.matches("\\d{10}");
+    }
+
+    @Benchmark
+    public boolean precompiledPattern() {
+        return TEN_DIGITS.matcher(identifier).matches();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.srinivasa.refrigerationworks.srw.utility.mapper;
+
+import com.srinivasa.refrigerationworks.srw.entity.Complaint;
+import com.srinivasa.refrigerationworks.srw.entity.Employee;
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.EmployeeDTO;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintState;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintStatus;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Measures the generated complaint and employee mappers, run once per row by every list page and registration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    /*
+     * Mappers under test, as generated by MapStruct.
+     */
+    private final ComplaintMapper complaintMapper = new ComplaintMapperImpl();
+    private final EmployeeMapper employeeMapper = new EmployeeMapperImpl();
+
+    /*
+     * Values mapped by the benchmarks.
+     */
+    private ComplaintDTO complaintDTO;
+    private Complaint complaint;
+    private EmployeeDTO employeeDTO;
+    private Employee employee;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 9, 30);
+        complaintDTO = ComplaintDTO.builder()
+                .complaintId("SRWC00000001")
+                .bookedById("SRWCU000001")
+                .customerName("Customer 1")
+                .contactNumber("+919800000001")
+                .email("customer1@example.com")
+                .address("1, Main Road, Hyderabad, Telangana 500001")
+                .productType("Refrigerator")
+                .brand("LG")
+                .productModel("MODEL-1")
+                .description("Unit not cooling properly, compressor noise reported on visit")
+                .createdAt(createdAt)
+                .status(ComplaintStatus.OPEN)
+                .updatedAt(createdAt.plusHours(1))
+                .technicianId("SRWE000001")
+                .state(ComplaintState.ACTIVE)
+                .build();
+        complaint = complaintMapper.toEntity(complaintDTO);
+        complaint.setComplaintId(complaintDTO.getComplaintId());
+        complaint.setBookedById(complaintDTO.getBookedById());
+        complaint.setUpdatedAt(createdAt.plusHours(1));
+
+        employeeDTO = EmployeeDTO.builder()
+                .employeeId("SRWE001")
+                .firstName("Ravi")
+                .lastName("Kumar")
+                .dateOfBirth(LocalDate.of(1990, 5, 17))
+                .gender("Male")
+                .phoneNumber("+919800000002")
+                .email("ravi.kumar@example.com")
+                .address("2, Main Road, Hyderabad, Telangana 500001")
+                .nationalIdNumber("123412341234")
+                .dateOfHire(createdAt)
+                .designation("Technician")
+                .salary(30000L)
+                .status(UserStatus.ACTIVE)
+                .build();
+        employee = employeeMapper.toEntity(employeeDTO);
+        employee.setEmployeeId(employeeDTO.getEmployeeId());
+        employee.setUpdatedAt(createdAt);
+    }
+
+    @Benchmark
+    public Complaint complaintToEntity() {
+        return complaintMapper.toEntity(complaintDTO);
+    }
+
+    @Benchmark
+    public ComplaintDTO complaintToDto() {
+        return complaintMapper.toDto(complaint);
+    }
+
+    @Benchmark
+    public Employee employeeToEntity() {
+        return employeeMapper.toEntity(employeeDTO);
+    }
+
+    @Benchmark
+    public EmployeeDTO employeeToDto() {
+        return employeeMapper.toDto(employee);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.srinivasa.refrigerationworks.srw.validation;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.EmployeeDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.UserCredentialDTO;
+import com.srinivasa.refrigerationworks.srw.service.UniqueValueFilterService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Measures the class-level validators on a registration form, which read fields through BeanWrapper reflection.
+ * The unique value check takes the path of a value the filter has never seen, so no query runs and the cost measured is
+ * the property access and normalization alone. Valid values need no ConstraintValidatorContext.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    /*
+     * Validators under test, initialized from the annotations on the DTOs.
+     */
+    private FieldMatchConstraintValidator fieldMatchValidator;
+    private UniqueValueConstraintValidator uniqueValueValidator;
+
+    /*
+     * Forms validated by the benchmarks.
+     */
+    private UserCredentialDTO userCredentialDTO;
+    private EmployeeDTO employeeDTO;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fieldMatchValidator = new FieldMatchConstraintValidator();
+        fieldMatchValidator.initialize(UserCredentialDTO.class.getAnnotation(FieldMatch.class));
+
+        /*
+         * Filter reporting every value as new, so the validator returns before any repository call.
+         */
+        UniqueValueFilterService uniqueValueFilterService = new UniqueValueFilterService(null, null, null, "off", 1, 0.5) {
+            @Override
+            public boolean mightContain(String fieldName, String value) {
+                return false;
+            }
+        };
+        uniqueValueValidator = new UniqueValueConstraintValidator(null, null, null, uniqueValueFilterService);
+        uniqueValueValidator.initialize(EmployeeDTO.class.getAnnotationsByType(UniqueValue.class)[0]);
+
+        userCredentialDTO = UserCredentialDTO.builder()
+                .username("ravikumar")
+                .password("Secret@123")
+                .confirmPassword("Secret@123")
+                .build();
+        employeeDTO = EmployeeDTO.builder()
+                .firstName("Ravi")
+                .lastName("Kumar")
+                .dateOfBirth(LocalDate.of(1990, 5, 17))
+                .phoneNumber("9800000002")
+                .email("ravi.kumar@example.com")
+                .nationalIdNumber("123412341234")
+                .build();
+    }
+
+    @Benchmark
+    public boolean fieldMatch() {
+        return fieldMatchValidator.isValid(userCredentialDTO, null);
+    }
+
+    @Benchmark
+    public boolean uniqueValue() {
+        return uniqueValueValidator.isValid(employeeDTO, null);
+    }
+}
\ No newline at end of file
@@ -3,12 +3,14 @@ package com.srinivasa.refrigerationworks.srw;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /*
- * Main application class to start the Spring Boot application with caching enabled.
+ * Main application class to start the Spring Boot application with caching and scheduling enabled.
  */
 @SpringBootApplication
 @EnableCaching
+@EnableScheduling
 public class SrwApplication {
 
 	/*
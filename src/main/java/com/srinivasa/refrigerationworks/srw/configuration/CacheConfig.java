@@ -0,0 +1,159 @@
+package com.srinivasa.refrigerationworks.srw.configuration;
+
+import com.srinivasa.refrigerationworks.srw.utility.cache.BinaryCacheSerializer;
+import com.srinivasa.refrigerationworks.srw.utility.cache.MeteredRedisCacheWriter;
+import com.srinivasa.refrigerationworks.srw.utility.cache.RedisCacheErrorHandler;
+import com.srinivasa.refrigerationworks.srw.utility.cache.RedisCircuitBreaker;
+import com.srinivasa.refrigerationworks.srw.utility.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/*
+ * Cache configuration for Redis-backed values.
+ */
+@Configuration
+@EnableConfigurationProperties({CacheProperties.class, NearCacheProperties.class, CacheLoadingProperties.class, CacheResilienceProperties.class,
+        CacheExpiryProperties.class})
+public class CacheConfig {
+
+    /*
+     * CacheManager backing the cache annotations: an in-process tier in front of Redis.
+     * The Redis tier is built from 'spring.cache.redis.*' the same way Spring Boot would build it on its own.
+     * Caches listed in 'srw.cache.expiry.caches' get their own time-to-live.
+     * Each cache's time-to-live also sets when its entries become due for refresh-ahead.
+     * Cache meters and the sizes of values read and written are registered with the MeterRegistry.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory, CacheProperties cacheProperties,
+                                             NearCacheProperties nearCacheProperties, CacheLoadingProperties cacheLoadingProperties,
+                                             CacheResilienceProperties cacheResilienceProperties, CacheExpiryProperties cacheExpiryProperties,
+                                             StringRedisTemplate stringRedisTemplate,
+                                             RedisSerializer<Object> cacheValueSerializer, RedisCircuitBreaker redisCircuitBreaker,
+                                             MeterRegistry meterRegistry) {
+        RedisCacheWriter redisCacheWriter = new MeteredRedisCacheWriter(RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory), meterRegistry);
+        RedisCacheConfiguration defaultConfiguration = redisCacheConfiguration(cacheProperties, cacheValueSerializer);
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+        cacheExpiryProperties.getCaches().forEach((cacheName, timeToLive) -> cacheConfigurations.put(cacheName, defaultConfiguration.entryTtl(timeToLive)));
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisCacheWriter)
+                .cacheDefaults(defaultConfiguration)
+                .initialCacheNames(new LinkedHashSet<>(cacheProperties.getCacheNames()))
+                .withInitialCacheConfigurations(cacheConfigurations)
+                .build();
+        redisCacheManager.afterPropertiesSet();
+        return new TwoLevelCacheManager(redisCacheManager, nearCacheProperties, cacheLoadingProperties, cacheResilienceProperties,
+                cacheProperties.getRedis().getTimeToLive(), stringRedisTemplate, redisCircuitBreaker, meterRegistry);
+    }
+
+    /*
+     * Circuit breaker shared by the cache manager and every other component calling Redis.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public RedisCircuitBreaker redisCircuitBreaker(CacheResilienceProperties cacheResilienceProperties) {
+        return new RedisCircuitBreaker(cacheResilienceProperties.getFailureThreshold(), cacheResilienceProperties.getOpenDuration());
+    }
+
+    /*
+     * Handler for errors escaping a cache during @Cacheable, @CachePut and @CacheEvict calls.
+     */
+    @Bean
+    public RedisCacheErrorHandler cacheErrorHandler(RedisCircuitBreaker redisCircuitBreaker) {
+        return new RedisCacheErrorHandler(redisCircuitBreaker);
+    }
+
+    /*
+     * Registers the cache error handler with the cache annotations, so a cache failure never fails the annotated call.
+     */
+    @Bean
+    public CachingConfigurer cachingConfigurer(RedisCacheErrorHandler cacheErrorHandler) {
+        return new CachingConfigurer() {
+            @Override
+            public CacheErrorHandler errorHandler() {
+                return cacheErrorHandler;
+            }
+        };
+    }
+
+    /*
+     * Subscribes the cache manager to in-process tier invalidations published by other nodes.
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            TwoLevelCacheManager cacheManager,
+                                                                            NearCacheProperties nearCacheProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(nearCacheProperties.getInvalidationChannel()));
+        return container;
+    }
+
+    /*
+     * Serializer for cached values, selected by 'srw.cache.codec.type'.
+     * - binary: compact schema-versioned encoding that still reads JDK-serialized entries.
+     * - jdk: plain JDK serialization.
+     */
+    @Bean
+    public RedisSerializer<Object> cacheValueSerializer(@Value("${srw.cache.codec.type:binary}") String codecType,
+                                                        @Value("${srw.cache.codec.compression-threshold:1024}") int compressionThreshold) {
+        return switch (codecType) {
+            case "binary" -> new BinaryCacheSerializer(getClass().getClassLoader(), compressionThreshold);
+            case "jdk" -> RedisSerializer.java(getClass().getClassLoader());
+            default -> throw new IllegalArgumentException("Unknown cache codec: " + codecType);
+        };
+    }
+
+    /*
+     * RedisTemplate for cache values managed outside the Spring cache annotations.
+     * - Keys are plain strings so they share the 'cacheName::key' layout of RedisCacheManager.
+     * - Values use the same serializer as the cache manager.
+     */
+    @Bean
+    public RedisTemplate<String, Object> cacheRedisTemplate(RedisConnectionFactory redisConnectionFactory, RedisSerializer<Object> cacheValueSerializer) {
+        RedisTemplate<String, Object> cacheRedisTemplate = new RedisTemplate<>();
+        cacheRedisTemplate.setConnectionFactory(redisConnectionFactory);
+        cacheRedisTemplate.setKeySerializer(RedisSerializer.string());
+        cacheRedisTemplate.setValueSerializer(cacheValueSerializer);
+        return cacheRedisTemplate;
+    }
+
+    /*
+     * Default Redis cache configuration from 'spring.cache.redis.*', with the configured value serializer.
+     */
+    private RedisCacheConfiguration redisCacheConfiguration(CacheProperties cacheProperties, RedisSerializer<Object> cacheValueSerializer) {
+        CacheProperties.Redis redisProperties = cacheProperties.getRedis();
+        RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(SerializationPair.fromSerializer(cacheValueSerializer));
+        if (redisProperties.getTimeToLive() != null) {
+            configuration = configuration.entryTtl(redisProperties.getTimeToLive());
+        }
+        if (redisProperties.getKeyPrefix() != null) {
+            configuration = configuration.prefixCacheNameWith(redisProperties.getKeyPrefix());
+        }
+        if (!redisProperties.isCacheNullValues()) {
+            configuration = configuration.disableCachingNullValues();
+        }
+        if (!redisProperties.isUseKeyPrefix()) {
+            configuration = configuration.disableKeyPrefix();
+        }
+        return configuration;
+    }
+}
\ No newline at end of file
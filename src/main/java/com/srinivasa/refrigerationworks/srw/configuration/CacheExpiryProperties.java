@@ -0,0 +1,23 @@
+package com.srinivasa.refrigerationworks.srw.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * Configuration properties for Redis entry lifetimes of single caches.
+ * Caches listed under 'caches' expire after their own time-to-live, whatever 'spring.cache.redis.time-to-live' the active
+ * profile sets; the others keep that default.
+ */
+@Data
+@ConfigurationProperties(prefix = "srw.cache.expiry")
+public class CacheExpiryProperties {
+
+    /*
+     * Redis time-to-live per cache name.
+     */
+    private Map<String, Duration> caches = new HashMap<>();
+}
\ No newline at end of file
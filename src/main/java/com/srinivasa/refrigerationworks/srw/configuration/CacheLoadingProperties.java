@@ -0,0 +1,58 @@
+package com.srinivasa.refrigerationworks.srw.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/*
+ * Configuration properties for loading values into caches read with @Cacheable(sync = true).
+ * - Concurrent misses for one key on a node always share a single load.
+ * - With 'distributed-lock', nodes also take a short Redis lock per key, and nodes that lose it wait for the winner's value.
+ * - With a 'refresh-ahead-fraction' above zero, entries read within that share of their Redis time-to-live are reloaded in the background.
+ * - Evictions leave a short-lived marker in Redis, so a load that started before one does not keep its value.
+ */
+@Data
+@ConfigurationProperties(prefix = "srw.cache.loading")
+public class CacheLoadingProperties {
+
+    /*
+     * Whether a miss takes a Redis lock so only one node loads the key.
+     */
+    private boolean distributedLock = false;
+
+    /*
+     * Expiry of the Redis lock, bounding how long a crashed loader can hold it.
+     */
+    private Duration lockLeaseTime = Duration.ofSeconds(30);
+
+    /*
+     * How long a node that lost the lock waits for the value before loading it itself.
+     */
+    private Duration lockWaitTime = Duration.ofSeconds(5);
+
+    /*
+     * Interval at which a waiting node re-reads Redis for the value.
+     */
+    private Duration lockPollInterval = Duration.ofMillis(50);
+
+    /*
+     * Share of the Redis time-to-live, at the end of an entry's life, during which a read triggers a background reload; 0 disables.
+     */
+    private double refreshAheadFraction = 0.2;
+
+    /*
+     * Threads running background reloads.
+     */
+    private int refreshThreads = 2;
+
+    /*
+     * Background reloads waiting beyond this are dropped; the entry is then loaded on its next miss.
+     */
+    private int refreshQueueCapacity = 100;
+
+    /*
+     * How long eviction markers are kept; must exceed the longest load, or a slower load may keep a value read before an eviction.
+     */
+    private Duration evictionMarkerTimeToLive = Duration.ofMinutes(5);
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.srinivasa.refrigerationworks.srw.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/*
+ * Configuration properties for running while Redis is slow or unreachable.
+ * - Consecutive Redis failures open a circuit breaker; while it is open, Redis is not called at all.
+ * - Cached values are then served from a small in-process fallback cache, or loaded from the database.
+ * - Evictions made meanwhile are replayed on Redis when a probe finds it reachable again.
+ */
+@Data
+@ConfigurationProperties(prefix = "srw.cache.resilience")
+public class CacheResilienceProperties {
+
+    /*
+     * Consecutive Redis failures that open the circuit.
+     */
+    private int failureThreshold = 5;
+
+    /*
+     * Time the circuit stays open before a single probe call is let through.
+     */
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    /*
+     * Maximum number of entries kept per cache in the fallback cache while Redis is unavailable.
+     */
+    private long fallbackMaximumSize = 500;
+
+    /*
+     * Time after which a fallback entry is dropped and loaded again.
+     */
+    private Duration fallbackTimeToLive = Duration.ofSeconds(60);
+
+    /*
+     * Evictions remembered per cache while Redis is unavailable; beyond this the whole cache is cleared on recovery.
+     */
+    private int pendingEvictionLimit = 1000;
+}
\ No newline at end of file
@@ -1,62 +1,44 @@
 package com.srinivasa.refrigerationworks.srw.configuration;
 
+import com.srinivasa.refrigerationworks.srw.utility.BoundedPasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.LogoutConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.provisioning.JdbcUserDetailsManager;
-import org.springframework.security.provisioning.UserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 
-import javax.sql.DataSource;
+import java.time.Duration;
 
 /*
  * Custom security configuration for login and access control.
+ * Users are loaded by CachedUserDetailsService, the only UserDetailsService bean.
  */
+@Slf4j
 @Configuration
 public class LoginSecurityConfig {
 
     /*
-     * Configures and returns a UserDetailsManager for managing user authentication and authorities.
-     * Uses JDBC to fetch user credentials and roles from the database.
+     * Bean configuration for PasswordEncoder using BCrypt on a bounded hashing pool.
+     * - The cost is fixed by 'srw.security.password.cost', or with 'auto' calibrated at startup to 'target-latency';
+     *   either way it never exceeds 'maximum-cost'.
+     * - The pool defaults to half the available processors, leaving the rest for requests that do not hash.
      */
     @Bean
-    public UserDetailsManager userDetailsManager(DataSource dataSource) {
-        JdbcUserDetailsManager userDetailsManager = new JdbcUserDetailsManager(dataSource);
-
-        /*
-         * SQL query to fetch user credentials (username, password, enabled status) from the database.
-         */
-        String usersByUserNameQuery = """
-                SELECT username, password, enabled
-                FROM user_credentials
-                WHERE username=?;
-                """;
-
-        /*
-         * SQL query to fetch user roles (roles associated with username) from the database.
-         */
-        String authoritiesByUserNameQuery = """
-                SELECT username, roles
-                FROM user_roles
-                WHERE username=?;
-                """;
-
-        userDetailsManager.setUsersByUsernameQuery(usersByUserNameQuery);
-        userDetailsManager.setAuthoritiesByUsernameQuery(authoritiesByUserNameQuery);
-
-        return userDetailsManager;
-    }
-
-    /*
-     * Bean configuration for PasswordEncoder using BCrypt.
-     */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(@Value("${srw.security.password.cost:auto}") String cost,
+                                                  @Value("${srw.security.password.target-latency:250ms}") Duration targetLatency,
+                                                  @Value("${srw.security.password.minimum-cost:10}") int minimumCost,
+                                                  @Value("${srw.security.password.maximum-cost:14}") int maximumCost,
+                                                  @Value("${srw.security.password.hashing-threads:0}") int hashingThreads,
+                                                  @Value("${srw.security.password.queue-capacity:200}") int queueCapacity) {
+        int bcryptCost = cost.equals("auto") ? BoundedPasswordEncoder.calibrateCost(targetLatency, minimumCost, maximumCost) : Integer.parseInt(cost);
+        int threads = hashingThreads > 0 ? hashingThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(bcryptCost, maximumCost, threads, queueCapacity);
+        log.info("Password hashing with BCrypt cost {} on {} threads", passwordEncoder.getCost(), threads);
+        return passwordEncoder;
     }
 
     /*
@@ -86,6 +68,12 @@ public class LoginSecurityConfig {
                         .requestMatchers("/css/**").permitAll()
                         .requestMatchers("/", "/SRW/home").permitAll()
 
+                        /*
+                         * Allow the health and Prometheus scrape endpoints to be accessed without authentication.
+                         * - They are served only on the management port, which is not published.
+                         */
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+
                         /*
                          * Allow customer registration and confirmation pages to be accessed by anyone.
                          */
@@ -102,6 +90,8 @@ public class LoginSecurityConfig {
                          * - "/SRW/employee/register", "/SRW/employee/confirmation": Access to employee registration and confirmation pages.
                          * - "/SRW/employee/list", "/SRW/customer/list", "/SRW/complaint/list": Access to various list pages.
                          * - "/SRW/employee/active-list", "/SRW/customer/active-list", "/SRW/complaint/active-list": Access to various active-list pages.
+                         * - "/SRW/complaint/archived-list": Access to the archived complaints page.
+                         * - "/SRW/complaint/text-search": Access to free-text complaint search.
                          * - "/SRW/employee/search", "/SRW/customer/search": Access to various search pages.
                          * - "/SRW/employee/activate", "/SRW/customer/activate", "/SRW/complaint/activate": Access to various active pages.
                          * - "/SRW/employee/deactivate", "/SRW/customer/deactivate", "/SRW/complaint/deactivate": Access to various in_active pages.
@@ -110,6 +100,7 @@ public class LoginSecurityConfig {
                         .requestMatchers("/SRW/employee/register", "/SRW/employee/confirmation").hasRole("OWNER")
                         .requestMatchers("/SRW/employee/list", "/SRW/customer/list", "/SRW/complaint/list").hasRole("OWNER")
                         .requestMatchers("/SRW/employee/active-list", "/SRW/customer/active-list", "/SRW/complaint/active-list").hasRole("OWNER")
+                        .requestMatchers("/SRW/complaint/archived-list", "/SRW/complaint/text-search").hasRole("OWNER")
                         .requestMatchers("/SRW/employee/search", "/SRW/customer/search").hasRole("OWNER")
                         .requestMatchers("/SRW/employee/activate", "/SRW/customer/activate", "/SRW/complaint/activate").hasRole("OWNER")
                         .requestMatchers("/SRW/employee/deactivate", "/SRW/customer/deactivate", "/SRW/complaint/deactivate").hasRole("OWNER")
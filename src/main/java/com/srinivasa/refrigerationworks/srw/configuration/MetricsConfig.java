@@ -0,0 +1,85 @@
+package com.srinivasa.refrigerationworks.srw.configuration;
+
+import com.srinivasa.refrigerationworks.srw.utility.cache.RedisCacheErrorHandler;
+import com.srinivasa.refrigerationworks.srw.utility.cache.RedisCircuitBreaker;
+import com.srinivasa.refrigerationworks.srw.utility.cache.RedisResilienceMetrics;
+import com.srinivasa.refrigerationworks.srw.utility.metrics.RequestStatementInspector;
+import com.srinivasa.refrigerationworks.srw.utility.metrics.SqlProfiler;
+import com.srinivasa.refrigerationworks.srw.utility.metrics.SqlTimingListener;
+import com.srinivasa.refrigerationworks.srw.utility.metrics.StatementMetricsFilter;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * Configuration for application metrics, scraped in Prometheus format from the management port.
+ * - HTTP request latency histograms come from Spring Boot's own instrumentation, configured under 'management.metrics'.
+ * - Services annotated with @Timed get a timer per method.
+ * - Caches register their meters with the cache manager (see CacheConfig).
+ * - The SQL of each request is profiled; see SqlProfilerProperties.
+ */
+@Configuration
+@EnableConfigurationProperties(SqlProfilerProperties.class)
+public class MetricsConfig {
+
+    /*
+     * Aspect timing the methods of @Timed classes and methods.
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /*
+     * Meters of the Redis circuit breaker and the cache error handler.
+     */
+    @Bean
+    public RedisResilienceMetrics redisResilienceMetrics(RedisCircuitBreaker redisCircuitBreaker, RedisCacheErrorHandler cacheErrorHandler) {
+        return new RedisResilienceMetrics(redisCircuitBreaker, cacheErrorHandler);
+    }
+
+    /*
+     * Hibernate statement inspector profiling the statements of each request.
+     */
+    @Bean
+    public RequestStatementInspector requestStatementInspector() {
+        return new RequestStatementInspector();
+    }
+
+    /*
+     * Profiler analyzing the statements of each request.
+     */
+    @Bean
+    public SqlProfiler sqlProfiler(SqlProfilerProperties sqlProfilerProperties, MeterRegistry meterRegistry) {
+        return new SqlProfiler(sqlProfilerProperties, meterRegistry);
+    }
+
+    /*
+     * Registers the statement inspector, and the session listener timing statement executions, with Hibernate.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(RequestStatementInspector requestStatementInspector) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, requestStatementInspector);
+            hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingListener.class.getName());
+        };
+    }
+
+    /*
+     * Registers the filter recording statements per request ahead of the rate limit and Spring Security filters.
+     */
+    @Bean
+    public FilterRegistrationBean<StatementMetricsFilter> statementMetricsFilterRegistration(RequestStatementInspector requestStatementInspector,
+                                                                                            SqlProfiler sqlProfiler) {
+        FilterRegistrationBean<StatementMetricsFilter> registration =
+                new FilterRegistrationBean<>(new StatementMetricsFilter(requestStatementInspector, sqlProfiler));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 2);
+        return registration;
+    }
+}
\ No newline at end of file
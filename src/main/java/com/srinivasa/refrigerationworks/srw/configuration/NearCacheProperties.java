@@ -0,0 +1,88 @@
+package com.srinivasa.refrigerationworks.srw.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * Configuration properties for the in-process (L1) tier in front of the Redis cache.
+ * Defaults apply to every cache name; entries under 'caches' override them per cache.
+ */
+@Data
+@ConfigurationProperties(prefix = "srw.cache.near")
+public class NearCacheProperties {
+
+    /*
+     * Whether caches keep an in-process copy of Redis entries unless overridden.
+     */
+    private boolean enabled = false;
+
+    /*
+     * Maximum number of entries kept in-process per cache.
+     */
+    private long maximumSize = 1000;
+
+    /*
+     * Time after which an in-process entry is dropped and re-read from Redis.
+     */
+    private Duration timeToLive = Duration.ofSeconds(60);
+
+    /*
+     * Redis pub/sub channel used to invalidate in-process entries on other nodes.
+     */
+    private String invalidationChannel = "srw:cache:invalidation";
+
+    /*
+     * Per-cache overrides, keyed by cache name.
+     */
+    private Map<String, Spec> caches = new HashMap<>();
+
+    /*
+     * In-process tier settings for a single cache; unset values fall back to the defaults.
+     */
+    @Data
+    public static class Spec {
+
+        /*
+         * Whether the cache keeps an in-process copy of Redis entries.
+         */
+        private Boolean enabled;
+
+        /*
+         * Maximum number of entries kept in-process.
+         */
+        private Long maximumSize;
+
+        /*
+         * Time after which an in-process entry is dropped and re-read from Redis.
+         */
+        private Duration timeToLive;
+    }
+
+    /*
+     * Checks whether the given cache keeps an in-process tier.
+     */
+    public boolean isEnabled(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        return spec != null && spec.getEnabled() != null ? spec.getEnabled() : enabled;
+    }
+
+    /*
+     * Returns the maximum in-process size of the given cache.
+     */
+    public long getMaximumSize(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        return spec != null && spec.getMaximumSize() != null ? spec.getMaximumSize() : maximumSize;
+    }
+
+    /*
+     * Returns the in-process time-to-live of the given cache.
+     */
+    public Duration getTimeToLive(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        return spec != null && spec.getTimeToLive() != null ? spec.getTimeToLive() : timeToLive;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.srinivasa.refrigerationworks.srw.configuration;
+
+import com.srinivasa.refrigerationworks.srw.utility.cache.RedisCircuitBreaker;
+import com.srinivasa.refrigerationworks.srw.utility.ratelimit.RateLimitFilter;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/*
+ * Configuration for rate limiting public form submissions.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    /*
+     * Rate limit filter, configured by 'srw.rate-limit.*'.
+     */
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimitProperties rateLimitProperties, StringRedisTemplate stringRedisTemplate,
+                                           RedisCircuitBreaker redisCircuitBreaker) {
+        return new RateLimitFilter(rateLimitProperties, stringRedisTemplate, redisCircuitBreaker);
+    }
+
+    /*
+     * Registers the filter ahead of the Spring Security filter chain, so rejected logins never reach authentication.
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
\ No newline at end of file
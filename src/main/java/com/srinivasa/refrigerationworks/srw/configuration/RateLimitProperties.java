@@ -0,0 +1,71 @@
+package com.srinivasa.refrigerationworks.srw.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Configuration properties for rate limiting form submissions to public, expensive endpoints.
+ * Each group limits POST requests to its paths per client IP and per value of each configured form parameter.
+ */
+@Data
+@ConfigurationProperties(prefix = "srw.rate-limit")
+public class RateLimitProperties {
+
+    /*
+     * Whether requests are rate limited at all.
+     */
+    private boolean enabled = true;
+
+    /*
+     * Where buckets live: 'local' (striped in-process token buckets) or 'redis' (fixed windows shared by every node).
+     */
+    private String mode = "local";
+
+    /*
+     * Number of lock stripes for in-process buckets; a power of two.
+     */
+    private int stripes = 64;
+
+    /*
+     * Buckets kept per stripe before full (idle) buckets are pruned.
+     */
+    private int maximumBucketsPerStripe = 1024;
+
+    /*
+     * Endpoint groups, keyed by group name.
+     */
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    /*
+     * Limit applied to one group of endpoints.
+     */
+    @Data
+    public static class Group {
+
+        /*
+         * Request paths (without context path) whose POST requests count against the group.
+         */
+        private List<String> paths = new ArrayList<>();
+
+        /*
+         * Requests allowed in a burst per key.
+         */
+        private int capacity = 10;
+
+        /*
+         * Time for an emptied bucket to refill completely; also the window length in 'redis' mode.
+         */
+        private Duration refillPeriod = Duration.ofMinutes(1);
+
+        /*
+         * Form parameters (e.g. 'username') whose values are limited in addition to the client IP.
+         */
+        private List<String> keyParameters = new ArrayList<>();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.srinivasa.refrigerationworks.srw.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+ * Configuration properties for profiling the SQL run by each request.
+ * - Statements are fingerprinted (literals replaced by '?') and counted and timed per request and overall.
+ * - Requests over the statement budget, repeating one statement (N+1), or reading whole tables are logged and kept for owners.
+ */
+@Data
+@ConfigurationProperties(prefix = "srw.sql.profiler")
+public class SqlProfilerProperties {
+
+    /*
+     * Whether requests are profiled at all; statement counts are recorded either way.
+     */
+    private boolean enabled = true;
+
+    /*
+     * Statements a single request may run before it is flagged.
+     */
+    private int statementBudget = 30;
+
+    /*
+     * Times one fingerprint may run within a request before it is flagged as a likely N+1 query.
+     */
+    private int repeatedStatementThreshold = 10;
+
+    /*
+     * Whether SELECTs without a WHERE clause or row limit are flagged.
+     */
+    private boolean flagUnboundedSelects = true;
+
+    /*
+     * Number of statements listed by total time in the slow query table.
+     */
+    private int topSize = 20;
+
+    /*
+     * Maximum number of distinct fingerprints tracked; statements beyond this are counted but not listed.
+     */
+    private int maximumFingerprints = 1000;
+
+    /*
+     * Number of most recent flagged requests kept for owners.
+     */
+    private int flaggedRequests = 50;
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.srinivasa.refrigerationworks.srw.controller;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintGroupDTO;
+import com.srinivasa.refrigerationworks.srw.service.ComplaintAnalyticsService;
+import com.srinivasa.refrigerationworks.srw.utility.analytics.ComplaintColumns;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintDimension;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintState;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/*
+ * Controller that exposes ad-hoc complaint analytics to owners as JSON.
+ */
+@RestController
+@RequestMapping("/SRW/owner/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    /*
+     * Service running queries over the columnar complaint snapshot.
+     */
+    private final ComplaintAnalyticsService complaintAnalyticsService;
+
+    /*
+     * Handles GET requests for complaint counts and time to resolve, grouped by a dimension.
+     * - Optional filters: status, state, brand, product type, technician, and creation dates from/to (ISO, inclusive).
+     */
+    @GetMapping("/complaints")
+    public List<ComplaintGroupDTO> groupComplaints(@RequestParam ComplaintDimension groupBy,
+                                                   @RequestParam(required = false) ComplaintStatus status,
+                                                   @RequestParam(required = false) ComplaintState state,
+                                                   @RequestParam(required = false) String brand,
+                                                   @RequestParam(required = false) String productType,
+                                                   @RequestParam(required = false) String technicianId,
+                                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return complaintAnalyticsService.groupBy(groupBy, ComplaintColumns.Filter.builder()
+                .status(status)
+                .state(state)
+                .brand(brand)
+                .productType(productType)
+                .technicianId(technicianId)
+                .from(from == null ? null : from.atStartOfDay())
+                .to(to == null ? null : to.plusDays(1).atStartOfDay())
+                .build());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.srinivasa.refrigerationworks.srw.controller;
+
+import com.srinivasa.refrigerationworks.srw.payload.response.BulkUpdateResponseBody;
+import com.srinivasa.refrigerationworks.srw.service.BulkStatusService;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.BulkStatusTarget;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ResponseBodyStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/*
+ * API for activating and deactivating many complaints, customers or employees in one request; owners in a browser
+ * use the bulk status page instead (BulkStatusPageController).
+ * - 'ids' holds the IDs separated by commas, spaces or line breaks; duplicates are applied once.
+ * - The response reports UPDATED, UNCHANGED or NOT_FOUND for each ID.
+ * - The POSTs are CSRF-protected like every other form. An API client logs in through '/authenticateUser' keeping
+ *   the session cookie, reads the token from GET '/SRW/owner/bulk/csrf', and sends it with each POST in the returned
+ *   header (or as the returned request parameter).
+ */
+@RestController
+@RequestMapping("/SRW/owner/bulk")
+@RequiredArgsConstructor
+public class BulkStatusController {
+
+    /*
+     * Service applying the bulk updates.
+     */
+    private final BulkStatusService bulkStatusService;
+
+    /*
+     * Handles GET requests for the session's CSRF token, with the header and parameter names it is accepted under.
+     */
+    @GetMapping("/csrf")
+    public Map<String, String> csrfToken(CsrfToken csrfToken) {
+        return Map.of("headerName", csrfToken.getHeaderName(), "parameterName", csrfToken.getParameterName(), "token", csrfToken.getToken());
+    }
+
+    /*
+     * Handles POST requests to activate complaints.
+     */
+    @PostMapping("/complaints/activate")
+    public ResponseEntity<BulkUpdateResponseBody> activateComplaints(@RequestParam String ids) {
+        return respond(bulkStatusService.updateStatuses(BulkStatusTarget.COMPLAINTS, true, ids));
+    }
+
+    /*
+     * Handles POST requests to deactivate complaints.
+     */
+    @PostMapping("/complaints/deactivate")
+    public ResponseEntity<BulkUpdateResponseBody> deactivateComplaints(@RequestParam String ids) {
+        return respond(bulkStatusService.updateStatuses(BulkStatusTarget.COMPLAINTS, false, ids));
+    }
+
+    /*
+     * Handles POST requests to activate customers and their credentials.
+     */
+    @PostMapping("/customers/activate")
+    public ResponseEntity<BulkUpdateResponseBody> activateCustomers(@RequestParam String ids) {
+        return respond(bulkStatusService.updateStatuses(BulkStatusTarget.CUSTOMERS, true, ids));
+    }
+
+    /*
+     * Handles POST requests to deactivate customers and their credentials.
+     */
+    @PostMapping("/customers/deactivate")
+    public ResponseEntity<BulkUpdateResponseBody> deactivateCustomers(@RequestParam String ids) {
+        return respond(bulkStatusService.updateStatuses(BulkStatusTarget.CUSTOMERS, false, ids));
+    }
+
+    /*
+     * Handles POST requests to activate employees and their credentials.
+     */
+    @PostMapping("/employees/activate")
+    public ResponseEntity<BulkUpdateResponseBody> activateEmployees(@RequestParam String ids) {
+        return respond(bulkStatusService.updateStatuses(BulkStatusTarget.EMPLOYEES, true, ids));
+    }
+
+    /*
+     * Handles POST requests to deactivate employees and their credentials.
+     */
+    @PostMapping("/employees/deactivate")
+    public ResponseEntity<BulkUpdateResponseBody> deactivateEmployees(@RequestParam String ids) {
+        return respond(bulkStatusService.updateStatuses(BulkStatusTarget.EMPLOYEES, false, ids));
+    }
+
+    /*
+     * Answers 200 with the per-ID results, or 400 when the IDs were rejected.
+     */
+    private static ResponseEntity<BulkUpdateResponseBody> respond(BulkUpdateResponseBody body) {
+        return body.getStatus() == ResponseBodyStatus.SUCCESS ? ResponseEntity.ok(body) : ResponseEntity.badRequest().body(body);
+    }
+}
\ No newline at end of file
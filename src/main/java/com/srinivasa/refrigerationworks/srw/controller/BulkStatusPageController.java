@@ -0,0 +1,49 @@
+package com.srinivasa.refrigerationworks.srw.controller;
+
+import com.srinivasa.refrigerationworks.srw.service.BulkStatusService;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.BulkStatusTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/*
+ * Controller for the owner's bulk status page, activating or deactivating many complaints, customers or employees.
+ * The form is rendered by Thymeleaf, so it carries the session's CSRF token like every other owner form.
+ */
+@Controller
+@RequestMapping("/SRW/owner/bulk-status")
+@RequiredArgsConstructor
+public class BulkStatusPageController {
+
+    /*
+     * Service applying the bulk updates.
+     */
+    private final BulkStatusService bulkStatusService;
+
+    /*
+     * Handles GET requests for the bulk status page.
+     * Adds the selectable targets to the model and returns the "owner/bulk-status" view.
+     */
+    @GetMapping
+    public String bulkStatusForm(Model model) {
+        model.addAttribute("targets", BulkStatusTarget.values());
+        return "owner/bulk-status";
+    }
+
+    /*
+     * Handles POST requests from the bulk status page.
+     * Applies the update and returns the "owner/bulk-status" view with the per-ID results, keeping the entered IDs.
+     */
+    @PostMapping
+    public String updateStatuses(@RequestParam BulkStatusTarget target, @RequestParam boolean active, @RequestParam String ids, Model model) {
+        model.addAttribute("targets", BulkStatusTarget.values());
+        model.addAttribute("target", target);
+        model.addAttribute("ids", ids);
+        model.addAttribute("result", bulkStatusService.updateStatuses(target, active, ids));
+        return "owner/bulk-status";
+    }
+}
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.srinivasa.refrigerationworks.srw.controller;
 import com.srinivasa.refrigerationworks.srw.model.ComplaintModel;
 import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
 import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintIdentifierDTO;
+import com.srinivasa.refrigerationworks.srw.service.ComplaintSearchService;
 import com.srinivasa.refrigerationworks.srw.service.ComplaintService;
 import com.srinivasa.refrigerationworks.srw.utility.UserRoleProvider;
 import com.srinivasa.refrigerationworks.srw.utility.common.EndpointExtractor;
@@ -11,6 +12,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -18,6 +21,7 @@ import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -34,6 +38,17 @@ public class ComplaintController {
      */
     private final ComplaintService complaintService;
 
+    /*
+     * Service for ranked free-text complaint search.
+     */
+    private final ComplaintSearchService complaintSearchService;
+
+    /*
+     * Maximum number of complaints shown for a free-text search.
+     */
+    @Value("${srw.complaint.search.result-limit:50}")
+    private int textSearchLimit;
+
     /*
      * Initializes data binder to trim input strings.
      */
@@ -67,7 +82,7 @@ public class ComplaintController {
             }
             return "complaint/complaint-register-form";
         }
-        complaintService.registerComplaint(complaintDTO, (String) session.getAttribute("userId"));
+        complaintService.registerComplaint(complaintDTO, UserRoleProvider.fetchUserId(session));
         return "complaint/complaint-confirmation";
     }
 
@@ -88,39 +103,55 @@ public class ComplaintController {
     }
 
     /*
-     * Displays a list of complaints registered by the logged-in user.
+     * Displays a page of complaints registered by the logged-in user.
      */
     @GetMapping("/my-complaints")
-    public String getMyComplaints(Model model, HttpSession session) {
+    public String getMyComplaints(@RequestParam(value = "after", required = false) Long after,
+                                  @RequestParam(value = "before", required = false) Long before, Model model, HttpSession session) {
         ComplaintIdentifierDTO complaintIdentifierDTO = (ComplaintIdentifierDTO) model.getAttribute("complaintIdentifierDTO");
         ComplaintModel.addComplaintsToModel(complaintService.getTechniciansInfo(),
                 complaintIdentifierDTO == null ? new ComplaintIdentifierDTO() : complaintIdentifierDTO,
-                complaintService.getComplaintsByBookedById((String) session.getAttribute("userId")),
-                "No complaints have been registered yet.", model);
+                complaintService.getComplaintsByBookedById(UserRoleProvider.fetchUserId(session), after, before),
+                "/SRW/complaint/my-complaints", "No complaints have been registered yet.", model);
         return "complaint/complaint-list";
     }
 
     /*
-     * Displays the list of all complaints.
+     * Displays a page of all complaints.
      */
     @GetMapping("/list")
-    public String getComplaintList(Model model) {
+    public String getComplaintList(@RequestParam(value = "after", required = false) Long after,
+                                   @RequestParam(value = "before", required = false) Long before, Model model) {
         ComplaintIdentifierDTO complaintIdentifierDTO = (ComplaintIdentifierDTO) model.getAttribute("complaintIdentifierDTO");
         ComplaintModel.addComplaintsToModel(complaintService.getTechniciansInfo(),
                 complaintIdentifierDTO == null ? new ComplaintIdentifierDTO() : complaintIdentifierDTO,
-                complaintService.getComplaintList(), "No complaints have been registered yet.", model);
+                complaintService.getComplaintList(after, before), "/SRW/complaint/list", "No complaints have been registered yet.", model);
         return "complaint/complaint-list";
     }
 
     /*
-     * Displays the list of all active complaints.
+     * Displays a page of all active complaints.
      */
     @GetMapping("/active-list")
-    public String getActiveComplaintList(Model model) {
+    public String getActiveComplaintList(@RequestParam(value = "after", required = false) Long after,
+                                         @RequestParam(value = "before", required = false) Long before, Model model) {
         ComplaintIdentifierDTO complaintIdentifierDTO = (ComplaintIdentifierDTO) model.getAttribute("complaintIdentifierDTO");
         ComplaintModel.addComplaintsToModel(complaintService.getTechniciansInfo(),
                 complaintIdentifierDTO == null ? new ComplaintIdentifierDTO() : complaintIdentifierDTO,
-                complaintService.getActiveComplaintList(), "No active complaints found.", model);
+                complaintService.getActiveComplaintList(after, before), "/SRW/complaint/active-list", "No active complaints found.", model);
+        return "complaint/complaint-list";
+    }
+
+    /*
+     * Displays a page of archived complaints.
+     */
+    @GetMapping("/archived-list")
+    public String getArchivedComplaintList(@RequestParam(value = "after", required = false) Long after,
+                                           @RequestParam(value = "before", required = false) Long before, Model model) {
+        ComplaintIdentifierDTO complaintIdentifierDTO = (ComplaintIdentifierDTO) model.getAttribute("complaintIdentifierDTO");
+        ComplaintModel.addComplaintsToModel(complaintService.getTechniciansInfo(),
+                complaintIdentifierDTO == null ? new ComplaintIdentifierDTO(null, null, true) : complaintIdentifierDTO,
+                complaintService.getArchivedComplaintList(after, before), "/SRW/complaint/archived-list", "No complaints have been archived yet.", model);
         return "complaint/complaint-list";
     }
 
@@ -136,7 +167,7 @@ public class ComplaintController {
         if(!bindingResult.hasErrors() && complaintIdentifierDTO.getIdentifier() != null) {
             ComplaintModel.addComplaintsToModel(complaintService.getTechniciansInfo(), complaintIdentifierDTO,
                     complaintService.getComplaintByIdentifier(
-                            complaintIdentifierDTO, (String) session.getAttribute("userId"), UserRoleProvider.fetchUserRole(session)
+                            complaintIdentifierDTO, UserRoleProvider.fetchUserId(session), UserRoleProvider.fetchUserRole(session)
                     ), "No complaints found.", model);
             session.setAttribute("searchEndpointOrigin", searchEndpointOrigin);
             return "complaint/complaint-list";
@@ -145,6 +176,23 @@ public class ComplaintController {
         return "redirect:/SRW/complaint/" + searchEndpointOrigin;
     }
 
+    /*
+     * Displays the complaints best matching free text over description, customer name, address, brand and model,
+     * optionally limited to complaints registered between two dates (inclusive).
+     */
+    @GetMapping("/text-search")
+    public String searchComplaintText(@RequestParam(value = "query", defaultValue = "") String query,
+                                      @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                      @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to, Model model) {
+        ComplaintModel.addComplaintsToModel(complaintService.getTechniciansInfo(), new ComplaintIdentifierDTO(),
+                complaintSearchService.search(query, from == null ? null : from.atStartOfDay(), to == null ? null : to.plusDays(1).atStartOfDay(), textSearchLimit),
+                "No complaints match the search.", model);
+        model.addAttribute("textQuery", query);
+        model.addAttribute("textFrom", from);
+        model.addAttribute("textTo", to);
+        return "complaint/complaint-list";
+    }
+
     /*
      * Displays the complaint update form with the complaint's existing details.
      */
@@ -154,10 +202,10 @@ public class ComplaintController {
         String referer = request.getHeader("Referer");
         String refererEndpoint = referer != null ? EndpointExtractor.complaintEndpoint(request) : "my-complaints";
         if (complaintService.canUserAccess(complaintId, UserRoleProvider.fetchUserRole(session).equals("ROLE_OWNER"),
-                (String) session.getAttribute("userId"))) {
+                UserRoleProvider.fetchUserId(session))) {
             ComplaintDTO complaint = complaintService.getComplaintById(complaintId);
             if(complaint == null) {
-                ComplaintModel.addComplaintsToModel(Map.of(), new ComplaintIdentifierDTO(complaintId, null),
+                ComplaintModel.addComplaintsToModel(Map.of(), new ComplaintIdentifierDTO(complaintId, null, false),
                         List.of(), "No complaints found.", model);
                 return "complaint/complaint-list";
             }
@@ -208,15 +256,16 @@ public class ComplaintController {
     }
 
     /*
-     * Displays complaints assigned to the logged-in technician.
+     * Displays a page of complaints assigned to the logged-in technician.
      */
     @GetMapping("/assigned-complaints")
-    public String getAssignedComplaints(Model model, HttpSession session) {
+    public String getAssignedComplaints(@RequestParam(value = "after", required = false) Long after,
+                                        @RequestParam(value = "before", required = false) Long before, Model model, HttpSession session) {
         ComplaintIdentifierDTO complaintIdentifierDTO = (ComplaintIdentifierDTO) model.getAttribute("complaintIdentifierDTO");
         ComplaintModel.addComplaintsToModel(complaintService.getTechniciansInfo(),
                 complaintIdentifierDTO == null ? new ComplaintIdentifierDTO() : complaintIdentifierDTO,
-                complaintService.getComplaintsByTechnicianId((String) session.getAttribute("userId")),
-                "No complaints have been assigned yet.", model);
+                complaintService.getComplaintsByTechnicianId(UserRoleProvider.fetchUserId(session), after, before),
+                "/SRW/complaint/assigned-complaints", "No complaints have been assigned yet.", model);
         return "complaint/complaint-list";
     }
 }
\ No newline at end of file
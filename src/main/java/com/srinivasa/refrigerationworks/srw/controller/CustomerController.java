@@ -3,6 +3,7 @@ package com.srinivasa.refrigerationworks.srw.controller;
 import com.srinivasa.refrigerationworks.srw.model.CustomerModel;
 import com.srinivasa.refrigerationworks.srw.payload.dto.UserIdentifierDTO;
 import com.srinivasa.refrigerationworks.srw.service.CustomerService;
+import com.srinivasa.refrigerationworks.srw.utility.UserRoleProvider;
 import com.srinivasa.refrigerationworks.srw.utility.common.EndpointExtractor;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
@@ -81,7 +82,7 @@ public class CustomerController {
      */
     @GetMapping("/my-profile")
     public String getCustomerProfile(Model model, HttpSession session) {
-        CustomerModel.addCustomerToModel(customerService.getCustomerByIdentifier((String) session.getAttribute("userId")), model);
+        CustomerModel.addCustomerToModel(customerService.getCustomerByIdentifier(UserRoleProvider.fetchUserId(session)), model);
         return "customer/customer-details";
     }
 }
\ No newline at end of file
@@ -6,20 +6,26 @@ import com.srinivasa.refrigerationworks.srw.payload.dto.CustomerCredentialDTO;
 import com.srinivasa.refrigerationworks.srw.payload.dto.CustomerDTO;
 import com.srinivasa.refrigerationworks.srw.payload.dto.UserIdentifierDTO;
 import com.srinivasa.refrigerationworks.srw.service.CustomerCredentialService;
+import com.srinivasa.refrigerationworks.srw.service.RegistrationUniquenessService;
 import com.srinivasa.refrigerationworks.srw.utility.UserRoleProvider;
 import com.srinivasa.refrigerationworks.srw.utility.common.EndpointExtractor;
 import com.srinivasa.refrigerationworks.srw.utility.common.StringEditor;
+import com.srinivasa.refrigerationworks.srw.validation.UniquenessCheck;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
+import jakarta.validation.groups.Default;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /*
  * Controller for handling customer credential operations.
@@ -34,6 +40,11 @@ public class CustomerCredentialController {
      */
     private final CustomerCredentialService customerCredentialService;
 
+    /*
+     * Service enforcing uniqueness of registration forms by pre-check or insert-first.
+     */
+    private final RegistrationUniquenessService registrationUniquenessService;
+
     /*
      * Initializes the binder to trim strings.
      */
@@ -53,15 +64,23 @@ public class CustomerCredentialController {
 
     /*
      * Confirms the customer registration and adds customer credentials.
-     * If validation fails, re-displays the form with error messages.
+     * If validation fails, or the insert hits a unique key, re-displays the form with error messages.
      */
     @PostMapping("/confirmation")
     public String confirmCustomer(@ModelAttribute @Valid CustomerCredentialDTO customerCredentialDTO, BindingResult bindingResult, Model model) {
+        registrationUniquenessService.preCheck(customerCredentialDTO, bindingResult);
         if (bindingResult.hasErrors()) {
             UserCredentialModel.addUserFormConstantsToModel(model);
             return "customer/customer-register-form";
         }
-        customerCredentialService.addCustomerCredential(customerCredentialDTO);
+        try {
+            customerCredentialService.addCustomerCredential(customerCredentialDTO);
+        } catch (DataIntegrityViolationException exception) {
+            registrationUniquenessService.rejectDuplicate(exception, bindingResult,
+                    Map.of("customerDTO", customerCredentialDTO.getCustomerDTO(), "userCredentialDTO", customerCredentialDTO.getUserCredentialDTO()));
+            UserCredentialModel.addUserFormConstantsToModel(model);
+            return "customer/customer-register-form";
+        }
         return "customer/customer-confirmation";
     }
 
@@ -93,7 +112,7 @@ public class CustomerCredentialController {
      * Redirects to origin customer page of update endpoint on success.
      */
     @PostMapping("/update")
-    public String updateCustomer(@ModelAttribute("customer") @Valid CustomerDTO updatedCustomerDTO, BindingResult bindingResult,
+    public String updateCustomer(@ModelAttribute("customer") @Validated({Default.class, UniquenessCheck.class}) CustomerDTO updatedCustomerDTO, BindingResult bindingResult,
                                  @RequestParam("updateEndpointOrigin") String updateEndpointOrigin, Model model) {
         if (bindingResult.hasErrors()) {
             UserCredentialModel.addUserFormConstantsToModel(model);
@@ -0,0 +1,67 @@
+package com.srinivasa.refrigerationworks.srw.controller;
+
+import com.srinivasa.refrigerationworks.srw.service.ComplaintKpiService;
+import com.srinivasa.refrigerationworks.srw.service.ComplaintService;
+import com.srinivasa.refrigerationworks.srw.service.DispatchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+/*
+ * Controller for the owner's KPI dashboard and technician dispatch.
+ */
+@Controller
+@RequestMapping("/SRW/owner")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    /*
+     * Service providing the complaint KPIs.
+     */
+    private final ComplaintKpiService complaintKpiService;
+
+    /*
+     * Service for technician details and complaint dispatch.
+     */
+    private final ComplaintService complaintService;
+
+    /*
+     * Service holding technician workloads.
+     */
+    private final DispatchService dispatchService;
+
+    /*
+     * Maximum number of complaints assigned by one dispatch.
+     */
+    @Value("${srw.complaint.dispatch.batch-size:100}")
+    private int dispatchBatchSize;
+
+    /*
+     * Handles GET requests for the dashboard.
+     * Adds the complaint KPIs, technician details and the number of unassigned complaints to the model, and returns the "owner/dashboard" view.
+     */
+    @GetMapping("/dashboard")
+    public String dashboard(Model model) {
+        model.addAttribute("kpi", complaintKpiService.getKpis());
+        model.addAttribute("technicians", complaintService.getTechniciansInfo());
+        model.addAttribute("unassignedCount", dispatchService.getUnassignedCount());
+        return "owner/dashboard";
+    }
+
+    /*
+     * Handles POST requests to assign unassigned open complaints to the least loaded technicians.
+     * Redirects back to the dashboard with the number of complaints assigned.
+     */
+    @PostMapping("/dispatch")
+    public String dispatch(RedirectAttributes redirectAttributes) {
+        int assigned = complaintService.dispatchUnassigned(dispatchBatchSize);
+        redirectAttributes.addFlashAttribute("dispatchResult", assigned == 0
+                ? "No complaints were assigned." : "Assigned " + assigned + " complaint(s) to technicians.");
+        return "redirect:/SRW/owner/dashboard";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.srinivasa.refrigerationworks.srw.controller;
+
+import com.srinivasa.refrigerationworks.srw.utility.BoundedPasswordEncoder;
+import com.srinivasa.refrigerationworks.srw.utility.cache.RedisCacheErrorHandler;
+import com.srinivasa.refrigerationworks.srw.utility.cache.RedisCircuitBreaker;
+import com.srinivasa.refrigerationworks.srw.utility.cache.TwoLevelCacheManager;
+import com.srinivasa.refrigerationworks.srw.utility.metrics.SqlProfiler;
+import com.srinivasa.refrigerationworks.srw.utility.ratelimit.RateLimitFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+ * Controller that exposes runtime diagnostics to owners as JSON.
+ */
+@RestController
+@RequestMapping("/SRW/owner/diagnostics")
+@RequiredArgsConstructor
+public class DiagnosticsController {
+
+    /*
+     * Two-level cache manager backing the cache annotations.
+     */
+    private final TwoLevelCacheManager cacheManager;
+
+    /*
+     * Circuit breaker shared by every Redis caller.
+     */
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    /*
+     * Handler counting errors escaping the caches.
+     */
+    private final RedisCacheErrorHandler cacheErrorHandler;
+
+    /*
+     * Password encoder running hashes on a bounded pool.
+     */
+    private final BoundedPasswordEncoder passwordEncoder;
+
+    /*
+     * Filter rate limiting public form submissions.
+     */
+    private final RateLimitFilter rateLimitFilter;
+
+    /*
+     * Profiler of the SQL run by each request.
+     */
+    private final SqlProfiler sqlProfiler;
+
+    /*
+     * Handles GET requests for per-cache hit and miss counts of the in-process (L1) and Redis (L2) tiers.
+     */
+    @GetMapping("/cache")
+    public Map<String, Map<String, Object>> getCacheStatistics() {
+        return cacheManager.getStatistics();
+    }
+
+    /*
+     * Handles GET requests for the Redis circuit breaker's state and failure counts, and cache error counts.
+     * Per-cache fallback hits and pending evictions are reported by '/cache'.
+     */
+    @GetMapping("/redis")
+    public Map<String, Object> getRedisStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>(redisCircuitBreaker.getStatistics());
+        statistics.putAll(cacheErrorHandler.getStatistics());
+        return statistics;
+    }
+
+    /*
+     * Handles GET requests for the password hashing pool's cost, queue depth, and timing.
+     */
+    @GetMapping("/password-hashing")
+    public Map<String, Object> getPasswordHashingStatistics() {
+        return passwordEncoder.getStatistics();
+    }
+
+    /*
+     * Handles GET requests for allowed and rejected request counts per rate-limited endpoint group.
+     */
+    @GetMapping("/rate-limit")
+    public Map<String, Map<String, Long>> getRateLimitStatistics() {
+        return rateLimitFilter.getStatistics();
+    }
+
+    /*
+     * Handles GET requests for the statements with the most total execution time, and the most recent requests flagged
+     * for exceeding the statement budget, repeating a statement (N+1), or reading whole tables.
+     */
+    @GetMapping("/sql")
+    public Map<String, Object> getSqlStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>(sqlProfiler.getTopStatements());
+        statistics.put("flaggedRequests", sqlProfiler.getFlaggedRequests());
+        return statistics;
+    }
+}
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.srinivasa.refrigerationworks.srw.controller;
 import com.srinivasa.refrigerationworks.srw.model.EmployeeModel;
 import com.srinivasa.refrigerationworks.srw.payload.dto.UserIdentifierDTO;
 import com.srinivasa.refrigerationworks.srw.service.EmployeeService;
+import com.srinivasa.refrigerationworks.srw.utility.UserRoleProvider;
 import com.srinivasa.refrigerationworks.srw.utility.common.EndpointExtractor;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
@@ -82,7 +83,7 @@ public class EmployeeController {
      */
     @GetMapping("/my-profile")
     public String getEmployeeProfile(Model model, HttpSession session) {
-        EmployeeModel.addEmployeeToModel(employeeService.getEmployeeByIdentifier((String) session.getAttribute("userId")), model);
+        EmployeeModel.addEmployeeToModel(employeeService.getEmployeeByIdentifier(UserRoleProvider.fetchUserId(session)), model);
         return "employee/employee-details";
     }
 }
\ No newline at end of file
@@ -6,20 +6,26 @@ import com.srinivasa.refrigerationworks.srw.payload.dto.EmployeeCredentialDTO;
 import com.srinivasa.refrigerationworks.srw.payload.dto.EmployeeDTO;
 import com.srinivasa.refrigerationworks.srw.payload.dto.UserIdentifierDTO;
 import com.srinivasa.refrigerationworks.srw.service.EmployeeCredentialService;
+import com.srinivasa.refrigerationworks.srw.service.RegistrationUniquenessService;
 import com.srinivasa.refrigerationworks.srw.utility.UserRoleProvider;
 import com.srinivasa.refrigerationworks.srw.utility.common.EndpointExtractor;
 import com.srinivasa.refrigerationworks.srw.utility.common.StringEditor;
+import com.srinivasa.refrigerationworks.srw.validation.UniquenessCheck;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
+import jakarta.validation.groups.Default;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /*
  * Controller for handling employee credential operations.
@@ -34,6 +40,11 @@ public class EmployeeCredentialController {
      */
     private final EmployeeCredentialService employeeCredentialService;
 
+    /*
+     * Service enforcing uniqueness of registration forms by pre-check or insert-first.
+     */
+    private final RegistrationUniquenessService registrationUniquenessService;
+
     /*
      * Initializes the binder to trim strings.
      */
@@ -53,15 +64,23 @@ public class EmployeeCredentialController {
 
     /*
      * Confirms the employee registration and adds employee credentials.
-     * If validation fails, re-displays the form with error messages.
+     * If validation fails, or the insert hits a unique key, re-displays the form with error messages.
      */
     @PostMapping("/confirmation")
     public String confirmEmployee(@ModelAttribute @Valid EmployeeCredentialDTO employeeCredentialDTO, BindingResult bindingResult, Model model) {
+        registrationUniquenessService.preCheck(employeeCredentialDTO, bindingResult);
         if (bindingResult.hasErrors()) {
             UserCredentialModel.addUserFormConstantsToModel(model);
             return "employee/employee-register-form";
         }
-        employeeCredentialService.addEmployeeCredential(employeeCredentialDTO);
+        try {
+            employeeCredentialService.addEmployeeCredential(employeeCredentialDTO);
+        } catch (DataIntegrityViolationException exception) {
+            registrationUniquenessService.rejectDuplicate(exception, bindingResult,
+                    Map.of("employeeDTO", employeeCredentialDTO.getEmployeeDTO(), "userCredentialDTO", employeeCredentialDTO.getUserCredentialDTO()));
+            UserCredentialModel.addUserFormConstantsToModel(model);
+            return "employee/employee-register-form";
+        }
         return "employee/employee-confirmation";
     }
 
@@ -93,7 +112,7 @@ public class EmployeeCredentialController {
      * Redirects to origin employee page of update endpoint on success.
      */
     @PostMapping("/update")
-    public String updateEmployee(@ModelAttribute("employee") @Valid EmployeeDTO updatedEmployeeDTO, BindingResult bindingResult,
+    public String updateEmployee(@ModelAttribute("employee") @Validated({Default.class, UniquenessCheck.class}) EmployeeDTO updatedEmployeeDTO, BindingResult bindingResult,
                                  @RequestParam("updateEndpointOrigin") String updateEndpointOrigin, Model model) {
         if (bindingResult.hasErrors()) {
             UserCredentialModel.addUserFormConstantsToModel(model);
@@ -0,0 +1,89 @@
+package com.srinivasa.refrigerationworks.srw.controller;
+
+import com.srinivasa.refrigerationworks.srw.service.ExportService;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintState;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintStatus;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ExportFormat;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/*
+ * Controller for owners to download complaints, customers and employees as CSV or NDJSON.
+ * - Responses are streamed in chunks while rows are read from the database, without a Content-Length.
+ * - Dates are ISO (yyyy-MM-dd) and inclusive; omitted filters are not applied.
+ */
+@RestController
+@RequestMapping("/SRW/owner/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    /*
+     * Timestamp suffix for downloaded file names.
+     */
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /*
+     * Service streaming the exported rows.
+     */
+    private final ExportService exportService;
+
+    /*
+     * Handles GET requests to export complaints, filtered by creation date, status, technician and state.
+     */
+    @GetMapping("/complaints")
+    public ResponseEntity<StreamingResponseBody> exportComplaints(@RequestParam(defaultValue = "CSV") ExportFormat format,
+                                                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                  @RequestParam(required = false) ComplaintStatus status,
+                                                                  @RequestParam(required = false) String technicianId,
+                                                                  @RequestParam(required = false) ComplaintState state) {
+        return attachment("complaints", format, outputStream -> exportService.exportComplaints(format, from, to, status, technicianId, state, outputStream));
+    }
+
+    /*
+     * Handles GET requests to export customers, filtered by registration date and status.
+     */
+    @GetMapping("/customers")
+    public ResponseEntity<StreamingResponseBody> exportCustomers(@RequestParam(defaultValue = "CSV") ExportFormat format,
+                                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                 @RequestParam(required = false) UserStatus status) {
+        return attachment("customers", format, outputStream -> exportService.exportCustomers(format, from, to, status, outputStream));
+    }
+
+    /*
+     * Handles GET requests to export employees, filtered by hire date and status.
+     */
+    @GetMapping("/employees")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(@RequestParam(defaultValue = "CSV") ExportFormat format,
+                                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                 @RequestParam(required = false) UserStatus status) {
+        return attachment("employees", format, outputStream -> exportService.exportEmployees(format, from, to, status, outputStream));
+    }
+
+    /*
+     * Wraps the streaming body in a downloadable response named '<name>-<timestamp>.<extension>'.
+     */
+    private static ResponseEntity<StreamingResponseBody> attachment(String name, ExportFormat format, StreamingResponseBody body) {
+        String fileName = name + "-" + LocalDateTime.now().format(FILE_TIMESTAMP) + "." + format.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+}
\ No newline at end of file
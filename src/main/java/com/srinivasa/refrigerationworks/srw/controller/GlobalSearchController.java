@@ -0,0 +1,97 @@
+package com.srinivasa.refrigerationworks.srw.controller;
+
+import com.srinivasa.refrigerationworks.srw.model.ComplaintModel;
+import com.srinivasa.refrigerationworks.srw.model.CustomerModel;
+import com.srinivasa.refrigerationworks.srw.model.EmployeeModel;
+import com.srinivasa.refrigerationworks.srw.model.OwnerModel;
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintIdentifierDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.GlobalSearchDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.UserIdentifierDTO;
+import com.srinivasa.refrigerationworks.srw.service.ComplaintService;
+import com.srinivasa.refrigerationworks.srw.service.CustomerService;
+import com.srinivasa.refrigerationworks.srw.service.EmployeeService;
+import com.srinivasa.refrigerationworks.srw.service.GlobalSearchService;
+import com.srinivasa.refrigerationworks.srw.service.OwnerService;
+import com.srinivasa.refrigerationworks.srw.utility.UserRoleProvider;
+import com.srinivasa.refrigerationworks.srw.utility.common.IdentifierClassifier;
+import com.srinivasa.refrigerationworks.srw.utility.common.StringEditor;
+import jakarta.servlet.http.HttpSession;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.InitBinder;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import java.util.Collections;
+
+/*
+ * Controller for the owner's global search over owners, employees, customers, and complaints.
+ */
+@Controller
+@RequestMapping("/SRW/owner")
+@RequiredArgsConstructor
+public class GlobalSearchController {
+
+    /*
+     * Services for resolving the identifier and loading the matched record.
+     */
+    private final GlobalSearchService globalSearchService;
+    private final OwnerService ownerService;
+    private final EmployeeService employeeService;
+    private final CustomerService customerService;
+    private final ComplaintService complaintService;
+
+    /*
+     * Initializes data binder to trim input strings.
+     */
+    @InitBinder
+    public void initialize(WebDataBinder webDataBinder) {
+        StringEditor.stringTrimmer(webDataBinder);
+    }
+
+    /*
+     * Handles POST requests for the global search.
+     * - Resolves the identifier to a business ID and displays the matching record in its list view.
+     * - Redirects back to the management portal with a message if the input is blank or nothing matches.
+     */
+    @PostMapping("/global-search")
+    public String globalSearch(@ModelAttribute @Valid GlobalSearchDTO globalSearchDTO, BindingResult bindingResult,
+                               Model model, HttpSession session, RedirectAttributes redirectAttributes) {
+        String businessId = bindingResult.hasErrors() ? null : globalSearchService.resolveBusinessId(globalSearchDTO.getIdentifier());
+        if (businessId != null) {
+            session.setAttribute("searchEndpointOrigin", "list");
+            UserIdentifierDTO userIdentifierDTO = new UserIdentifierDTO(businessId);
+            switch (IdentifierClassifier.classify(businessId)) {
+                case OWNER_ID -> {
+                    OwnerModel.addOwnersToModel(userIdentifierDTO, Collections.singletonList(ownerService.getOwnerByIdentifier(businessId)), model);
+                    return "owner/owner-list";
+                }
+                case EMPLOYEE_ID -> {
+                    EmployeeModel.addEmployeesToModel(userIdentifierDTO, Collections.singletonList(employeeService.getEmployeeByIdentifier(businessId)), model);
+                    return "employee/employee-list";
+                }
+                case CUSTOMER_ID -> {
+                    CustomerModel.addCustomersToModel(userIdentifierDTO, Collections.singletonList(customerService.getCustomerByIdentifier(businessId)), model);
+                    return "customer/customer-list";
+                }
+                default -> {
+                    ComplaintIdentifierDTO complaintIdentifierDTO = new ComplaintIdentifierDTO(businessId, null, false);
+                    ComplaintModel.addComplaintsToModel(complaintService.getTechniciansInfo(), complaintIdentifierDTO,
+                            complaintService.getComplaintByIdentifier(complaintIdentifierDTO, UserRoleProvider.fetchUserId(session), UserRoleProvider.fetchUserRole(session)),
+                            "No complaints found.", model);
+                    return "complaint/complaint-list";
+                }
+            }
+        }
+        redirectAttributes.addFlashAttribute("globalSearchDTO", globalSearchDTO);
+        redirectAttributes.addFlashAttribute("noSearchResult", bindingResult.hasErrors()
+                ? "Please enter an identifier to search." : "No records found for the given identifier.");
+        return "redirect:/SRW/management-portal";
+    }
+}
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.srinivasa.refrigerationworks.srw.controller;
 import com.srinivasa.refrigerationworks.srw.model.OwnerModel;
 import com.srinivasa.refrigerationworks.srw.payload.dto.UserIdentifierDTO;
 import com.srinivasa.refrigerationworks.srw.service.OwnerService;
+import com.srinivasa.refrigerationworks.srw.utility.UserRoleProvider;
 import com.srinivasa.refrigerationworks.srw.utility.common.EndpointExtractor;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
@@ -80,7 +81,7 @@ public class OwnerController {
      */
     @GetMapping("/my-profile")
     public String getOwnerProfile(Model model, HttpSession session) {
-        OwnerModel.addOwnerToModel(ownerService.getOwnerByIdentifier((String) session.getAttribute("userId")), model);
+        OwnerModel.addOwnerToModel(ownerService.getOwnerByIdentifier(UserRoleProvider.fetchUserId(session)), model);
         return "owner/owner-details";
     }
 }
\ No newline at end of file
@@ -6,18 +6,24 @@ import com.srinivasa.refrigerationworks.srw.payload.dto.OwnerCredentialDTO;
 import com.srinivasa.refrigerationworks.srw.payload.dto.OwnerDTO;
 import com.srinivasa.refrigerationworks.srw.payload.dto.UserIdentifierDTO;
 import com.srinivasa.refrigerationworks.srw.service.OwnerCredentialService;
+import com.srinivasa.refrigerationworks.srw.service.RegistrationUniquenessService;
 import com.srinivasa.refrigerationworks.srw.utility.common.EndpointExtractor;
 import com.srinivasa.refrigerationworks.srw.utility.common.StringEditor;
+import com.srinivasa.refrigerationworks.srw.validation.UniquenessCheck;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.groups.Default;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /*
  * Controller for handling owner credential operations
@@ -32,6 +38,11 @@ public class OwnerCredentialController {
      */
     private final OwnerCredentialService ownerCredentialService;
 
+    /*
+     * Service enforcing uniqueness of registration forms by pre-check or insert-first.
+     */
+    private final RegistrationUniquenessService registrationUniquenessService;
+
     /*
      * Initializes the binder to trim strings
      */
@@ -51,15 +62,23 @@ public class OwnerCredentialController {
 
     /*
      * Confirms the owner registration and adds owner credentials.
-     * If validation fails, re-displays the form with error messages.
+     * If validation fails, or the insert hits a unique key, re-displays the form with error messages.
      */
     @PostMapping("/confirmation")
     public String confirmOwner(@ModelAttribute @Valid OwnerCredentialDTO ownerCredentialDTO, BindingResult bindingResult, Model model) {
+        registrationUniquenessService.preCheck(ownerCredentialDTO, bindingResult);
         if (bindingResult.hasErrors()) {
             UserCredentialModel.addUserFormConstantsToModel(model);
             return "owner/owner-register-form";
         }
-        ownerCredentialService.addOwnerCredential(ownerCredentialDTO);
+        try {
+            ownerCredentialService.addOwnerCredential(ownerCredentialDTO);
+        } catch (DataIntegrityViolationException exception) {
+            registrationUniquenessService.rejectDuplicate(exception, bindingResult,
+                    Map.of("ownerDTO", ownerCredentialDTO.getOwnerDTO(), "userCredentialDTO", ownerCredentialDTO.getUserCredentialDTO()));
+            UserCredentialModel.addUserFormConstantsToModel(model);
+            return "owner/owner-register-form";
+        }
         return "owner/owner-confirmation";
     }
 
@@ -86,7 +105,7 @@ public class OwnerCredentialController {
      * Redirects to origin owner page of update endpoint on success.
      */
     @PostMapping("/update")
-    public String updateOwner(@ModelAttribute("owner") @Valid OwnerDTO updatedOwnerDTO, BindingResult bindingResult,
+    public String updateOwner(@ModelAttribute("owner") @Validated({Default.class, UniquenessCheck.class}) OwnerDTO updatedOwnerDTO, BindingResult bindingResult,
                               @RequestParam("updateEndpointOrigin") String updateEndpointOrigin, Model model) {
         if(bindingResult.hasErrors()) {
             UserCredentialModel.addUserFormConstantsToModel(model);
@@ -15,7 +15,14 @@ import java.time.LocalDateTime;
  * Entity representing a complaint with customer and product details.
  */
 @Entity
-@Table(name="complaints")
+@Table(name="complaints", indexes = {
+        @Index(name = "idx_complaints_contact_number_created_at", columnList = "contact_number, created_at"),
+        @Index(name = "idx_complaints_booked_by_id", columnList = "booked_by_id"),
+        @Index(name = "idx_complaints_technician_id", columnList = "technician_id"),
+        @Index(name = "idx_complaints_state", columnList = "state"),
+        @Index(name = "idx_complaints_created_at", columnList = "created_at"),
+        @Index(name = "idx_complaints_updated_at", columnList = "updated_at")
+})
 @Data
 @NoArgsConstructor
 public class Complaint implements Serializable {
@@ -27,10 +34,9 @@ public class Complaint implements Serializable {
     private static final long serialVersionUID = 60L;
 
     /*
-     * Auto-generated unique complaint reference ID.
+     * Unique complaint reference ID, allocated from IdSequence.COMPLAINT before insert.
      */
     @Id
-    @GeneratedValue(strategy= GenerationType.IDENTITY)
     @Column(name="complaint_reference", unique = true)
     private Long complaintReference;
 
@@ -27,10 +27,9 @@ public class Customer implements Serializable {
     private static final long serialVersionUID = 50L;
 
     /*
-     * Primary key for the customer entity, auto-generated.
+     * Primary key for the customer entity, allocated from IdSequence.CUSTOMER before insert.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "customer_reference", unique = true)
     private Long customerReference;
 
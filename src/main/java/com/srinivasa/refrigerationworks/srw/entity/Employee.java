@@ -27,10 +27,9 @@ public class Employee implements Serializable {
     private static final long serialVersionUID = 40L;
 
     /*
-     * Primary key for Employee entity.
+     * Primary key for Employee entity, allocated from IdSequence.EMPLOYEE before insert.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "employee_reference", unique = true)
     private Long employeeReference;
 
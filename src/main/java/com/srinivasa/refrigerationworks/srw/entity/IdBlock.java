@@ -0,0 +1,39 @@
+package com.srinivasa.refrigerationworks.srw.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/*
+ * Entity class representing the next unreserved reference of a business ID sequence.
+ */
+@Entity
+@Table(name = "id_blocks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdBlock implements Serializable {
+
+    /*
+     * Unique ID for serialization compatibility.
+     */
+    @Serial
+    private static final long serialVersionUID = 70L;
+
+    /*
+     * Name of the sequence (IdSequence constant).
+     */
+    @Id
+    @Column(name = "sequence_name")
+    private String sequenceName;
+
+    /*
+     * First reference not yet reserved by any application instance.
+     */
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+}
\ No newline at end of file
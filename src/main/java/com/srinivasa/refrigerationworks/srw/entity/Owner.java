@@ -27,10 +27,9 @@ public class Owner implements Serializable {
     private static final long serialVersionUID = 30L;
 
     /*
-     * Primary key for the owner entity, auto-generated.
+     * Primary key for the owner entity, allocated from IdSequence.OWNER before insert.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "owner_reference", unique = true)
     private Long ownerReference;
 
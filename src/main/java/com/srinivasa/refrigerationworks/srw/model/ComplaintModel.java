@@ -2,6 +2,7 @@ package com.srinivasa.refrigerationworks.srw.model;
 
 import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
 import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintIdentifierDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintPageDTO;
 import com.srinivasa.refrigerationworks.srw.payload.dto.EmployeeInfoDTO;
 import com.srinivasa.refrigerationworks.srw.utility.common.constants.ComplaintFormConstants;
 import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintStatus;
@@ -71,6 +72,17 @@ public class ComplaintModel {
                 complaints.isEmpty() ? noComplaintsMessage : complaints);
     }
 
+    /*
+     * Adds a keyset-paginated page of complaints to the model, along with the endpoint and cursors for page navigation.
+     */
+    public static void addComplaintsToModel(Map<String, EmployeeInfoDTO> techniciansInfo, ComplaintIdentifierDTO complaintIdentifierDTO, ComplaintPageDTO complaintPage,
+                                            String pageEndpoint, String noComplaintsMessage, Model model) {
+        addComplaintsToModel(techniciansInfo, complaintIdentifierDTO, complaintPage.getComplaints(), noComplaintsMessage, model);
+        model.addAttribute("pageEndpoint", pageEndpoint);
+        model.addAttribute("previousCursor", complaintPage.getPreviousCursor());
+        model.addAttribute("nextCursor", complaintPage.getNextCursor());
+    }
+
     /*
      * Adds complaint details for updating to the model and session.
      * Populates dropdowns for product types and complaint statuses.
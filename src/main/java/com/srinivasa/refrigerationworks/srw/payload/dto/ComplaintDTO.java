@@ -120,4 +120,9 @@ public class ComplaintDTO implements Serializable {
      * Complaint state.
      */
     private ComplaintState state;
+
+    /*
+     * Time the complaint was archived (null while it is in the complaints table).
+     */
+    private LocalDateTime archivedAt;
 }
\ No newline at end of file
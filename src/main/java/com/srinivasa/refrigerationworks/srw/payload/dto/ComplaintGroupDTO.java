@@ -0,0 +1,43 @@
+package com.srinivasa.refrigerationworks.srw.payload.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/*
+ * DTO for one group of a complaint analytics query.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintGroupDTO implements Serializable {
+
+    /*
+     * Serialization ID.
+     */
+    @Serial
+    private static final long serialVersionUID = 64L;
+
+    /*
+     * Group value (e.g. a brand, technician ID or yyyy-MM month); null for complaints missing the value.
+     */
+    private String group;
+
+    /*
+     * Number of matching complaints in the group.
+     */
+    private long count;
+
+    /*
+     * Number of matching complaints in the group that have been closed.
+     */
+    private long resolvedCount;
+
+    /*
+     * Average hours from creation to closure of the closed complaints (0 when none are closed).
+     */
+    private double averageResolutionHours;
+}
\ No newline at end of file
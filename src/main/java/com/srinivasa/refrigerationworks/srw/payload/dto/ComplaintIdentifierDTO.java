@@ -10,7 +10,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import java.time.LocalDate;
 
 /*
- * DTO for complaint identification (complaintId, phoneNumber, registered date).
+ * DTO for complaint identification (complaintId, phoneNumber, registered date, archive inclusion).
  */
 @Data
 @Builder
@@ -29,4 +29,9 @@ public class ComplaintIdentifierDTO {
      */
     @DateTimeFormat(pattern = "yyyy-MM-dd")
     private LocalDate registeredDate;
+
+    /*
+     * Whether archived complaints are searched as well.
+     */
+    private boolean includeArchived;
 }
\ No newline at end of file
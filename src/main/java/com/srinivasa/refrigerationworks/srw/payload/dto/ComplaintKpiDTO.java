@@ -0,0 +1,60 @@
+package com.srinivasa.refrigerationworks.srw.payload.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/*
+ * DTO for the owner dashboard's complaint KPIs.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintKpiDTO implements Serializable {
+
+    /*
+     * Serialization ID.
+     */
+    @Serial
+    private static final long serialVersionUID = 63L;
+
+    /*
+     * Number of complaints.
+     */
+    private long total;
+
+    /*
+     * Number of complaints per status, in declaration order.
+     */
+    private Map<String, Long> statusCounts;
+
+    /*
+     * Number of complaints per state, in declaration order.
+     */
+    private Map<String, Long> stateCounts;
+
+    /*
+     * Active, unresolved complaints per assigned technician, busiest first.
+     */
+    private Map<String, Long> technicianLoad;
+
+    /*
+     * Number of closed complaints.
+     */
+    private long resolvedCount;
+
+    /*
+     * Average hours from creation to closure of closed complaints (0 when none are closed).
+     */
+    private double averageResolutionHours;
+
+    /*
+     * When the counters were last rebuilt from the database (null if unknown).
+     */
+    private LocalDateTime reconciledAt;
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.srinivasa.refrigerationworks.srw.payload.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/*
+ * DTO for a single keyset-paginated page of complaints.
+ * - Pages are ordered by complaint reference, which is unique and never changes, so it is a stable keyset on its own.
+ * - Reference order follows registration order within a node, but only roughly across nodes: references come from
+ *   per-node hi/lo blocks (BusinessIdService), so a later complaint can sort before an earlier one from another node.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintPageDTO implements Serializable {
+
+    /*
+     * Serialization ID.
+     */
+    @Serial
+    private static final long serialVersionUID = 62L;
+
+    /*
+     * Complaints on this page, ordered by complaint reference.
+     */
+    private List<ComplaintDTO> complaints;
+
+    /*
+     * Cursor for the previous page (null on the first page and on an empty page).
+     */
+    private Long previousCursor;
+
+    /*
+     * Cursor for the next page (null on the last page and on an empty page).
+     */
+    private Long nextCursor;
+}
\ No newline at end of file
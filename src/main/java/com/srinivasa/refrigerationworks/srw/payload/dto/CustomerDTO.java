@@ -2,6 +2,7 @@ package com.srinivasa.refrigerationworks.srw.payload.dto;
 
 import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserStatus;
 import com.srinivasa.refrigerationworks.srw.validation.UniqueValue;
+import com.srinivasa.refrigerationworks.srw.validation.UniquenessCheck;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Past;
@@ -24,7 +25,7 @@ import java.time.LocalDate;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@UniqueValue(fieldName = "phoneNumber", userIdField = "customerId", message = "This phone number is already registered")
+@UniqueValue(fieldName = "phoneNumber", groups = UniquenessCheck.class, userIdField = "customerId", message = "This phone number is already registered")
 @UniqueValue(fieldName = "email", userIdField = "customerId", message = "This email address is already registered")
 public class CustomerDTO implements Serializable {
 
@@ -3,6 +3,7 @@ package com.srinivasa.refrigerationworks.srw.payload.dto;
 import com.srinivasa.refrigerationworks.srw.entity.Employee;
 import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserStatus;
 import com.srinivasa.refrigerationworks.srw.validation.UniqueValue;
+import com.srinivasa.refrigerationworks.srw.validation.UniquenessCheck;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Past;
@@ -26,9 +27,9 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@UniqueValue(fieldName = "phoneNumber", userIdField = "employeeId", message = "This phone number is already registered")
+@UniqueValue(fieldName = "phoneNumber", groups = UniquenessCheck.class, userIdField = "employeeId", message = "This phone number is already registered")
 @UniqueValue(fieldName = "email", userIdField = "employeeId", message = "This email address is already registered")
-@UniqueValue(fieldName = "nationalIdNumber", entityClass = Employee.class, inEveryUserEntity = false, userIdField = "employeeId", message = "This national Id number already exists")
+@UniqueValue(fieldName = "nationalIdNumber", groups = UniquenessCheck.class, entityClass = Employee.class, inEveryUserEntity = false, userIdField = "employeeId", message = "This national Id number already exists")
 public class EmployeeDTO implements Serializable {
 
     /*
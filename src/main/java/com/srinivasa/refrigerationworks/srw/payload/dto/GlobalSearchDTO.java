@@ -0,0 +1,23 @@
+package com.srinivasa.refrigerationworks.srw.payload.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+ * DTO for the owner's global search: any user ID, complaint ID, phone number, email, or national ID.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GlobalSearchDTO {
+
+    /*
+     * Identifier to search for across owners, employees, customers, and complaints.
+     */
+    @NotBlank(message = "Please enter an identifier to search.")
+    private String identifier;
+}
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.srinivasa.refrigerationworks.srw.payload.dto;
 import com.srinivasa.refrigerationworks.srw.entity.UserCredential;
 import com.srinivasa.refrigerationworks.srw.validation.FieldMatch;
 import com.srinivasa.refrigerationworks.srw.validation.UniqueValue;
+import com.srinivasa.refrigerationworks.srw.validation.UniquenessCheck;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
@@ -22,7 +23,7 @@ import java.io.Serializable;
 @NoArgsConstructor
 @AllArgsConstructor
 @FieldMatch(firstField = "password", secondField = "confirmPassword", message = "Passwords do not match.")
-@UniqueValue(fieldName = "username", entityClass = UserCredential.class, inEveryUserEntity = false, userIdField = "userId", message = "Username already taken.")
+@UniqueValue(fieldName = "username", groups = UniquenessCheck.class, entityClass = UserCredential.class, inEveryUserEntity = false, userIdField = "userId", message = "Username already taken.")
 public class UserCredentialDTO implements Serializable {
 
     /*
@@ -0,0 +1,53 @@
+package com.srinivasa.refrigerationworks.srw.payload.dto;
+
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/*
+ * DTO holding a user's status and authorities, cached between logins.
+ * The password hash is deliberately not part of it: it is read from the database on every login and never stored in Redis.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDetailsDTO implements Serializable {
+
+    /*
+     * Unique ID for serialization compatibility.
+     */
+    @Serial
+    private static final long serialVersionUID = 12L;
+
+    /*
+     * User's unique Id (owner, employee, or customer ID).
+     */
+    private String userId;
+
+    /*
+     * Login username.
+     */
+    private String username;
+
+    /*
+     * Whether the account is enabled.
+     */
+    private boolean enabled;
+
+    /*
+     * Kind of user the account belongs to.
+     */
+    private UserType userType;
+
+    /*
+     * Roles granted to the user (e.g. "ROLE_OWNER").
+     */
+    private List<String> roles;
+}
\ No newline at end of file
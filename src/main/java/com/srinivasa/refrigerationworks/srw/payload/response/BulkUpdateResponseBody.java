@@ -0,0 +1,31 @@
+package com.srinivasa.refrigerationworks.srw.payload.response;
+
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.BulkUpdateResult;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ResponseBodyStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+/*
+ * Response body for bulk status updates with message, status and per-ID results
+ */
+@Data
+@AllArgsConstructor
+public class BulkUpdateResponseBody {
+
+    /*
+     * Message with additional response information
+     */
+    private String message;
+
+    /*
+     * Status of the response (SUCCESS, FAILURE)
+     */
+    private ResponseBodyStatus status;
+
+    /*
+     * Result for each requested ID, in request order
+     */
+    private Map<String, BulkUpdateResult> results;
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.srinivasa.refrigerationworks.srw.repository;
+
+import com.srinivasa.refrigerationworks.srw.entity.ArchivedComplaint;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * Repository for ArchivedComplaint entity
+ */
+@Repository
+public interface ArchivedComplaintRepository extends JpaRepository<ArchivedComplaint, Long> {
+
+    /*
+     * Finds archived complaint by complaintId
+     */
+    public ArchivedComplaint findByComplaintId(String complaintId);
+
+    /*
+     * Finds archived complaint by complaintId, scoped to the user who booked it
+     */
+    public ArchivedComplaint findByComplaintIdAndBookedById(String complaintId, String bookedById);
+
+    /*
+     * Retrieves archived complaints by contact number created within [from, to)
+     */
+    @Query("SELECT c FROM ArchivedComplaint c WHERE c.contactNumber = :contactNumber AND c.createdAt >= :from AND c.createdAt < :to")
+    public List<ArchivedComplaint> findByContactNumberAndCreatedAtRange(@Param("contactNumber") String contactNumber, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /*
+     * Retrieves archived complaints by contact number created within [from, to), scoped to the user who booked them
+     */
+    @Query("SELECT c FROM ArchivedComplaint c WHERE c.bookedById = :bookedById AND c.contactNumber = :contactNumber AND c.createdAt >= :from AND c.createdAt < :to")
+    public List<ArchivedComplaint> findByBookedByIdAndContactNumberAndCreatedAtRange(@Param("bookedById") String bookedById, @Param("contactNumber") String contactNumber,
+                                                                                    @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /*
+     * Retrieves the page of archived complaints after the given reference (keyset pagination)
+     */
+    @Query("SELECT c FROM ArchivedComplaint c WHERE c.complaintReference > :after ORDER BY c.complaintReference ASC")
+    public List<ArchivedComplaint> findPageAfter(@Param("after") Long after, Limit limit);
+
+    /*
+     * Retrieves the page of archived complaints before the given reference, nearest first (keyset pagination)
+     */
+    @Query("SELECT c FROM ArchivedComplaint c WHERE c.complaintReference < :before ORDER BY c.complaintReference DESC")
+    public List<ArchivedComplaint> findPageBefore(@Param("before") Long before, Limit limit);
+
+    /*
+     * Copies the given complaints into the archive in one statement and returns the number of rows copied
+     * (a row that cannot be copied fails the statement rather than being skipped)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO complaints_archive (complaint_reference, complaint_id, booked_by_id, customer_name, contact_number, email, address, " +
+            "product_type, brand, product_model, description, created_at, status, updated_at, technician_id, closed_at, customer_feedback, state, archived_at) " +
+            "SELECT complaint_reference, complaint_id, booked_by_id, customer_name, contact_number, email, address, " +
+            "product_type, brand, product_model, description, created_at, status, updated_at, technician_id, closed_at, customer_feedback, state, :archivedAt " +
+            "FROM complaints WHERE complaint_reference IN :complaintReferences", nativeQuery = true)
+    public int copyFromComplaints(@Param("complaintReferences") Collection<Long> complaintReferences, @Param("archivedAt") LocalDateTime archivedAt);
+}
\ No newline at end of file
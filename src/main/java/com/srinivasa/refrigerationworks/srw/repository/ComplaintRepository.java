@@ -2,21 +2,28 @@ package com.srinivasa.refrigerationworks.srw.repository;
 
 import com.srinivasa.refrigerationworks.srw.entity.Complaint;
 import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintState;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintStatus;
+import jakarta.persistence.QueryHint;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 /*
  * Repository for Complaint entity
  */
 @Repository
-public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
+public interface ComplaintRepository extends JpaRepository<Complaint, Long>, EntityPersister<Complaint> {
 
     /*
      * Retrieves complaints by bookedById
@@ -28,6 +35,29 @@ public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
      */
     public Complaint findByComplaintId(String complaintId);
 
+    /*
+     * Finds complaints by a set of complaintIds
+     */
+    public List<Complaint> findByComplaintIdIn(Collection<String> complaintIds);
+
+    /*
+     * Finds complaint by complaintId, scoped to the user who booked it
+     */
+    public Complaint findByComplaintIdAndBookedById(String complaintId, String bookedById);
+
+    /*
+     * Retrieves complaints by contact number created within [from, to)
+     */
+    @Query("SELECT c FROM Complaint c WHERE c.contactNumber = :contactNumber AND c.createdAt >= :from AND c.createdAt < :to")
+    public List<Complaint> findByContactNumberAndCreatedAtRange(@Param("contactNumber") String contactNumber, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /*
+     * Retrieves complaints by contact number created within [from, to), scoped to the user who booked them
+     */
+    @Query("SELECT c FROM Complaint c WHERE c.bookedById = :bookedById AND c.contactNumber = :contactNumber AND c.createdAt >= :from AND c.createdAt < :to")
+    public List<Complaint> findByBookedByIdAndContactNumberAndCreatedAtRange(@Param("bookedById") String bookedById, @Param("contactNumber") String contactNumber,
+                                                                            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
     /*
      * Retrieves complaints by state
      */
@@ -45,4 +75,161 @@ public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
      * Retrieves complaints by technicianId
      */
     public List<Complaint> findByTechnicianId(String userId);
+
+    /*
+     * Retrieves the page of complaints after the given reference (keyset pagination)
+     */
+    @Query("SELECT c FROM Complaint c WHERE c.complaintReference > :after ORDER BY c.complaintReference ASC")
+    public List<Complaint> findPageAfter(@Param("after") Long after, Limit limit);
+
+    /*
+     * Retrieves the page of complaints before the given reference, nearest first (keyset pagination)
+     */
+    @Query("SELECT c FROM Complaint c WHERE c.complaintReference < :before ORDER BY c.complaintReference DESC")
+    public List<Complaint> findPageBefore(@Param("before") Long before, Limit limit);
+
+    /*
+     * Retrieves the page of complaints by state after the given reference
+     */
+    @Query("SELECT c FROM Complaint c WHERE c.state = :state AND c.complaintReference > :after ORDER BY c.complaintReference ASC")
+    public List<Complaint> findPageByStateAfter(@Param("state") ComplaintState state, @Param("after") Long after, Limit limit);
+
+    /*
+     * Retrieves the page of complaints by state before the given reference, nearest first
+     */
+    @Query("SELECT c FROM Complaint c WHERE c.state = :state AND c.complaintReference < :before ORDER BY c.complaintReference DESC")
+    public List<Complaint> findPageByStateBefore(@Param("state") ComplaintState state, @Param("before") Long before, Limit limit);
+
+    /*
+     * Retrieves the page of complaints by bookedById after the given reference
+     */
+    @Query("SELECT c FROM Complaint c WHERE c.bookedById = :bookedById AND c.complaintReference > :after ORDER BY c.complaintReference ASC")
+    public List<Complaint> findPageByBookedByIdAfter(@Param("bookedById") String bookedById, @Param("after") Long after, Limit limit);
+
+    /*
+     * Retrieves the page of complaints by bookedById before the given reference, nearest first
+     */
+    @Query("SELECT c FROM Complaint c WHERE c.bookedById = :bookedById AND c.complaintReference < :before ORDER BY c.complaintReference DESC")
+    public List<Complaint> findPageByBookedByIdBefore(@Param("bookedById") String bookedById, @Param("before") Long before, Limit limit);
+
+    /*
+     * Retrieves the page of complaints by technicianId after the given reference
+     */
+    @Query("SELECT c FROM Complaint c WHERE c.technicianId = :technicianId AND c.complaintReference > :after ORDER BY c.complaintReference ASC")
+    public List<Complaint> findPageByTechnicianIdAfter(@Param("technicianId") String technicianId, @Param("after") Long after, Limit limit);
+
+    /*
+     * Retrieves the page of complaints by technicianId before the given reference, nearest first
+     */
+    @Query("SELECT c FROM Complaint c WHERE c.technicianId = :technicianId AND c.complaintReference < :before ORDER BY c.complaintReference DESC")
+    public List<Complaint> findPageByTechnicianIdBefore(@Param("technicianId") String technicianId, @Param("before") Long before, Limit limit);
+
+    /*
+     * Retrieves the complaintIds after the given reference, in reference order
+     */
+    @Query("SELECT c.complaintId FROM Complaint c WHERE c.complaintReference > :after ORDER BY c.complaintReference ASC")
+    public List<String> findComplaintIdsAfter(@Param("after") Long after, Limit limit);
+
+    /*
+     * Retrieves the complaintIds by state after the given reference, in reference order
+     */
+    @Query("SELECT c.complaintId FROM Complaint c WHERE c.state = :state AND c.complaintReference > :after ORDER BY c.complaintReference ASC")
+    public List<String> findComplaintIdsByStateAfter(@Param("state") ComplaintState state, @Param("after") Long after, Limit limit);
+
+    /*
+     * Retrieves the complaintIds by bookedById after the given reference, in reference order
+     */
+    @Query("SELECT c.complaintId FROM Complaint c WHERE c.bookedById = :bookedById AND c.complaintReference > :after ORDER BY c.complaintReference ASC")
+    public List<String> findComplaintIdsByBookedByIdAfter(@Param("bookedById") String bookedById, @Param("after") Long after, Limit limit);
+
+    /*
+     * Retrieves the complaintIds by technicianId after the given reference, in reference order
+     */
+    @Query("SELECT c.complaintId FROM Complaint c WHERE c.technicianId = :technicianId AND c.complaintReference > :after ORDER BY c.complaintReference ASC")
+    public List<String> findComplaintIdsByTechnicianIdAfter(@Param("technicianId") String technicianId, @Param("after") Long after, Limit limit);
+
+    /*
+     * Retrieves the next chunk of complaints created within [from, to) matching the optional status, technician and state,
+     * after the given reference, in reference order. Rows are read-only entities; null filters are ignored.
+     */
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    @Query("SELECT c FROM Complaint c WHERE c.complaintReference > :after AND (:from IS NULL OR c.createdAt >= :from) AND (:to IS NULL OR c.createdAt < :to) " +
+            "AND (:status IS NULL OR c.status = :status) AND (:technicianId IS NULL OR c.technicianId = :technicianId) " +
+            "AND (:state IS NULL OR c.state = :state) ORDER BY c.complaintReference ASC")
+    public List<Complaint> findForExport(@Param("after") Long after, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                         @Param("status") ComplaintStatus status, @Param("technicianId") String technicianId,
+                                         @Param("state") ComplaintState state, Limit limit);
+
+    /*
+     * Counts complaints per status and state, as [status, state, count] rows
+     */
+    @Query("SELECT c.status, c.state, COUNT(c) FROM Complaint c GROUP BY c.status, c.state")
+    public List<Object[]> countByStatusAndState();
+
+    /*
+     * Counts active, unresolved complaints per assigned technician, as [technicianId, count] rows
+     */
+    @Query("SELECT c.technicianId, COUNT(c) FROM Complaint c WHERE c.technicianId IS NOT NULL AND c.state = :state AND c.status <> :status GROUP BY c.technicianId")
+    public List<Object[]> countOpenByTechnicianId(@Param("state") ComplaintState state, @Param("status") ComplaintStatus resolvedStatus);
+
+    /*
+     * Counts closed complaints and sums their seconds from creation to closure, as a single [count, seconds] row
+     */
+    @Query(value = "SELECT COUNT(*), COALESCE(SUM(TIMESTAMPDIFF(SECOND, created_at, closed_at)), 0) FROM complaints WHERE closed_at IS NOT NULL AND created_at IS NOT NULL", nativeQuery = true)
+    public List<Object[]> sumResolutionSeconds();
+
+    /*
+     * Retrieves the analytics columns of complaints after the given reference, in reference order, as
+     * [complaintReference, status, state, createdAt, closedAt, brand, productType, productModel, technicianId] rows
+     */
+    @Query("SELECT c.complaintReference, c.status, c.state, c.createdAt, c.closedAt, c.brand, c.productType, c.productModel, c.technicianId " +
+            "FROM Complaint c WHERE c.complaintReference > :after ORDER BY c.complaintReference ASC")
+    public List<Object[]> findAnalyticsRowsAfter(@Param("after") Long after, Limit limit);
+
+    /*
+     * Retrieves the analytics columns of complaints created or updated at or after 'since', after the given reference,
+     * in reference order, in the same row shape as findAnalyticsRowsAfter
+     */
+    @Query("SELECT c.complaintReference, c.status, c.state, c.createdAt, c.closedAt, c.brand, c.productType, c.productModel, c.technicianId " +
+            "FROM Complaint c WHERE c.complaintReference > :after AND (c.createdAt >= :since OR c.updatedAt >= :since) ORDER BY c.complaintReference ASC")
+    public List<Object[]> findAnalyticsRowsChangedSince(@Param("since") LocalDateTime since, @Param("after") Long after, Limit limit);
+
+    /*
+     * Retrieves the searchable text of complaints after the given reference, in reference order, as
+     * [complaintReference, complaintId, createdAt, description, customerName, address, brand, productModel] rows
+     */
+    @Query("SELECT c.complaintReference, c.complaintId, c.createdAt, c.description, c.customerName, c.address, c.brand, c.productModel " +
+            "FROM Complaint c WHERE c.complaintReference > :after ORDER BY c.complaintReference ASC")
+    public List<Object[]> findSearchRowsAfter(@Param("after") Long after, Limit limit);
+
+    /*
+     * Retrieves open complaints in the given state and not in the given status, as [complaintId, createdAt, technicianId] rows
+     */
+    @Query("SELECT c.complaintId, c.createdAt, c.technicianId FROM Complaint c WHERE c.state = :state AND c.status <> :status")
+    public List<Object[]> findOpenComplaintAssignments(@Param("state") ComplaintState state, @Param("status") ComplaintStatus resolvedStatus);
+
+    /*
+     * Updates complaint technician and 'updatedAt'
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Complaint SET updatedAt = :updatedAt, technicianId = :technicianId WHERE complaintId = :complaintId")
+    public void updateTechnicianId(@Param("complaintId") String complaintId, @Param("updatedAt") LocalDateTime updatedAt, @Param("technicianId") String technicianId);
+
+    /*
+     * Locks the next batch of complaints due for archival after the given reference, in reference order: resolved and closed
+     * before the cutoff, or inactive and last touched before it. Rows locked by another archiver are skipped (SKIP LOCKED).
+     */
+    @Query(value = "SELECT * FROM complaints WHERE complaint_reference > :after " +
+            "AND ((status = 'RESOLVED' AND closed_at < :cutoff) OR (state = 'IN_ACTIVE' AND COALESCE(updated_at, created_at) < :cutoff)) " +
+            "ORDER BY complaint_reference ASC LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    public List<Complaint> lockArchivableAfter(@Param("after") Long after, @Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    /*
+     * Updates the state and 'updatedAt' of a set of complaints in one statement
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Complaint SET updatedAt = :updatedAt, state = :state WHERE complaintId IN :complaintIds")
+    public int updateComplaintStates(@Param("complaintIds") Collection<String> complaintIds, @Param("updatedAt") LocalDateTime updatedAt, @Param("state") ComplaintState state);
 }
\ No newline at end of file
@@ -1,28 +1,56 @@
 package com.srinivasa.refrigerationworks.srw.repository;
 
 import com.srinivasa.refrigerationworks.srw.entity.Customer;
+import com.srinivasa.refrigerationworks.srw.utility.common.IdentifierClassifier;
 import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserStatus;
+import jakarta.persistence.QueryHint;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 /*
  * Repository for Customer entity
  */
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, Long> {
+public interface CustomerRepository extends JpaRepository<Customer, Long>, EntityPersister<Customer> {
+
+    /*
+     * Finds customer by ID, phone, or email, dispatching on the identifier's shape to a single-column, index-backed lookup
+     */
+    public default Customer findByIdentifier(String identifier) {
+        return switch (IdentifierClassifier.classify(identifier)) {
+            case CUSTOMER_ID -> findByCustomerId(identifier);
+            case PHONE_NUMBER -> findByPhoneNumber(IdentifierClassifier.normalize(identifier));
+            case EMAIL -> findByEmail(identifier);
+            default -> null;
+        };
+    }
 
     /*
-     * Finds customer by ID, phone, or email
+     * Finds customer by customerId
      */
-    @Query("SELECT c FROM Customer c WHERE c.customerId = :identifier OR c.phoneNumber = :identifier OR c.email = :identifier")
-    public Customer findByIdentifier(@Param("identifier") String identifier);
+    public Customer findByCustomerId(String customerId);
+
+    /*
+     * Finds customer by phone number
+     */
+    public Customer findByPhoneNumber(String phoneNumber);
+
+    /*
+     * Finds customer by email
+     */
+    public Customer findByEmail(String email);
 
     /*
      * Retrieves customers by status
@@ -36,4 +64,27 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     @Transactional
     @Query("UPDATE Customer SET updatedAt = :updatedAt, status = :status WHERE customerId = :customerId")
     public void updateCustomerStatus(@Param("customerId") String customerId, @Param("updatedAt") LocalDateTime updatedAt, @Param("status") UserStatus status);
+
+    /*
+     * Retrieves the next chunk of customers registered within [from, to) with the optional status, after the given reference, in reference order
+     */
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    @Query("SELECT c FROM Customer c WHERE c.customerReference > :after AND (:from IS NULL OR c.createdAt >= :from) AND (:to IS NULL OR c.createdAt < :to) " +
+            "AND (:status IS NULL OR c.status = :status) ORDER BY c.customerReference ASC")
+    public List<Customer> findForExport(@Param("after") Long after, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                        @Param("status") UserStatus status, Limit limit);
+
+    /*
+     * Retrieves the status of each of a set of customers, as [customerId, status] rows
+     */
+    @Query("SELECT c.customerId, c.status FROM Customer c WHERE c.customerId IN :customerIds")
+    public List<Object[]> findStatusesByCustomerIdIn(@Param("customerIds") Collection<String> customerIds);
+
+    /*
+     * Updates the status and 'updatedAt' of a set of customers in one statement
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Customer SET updatedAt = :updatedAt, status = :status WHERE customerId IN :customerIds")
+    public int updateCustomerStatuses(@Param("customerIds") Collection<String> customerIds, @Param("updatedAt") LocalDateTime updatedAt, @Param("status") UserStatus status);
 }
\ No newline at end of file
@@ -1,28 +1,65 @@
 package com.srinivasa.refrigerationworks.srw.repository;
 
 import com.srinivasa.refrigerationworks.srw.entity.Employee;
+import com.srinivasa.refrigerationworks.srw.utility.common.IdentifierClassifier;
 import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserStatus;
+import jakarta.persistence.QueryHint;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 /*
  * Repository for Employee entity
  */
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EntityPersister<Employee> {
+
+    /*
+     * Finds employee by ID, phone, email, or national ID, dispatching on the identifier's shape to a single-column, index-backed lookup
+     * (a phone-shaped value that matches no phone number is tried as a national ID)
+     */
+    public default Employee findByIdentifier(String identifier) {
+        return switch (IdentifierClassifier.classify(identifier)) {
+            case EMPLOYEE_ID -> findByEmployeeId(identifier);
+            case PHONE_NUMBER -> {
+                Employee employee = findByPhoneNumber(IdentifierClassifier.normalize(identifier));
+                yield employee != null ? employee : findByNationalIdNumber(identifier);
+            }
+            case EMAIL -> findByEmail(identifier);
+            default -> findByNationalIdNumber(identifier);
+        };
+    }
+
+    /*
+     * Finds employee by employeeId
+     */
+    public Employee findByEmployeeId(String employeeId);
+
+    /*
+     * Finds employee by phone number
+     */
+    public Employee findByPhoneNumber(String phoneNumber);
+
+    /*
+     * Finds employee by email
+     */
+    public Employee findByEmail(String email);
 
     /*
-     * Finds employee by ID, phone, email, or national ID
+     * Finds employee by national ID number
      */
-    @Query("SELECT e FROM Employee e WHERE e.employeeId = :identifier OR e.phoneNumber = :identifier OR e.email = :identifier or e.nationalIdNumber = :identifier")
-    public Employee findByIdentifier(@Param("identifier") String identifier);
+    public Employee findByNationalIdNumber(String nationalIdNumber);
 
     /*
      * Retrieves employees by status
@@ -36,4 +73,28 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     @Transactional
     @Query("UPDATE Employee SET updatedAt = :updatedAt, dateOfExit = :dateOfExit, status = :status WHERE employeeId = :employeeId")
     public void updateEmployeeStatus(@Param("employeeId") String employeeId, @Param("updatedAt") LocalDateTime updatedAt, @Param("dateOfExit") LocalDateTime dateOfExit, @Param("status") UserStatus status);
+
+    /*
+     * Retrieves the next chunk of employees hired within [from, to) with the optional status, after the given reference, in reference order
+     */
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    @Query("SELECT e FROM Employee e WHERE e.employeeReference > :after AND (:from IS NULL OR e.dateOfHire >= :from) AND (:to IS NULL OR e.dateOfHire < :to) " +
+            "AND (:status IS NULL OR e.status = :status) ORDER BY e.employeeReference ASC")
+    public List<Employee> findForExport(@Param("after") Long after, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                        @Param("status") UserStatus status, Limit limit);
+
+    /*
+     * Retrieves the status of each of a set of employees, as [employeeId, status] rows
+     */
+    @Query("SELECT e.employeeId, e.status FROM Employee e WHERE e.employeeId IN :employeeIds")
+    public List<Object[]> findStatusesByEmployeeIdIn(@Param("employeeIds") Collection<String> employeeIds);
+
+    /*
+     * Updates the status, 'updatedAt', and 'dateOfExit' of a set of employees in one statement
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Employee SET updatedAt = :updatedAt, dateOfExit = :dateOfExit, status = :status WHERE employeeId IN :employeeIds")
+    public int updateEmployeeStatuses(@Param("employeeIds") Collection<String> employeeIds, @Param("updatedAt") LocalDateTime updatedAt,
+                                      @Param("dateOfExit") LocalDateTime dateOfExit, @Param("status") UserStatus status);
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.srinivasa.refrigerationworks.srw.repository;
+
+/*
+ * Repository fragment for inserting entities whose ID is assigned before saving.
+ * save() treats an entity with an ID as existing and merges it (SELECT, then INSERT); persist() issues the INSERT only.
+ */
+public interface EntityPersister<T> {
+
+    /*
+     * Inserts a new entity
+     */
+    public T persist(T entity);
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.srinivasa.refrigerationworks.srw.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * Implementation of the EntityPersister fragment
+ */
+@RequiredArgsConstructor
+public class EntityPersisterImpl<T> implements EntityPersister<T> {
+
+    /*
+     * EntityManager of the current transaction
+     */
+    private final EntityManager entityManager;
+
+    /*
+     * Inserts a new entity
+     */
+    @Override
+    @Transactional
+    public T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.srinivasa.refrigerationworks.srw.repository;
+
+import com.srinivasa.refrigerationworks.srw.entity.IdBlock;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/*
+ * Repository for IdBlock entity
+ */
+@Repository
+public interface IdBlockRepository extends JpaRepository<IdBlock, String> {
+
+    /*
+     * Finds the sequence row and locks it (SELECT ... FOR UPDATE) until the transaction ends
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM IdBlock b WHERE b.sequenceName = :sequenceName")
+    public IdBlock findForUpdate(@Param("sequenceName") String sequenceName);
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.srinivasa.refrigerationworks.srw.repository;
 
 import com.srinivasa.refrigerationworks.srw.entity.Owner;
+import com.srinivasa.refrigerationworks.srw.utility.common.IdentifierClassifier;
 import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserStatus;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -16,13 +17,34 @@ import java.util.List;
  * Repository for Owner entity
  */
 @Repository
-public interface OwnerRepository extends JpaRepository<Owner, Long> {
+public interface OwnerRepository extends JpaRepository<Owner, Long>, EntityPersister<Owner> {
 
     /*
-     * Finds owner by ID, phone, or email
+     * Finds owner by ID, phone, or email, dispatching on the identifier's shape to a single-column, index-backed lookup
      */
-    @Query("SELECT o FROM Owner o WHERE o.ownerId = :identifier OR o.phoneNumber = :identifier OR o.email = :identifier")
-    public Owner findByIdentifier(@Param("identifier") String identifier);
+    public default Owner findByIdentifier(String identifier) {
+        return switch (IdentifierClassifier.classify(identifier)) {
+            case OWNER_ID -> findByOwnerId(identifier);
+            case PHONE_NUMBER -> findByPhoneNumber(IdentifierClassifier.normalize(identifier));
+            case EMAIL -> findByEmail(identifier);
+            default -> null;
+        };
+    }
+
+    /*
+     * Finds owner by ownerId
+     */
+    public Owner findByOwnerId(String ownerId);
+
+    /*
+     * Finds owner by phone number
+     */
+    public Owner findByPhoneNumber(String phoneNumber);
+
+    /*
+     * Finds owner by email
+     */
+    public Owner findByEmail(String email);
 
     /*
      * Retrieves owners by status
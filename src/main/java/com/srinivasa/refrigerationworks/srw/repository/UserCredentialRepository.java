@@ -8,11 +8,13 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+
 /*
  * Repository for UserCredential entity
  */
 @Repository
-public interface UserCredentialRepository extends JpaRepository<UserCredential, String> {
+public interface UserCredentialRepository extends JpaRepository<UserCredential, String>, EntityPersister<UserCredential> {
 
     /*
      * Fetches username by phone number
@@ -35,10 +37,16 @@ public interface UserCredentialRepository extends JpaRepository<UserCredential,
     public void updatePassword(@Param("username") String username, @Param("password") String password);
 
     /*
-     * Finds user ID by username
+     * Fetches the password hash by username
      */
-    @Query("SELECT userId FROM UserCredential WHERE username = :username")
-    public String findUserIdByUsername(@Param("username") String username);
+    @Query("SELECT password FROM UserCredential WHERE username = :username")
+    public String fetchPasswordByUsername(@Param("username") String username);
+
+    /*
+     * Finds user credential with its roles by username, in a single query
+     */
+    @Query("SELECT DISTINCT u FROM UserCredential u LEFT JOIN FETCH u.userRoles WHERE u.username = :username")
+    public UserCredential findWithRolesByUsername(@Param("username") String username);
 
     /*
      * Updates user phone number by userId
@@ -55,4 +63,12 @@ public interface UserCredentialRepository extends JpaRepository<UserCredential,
     @Transactional
     @Query("UPDATE UserCredential SET enabled = :enabled WHERE userId = :userId")
     public void updateUserStatus(@Param("userId") String userId, @Param("enabled") byte enabled);
+
+    /*
+     * Updates user status (enabled/disabled) of a set of users in one statement
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE UserCredential SET enabled = :enabled WHERE userId IN :userIds")
+    public int updateUserStatuses(@Param("userIds") Collection<String> userIds, @Param("enabled") byte enabled);
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.srinivasa.refrigerationworks.srw.service;
+
+import com.srinivasa.refrigerationworks.srw.payload.response.BulkUpdateResponseBody;
+import com.srinivasa.refrigerationworks.srw.utility.common.BulkUpdateClassifier;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.BulkStatusTarget;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.BulkUpdateResult;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintState;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ResponseBodyStatus;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Service for activating and deactivating many complaints, customers or employees at once,
+ * shared by the owner's bulk status page and the bulk status API.
+ * - 'ids' holds the IDs separated by commas, spaces or line breaks; duplicates are applied once.
+ * - Each table is updated with one statement in one transaction, and caches are invalidated once per batch.
+ * - The result reports UPDATED, UNCHANGED or NOT_FOUND for each ID.
+ */
+@Service
+@RequiredArgsConstructor
+public class BulkStatusService {
+
+    /*
+     * Service for complaint operations.
+     */
+    private final ComplaintService complaintService;
+
+    /*
+     * Service for customer and credential operations.
+     */
+    private final CustomerCredentialService customerCredentialService;
+
+    /*
+     * Service for employee and credential operations.
+     */
+    private final EmployeeCredentialService employeeCredentialService;
+
+    /*
+     * Maximum number of IDs accepted in one request, bounding the IN list and the transaction.
+     */
+    @Value("${srw.bulk.maximum-ids:1000}")
+    private int maximumIds;
+
+    /*
+     * Parses and bounds the IDs, activates or deactivates the target records and summarises the per-ID results.
+     * Returns a FAILURE body, without updating anything, when no IDs or too many IDs are given.
+     */
+    public BulkUpdateResponseBody updateStatuses(BulkStatusTarget target, boolean active, String ids) {
+        Set<String> parsedIds = BulkUpdateClassifier.parseIds(ids);
+        if (parsedIds.isEmpty()) {
+            return new BulkUpdateResponseBody("No IDs given", ResponseBodyStatus.FAILURE, Map.of());
+        }
+        if (parsedIds.size() > maximumIds) {
+            return new BulkUpdateResponseBody("At most " + maximumIds + " IDs can be updated at once, " + parsedIds.size() + " given",
+                    ResponseBodyStatus.FAILURE, Map.of());
+        }
+        Map<String, BulkUpdateResult> results = switch (target) {
+            case COMPLAINTS -> complaintService.updateComplaintStates(parsedIds, active ? ComplaintState.ACTIVE : ComplaintState.IN_ACTIVE);
+            case CUSTOMERS -> customerCredentialService.updateCustomerStatuses(parsedIds, active ? UserStatus.ACTIVE : UserStatus.IN_ACTIVE);
+            case EMPLOYEES -> employeeCredentialService.updateEmployeeStatuses(parsedIds, active ? UserStatus.ACTIVE : UserStatus.IN_ACTIVE);
+        };
+        long updated = results.values().stream().filter(result -> result == BulkUpdateResult.UPDATED).count();
+        long notFound = results.values().stream().filter(result -> result == BulkUpdateResult.NOT_FOUND).count();
+        String message = updated + " updated, " + (results.size() - updated - notFound) + " unchanged, " + notFound + " not found";
+        return new BulkUpdateResponseBody(message, ResponseBodyStatus.SUCCESS, results);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.srinivasa.refrigerationworks.srw.service;
+
+import com.srinivasa.refrigerationworks.srw.entity.IdBlock;
+import com.srinivasa.refrigerationworks.srw.repository.IdBlockRepository;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.IdSequence;
+import jakarta.persistence.EntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/*
+ * Service for allocating business IDs (hi/lo).
+ * - Each instance reserves a block of references per sequence by advancing its id_blocks row under a row lock,
+ *   in its own transaction, then hands references out of the block from memory.
+ * - Instances never share a block, so IDs are unique across instances; references left in a block at shutdown are skipped.
+ * - References are increasing within an instance but not across instances: while one instance is still handing out
+ *   its block, another hands out a later block, so a newer record can get a smaller reference. Nothing may rely on
+ *   reference order as creation order.
+ * - Each sequence has its own monitor, held only to take a reference from memory. A block is reserved outside it,
+ *   by one caller per sequence (double-checked under refillLock), so the database round trip never blocks callers
+ *   of other sequences or callers still served from the current block.
+ * - A missing row is seeded from the highest reference already stored for the entity.
+ */
+@Service
+public class BusinessIdService {
+
+    /*
+     * Repository for sequence rows.
+     */
+    private final IdBlockRepository idBlockRepository;
+
+    /*
+     * EntityManager for seeding sequences from existing data.
+     */
+    private final EntityManager entityManager;
+
+    /*
+     * Runs block reservations in a separate, short transaction so the row lock is not held by the caller's transaction.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /*
+     * Block state per sequence; filled at construction and never modified, so it is read without locking.
+     */
+    private final Map<IdSequence, Block> blocks = new EnumMap<>(IdSequence.class);
+
+    /*
+     * Constructs the service with a REQUIRES_NEW transaction template.
+     */
+    public BusinessIdService(IdBlockRepository idBlockRepository, EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.idBlockRepository = idBlockRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (IdSequence sequence : IdSequence.values()) {
+            blocks.put(sequence, new Block());
+        }
+    }
+
+    /*
+     * Returns the next reference of the sequence, reserving a new block when the current one is used up.
+     */
+    public long nextReference(IdSequence sequence) {
+        Block block = blocks.get(sequence);
+        while (true) {
+            synchronized (block) {
+                if (block.next < block.end) {
+                    return block.next++;
+                }
+            }
+            synchronized (block.refillLock) {
+                synchronized (block) {
+                    if (block.next < block.end) {
+                        continue;
+                    }
+                }
+                long start = reserveBlock(sequence);
+                synchronized (block) {
+                    block.next = start;
+                    block.end = start + sequence.getBlockSize();
+                }
+            }
+        }
+    }
+
+    /*
+     * Returns the next formatted business ID of the sequence.
+     */
+    public String nextId(IdSequence sequence) {
+        return sequence.format(nextReference(sequence));
+    }
+
+    /*
+     * Reserves the next block of the sequence and returns its first reference.
+     * Retries once if another instance seeded the same missing row concurrently.
+     */
+    private long reserveBlock(IdSequence sequence) {
+        try {
+            return transactionTemplate.execute(status -> advance(sequence));
+        } catch (DataIntegrityViolationException exception) {
+            return transactionTemplate.execute(status -> advance(sequence));
+        }
+    }
+
+    /*
+     * Locks the sequence row (seeding it if missing) and moves it past one block.
+     */
+    private long advance(IdSequence sequence) {
+        IdBlock idBlock = idBlockRepository.findForUpdate(sequence.name());
+        if (idBlock == null) {
+            long maxReference = entityManager.createQuery(sequence.maxReferenceQuery(), Long.class).getSingleResult();
+            idBlock = new IdBlock(sequence.name(), maxReference + 1);
+            entityManager.persist(idBlock);
+            entityManager.flush();
+        }
+        long start = idBlock.getNextValue();
+        idBlock.setNextValue(start + sequence.getBlockSize());
+        return start;
+    }
+
+    /*
+     * References [next, end) left in the block of one sequence; guarded by the Block's monitor.
+     * refillLock admits one caller at a time to reserve the next block.
+     */
+    private static final class Block {
+        private final Object refillLock = new Object();
+        private long next;
+        private long end;
+    }
+}
\ No newline at end of file
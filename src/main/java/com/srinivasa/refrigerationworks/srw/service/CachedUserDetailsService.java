@@ -0,0 +1,149 @@
+package com.srinivasa.refrigerationworks.srw.service;
+
+import com.srinivasa.refrigerationworks.srw.entity.UserCredential;
+import com.srinivasa.refrigerationworks.srw.payload.dto.UserDetailsDTO;
+import com.srinivasa.refrigerationworks.srw.repository.UserCredentialRepository;
+import com.srinivasa.refrigerationworks.srw.utility.UserPrincipal;
+import com.srinivasa.refrigerationworks.srw.utility.cache.CacheTagIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * UserDetailsService caching a user's status and roles by username, and reading the password hash on every login.
+ * - Returns a UserPrincipal carrying the user ID and type.
+ * - Password hashes are never cached; only the enabled flag, user type and roles are, in the 'user-details' cache.
+ * - Entries are loaded through the cache, which drops a value whose key or user ID tag was evicted while it loaded,
+ *   so a status change made during a login is never overwritten by the status read before it. Entries are tagged by
+ *   user ID for updates keyed by user ID, and expire after the short 'srw.cache.expiry' time-to-live of the cache.
+ * - When the cache is unavailable, users are loaded from the database.
+ * - Stores password hashes re-encoded at a higher cost after a successful login.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CachedUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+
+    /*
+     * Name of the cache holding user details by username.
+     */
+    private static final String CACHE_NAME = "user-details";
+
+    /*
+     * Repository for user credential data.
+     */
+    private final UserCredentialRepository userCredentialRepository;
+
+    /*
+     * CacheManager providing the 'user-details' cache.
+     */
+    private final CacheManager cacheManager;
+
+    /*
+     * Tag index for evicting entries by user ID.
+     */
+    private final CacheTagIndex cacheTagIndex;
+
+    /*
+     * Loads the user for authentication: the password hash from the database, status and roles from the cache when possible.
+     */
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        String password = userCredentialRepository.fetchPasswordByUsername(username);
+        if (password == null) {
+            throw new UsernameNotFoundException("User not found: " + username);
+        }
+        return new UserPrincipal(getUserDetails(username), password);
+    }
+
+    /*
+     * Stores the password re-encoded by Spring Security after a login whose hash used an older, lower cost.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userCredentialRepository.updatePassword(user.getUsername(), newPassword);
+        return loadUserByUsername(user.getUsername());
+    }
+
+    /*
+     * Evicts the cached details of the user with the given user ID.
+     */
+    public void evictByUserId(String userId) {
+        try {
+            cacheTagIndex.evict(CACHE_NAME, List.of(userIdTag(userId)));
+        } catch (DataAccessException exception) {
+            log.warn("User details cache unavailable, could not evict {}: {}", userId, exception.getMessage());
+        }
+    }
+
+    /*
+     * Evicts the cached details of every user with one of the given user IDs, in one tag eviction.
+     */
+    public void evictByUserIds(Collection<String> userIds) {
+        try {
+            cacheTagIndex.evict(CACHE_NAME, userIds.stream().map(CachedUserDetailsService::userIdTag).toList());
+        } catch (DataAccessException exception) {
+            log.warn("User details cache unavailable, could not evict {} user(s): {}", userIds.size(), exception.getMessage());
+        }
+    }
+
+    /*
+     * Returns the cached status and roles of the user, loading and caching them on a miss.
+     * Concurrent misses share one load, and the loaded value is not kept if the user was evicted meanwhile.
+     */
+    private UserDetailsDTO getUserDetails(String username) {
+        try {
+            return cache().get(username, () -> loadUserDetails(username));
+        } catch (Cache.ValueRetrievalException exception) {
+            if (exception.getCause() instanceof UsernameNotFoundException usernameNotFoundException) {
+                throw usernameNotFoundException;
+            }
+            throw exception;
+        } catch (DataAccessException exception) {
+            log.warn("User details cache unavailable, loading {} from the database: {}", username, exception.getMessage());
+            return loadUserDetails(username);
+        }
+    }
+
+    /*
+     * Loads the credential with its roles in one query, tagging the entry about to be cached with the user ID.
+     */
+    private UserDetailsDTO loadUserDetails(String username) {
+        UserCredential userCredential = userCredentialRepository.findWithRolesByUsername(username);
+        if (userCredential == null) {
+            throw new UsernameNotFoundException("User not found: " + username);
+        }
+        cacheTagIndex.tag(CACHE_NAME, username, List.of(userIdTag(userCredential.getUserId())));
+        return UserDetailsDTO.builder()
+                .userId(userCredential.getUserId())
+                .username(userCredential.getUsername())
+                .enabled(userCredential.getEnabled() == 1)
+                .userType(userCredential.getUserType())
+                .roles(userCredential.getUserRoles().stream().map(userRole -> userRole.getUserId().getRole()).toList())
+                .build();
+    }
+
+    /*
+     * The 'user-details' cache.
+     */
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    /*
+     * Tag for cached entries of the given user ID.
+     */
+    private static String userIdTag(String userId) {
+        return "user_id-" + userId;
+    }
+}
\ No newline at end of file
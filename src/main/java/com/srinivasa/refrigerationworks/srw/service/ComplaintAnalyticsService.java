@@ -0,0 +1,173 @@
+package com.srinivasa.refrigerationworks.srw.service;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintGroupDTO;
+import com.srinivasa.refrigerationworks.srw.repository.ComplaintRepository;
+import com.srinivasa.refrigerationworks.srw.utility.analytics.ComplaintColumns;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintDimension;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintState;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintStatus;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.IdSequence;
+import com.srinivasa.refrigerationworks.srw.utility.event.ComplaintChange;
+import com.srinivasa.refrigerationworks.srw.utility.event.ComplaintChangedEvent;
+import com.srinivasa.refrigerationworks.srw.utility.event.RebuildableIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/*
+ * Service for ad-hoc owner analytics over a columnar snapshot of the complaints table.
+ * - The snapshot is loaded once at startup in keyset batches and patched from committed complaint changes.
+ * - Writes made by other nodes are picked up by a periodic refresh that reads only the complaints created or updated
+ *   since the last load, re-reading a short overlap to cover clock skew between nodes and late commits.
+ * - Complaints archived by other nodes are not seen by a refresh; a nightly rebuild after archiving drops them.
+ * - Loading, patching and rebuilding are shared with the search index through RebuildableIndex.
+ */
+@Slf4j
+@Service
+public class ComplaintAnalyticsService {
+
+    /*
+     * Number of complaints read from the database per query when loading the snapshot.
+     */
+    private static final int LOAD_BATCH_SIZE = 5000;
+
+    /*
+     * How far before the last load's start a refresh re-reads changes.
+     */
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(5);
+
+    /*
+     * Repository for complaint data.
+     */
+    private final ComplaintRepository complaintRepository;
+
+    /*
+     * Columnar snapshot, loaded on first use and patched from committed complaint changes.
+     */
+    private final RebuildableIndex<ComplaintColumns> columns;
+
+    /*
+     * Start of the last successful load less the overlap; the next refresh reads changes from here.
+     */
+    private volatile LocalDateTime changedSince;
+
+    /*
+     * Constructs the service with a snapshot not loaded yet.
+     */
+    public ComplaintAnalyticsService(ComplaintRepository complaintRepository) {
+        this.complaintRepository = complaintRepository;
+        this.columns = new RebuildableIndex<>(this::loadColumns, ComplaintAnalyticsService::apply);
+    }
+
+    /*
+     * Counts complaints matching the filter per group of the dimension, loading the snapshot first if needed.
+     */
+    public List<ComplaintGroupDTO> groupBy(ComplaintDimension dimension, ComplaintColumns.Filter filter) {
+        return columns.get().groupBy(dimension, filter, ForkJoinPool.commonPool());
+    }
+
+    /*
+     * Loads the snapshot once the application is ready; if the database is unavailable, the first query loads it instead.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            log.info("Complaint analytics snapshot loaded ({} complaints)", columns.rebuild().size());
+        } catch (DataAccessException exception) {
+            log.warn("Complaint analytics snapshot could not be loaded: {}", exception.getMessage());
+        }
+    }
+
+    /*
+     * Loads complaints changed since the last load into the snapshot on the configured interval.
+     */
+    @Scheduled(fixedDelayString = "${srw.complaint.analytics.refresh-interval:PT15M}", initialDelayString = "${srw.complaint.analytics.refresh-interval:PT15M}")
+    public void refreshPeriodically() {
+        columns.refresh(this::loadChanges);
+    }
+
+    /*
+     * Rebuilds the snapshot on the configured schedule, after the nightly archive, dropping complaints other nodes archived.
+     */
+    @Scheduled(cron = "${srw.complaint.analytics.rebuild-cron:0 30 3 * * *}")
+    public void rebuildPeriodically() {
+        columns.rebuild();
+    }
+
+    /*
+     * Applies committed complaint changes to the snapshot, and records them for a rebuild in progress.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onComplaintChanged(ComplaintChangedEvent event) {
+        columns.apply(event.getChanges());
+    }
+
+    /*
+     * Loads a new snapshot from the database in keyset batches, sized from the previous one.
+     */
+    private ComplaintColumns loadColumns(ComplaintColumns previous) {
+        LocalDateTime started = LocalDateTime.now();
+        ComplaintColumns snapshot = new ComplaintColumns(previous == null ? LOAD_BATCH_SIZE : previous.size() + LOAD_BATCH_SIZE);
+        long after = 0;
+        List<Object[]> rows;
+        do {
+            rows = complaintRepository.findAnalyticsRowsAfter(after, Limit.of(LOAD_BATCH_SIZE));
+            for (Object[] row : rows) {
+                upsert(snapshot, row);
+                after = (Long) row[0];
+            }
+        } while (rows.size() == LOAD_BATCH_SIZE);
+        changedSince = started.minus(REFRESH_OVERLAP);
+        return snapshot;
+    }
+
+    /*
+     * Upserts complaints created or updated since the last load into the snapshot in keyset batches.
+     */
+    private void loadChanges(ComplaintColumns snapshot) {
+        LocalDateTime started = LocalDateTime.now();
+        long after = 0;
+        List<Object[]> rows;
+        do {
+            rows = complaintRepository.findAnalyticsRowsChangedSince(changedSince, after, Limit.of(LOAD_BATCH_SIZE));
+            for (Object[] row : rows) {
+                upsert(snapshot, row);
+                after = (Long) row[0];
+            }
+        } while (rows.size() == LOAD_BATCH_SIZE);
+        changedSince = started.minus(REFRESH_OVERLAP);
+    }
+
+    /*
+     * Upserts a [complaintReference, status, state, createdAt, closedAt, brand, productType, productModel, technicianId] row.
+     */
+    private static void upsert(ComplaintColumns snapshot, Object[] row) {
+        snapshot.upsert((Long) row[0], (ComplaintStatus) row[1], (ComplaintState) row[2], (LocalDateTime) row[3], (LocalDateTime) row[4],
+                (String) row[5], (String) row[6], (String) row[7], (String) row[8]);
+    }
+
+    /*
+     * Upserts the complaint's current snapshot, or removes it if it left the complaints table.
+     */
+    private static void apply(ComplaintColumns snapshot, ComplaintChange change) {
+        ComplaintDTO current = change.getCurrent();
+        if (current == null) {
+            snapshot.remove(IdSequence.COMPLAINT.parseReference(change.getPrevious().getComplaintId()));
+            return;
+        }
+        snapshot.upsert(IdSequence.COMPLAINT.parseReference(current.getComplaintId()), current.getStatus(), current.getState(),
+                current.getCreatedAt(), current.getClosedAt(), current.getBrand(), current.getProductType(), current.getProductModel(),
+                current.getTechnicianId());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,150 @@
+package com.srinivasa.refrigerationworks.srw.service;
+
+import com.srinivasa.refrigerationworks.srw.entity.Complaint;
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
+import com.srinivasa.refrigerationworks.srw.repository.ArchivedComplaintRepository;
+import com.srinivasa.refrigerationworks.srw.repository.ComplaintRepository;
+import com.srinivasa.refrigerationworks.srw.utility.event.ComplaintChange;
+import com.srinivasa.refrigerationworks.srw.utility.event.ComplaintChangedEvent;
+import com.srinivasa.refrigerationworks.srw.utility.mapper.ComplaintMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+ * Service that moves old complaints from the complaints table to complaints_archive, keeping list, search and dispatch queries on recent data.
+ * - Complaints resolved before the retention cutoff, and inactive complaints untouched since then, are moved.
+ * - Each batch is locked with SELECT ... FOR UPDATE SKIP LOCKED, copied with one INSERT ... SELECT and deleted with one DELETE,
+ *   in its own transaction; nodes running the job at once take disjoint batches instead of waiting on each other.
+ * - A batch is deleted only if every locked row was copied; otherwise its transaction rolls back and the run stops.
+ * - A run stops after the configured duration; moved rows are gone from the complaints table, so the next run resumes where it stopped.
+ * - Each batch is published as removals, so the complaint cache, KPI counters, analytics and dispatch indexes drop the archived complaints.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ComplaintArchiveService {
+
+    /*
+     * Repository for complaint data.
+     */
+    private final ComplaintRepository complaintRepository;
+
+    /*
+     * Repository for archived complaint data.
+     */
+    private final ArchivedComplaintRepository archivedComplaintRepository;
+
+    /*
+     * Mapper for converting complaint entities to DTOs.
+     */
+    private final ComplaintMapper complaintMapper;
+
+    /*
+     * Service for evicting cached complaint searches.
+     */
+    private final ComplaintService complaintService;
+
+    /*
+     * Publisher for complaint change events.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /*
+     * Runs each batch in its own transaction.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /*
+     * Whether the scheduled archival runs.
+     */
+    @Value("${srw.complaint.archive.enabled:true}")
+    private boolean enabled;
+
+    /*
+     * Complaints resolved or inactive for longer than this are archived.
+     */
+    @Value("${srw.complaint.archive.retention:P180D}")
+    private Duration retention;
+
+    /*
+     * Number of complaints moved per transaction.
+     */
+    @Value("${srw.complaint.archive.batch-size:500}")
+    private int batchSize;
+
+    /*
+     * Time after which a run stops taking new batches.
+     */
+    @Value("${srw.complaint.archive.max-run-time:PT30M}")
+    private Duration maxRunTime;
+
+    /*
+     * Scheduled archival run.
+     */
+    @Scheduled(cron = "${srw.complaint.archive.cron:0 0 3 * * *}")
+    public void archiveScheduled() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long archived = archive(LocalDateTime.now().minus(retention));
+            log.info("Archived {} complaints", archived);
+        } catch (DataAccessException exception) {
+            log.warn("Complaint archival stopped: {}", exception.getMessage());
+        }
+    }
+
+    /*
+     * Moves complaints due before the cutoff to the archive in batches, until none are left or the run time is used up.
+     * Returns the number of complaints moved.
+     */
+    public long archive(LocalDateTime cutoff) {
+        long deadline = System.nanoTime() + maxRunTime.toNanos();
+        long archived = 0;
+        long after = 0;
+        while (System.nanoTime() < deadline) {
+            List<Complaint> batch = archiveBatch(after, cutoff);
+            if (batch.isEmpty()) {
+                break;
+            }
+            archived += batch.size();
+            after = batch.get(batch.size() - 1).getComplaintReference();
+        }
+        return archived;
+    }
+
+    /*
+     * Moves one batch after the given reference in one transaction and returns the complaints moved.
+     * If fewer rows are copied than were locked, the transaction rolls back before anything is deleted.
+     */
+    private List<Complaint> archiveBatch(long after, LocalDateTime cutoff) {
+        return transactionTemplate.execute(status -> {
+            List<Complaint> batch = complaintRepository.lockArchivableAfter(after, cutoff, batchSize);
+            if (batch.isEmpty()) {
+                return batch;
+            }
+            List<Long> references = batch.stream().map(Complaint::getComplaintReference).toList();
+            int copied = archivedComplaintRepository.copyFromComplaints(references, LocalDateTime.now());
+            if (copied != references.size()) {
+                throw new IncorrectUpdateSemanticsDataAccessException(
+                        "Archived " + copied + " of " + references.size() + " complaints after reference " + after + "; batch rolled back");
+            }
+            complaintRepository.deleteAllByIdInBatch(references);
+            List<ComplaintDTO> complaints = batch.stream().map(complaintMapper::toDto).toList();
+            complaintService.evictComplaintSearchCaches(complaints);
+            eventPublisher.publishEvent(new ComplaintChangedEvent(complaints.stream().map(complaint -> new ComplaintChange(complaint, null)).toList()));
+            return batch;
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,576 @@
+package com.srinivasa.refrigerationworks.srw.service;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintPageDTO;
+import com.srinivasa.refrigerationworks.srw.repository.ComplaintRepository;
+import com.srinivasa.refrigerationworks.srw.utility.cache.RedisCircuitBreaker;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintListScope;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintState;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.IdSequence;
+import com.srinivasa.refrigerationworks.srw.utility.event.ComplaintChange;
+import com.srinivasa.refrigerationworks.srw.utility.event.ComplaintChangedEvent;
+import com.srinivasa.refrigerationworks.srw.utility.mapper.ComplaintMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/*
+ * Service for the normalized complaint cache.
+ * - Each complaint is cached once under 'complaint::entity-<complaintId>'.
+ * - Each list scope keeps a Redis sorted set of complaintIds scored by complaint reference.
+ * - Pages are read from the sorted set and hydrated with a single MGET, falling back to the database for misses.
+ *   Misses are written back with SET NX, so a loaded snapshot never replaces one written by a change committed meanwhile;
+ *   removed complaints leave a short-lived tombstone that blocks the write-back of a snapshot loaded before the removal.
+ * - A missing scope index is built by a background thread; until it is ready, pages of that scope come from the database.
+ * - Writes patch the affected entries and sorted sets after commit instead of evicting every cached list.
+ * - Entry hits and misses are counted in 'cache.gets' under the cache name 'complaint-entity'.
+ * - Redis calls go through the shared circuit breaker; while it is open, reads go straight to the database and
+ *   the keys of changes that could not be applied are deleted once Redis is reachable again.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ComplaintCacheService {
+
+    /*
+     * Number of complaintIds read from the database per query when building a scope index.
+     */
+    private static final int INDEX_BATCH_SIZE = 1000;
+
+    /*
+     * Value left under the entry key of a removed complaint, read as a miss.
+     */
+    private static final String TOMBSTONE = "removed";
+
+    /*
+     * Scope index builds waiting beyond this are dropped; a later read of the scope asks again.
+     */
+    private static final int INDEX_BUILD_QUEUE_CAPACITY = 16;
+
+    /*
+     * Repository for complaint data.
+     */
+    private final ComplaintRepository complaintRepository;
+
+    /*
+     * Mapper for converting complaint entities to DTOs.
+     */
+    private final ComplaintMapper complaintMapper;
+
+    /*
+     * Template for cached complaint values.
+     */
+    private final RedisTemplate<String, Object> cacheRedisTemplate;
+
+    /*
+     * Template for scope indexes and their ready markers.
+     */
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /*
+     * Circuit breaker guarding every Redis call.
+     */
+    private final RedisCircuitBreaker circuitBreaker;
+
+    /*
+     * Registry counting entry hits and misses.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /*
+     * Scope suffixes whose index is queued or being built on this node, so each is built once at a time.
+     */
+    private final Set<String> indexBuilds = ConcurrentHashMap.newKeySet();
+
+    /*
+     * Single background thread building scope indexes off the request threads.
+     */
+    private final ThreadPoolExecutor indexBuildExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(INDEX_BUILD_QUEUE_CAPACITY), runnable -> {
+        Thread thread = new Thread(runnable, "complaint-index-build");
+        thread.setDaemon(true);
+        return thread;
+    }, new ThreadPoolExecutor.AbortPolicy());
+
+    /*
+     * Entry and ready-marker keys of changes that could not be applied while Redis was unavailable.
+     */
+    private final Set<String> staleKeys = ConcurrentHashMap.newKeySet();
+
+    /*
+     * Whether more changes were missed than remembered, so every entry and ready marker is deleted on recovery.
+     */
+    private final AtomicBoolean staleOverflow = new AtomicBoolean();
+
+    /*
+     * Time-to-live of cached complaint entries; zero keeps them until evicted.
+     */
+    @Value("${spring.cache.redis.time-to-live:0}")
+    private Duration timeToLive;
+
+    /*
+     * Time after which a scope index is rebuilt from the database, as a safety net for missed patches.
+     */
+    @Value("${srw.complaint.cache.index-time-to-live:24h}")
+    private Duration indexTimeToLive;
+
+    /*
+     * Keys of missed changes remembered while Redis is unavailable.
+     */
+    @Value("${srw.cache.resilience.pending-eviction-limit:1000}")
+    private int pendingEvictionLimit;
+
+    /*
+     * Lifetime of tombstones of removed complaints; must exceed the longest load of missed entries.
+     */
+    @Value("${srw.cache.loading.eviction-marker-time-to-live:5m}")
+    private Duration tombstoneTimeToLive;
+
+    /*
+     * Deletes the keys of missed changes when the circuit breaker finds Redis reachable again, before it closes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerRecovery() {
+        circuitBreaker.addRecoveryListener(this::deleteStaleKeys);
+    }
+
+    /*
+     * Stops the index build thread when the application context closes.
+     */
+    @PreDestroy
+    public void shutdown() {
+        indexBuildExecutor.shutdown();
+    }
+
+    /*
+     * Retrieves a complaint by complaintId from the cache, loading and caching it from the database on a miss.
+     */
+    public ComplaintDTO getComplaint(String complaintId) {
+        try {
+            List<ComplaintDTO> complaints = circuitBreaker.execute(() -> getComplaints(List.of(complaintId)));
+            return complaints.isEmpty() ? null : complaints.get(0);
+        } catch (DataAccessException exception) {
+            log.warn("Complaint cache unavailable, reading {} from the database: {}", complaintId, exception.getMessage());
+            return complaintMapper.toDto(complaintRepository.findByComplaintId(complaintId));
+        }
+    }
+
+    /*
+     * Retrieves complaints by complaintIds from the cache in one MGET, loading misses from the database.
+     * Falls back to the database alone when Redis is unavailable; unknown complaintIds are skipped.
+     */
+    public List<ComplaintDTO> getComplaintsById(List<String> complaintIds) {
+        try {
+            return circuitBreaker.execute(() -> getComplaints(complaintIds));
+        } catch (DataAccessException exception) {
+            log.warn("Complaint cache unavailable, reading {} complaint(s) from the database: {}", complaintIds.size(), exception.getMessage());
+            return complaintRepository.findByComplaintIdIn(complaintIds).stream().map(complaintMapper::toDto).toList();
+        }
+    }
+
+    /*
+     * Retrieves a keyset page of complaints for the scope from the cache.
+     * Returns empty when Redis is unavailable or the scope index is still being built, so the caller can page from the database instead.
+     */
+    public Optional<ComplaintPageDTO> getPage(ComplaintListScope scope, String scopeId, Long after, Long before, int pageSize) {
+        try {
+            return Optional.ofNullable(circuitBreaker.execute(() -> readPage(scope, scopeId, after, before, pageSize)));
+        } catch (DataAccessException exception) {
+            log.warn("Complaint cache unavailable, paging {} from the database: {}", scopeSuffix(scope, scopeId), exception.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /*
+     * Applies committed complaint changes to the cached entries and scope indexes.
+     * - Entries are overwritten with the new snapshot (or replaced by a tombstone), so readers never see the old values.
+     * - Each scope the complaint left or joined has its sorted set patched with ZREM/ZADD.
+     * - Entries are written before the indexes are patched. A page read in between finds the new snapshot under the
+     *   old members, and drops only members the complaint really left; the other order would show it the old snapshot
+     *   under a member just added, and drop a valid member as out of scope.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onComplaintChanged(ComplaintChangedEvent event) {
+        try {
+            circuitBreaker.run(() -> {
+                Map<String, Object> updated = new LinkedHashMap<>();
+                for (ComplaintChange change : event.getChanges()) {
+                    if (change.getCurrent() != null) {
+                        updated.put(entityKey(change.getCurrent().getComplaintId()), change.getCurrent());
+                    } else {
+                        updated.put(entityKey(change.getPrevious().getComplaintId()), TOMBSTONE);
+                    }
+                }
+                putEntities(updated, false);
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection stringRedisConnection = (StringRedisConnection) connection;
+                    for (ComplaintChange change : event.getChanges()) {
+                        patchIndexes(stringRedisConnection, change.getPrevious(), change.getCurrent());
+                    }
+                    return null;
+                });
+                deleteStaleKeys();
+            });
+        } catch (DataAccessException exception) {
+            log.warn("Complaint cache unavailable, dropping {} change(s) until the indexes are rebuilt: {}",
+                    event.getChanges().size(), exception.getMessage());
+            dropEntities(event.getChanges());
+        }
+    }
+
+    /*
+     * Reads one page from the scope index, or returns null after scheduling a build when the index is missing or expired.
+     * - One extra complaintId is read to learn whether another page exists in the reading direction.
+     * - If every complaintId read was stale, returns null so the caller pages from the database, instead of an empty
+     *   page that would hide the complaints after it; a page with nothing to read is empty and has no cursors.
+     */
+    private ComplaintPageDTO readPage(ComplaintListScope scope, String scopeId, Long after, Long before, int pageSize) {
+        String suffix = scopeSuffix(scope, scopeId);
+        String indexKey = indexKey(suffix);
+        List<Object> results = readIndex(suffix, indexKey, after, before, pageSize);
+        if (!Boolean.TRUE.equals(results.get(0))) {
+            scheduleIndexBuild(scope, scopeId, suffix);
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        List<String> complaintIds = new ArrayList<>((Collection<String>) results.get(1));
+        boolean hasPrevious;
+        boolean hasNext;
+        if (before != null) {
+            hasPrevious = complaintIds.size() > pageSize;
+            complaintIds = new ArrayList<>(complaintIds.subList(0, Math.min(pageSize, complaintIds.size())));
+            Collections.reverse(complaintIds);
+            hasNext = true;
+        } else {
+            hasNext = complaintIds.size() > pageSize;
+            complaintIds = complaintIds.subList(0, Math.min(pageSize, complaintIds.size()));
+            hasPrevious = after != null;
+        }
+        List<ComplaintDTO> complaints = getComplaints(complaintIds);
+        List<String> stale = complaintIds.stream()
+                .filter(complaintId -> complaints.stream().noneMatch(complaint -> complaint.getComplaintId().equals(complaintId)))
+                .collect(Collectors.toCollection(ArrayList::new));
+        List<ComplaintDTO> page = new ArrayList<>();
+        for (ComplaintDTO complaint : complaints) {
+            if (scope.includes(complaint) && Objects.equals(scope.scopeIdOf(complaint), scopeId)) {
+                page.add(complaint);
+            } else {
+                stale.add(complaint.getComplaintId());
+            }
+        }
+        if (!stale.isEmpty()) {
+            stringRedisTemplate.opsForZSet().remove(indexKey, stale.toArray());
+        }
+        if (page.isEmpty()) {
+            return complaintIds.isEmpty() ? new ComplaintPageDTO(List.of(), null, null) : null;
+        }
+        return new ComplaintPageDTO(
+                page,
+                hasPrevious ? reference(page.get(0).getComplaintId()) : null,
+                hasNext ? reference(page.get(page.size() - 1).getComplaintId()) : null);
+    }
+
+    /*
+     * Reads the ready marker and the requested complaintIds of a scope index in one round trip.
+     */
+    private List<Object> readIndex(String suffix, String indexKey, Long after, Long before, int pageSize) {
+        return stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringRedisConnection = (StringRedisConnection) connection;
+            stringRedisConnection.exists(readyKey(suffix));
+            if (before != null) {
+                stringRedisConnection.zRevRangeByScore(indexKey, Double.NEGATIVE_INFINITY, before - 1, 0, pageSize + 1);
+            } else {
+                stringRedisConnection.zRangeByScore(indexKey, after == null ? 0 : after + 1, Double.POSITIVE_INFINITY, 0, pageSize + 1);
+            }
+            return null;
+        });
+    }
+
+    /*
+     * Queues a background build of the scope index unless one is already queued or running on this node.
+     * When the queue is full the build is dropped, and the next read of the scope asks again.
+     */
+    private void scheduleIndexBuild(ComplaintListScope scope, String scopeId, String suffix) {
+        if (!indexBuilds.add(suffix)) {
+            return;
+        }
+        try {
+            indexBuildExecutor.execute(() -> {
+                try {
+                    circuitBreaker.run(() -> buildIndex(scope, scopeId, suffix));
+                } catch (DataAccessException exception) {
+                    log.warn("Complaint index {} not built: {}", suffix, exception.getMessage());
+                } finally {
+                    indexBuilds.remove(suffix);
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            indexBuilds.remove(suffix);
+            log.debug("Complaint index build of {} dropped, build queue is full", suffix);
+        }
+    }
+
+    /*
+     * Builds the scope index from the database in batches of complaintIds, then marks it ready.
+     * Existing members are kept; members that no longer belong to the scope are dropped when read.
+     */
+    private void buildIndex(ComplaintListScope scope, String scopeId, String suffix) {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(readyKey(suffix)))) {
+            return;
+        }
+        String indexKey = indexKey(suffix);
+        long after = 0L;
+        List<String> complaintIds;
+        do {
+            complaintIds = findComplaintIds(scope, scopeId, after, Limit.of(INDEX_BATCH_SIZE));
+            if (!complaintIds.isEmpty()) {
+                Set<TypedTuple<String>> members = complaintIds.stream()
+                        .map(complaintId -> TypedTuple.of(complaintId, (double) reference(complaintId)))
+                        .collect(Collectors.toSet());
+                stringRedisTemplate.opsForZSet().add(indexKey, members);
+                after = reference(complaintIds.get(complaintIds.size() - 1));
+            }
+        } while (complaintIds.size() == INDEX_BATCH_SIZE);
+        stringRedisTemplate.expire(indexKey, indexTimeToLive.multipliedBy(2));
+        stringRedisTemplate.opsForValue().set(readyKey(suffix), "1", indexTimeToLive);
+    }
+
+    /*
+     * Retrieves the complaintIds of the scope after the given reference from the database.
+     */
+    private List<String> findComplaintIds(ComplaintListScope scope, String scopeId, Long after, Limit limit) {
+        return switch (scope) {
+            case ALL -> complaintRepository.findComplaintIdsAfter(after, limit);
+            case ACTIVE -> complaintRepository.findComplaintIdsByStateAfter(ComplaintState.ACTIVE, after, limit);
+            case BOOKED_BY -> complaintRepository.findComplaintIdsByBookedByIdAfter(scopeId, after, limit);
+            case ASSIGNED_TO -> complaintRepository.findComplaintIdsByTechnicianIdAfter(scopeId, after, limit);
+        };
+    }
+
+    /*
+     * Retrieves complaints by complaintIds with one MGET, loading misses with one database query and caching them.
+     * Loaded complaints are only cached where no entry or tombstone was written meanwhile.
+     * Complaints are returned in the order of the given complaintIds; unknown complaintIds are skipped.
+     */
+    private List<ComplaintDTO> getComplaints(List<String> complaintIds) {
+        if (complaintIds.isEmpty()) {
+            return List.of();
+        }
+        List<Object> cached = cacheRedisTemplate.opsForValue().multiGet(complaintIds.stream().map(ComplaintCacheService::entityKey).toList());
+        Map<String, ComplaintDTO> complaints = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (int index = 0; index < complaintIds.size(); index++) {
+            Object complaint = cached == null ? null : cached.get(index);
+            if (complaint instanceof ComplaintDTO complaintDTO) {
+                complaints.put(complaintIds.get(index), complaintDTO);
+            } else {
+                misses.add(complaintIds.get(index));
+            }
+        }
+        meterRegistry.counter("cache.gets", "cache", "complaint-entity", "result", "hit").increment(complaints.size());
+        meterRegistry.counter("cache.gets", "cache", "complaint-entity", "result", "miss").increment(misses.size());
+        if (!misses.isEmpty()) {
+            Map<String, Object> loaded = new LinkedHashMap<>();
+            for (ComplaintDTO complaint : complaintRepository.findByComplaintIdIn(misses).stream().map(complaintMapper::toDto).toList()) {
+                loaded.put(entityKey(complaint.getComplaintId()), complaint);
+                complaints.put(complaint.getComplaintId(), complaint);
+            }
+            putEntities(loaded, true);
+        }
+        return complaintIds.stream().map(complaints::get).filter(Objects::nonNull).toList();
+    }
+
+    /*
+     * Writes complaint entries or tombstones in one pipeline.
+     * - Tombstones expire after their own short lifetime; entries after the cache time-to-live, when one is configured.
+     * - With ifAbsent, used for snapshots loaded on a miss, keys written meanwhile by a change are left untouched.
+     */
+    private void putEntities(Map<String, Object> entries, boolean ifAbsent) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        cacheRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations = (RedisOperations<String, Object>) operations;
+                entries.forEach((key, value) -> {
+                    Duration expiry = TOMBSTONE.equals(value) ? tombstoneTimeToLive : timeToLive;
+                    boolean expires = !expiry.isZero() && !expiry.isNegative();
+                    if (ifAbsent && expires) {
+                        redisOperations.opsForValue().setIfAbsent(key, value, expiry);
+                    } else if (ifAbsent) {
+                        redisOperations.opsForValue().setIfAbsent(key, value);
+                    } else if (expires) {
+                        redisOperations.opsForValue().set(key, value, expiry);
+                    } else {
+                        redisOperations.opsForValue().set(key, value);
+                    }
+                });
+                return null;
+            }
+        });
+    }
+
+    /*
+     * Removes the cached entries of changed complaints, and the ready markers of their scopes, after a failed patch
+     * so they are reloaded from the database. If Redis cannot be reached, the keys are remembered and deleted
+     * once it is; past the limit, every entry and ready marker is deleted then.
+     */
+    private void dropEntities(List<ComplaintChange> changes) {
+        List<String> keys = new ArrayList<>();
+        for (ComplaintChange change : changes) {
+            for (ComplaintDTO complaint : new ComplaintDTO[]{change.getPrevious(), change.getCurrent()}) {
+                if (complaint != null) {
+                    keys.add(entityKey(complaint.getComplaintId()));
+                    for (ComplaintListScope scope : ComplaintListScope.values()) {
+                        keys.add(readyKey(scopeSuffix(scope, scope.scopeIdOf(complaint))));
+                    }
+                }
+            }
+        }
+        try {
+            circuitBreaker.execute(() -> stringRedisTemplate.delete(keys));
+        } catch (DataAccessException exception) {
+            if (!staleOverflow.get()) {
+                staleKeys.addAll(keys);
+                if (staleKeys.size() > pendingEvictionLimit) {
+                    staleOverflow.set(true);
+                    staleKeys.clear();
+                }
+            }
+        }
+    }
+
+    /*
+     * Deletes the keys of changes missed while Redis was unavailable.
+     * Calls Redis directly, so it can run as a recovery listener while the breaker is half-open; throws DataAccessException.
+     */
+    private void deleteStaleKeys() {
+        if (staleOverflow.getAndSet(false)) {
+            try {
+                deleteMatching(readyKey("*"));
+                deleteMatching(entityKey("*"));
+            } catch (DataAccessException exception) {
+                staleOverflow.set(true);
+                throw exception;
+            }
+            staleKeys.clear();
+            return;
+        }
+        if (staleKeys.isEmpty()) {
+            return;
+        }
+        List<String> keys = List.copyOf(staleKeys);
+        stringRedisTemplate.delete(keys);
+        keys.forEach(staleKeys::remove);
+    }
+
+    /*
+     * Deletes every key matching the pattern, scanning and deleting in batches.
+     */
+    private void deleteMatching(String pattern) {
+        try (Cursor<String> cursor = stringRedisTemplate.scan(ScanOptions.scanOptions().match(pattern).count(INDEX_BATCH_SIZE).build())) {
+            List<String> keys = new ArrayList<>();
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == INDEX_BATCH_SIZE) {
+                    stringRedisTemplate.delete(keys);
+                    keys.clear();
+                }
+            }
+            if (!keys.isEmpty()) {
+                stringRedisTemplate.delete(keys);
+            }
+        }
+    }
+
+    /*
+     * Moves the complaint between scope indexes according to its previous and current snapshots.
+     */
+    private static void patchIndexes(StringRedisConnection connection, ComplaintDTO previous, ComplaintDTO current) {
+        String complaintId = (current != null ? current : previous).getComplaintId();
+        double score = reference(complaintId);
+        for (ComplaintListScope scope : ComplaintListScope.values()) {
+            String previousSuffix = previous != null && scope.includes(previous) ? scopeSuffix(scope, scope.scopeIdOf(previous)) : null;
+            String currentSuffix = current != null && scope.includes(current) ? scopeSuffix(scope, scope.scopeIdOf(current)) : null;
+            if (previousSuffix != null && !previousSuffix.equals(currentSuffix)) {
+                connection.zRem(indexKey(previousSuffix), complaintId);
+            }
+            if (currentSuffix != null) {
+                connection.zAdd(indexKey(currentSuffix), score, complaintId);
+            }
+        }
+    }
+
+    /*
+     * Builds the key suffix identifying a scope list, e.g. 'active' or 'booked_by-<userId>'.
+     */
+    private static String scopeSuffix(ComplaintListScope scope, String scopeId) {
+        return scopeId == null ? scope.getLabel() : scope.getLabel() + "-" + scopeId;
+    }
+
+    /*
+     * Key of the cached complaint entry.
+     */
+    private static String entityKey(String complaintId) {
+        return "complaint::entity-" + complaintId;
+    }
+
+    /*
+     * Key of the sorted set of complaintIds in a scope list.
+     */
+    private static String indexKey(String suffix) {
+        return "complaints::index-" + suffix;
+    }
+
+    /*
+     * Key of the marker recording that a scope index was built and has not expired.
+     */
+    private static String readyKey(String suffix) {
+        return "complaints::ready-" + suffix;
+    }
+
+    /*
+     * Extracts the complaint reference from a complaintId.
+     */
+    private static long reference(String complaintId) {
+        return IdSequence.COMPLAINT.parseReference(complaintId);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,242 @@
+package com.srinivasa.refrigerationworks.srw.service;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintKpiDTO;
+import com.srinivasa.refrigerationworks.srw.repository.ComplaintRepository;
+import com.srinivasa.refrigerationworks.srw.utility.cache.RedisCircuitBreaker;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintState;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintStatus;
+import com.srinivasa.refrigerationworks.srw.utility.event.ComplaintChange;
+import com.srinivasa.refrigerationworks.srw.utility.event.ComplaintChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+ * Service for the owner dashboard's complaint KPIs, kept as counters in one Redis hash.
+ * - Every committed complaint change subtracts the previous snapshot's contribution and adds the current one (HINCRBY),
+ *   so reading the dashboard is one HGETALL whose size depends on the number of technicians, not complaints.
+ * - A nightly job rebuilds the hash from GROUP BY queries, correcting any drift from lost increments.
+ * - If Redis is unavailable, or the shared circuit breaker is open, the dashboard is computed from the same aggregate
+ *   queries and the counters are rebuilt on the first read after Redis is back.
+ * - Counters cover the complaints table; archived complaints are removed from them as they are moved.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ComplaintKpiService {
+
+    /*
+     * Redis hash holding the counters.
+     */
+    private static final String COUNTERS_KEY = "complaint-kpi::counters";
+
+    /*
+     * Lock so only one node runs the nightly reconciliation.
+     */
+    private static final String RECONCILE_LOCK_KEY = "complaint-kpi::reconcile-lock";
+
+    /*
+     * Counter fields; status, state and technician fields are suffixed with the value.
+     */
+    private static final String TOTAL = "total";
+    private static final String STATUS = "status:";
+    private static final String STATE = "state:";
+    private static final String TECHNICIAN = "technician:";
+    private static final String RESOLVED_COUNT = "resolved:count";
+    private static final String RESOLVED_SECONDS = "resolved:seconds";
+    private static final String RECONCILED_AT = "reconciled-at";
+
+    /*
+     * Repository for complaint aggregates.
+     */
+    private final ComplaintRepository complaintRepository;
+
+    /*
+     * Template for the counters hash.
+     */
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /*
+     * Circuit breaker guarding the counter reads and increments.
+     */
+    private final RedisCircuitBreaker circuitBreaker;
+
+    /*
+     * Set when an increment could not be applied, so the next read rebuilds the counters.
+     */
+    private final AtomicBoolean stale = new AtomicBoolean();
+
+    /*
+     * Returns the current KPIs from the counters, rebuilding them first if they are missing or known to be stale.
+     */
+    public ComplaintKpiDTO getKpis() {
+        try {
+            Map<Object, Object> counters = circuitBreaker.execute(() -> stringRedisTemplate.opsForHash().entries(COUNTERS_KEY));
+            if (counters.isEmpty() || stale.get()) {
+                return toDto(reconcile());
+            }
+            Map<String, Long> values = new HashMap<>();
+            counters.forEach((field, value) -> values.put((String) field, Long.parseLong((String) value)));
+            return toDto(values);
+        } catch (DataAccessException exception) {
+            log.warn("Complaint KPI counters unavailable, computing from the database: {}", exception.getMessage());
+            return toDto(aggregate());
+        }
+    }
+
+    /*
+     * Applies committed complaint changes to the counters in one pipelined round trip.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onComplaintChanged(ComplaintChangedEvent event) {
+        Map<String, Long> deltas = new HashMap<>();
+        for (ComplaintChange change : event.getChanges()) {
+            contribute(deltas, change.getPrevious(), -1);
+            contribute(deltas, change.getCurrent(), 1);
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            circuitBreaker.execute(() -> stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringRedisConnection = (StringRedisConnection) connection;
+                deltas.forEach((field, delta) -> stringRedisConnection.hIncrBy(COUNTERS_KEY, field, delta));
+                return null;
+            }));
+        } catch (DataAccessException exception) {
+            log.warn("Complaint KPI counters unavailable, rebuilding on next read: {}", exception.getMessage());
+            stale.set(true);
+        }
+    }
+
+    /*
+     * Nightly full reconciliation; one node takes the lock and rebuilds the counters from the database.
+     */
+    @Scheduled(cron = "${srw.complaint.kpi.reconcile-cron:0 30 2 * * *}")
+    public void reconcileNightly() {
+        try {
+            Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, UUID.randomUUID().toString(), Duration.ofMinutes(10));
+            if (Boolean.TRUE.equals(locked)) {
+                reconcile();
+                log.info("Complaint KPI counters reconciled");
+            }
+        } catch (DataAccessException exception) {
+            log.warn("Complaint KPI reconciliation skipped: {}", exception.getMessage());
+        }
+    }
+
+    /*
+     * Replaces the counters with fresh aggregates in a single MULTI/EXEC and returns them.
+     */
+    private Map<String, Long> reconcile() {
+        stale.set(false);
+        Map<String, Long> values = aggregate();
+        Map<String, String> fields = new HashMap<>();
+        values.forEach((field, value) -> fields.put(field, Long.toString(value)));
+        stringRedisTemplate.execute(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                operations.multi();
+                operations.delete(COUNTERS_KEY);
+                operations.opsForHash().putAll(COUNTERS_KEY, fields);
+                return operations.exec();
+            }
+        });
+        return values;
+    }
+
+    /*
+     * Computes every counter from the complaints table with three GROUP BY queries.
+     */
+    private Map<String, Long> aggregate() {
+        Map<String, Long> values = new HashMap<>();
+        for (Object[] row : complaintRepository.countByStatusAndState()) {
+            long count = ((Number) row[2]).longValue();
+            values.merge(TOTAL, count, Long::sum);
+            if (row[0] != null) {
+                values.merge(STATUS + ((ComplaintStatus) row[0]).name(), count, Long::sum);
+            }
+            if (row[1] != null) {
+                values.merge(STATE + ((ComplaintState) row[1]).name(), count, Long::sum);
+            }
+        }
+        for (Object[] row : complaintRepository.countOpenByTechnicianId(ComplaintState.ACTIVE, ComplaintStatus.RESOLVED)) {
+            values.put(TECHNICIAN + row[0], ((Number) row[1]).longValue());
+        }
+        for (Object[] row : complaintRepository.sumResolutionSeconds()) {
+            values.put(RESOLVED_COUNT, ((Number) row[0]).longValue());
+            values.put(RESOLVED_SECONDS, ((Number) row[1]).longValue());
+        }
+        values.put(RECONCILED_AT, System.currentTimeMillis());
+        return values;
+    }
+
+    /*
+     * Adds a complaint snapshot's contribution to each counter, multiplied by sign (-1 to remove it).
+     */
+    private static void contribute(Map<String, Long> deltas, ComplaintDTO complaint, long sign) {
+        if (complaint == null) {
+            return;
+        }
+        deltas.merge(TOTAL, sign, Long::sum);
+        if (complaint.getStatus() != null) {
+            deltas.merge(STATUS + complaint.getStatus().name(), sign, Long::sum);
+        }
+        if (complaint.getState() != null) {
+            deltas.merge(STATE + complaint.getState().name(), sign, Long::sum);
+        }
+        if (complaint.getTechnicianId() != null && complaint.getState() == ComplaintState.ACTIVE && complaint.getStatus() != ComplaintStatus.RESOLVED) {
+            deltas.merge(TECHNICIAN + complaint.getTechnicianId(), sign, Long::sum);
+        }
+        if (complaint.getCreatedAt() != null && complaint.getClosedAt() != null) {
+            deltas.merge(RESOLVED_COUNT, sign, Long::sum);
+            deltas.merge(RESOLVED_SECONDS, sign * Duration.between(complaint.getCreatedAt(), complaint.getClosedAt()).getSeconds(), Long::sum);
+        }
+    }
+
+    /*
+     * Builds the dashboard DTO from counter values; statuses and states are listed in declaration order, technicians busiest first.
+     */
+    private static ComplaintKpiDTO toDto(Map<String, Long> values) {
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        for (ComplaintStatus status : ComplaintStatus.values()) {
+            statusCounts.put(status.name(), values.getOrDefault(STATUS + status.name(), 0L));
+        }
+        Map<String, Long> stateCounts = new LinkedHashMap<>();
+        for (ComplaintState state : ComplaintState.values()) {
+            stateCounts.put(state.name(), values.getOrDefault(STATE + state.name(), 0L));
+        }
+        Map<String, Long> technicianLoad = new LinkedHashMap<>();
+        values.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(TECHNICIAN) && entry.getValue() > 0)
+                .sorted(Entry.<String, Long>comparingByValue().reversed().thenComparing(Entry.comparingByKey()))
+                .forEach(entry -> technicianLoad.put(entry.getKey().substring(TECHNICIAN.length()), entry.getValue()));
+        long resolvedCount = values.getOrDefault(RESOLVED_COUNT, 0L);
+        double averageResolutionHours = resolvedCount == 0 ? 0 : values.getOrDefault(RESOLVED_SECONDS, 0L) / 3600.0 / resolvedCount;
+        Long reconciledAt = values.get(RECONCILED_AT);
+        return new ComplaintKpiDTO(values.getOrDefault(TOTAL, 0L), statusCounts, stateCounts, technicianLoad, resolvedCount, averageResolutionHours,
+                reconciledAt == null ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(reconciledAt), ZoneId.systemDefault()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,151 @@
+package com.srinivasa.refrigerationworks.srw.service;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
+import com.srinivasa.refrigerationworks.srw.repository.ComplaintRepository;
+import com.srinivasa.refrigerationworks.srw.utility.event.ComplaintChange;
+import com.srinivasa.refrigerationworks.srw.utility.event.ComplaintChangedEvent;
+import com.srinivasa.refrigerationworks.srw.utility.event.RebuildableIndex;
+import com.srinivasa.refrigerationworks.srw.utility.search.ComplaintTextIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/*
+ * Service for ranked free-text search over complaint description, customer name, address, brand and model.
+ * - The text index is loaded at startup in keyset batches and patched from committed complaint changes;
+ *   changes that leave the indexed fields untouched (status, technician, state) are not re-indexed.
+ * - It is rebuilt periodically, picking up writes made by other nodes and dropping postings of replaced entries.
+ * - Loading, patching and rebuilding are shared with the analytics snapshot through RebuildableIndex.
+ */
+@Slf4j
+@Service
+public class ComplaintSearchService {
+
+    /*
+     * Number of complaints read from the database per query when loading the index.
+     */
+    private static final int LOAD_BATCH_SIZE = 5000;
+
+    /*
+     * Repository for complaint data.
+     */
+    private final ComplaintRepository complaintRepository;
+
+    /*
+     * Normalized complaint cache, used to load the matching complaints.
+     */
+    private final ComplaintCacheService complaintCacheService;
+
+    /*
+     * Complaints matching less than this share of the query's weighted trigrams are not returned.
+     */
+    @Value("${srw.complaint.search.minimum-score:0.3}")
+    private double minimumScore;
+
+    /*
+     * Text index, loaded on first use and patched from committed complaint changes.
+     */
+    private final RebuildableIndex<ComplaintTextIndex> index;
+
+    /*
+     * Constructs the service with an index not loaded yet.
+     */
+    public ComplaintSearchService(ComplaintRepository complaintRepository, ComplaintCacheService complaintCacheService) {
+        this.complaintRepository = complaintRepository;
+        this.complaintCacheService = complaintCacheService;
+        this.index = new RebuildableIndex<>(this::loadIndex, ComplaintSearchService::apply);
+    }
+
+    /*
+     * Returns up to 'limit' complaints created within [from, to) best matching the query, best first; null bounds are open.
+     */
+    public List<ComplaintDTO> search(String query, LocalDateTime from, LocalDateTime to, int limit) {
+        List<ComplaintTextIndex.Hit> hits = index.get().search(query, from, to, limit, minimumScore);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Integer> rankByComplaintId = new HashMap<>();
+        hits.forEach(hit -> rankByComplaintId.put(hit.getComplaintId(), rankByComplaintId.size()));
+        List<ComplaintDTO> complaints = new ArrayList<>(complaintCacheService.getComplaintsById(hits.stream().map(ComplaintTextIndex.Hit::getComplaintId).toList()));
+        complaints.sort(Comparator.comparing(complaint -> rankByComplaintId.get(complaint.getComplaintId())));
+        return complaints;
+    }
+
+    /*
+     * Loads the index once the application is ready; if the database is unavailable, the first query loads it instead.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            log.info("Complaint search index loaded ({} complaints)", index.rebuild().size());
+        } catch (DataAccessException exception) {
+            log.warn("Complaint search index could not be loaded: {}", exception.getMessage());
+        }
+    }
+
+    /*
+     * Rebuilds the index on the configured interval.
+     */
+    @Scheduled(fixedDelayString = "${srw.complaint.search.rebuild-interval:PT15M}", initialDelayString = "${srw.complaint.search.rebuild-interval:PT15M}")
+    public void rebuildPeriodically() {
+        index.rebuild();
+    }
+
+    /*
+     * Applies committed complaint changes to the index, and records them for a rebuild in progress.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onComplaintChanged(ComplaintChangedEvent event) {
+        index.apply(event.getChanges());
+    }
+
+    /*
+     * Loads a new index from the database in keyset batches, sized from the previous one.
+     */
+    private ComplaintTextIndex loadIndex(ComplaintTextIndex previous) {
+        ComplaintTextIndex snapshot = new ComplaintTextIndex(previous == null ? LOAD_BATCH_SIZE : previous.size() + LOAD_BATCH_SIZE);
+        long after = 0;
+        List<Object[]> rows;
+        do {
+            rows = complaintRepository.findSearchRowsAfter(after, Limit.of(LOAD_BATCH_SIZE));
+            for (Object[] row : rows) {
+                snapshot.upsert((String) row[1], (LocalDateTime) row[2], (String) row[3], (String) row[4], (String) row[5], (String) row[6], (String) row[7]);
+                after = (Long) row[0];
+            }
+        } while (rows.size() == LOAD_BATCH_SIZE);
+        return snapshot;
+    }
+
+    /*
+     * Re-indexes the complaint if its text changed, or removes it if it left the complaints table.
+     */
+    private static void apply(ComplaintTextIndex snapshot, ComplaintChange change) {
+        ComplaintDTO previous = change.getPrevious();
+        ComplaintDTO current = change.getCurrent();
+        if (current == null) {
+            snapshot.remove(previous.getComplaintId());
+            return;
+        }
+        if (previous != null && Objects.equals(previous.getDescription(), current.getDescription())
+                && Objects.equals(previous.getCustomerName(), current.getCustomerName()) && Objects.equals(previous.getAddress(), current.getAddress())
+                && Objects.equals(previous.getBrand(), current.getBrand()) && Objects.equals(previous.getProductModel(), current.getProductModel())) {
+            return;
+        }
+        snapshot.upsert(current.getComplaintId(), current.getCreatedAt(), current.getDescription(), current.getCustomerName(),
+                current.getAddress(), current.getBrand(), current.getProductModel());
+    }
+}
\ No newline at end of file
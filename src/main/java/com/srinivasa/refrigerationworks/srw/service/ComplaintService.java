@@ -1,37 +1,56 @@
 package com.srinivasa.refrigerationworks.srw.service;
 
+import com.srinivasa.refrigerationworks.srw.entity.ArchivedComplaint;
 import com.srinivasa.refrigerationworks.srw.entity.Complaint;
 import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
 import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintIdentifierDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintPageDTO;
 import com.srinivasa.refrigerationworks.srw.payload.dto.EmployeeInfoDTO;
+import com.srinivasa.refrigerationworks.srw.repository.ArchivedComplaintRepository;
 import com.srinivasa.refrigerationworks.srw.repository.ComplaintRepository;
+import com.srinivasa.refrigerationworks.srw.utility.cache.CacheTagIndex;
+import com.srinivasa.refrigerationworks.srw.utility.common.BulkUpdateClassifier;
 import com.srinivasa.refrigerationworks.srw.utility.common.PhoneNumberFormatter;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.BulkUpdateResult;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintListScope;
 import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintState;
 import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintStatus;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.IdSequence;
 import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserStatus;
+import com.srinivasa.refrigerationworks.srw.utility.event.ComplaintChange;
+import com.srinivasa.refrigerationworks.srw.utility.event.ComplaintChangedEvent;
 import com.srinivasa.refrigerationworks.srw.utility.mapper.ComplaintMapper;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /*
  * Service for complaint-related operations.
+ * Each public method is timed in 'srw.service', tagged by class and method.
  */
 @Service
+@Timed("srw.service")
 @RequiredArgsConstructor
 public class ComplaintService {
 
@@ -40,6 +59,11 @@ public class ComplaintService {
      */
     private final ComplaintRepository complaintRepository;
 
+    /*
+     * Repository for archived complaint data, queried only when archived complaints are asked for.
+     */
+    private final ArchivedComplaintRepository archivedComplaintRepository;
+
     /*
      * Mapper for converting complaint entities to DTOs.
      */
@@ -51,89 +75,212 @@ public class ComplaintService {
     private final EmployeeService employeeService;
 
     /*
-     * Declares a StringRedisTemplate instance for interacting with Redis.
+     * Tag index for targeted eviction of cached complaint searches.
+     */
+    private final CacheTagIndex cacheTagIndex;
+
+    /*
+     * Normalized cache of complaints and complaint list indexes.
+     */
+    private final ComplaintCacheService complaintCacheService;
+
+    /*
+     * Publisher for complaint change events.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /*
+     * Allocator for complaint IDs.
+     */
+    private final BusinessIdService businessIdService;
+
+    /*
+     * Workload-based technician dispatch.
      */
-    private final StringRedisTemplate stringRedisTemplate;
+    private final DispatchService dispatchService;
+
+    /*
+     * Number of complaints rendered per list page.
+     */
+    @Value("${srw.complaint.page-size:25}")
+    private int pageSize;
+
+    /*
+     * Whether new complaints are assigned to the least loaded technician on registration; off by default, so
+     * complaints stay unassigned until the owner dispatches them, as before dispatching was added.
+     */
+    @Value("${srw.complaint.dispatch.auto-assign:false}")
+    private boolean autoAssign;
 
     /*
      * Registers a new complaint and sets initial values.
+     * The complaint ID is allocated before the insert, so registration is a single INSERT.
+     * With auto-assign enabled, the least loaded technician is picked from the dispatch index.
      */
     @Transactional
-    @CacheEvict(cacheNames = "complaints", allEntries = true)
     public void registerComplaint(ComplaintDTO complaintDTO, String bookedById) {
         Complaint complaint = complaintMapper.toEntity(complaintDTO);
+        complaint.setComplaintReference(businessIdService.nextReference(IdSequence.COMPLAINT));
+        complaint.setComplaintId(IdSequence.COMPLAINT.format(complaint.getComplaintReference()));
         complaint.setContactNumber(PhoneNumberFormatter.formatPhoneNumber(complaint.getContactNumber()));
         complaint.setBookedById(bookedById);
         complaint.setStatus(ComplaintStatus.OPEN);
         complaint.setState(ComplaintState.ACTIVE);
-        complaintRepository.save(complaint);
-        complaint.setComplaintId("SRWC" + String.format("%08d", complaint.getComplaintReference()));
+        if (autoAssign) {
+            complaint.setTechnicianId(dispatchService.assign(complaint.getComplaintId(), complaint.getCreatedAt()));
+        }
+        complaintRepository.persist(complaint);
         complaintDTO.setComplaintId(complaint.getComplaintId());
         complaintDTO.setStatus(complaint.getStatus());
+        eventPublisher.publishEvent(ComplaintChangedEvent.of(null, complaintMapper.toDto(complaint)));
     }
 
     /*
-     * Retrieves complaints for a specific user based on bookedById.
+     * Retrieves a page of complaints for a specific user based on bookedById.
      */
-    @Cacheable(value = "complaints", key = "'my_complaint_list-' + #bookedById")
-    public List<ComplaintDTO> getComplaintsByBookedById(String bookedById) {
-        return complaintRepository
-                .findByBookedById(bookedById)
-                .stream()
-                .map(complaintMapper::toDto)
-                .toList();
+    public ComplaintPageDTO getComplaintsByBookedById(String bookedById, Long after, Long before) {
+        return complaintCacheService.getPage(ComplaintListScope.BOOKED_BY, bookedById, after, before, pageSize).orElseGet(() -> fetchPage(after, before,
+                (cursor, limit) -> complaintRepository.findPageByBookedByIdAfter(bookedById, cursor, limit),
+                (cursor, limit) -> complaintRepository.findPageByBookedByIdBefore(bookedById, cursor, limit)));
     }
 
     /*
-     * Retrieves all complaints.
+     * Retrieves a page of all complaints.
      */
-    @Cacheable(value = "complaints", key = "'complaint_list'")
-    public List<ComplaintDTO> getComplaintList() {
-        return complaintRepository
-                .findAll()
-                .stream()
-                .map(complaintMapper::toDto)
-                .toList();
+    public ComplaintPageDTO getComplaintList(Long after, Long before) {
+        return complaintCacheService.getPage(ComplaintListScope.ALL, null, after, before, pageSize)
+                .orElseGet(() -> fetchPage(after, before, complaintRepository::findPageAfter, complaintRepository::findPageBefore));
     }
 
     /*
-     * Retrieves active complaints.
+     * Retrieves a page of active complaints.
      */
-    @Cacheable(value = "complaints", key = "'active_complaint_list'")
-    public List<ComplaintDTO> getActiveComplaintList() {
-        return complaintRepository
-                .findByState(ComplaintState.ACTIVE)
-                .stream()
-                .map(complaintMapper::toDto)
-                .toList();
+    public ComplaintPageDTO getActiveComplaintList(Long after, Long before) {
+        return complaintCacheService.getPage(ComplaintListScope.ACTIVE, null, after, before, pageSize).orElseGet(() -> fetchPage(after, before,
+                (cursor, limit) -> complaintRepository.findPageByStateAfter(ComplaintState.ACTIVE, cursor, limit),
+                (cursor, limit) -> complaintRepository.findPageByStateBefore(ComplaintState.ACTIVE, cursor, limit)));
+    }
+
+    /*
+     * Retrieves a page of archived complaints, read directly from the archive table.
+     */
+    public ComplaintPageDTO getArchivedComplaintList(Long after, Long before) {
+        return fetchPage(after, before, archivedComplaintRepository::findPageAfter, archivedComplaintRepository::findPageBefore,
+                complaintMapper::toDto, ArchivedComplaint::getComplaintReference);
+    }
+
+    /*
+     * Fetches one keyset page of complaints from the database, used when the complaint cache is unavailable.
+     */
+    private ComplaintPageDTO fetchPage(Long after, Long before,
+                                       BiFunction<Long, Limit, List<Complaint>> pageAfter,
+                                       BiFunction<Long, Limit, List<Complaint>> pageBefore) {
+        return fetchPage(after, before, pageAfter, pageBefore, complaintMapper::toDto, Complaint::getComplaintReference);
+    }
+
+    /*
+     * Fetches one keyset page of complaint rows from the database.
+     * - With a 'before' cursor, reads backwards and restores ascending order; otherwise reads forward from 'after'.
+     * - One extra row is fetched to learn whether another page exists in the reading direction.
+     * - An empty page has no cursors: there is no row to take one from.
+     */
+    private <T> ComplaintPageDTO fetchPage(Long after, Long before,
+                                           BiFunction<Long, Limit, List<T>> pageAfter,
+                                           BiFunction<Long, Limit, List<T>> pageBefore,
+                                           Function<T, ComplaintDTO> toDto, Function<T, Long> referenceOf) {
+        Limit limit = Limit.of(pageSize + 1);
+        List<T> complaints;
+        boolean hasPrevious;
+        boolean hasNext;
+        if (before != null) {
+            complaints = new ArrayList<>(pageBefore.apply(before, limit));
+            hasPrevious = complaints.size() > pageSize;
+            complaints = new ArrayList<>(complaints.subList(0, Math.min(pageSize, complaints.size())));
+            Collections.reverse(complaints);
+            hasNext = true;
+        } else {
+            complaints = pageAfter.apply(after == null ? 0L : after, limit);
+            hasNext = complaints.size() > pageSize;
+            complaints = complaints.subList(0, Math.min(pageSize, complaints.size()));
+            hasPrevious = after != null;
+        }
+        if (complaints.isEmpty()) {
+            return new ComplaintPageDTO(List.of(), null, null);
+        }
+        return new ComplaintPageDTO(
+                complaints.stream().map(toDto).toList(),
+                hasPrevious ? referenceOf.apply(complaints.get(0)) : null,
+                hasNext ? referenceOf.apply(complaints.get(complaints.size() - 1)) : null);
     }
 
     /*
-     * Retrieves complaints by identifier, filtered by user role and date.
+     * Retrieves complaints by identifier, scoped by user role.
+     * - Complaint IDs are looked up directly; phone numbers are matched within the registered date.
+     * - Non-owners only see complaints they booked, so the cache key carries their bookedById.
+     * - The archive is searched only when includeArchived is set; archived matches follow the current ones.
+     * - The cached result is tagged by the query and by every complaint it contains, for targeted eviction; the cache
+     *   records the tags right after storing the result, so it runs as the cache's loader (sync = true).
      */
-    @Cacheable(value = "complaint", key = "#userRole + ': fetch_by-' + #complaintIdentifierDTO.identifier + '&' + #complaintIdentifierDTO.registeredDate")
+    @Cacheable(value = "complaint", key = "T(com.srinivasa.refrigerationworks.srw.service.ComplaintService).searchCacheKey(#complaintIdentifierDTO, #bookedById, #userRole)", sync = true)
     public List<ComplaintDTO> getComplaintByIdentifier(ComplaintIdentifierDTO complaintIdentifierDTO, String bookedById, String userRole) {
         String identifier = complaintIdentifierDTO.getIdentifier();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        LocalDate registeredDate = complaintIdentifierDTO.getRegisteredDate();
-        String registeredDateFormatted = registeredDate != null ? registeredDate.format(formatter) : null;
-        String phoneNumberFormatted = (identifier != null && identifier.matches("\\d{10}"))
-                ? PhoneNumberFormatter.formatPhoneNumber(identifier) : identifier;
-        List<ComplaintDTO> complaints = !userRole.equals("ROLE_OWNER") ? getComplaintsByBookedById(bookedById)
-                : complaintRepository.findAll().stream().map(complaintMapper::toDto).toList();
-        return complaints
-                .stream()
-                .filter(complaint ->
-                        complaint.getComplaintId().equals(identifier) ||
-                                (complaint.getContactNumber().equals(phoneNumberFormatted) &&
-                                        complaint.getCreatedAt().format(formatter).equals(registeredDateFormatted)))
-                .toList();
+        boolean isOwner = userRole.equals("ROLE_OWNER");
+        List<ComplaintDTO> complaints;
+        String queryTag;
+        if (identifier.startsWith("SRWC")) {
+            Complaint complaint = isOwner ? complaintRepository.findByComplaintId(identifier)
+                    : complaintRepository.findByComplaintIdAndBookedById(identifier, bookedById);
+            complaints = Stream.ofNullable(complaint).map(complaintMapper::toDto).toList();
+            if (complaints.isEmpty() && complaintIdentifierDTO.isIncludeArchived()) {
+                ArchivedComplaint archivedComplaint = isOwner ? archivedComplaintRepository.findByComplaintId(identifier)
+                        : archivedComplaintRepository.findByComplaintIdAndBookedById(identifier, bookedById);
+                complaints = Stream.ofNullable(archivedComplaint).map(complaintMapper::toDto).toList();
+            }
+            queryTag = complaintIdTag(identifier);
+        } else {
+            LocalDate registeredDate = complaintIdentifierDTO.getRegisteredDate();
+            if (registeredDate == null) {
+                return List.of();
+            }
+            String contactNumber = PhoneNumberFormatter.formatPhoneNumber(identifier);
+            LocalDateTime from = registeredDate.atStartOfDay();
+            LocalDateTime to = registeredDate.plusDays(1).atStartOfDay();
+            complaints = (isOwner
+                    ? complaintRepository.findByContactNumberAndCreatedAtRange(contactNumber, from, to)
+                    : complaintRepository.findByBookedByIdAndContactNumberAndCreatedAtRange(bookedById, contactNumber, from, to))
+                    .stream()
+                    .map(complaintMapper::toDto)
+                    .toList();
+            if (complaintIdentifierDTO.isIncludeArchived()) {
+                complaints = Stream.concat(complaints.stream(), (isOwner
+                        ? archivedComplaintRepository.findByContactNumberAndCreatedAtRange(contactNumber, from, to)
+                        : archivedComplaintRepository.findByBookedByIdAndContactNumberAndCreatedAtRange(bookedById, contactNumber, from, to))
+                        .stream()
+                        .map(complaintMapper::toDto))
+                        .toList();
+            }
+            queryTag = contactNumberTag(contactNumber, registeredDate);
+        }
+        Set<String> tags = new HashSet<>();
+        tags.add(queryTag);
+        complaints.forEach(complaint -> tags.add(complaintIdTag(complaint.getComplaintId())));
+        cacheTagIndex.tag("complaint", searchCacheKey(complaintIdentifierDTO, bookedById, userRole), tags);
+        return complaints;
+    }
+
+    /*
+     * Builds the cache key of a complaint search.
+     * Owners share results; other roles are scoped to their own bookedById.
+     */
+    public static String searchCacheKey(ComplaintIdentifierDTO complaintIdentifierDTO, String bookedById, String userRole) {
+        String scope = userRole.equals("ROLE_OWNER") ? userRole : userRole + "@" + bookedById;
+        return scope + ": fetch_by-" + complaintIdentifierDTO.getIdentifier() + "&" + complaintIdentifierDTO.getRegisteredDate()
+                + (complaintIdentifierDTO.isIncludeArchived() ? "&archived" : "");
     }
 
     /*
      * Checks if a user can access a complaint based on user role and complaint details.
      */
-    @Cacheable(value = "complaint", key = "'complaint_access_check-' + #userId + '&' + #complaintId")
     public boolean canUserAccess(String complaintId, boolean isOwner, String userId) {
         if (isOwner) {
             return true;
@@ -144,23 +291,16 @@ public class ComplaintService {
     }
 
     /*
-     * Retrieves complaint details by complaintId.
+     * Retrieves complaint details by complaintId from the normalized complaint cache.
      */
-    @Cacheable(value = "complaint", key = "'fetch-' + #complaintId")
     public ComplaintDTO getComplaintById(String complaintId) {
-        return complaintMapper.toDto(complaintRepository.findByComplaintId(complaintId));
+        return complaintCacheService.getComplaint(complaintId);
     }
 
     /*
-     * Updates complaint details and evicts relevant cache entries.
+     * Updates complaint details, evicts affected searches and publishes the change for the complaint cache.
      */
-    @Caching(
-            evict = {
-                    @CacheEvict(cacheNames = "complaints", allEntries = true),
-                    @CacheEvict(cacheNames = "complaint", key = "'fetch-' + #updatedComplaintDTO.complaintId")
-            },
-            put = @CachePut(value = "complaint", key = "'update-' + #updatedComplaintDTO.complaintId")
-    )
+    @CachePut(value = "complaint", key = "'update-' + #updatedComplaintDTO.complaintId")
     public void updateComplaint(ComplaintDTO initialComplaintDTO, ComplaintDTO updatedComplaintDTO) {
         updatedComplaintDTO.setCreatedAt(initialComplaintDTO.getCreatedAt());
         updatedComplaintDTO.setBookedById(initialComplaintDTO.getBookedById());
@@ -171,67 +311,151 @@ public class ComplaintService {
         if (!initialComplaintDTO.equals(updatedComplaintDTO)) {
             Complaint complaint = complaintMapper.toEntity(updatedComplaintDTO);
             complaint.setComplaintId(updatedComplaintDTO.getComplaintId());
-            complaint.setComplaintReference(Long.parseLong(complaint.getComplaintId().substring(4, 12)));
+            complaint.setComplaintReference(IdSequence.COMPLAINT.parseReference(complaint.getComplaintId()));
             complaint.setBookedById(updatedComplaintDTO.getBookedById());
             complaint.setUpdatedAt(LocalDateTime.now());
             if (updatedComplaintDTO.getStatus().equals(ComplaintStatus.RESOLVED) && updatedComplaintDTO.getClosedAt() == null) {
                 complaint.setClosedAt(LocalDateTime.now());
             }
             complaintRepository.save(complaint);
-            evictComplaintCacheByComplaintId(updatedComplaintDTO.getComplaintId(), updatedComplaintDTO.getContactNumber(), updatedComplaintDTO.getCreatedAt());
+            evictComplaintSearchCache(updatedComplaintDTO.getComplaintId(), updatedComplaintDTO.getContactNumber(), updatedComplaintDTO.getCreatedAt());
+            ComplaintDTO currentComplaintDTO = complaintMapper.toDto(complaint);
+            currentComplaintDTO.setCreatedAt(initialComplaintDTO.getCreatedAt());
+            eventPublisher.publishEvent(ComplaintChangedEvent.of(initialComplaintDTO, currentComplaintDTO));
         }
     }
 
     /*
-     * Evicts cache entries related to a complaint using complaint ID, contact number, and creation time.
+     * Evicts cached searches that contain the complaint or match its (possibly changed) contact number and date.
      */
-    public void evictComplaintCacheByComplaintId(String complaintId, String contactNumber, LocalDateTime createdAt) {
-        Set<String> complaintIdKeys  = stringRedisTemplate.keys("*fetch_by-" + complaintId + "&*");
-        Set<String> contactNumberAndCreatedAtKeys  = stringRedisTemplate.keys("*fetch_by-" + contactNumber + "&" + createdAt);
-        Set<String> evictKeys = new HashSet<>();
-        if(!complaintIdKeys.isEmpty()) {
-            evictKeys.addAll(complaintIdKeys);
-        }
-        if(!contactNumberAndCreatedAtKeys.isEmpty()) {
-            evictKeys.addAll(contactNumberAndCreatedAtKeys);
-        }
-        if(!evictKeys.isEmpty()) {
-            stringRedisTemplate.delete(evictKeys);
+    public void evictComplaintSearchCache(String complaintId, String contactNumber, LocalDateTime createdAt) {
+        cacheTagIndex.evict("complaint", List.of(
+                complaintIdTag(complaintId),
+                contactNumberTag(contactNumber, createdAt.toLocalDate())));
+    }
+
+    /*
+     * Evicts cached searches that contain any of the complaints or match their contact numbers and dates, in one tag eviction.
+     */
+    public void evictComplaintSearchCaches(Collection<ComplaintDTO> complaints) {
+        Set<String> tags = new HashSet<>();
+        for (ComplaintDTO complaint : complaints) {
+            tags.add(complaintIdTag(complaint.getComplaintId()));
+            tags.add(contactNumberTag(complaint.getContactNumber(), complaint.getCreatedAt().toLocalDate()));
         }
+        cacheTagIndex.evict("complaint", tags);
+    }
+
+    /*
+     * Tag for cached searches that returned or looked up the given complaint ID.
+     */
+    private static String complaintIdTag(String complaintId) {
+        return "complaint_id-" + complaintId;
+    }
+
+    /*
+     * Tag for cached searches by contact number and registered date.
+     */
+    private static String contactNumberTag(String contactNumber, LocalDate registeredDate) {
+        return "contact_number-" + contactNumber + "&" + registeredDate;
     }
 
     /*
      * Activates a complaint and updates its state to active.
      */
-    @Caching(
-            evict = @CacheEvict(cacheNames = "complaints", allEntries = true),
-            put = @CachePut(value = "complaint", key = "'activate-' + #complaintId")
-    )
+    @CachePut(value = "complaint", key = "'activate-' + #complaintId")
     public void activateComplaint(String complaintId) {
-        complaintRepository.updateComplaintState(complaintId, LocalDateTime.now(), ComplaintState.ACTIVE);
+        changeComplaintState(complaintId, ComplaintState.ACTIVE);
     }
 
     /*
      * Deactivates a complaint and updates its state to inactive.
      */
-    @Caching(
-            evict = @CacheEvict(cacheNames = "complaints", allEntries = true),
-            put = @CachePut(value = "complaint", key = "'deactivate-' + #complaintId")
-    )
+    @CachePut(value = "complaint", key = "'deactivate-' + #complaintId")
     public void deactivateComplaint(String complaintId) {
-        complaintRepository.updateComplaintState(complaintId, LocalDateTime.now(), ComplaintState.IN_ACTIVE);
+        changeComplaintState(complaintId, ComplaintState.IN_ACTIVE);
     }
 
     /*
-     * Retrieves complaints assigned to a specific employee (technician).
+     * Updates the complaint state, evicts searches containing the complaint and publishes the change for the complaint cache.
      */
-    @Cacheable(value = "complaints", key = "'assigned_to-' + #technicianId")
-    public List<ComplaintDTO> getComplaintsByTechnicianId(String technicianId) {
-        List<Complaint> complaints = complaintRepository.findByTechnicianId(technicianId);
-        return complaints
+    private void changeComplaintState(String complaintId, ComplaintState state) {
+        ComplaintDTO previous = getComplaintById(complaintId);
+        LocalDateTime updatedAt = LocalDateTime.now();
+        complaintRepository.updateComplaintState(complaintId, updatedAt, state);
+        cacheTagIndex.evict("complaint", List.of(complaintIdTag(complaintId)));
+        if (previous != null) {
+            ComplaintDTO current = complaintMapper.copy(previous);
+            current.setState(state);
+            current.setUpdatedAt(updatedAt);
+            eventPublisher.publishEvent(ComplaintChangedEvent.of(previous, current));
+        }
+    }
+
+    /*
+     * Sets the state of a set of complaints with one UPDATE, evicts the searches containing them with one tag eviction
+     * and publishes the changes as one event. Returns the result for each complaintId, in request order.
+     */
+    @Transactional
+    public Map<String, BulkUpdateResult> updateComplaintStates(Collection<String> complaintIds, ComplaintState state) {
+        Map<String, ComplaintDTO> previousComplaints = complaintRepository.findByComplaintIdIn(complaintIds)
                 .stream()
                 .map(complaintMapper::toDto)
-                .toList();
+                .collect(Collectors.toMap(ComplaintDTO::getComplaintId, complaintDTO -> complaintDTO));
+        Map<String, ComplaintState> currentStates = new HashMap<>();
+        previousComplaints.forEach((complaintId, complaintDTO) -> currentStates.put(complaintId, complaintDTO.getState()));
+        Map<String, BulkUpdateResult> results = BulkUpdateClassifier.classify(complaintIds, currentStates, state);
+        List<String> updated = BulkUpdateClassifier.idsWith(results, BulkUpdateResult.UPDATED);
+        if (updated.isEmpty()) {
+            return results;
+        }
+        LocalDateTime updatedAt = LocalDateTime.now();
+        complaintRepository.updateComplaintStates(updated, updatedAt, state);
+        cacheTagIndex.evict("complaint", updated.stream().map(ComplaintService::complaintIdTag).toList());
+        List<ComplaintChange> changes = new ArrayList<>(updated.size());
+        for (String complaintId : updated) {
+            ComplaintDTO previous = previousComplaints.get(complaintId);
+            ComplaintDTO current = complaintMapper.copy(previous);
+            current.setState(state);
+            current.setUpdatedAt(updatedAt);
+            changes.add(new ComplaintChange(previous, current));
+        }
+        eventPublisher.publishEvent(new ComplaintChangedEvent(changes));
+        return results;
+    }
+
+    /*
+     * Assigns up to 'limit' unassigned open complaints, oldest first, to the least loaded technicians in one transaction.
+     * Returns the number of complaints assigned.
+     */
+    @Transactional
+    public int dispatchUnassigned(int limit) {
+        Map<String, String> assignments = dispatchService.assignUnassigned(limit);
+        if (assignments.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime updatedAt = LocalDateTime.now();
+        List<ComplaintChange> changes = new ArrayList<>();
+        for (ComplaintDTO previous : complaintCacheService.getComplaintsById(List.copyOf(assignments.keySet()))) {
+            String technicianId = assignments.get(previous.getComplaintId());
+            complaintRepository.updateTechnicianId(previous.getComplaintId(), updatedAt, technicianId);
+            ComplaintDTO current = complaintMapper.copy(previous);
+            current.setTechnicianId(technicianId);
+            current.setUpdatedAt(updatedAt);
+            changes.add(new ComplaintChange(previous, current));
+        }
+        cacheTagIndex.evict("complaint", assignments.keySet().stream().map(ComplaintService::complaintIdTag).toList());
+        eventPublisher.publishEvent(new ComplaintChangedEvent(changes));
+        return changes.size();
+    }
+
+    /*
+     * Retrieves a page of complaints assigned to a specific employee (technician).
+     */
+    public ComplaintPageDTO getComplaintsByTechnicianId(String technicianId, Long after, Long before) {
+        return complaintCacheService.getPage(ComplaintListScope.ASSIGNED_TO, technicianId, after, before, pageSize).orElseGet(() -> fetchPage(after, before,
+                (cursor, limit) -> complaintRepository.findPageByTechnicianIdAfter(technicianId, cursor, limit),
+                (cursor, limit) -> complaintRepository.findPageByTechnicianIdBefore(technicianId, cursor, limit)));
     }
 
     /*
@@ -4,12 +4,18 @@ import com.srinivasa.refrigerationworks.srw.entity.UserCredential;
 import com.srinivasa.refrigerationworks.srw.payload.dto.CustomerCredentialDTO;
 import com.srinivasa.refrigerationworks.srw.payload.dto.CustomerDTO;
 import com.srinivasa.refrigerationworks.srw.utility.common.PhoneNumberFormatter;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.BulkUpdateResult;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserStatus;
 import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserType;
 import com.srinivasa.refrigerationworks.srw.utility.mapper.UserCredentialMapper;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 /*
  * Service to handle CustomerCredential-related operations.
  */
@@ -34,7 +40,9 @@ public class CustomerCredentialService {
 
     /*
      * Adds customer credential and saves it with role "ROLE_CUSTOMER".
+     * Runs in one transaction so a unique-key violation on the credential also rolls back the customer.
      */
+    @Transactional
     public void addCustomerCredential(CustomerCredentialDTO customerCredentialDTO) {
         String customerId = customerService.addCustomer(customerCredentialDTO.getCustomerDTO());
         UserCredential userCredential = userCredentialMapper.toEntity(customerCredentialDTO.getUserCredentialDTO());
@@ -77,6 +85,18 @@ public class CustomerCredentialService {
         userCredentialService.updateUserStatus(customerId, (byte) 0);
     }
 
+    /*
+     * Activates or deactivates a set of customers and their credentials, with one UPDATE per table in one transaction.
+     * Credentials of every customer found are updated, so they are brought in line even if the customer was unchanged.
+     */
+    @Transactional
+    public Map<String, BulkUpdateResult> updateCustomerStatuses(Collection<String> customerIds, UserStatus status) {
+        Map<String, BulkUpdateResult> results = customerService.updateCustomerStatuses(customerIds, status);
+        List<String> found = results.entrySet().stream().filter(entry -> entry.getValue() != BulkUpdateResult.NOT_FOUND).map(Map.Entry::getKey).toList();
+        userCredentialService.updateUserStatuses(found, (byte) (status == UserStatus.ACTIVE ? 1 : 0));
+        return results;
+    }
+
     /*
      * Retrieves CustomerDTO by customerId.
      */
@@ -3,24 +3,38 @@ package com.srinivasa.refrigerationworks.srw.service;
 import com.srinivasa.refrigerationworks.srw.entity.Customer;
 import com.srinivasa.refrigerationworks.srw.payload.dto.CustomerDTO;
 import com.srinivasa.refrigerationworks.srw.repository.CustomerRepository;
+import com.srinivasa.refrigerationworks.srw.utility.cache.CacheTagIndex;
+import com.srinivasa.refrigerationworks.srw.utility.cache.TwoLevelCacheManager;
+import com.srinivasa.refrigerationworks.srw.utility.common.BulkUpdateClassifier;
+import com.srinivasa.refrigerationworks.srw.utility.common.IdentifierClassifier;
 import com.srinivasa.refrigerationworks.srw.utility.common.PhoneNumberFormatter;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.BulkUpdateResult;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.IdSequence;
 import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserStatus;
 import com.srinivasa.refrigerationworks.srw.utility.mapper.CustomerMapper;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /*
  * Service to handle Customer-related operations.
+ * Each public method is timed in 'srw.service', tagged by class and method.
  */
 @Service
+@Timed("srw.service")
 @RequiredArgsConstructor
 public class CustomerService {
 
@@ -34,6 +48,38 @@ public class CustomerService {
      */
     private final CustomerMapper customerMapper;
 
+    /*
+     * Tag index for evicting every cached lookup of a customer, whichever identifier it was fetched by.
+     */
+    private final CacheTagIndex cacheTagIndex;
+
+    /*
+     * Allocator for customer IDs.
+     */
+    private final BusinessIdService businessIdService;
+
+    /*
+     * Bloom filter of registered phone numbers, emails, and national IDs used by the uniqueness validator.
+     */
+    private final UniqueValueFilterService uniqueValueFilterService;
+
+    /*
+     * CacheManager refreshing the customer lists ahead of their expiry.
+     */
+    private final TwoLevelCacheManager cacheManager;
+
+    /*
+     * Registers the list queries as refresh-ahead reloaders of the 'customers' cache; called on this instance, they skip the cache.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerReloaders() {
+        cacheManager.registerReloader("customers", key -> switch (String.valueOf(key)) {
+            case "customer_list" -> getCustomerList();
+            case "active_customer_list" -> getActiveCustomerList();
+            default -> throw new IllegalArgumentException("No reloader for customers::" + key);
+        });
+    }
+
     /*
      * Adds a new customer, saves it, generates customer ID, and returns it.
      */
@@ -41,10 +87,12 @@ public class CustomerService {
     @CacheEvict(cacheNames = "customers", allEntries = true)
     public String addCustomer(CustomerDTO customerDTO) {
         Customer customer = customerMapper.toEntity(customerDTO);
+        customer.setCustomerReference(businessIdService.nextReference(IdSequence.CUSTOMER));
+        customer.setCustomerId(IdSequence.CUSTOMER.format(customer.getCustomerReference()));
         customer.setPhoneNumber(PhoneNumberFormatter.formatPhoneNumber(customer.getPhoneNumber()));
         customer.setStatus(UserStatus.ACTIVE);
-        customerRepository.save(customer);
-        customer.setCustomerId("SRW" + String.format("%07d", customer.getCustomerReference()));
+        customerRepository.persist(customer);
+        uniqueValueFilterService.add(customer.getPhoneNumber(), customer.getEmail(), null);
         customerDTO.setCustomerId(customer.getCustomerId());
         return customer.getCustomerId();
     }
@@ -52,7 +100,7 @@ public class CustomerService {
     /*
      * Retrieves all customers and returns a list of CustomerDTO objects.
      */
-    @Cacheable(value = "customers", key = "'customer_list'")
+    @Cacheable(value = "customers", key = "'customer_list'", sync = true)
     public List<CustomerDTO> getCustomerList() {
         return customerRepository
                 .findAll()
@@ -64,7 +112,7 @@ public class CustomerService {
     /*
      * Retrieves all active customers and returns a list of active CustomerDTO objects.
      */
-    @Cacheable(value = "customers", key = "'active_customer_list'")
+    @Cacheable(value = "customers", key = "'active_customer_list'", sync = true)
     public List<CustomerDTO> getActiveCustomerList() {
         return customerRepository
                 .findByStatus(UserStatus.ACTIVE)
@@ -76,11 +124,14 @@ public class CustomerService {
     /*
      * Retrieves customer details by identifier (phone number, email, or customer ID).
      */
-    @Cacheable(value = "customer", key = "'fetch-' + #identifier")
+    @Cacheable(value = "customer", key = "'fetch-' + #identifier", sync = true)
     public CustomerDTO getCustomerByIdentifier(String identifier) {
-        Customer customer = customerRepository.findByIdentifier(
-                identifier.matches("\\d{10}") ? PhoneNumberFormatter.formatPhoneNumber(identifier) : identifier);
-        return customerMapper.toDto(customer);
+        Customer customer = customerRepository.findByIdentifier(identifier);
+        CustomerDTO customerDTO = customerMapper.toDto(customer);
+        cacheTagIndex.tag("customer", "fetch-" + identifier, customerDTO == null
+                ? List.of(identifierTag(identifier))
+                : List.of(identifierTag(identifier), customerIdTag(customerDTO.getCustomerId())));
+        return customerDTO;
     }
 
     /*
@@ -96,10 +147,13 @@ public class CustomerService {
     public void updateCustomer(CustomerDTO customerDTO) {
         Customer customer = customerMapper.toEntity(customerDTO);
         customer.setCustomerId(customerDTO.getCustomerId());
-        customer.setCustomerReference(Long.parseLong(customerDTO.getCustomerId().substring(3,10)));
+        customer.setCustomerReference(IdSequence.CUSTOMER.parseReference(customerDTO.getCustomerId()));
         customer.setPhoneNumber(PhoneNumberFormatter.formatPhoneNumber(customer.getPhoneNumber()));
         customer.setUpdatedAt(LocalDateTime.now());
         customerRepository.save(customer);
+        uniqueValueFilterService.add(customer.getPhoneNumber(), customer.getEmail(), null);
+        cacheTagIndex.evict("customer", List.of(customerIdTag(customerDTO.getCustomerId()),
+                identifierTag(customerDTO.getPhoneNumber()), identifierTag(customerDTO.getEmail())));
     }
 
     /*
@@ -111,6 +165,7 @@ public class CustomerService {
     )
     public void activateCustomer(String customerId) {
         customerRepository.updateCustomerStatus(customerId, LocalDateTime.now(), UserStatus.ACTIVE);
+        cacheTagIndex.evict("customer", List.of(customerIdTag(customerId)));
     }
 
     /*
@@ -122,5 +177,37 @@ public class CustomerService {
     )
     public void deactivateCustomer(String customerId) {
         customerRepository.updateCustomerStatus(customerId, LocalDateTime.now(), UserStatus.IN_ACTIVE);
+        cacheTagIndex.evict("customer", List.of(customerIdTag(customerId)));
+    }
+
+    /*
+     * Sets the status of a set of customers with one UPDATE, evicting the customer lists once and each changed customer's lookups.
+     * Returns the result for each customerId, in request order.
+     */
+    @CacheEvict(cacheNames = "customers", allEntries = true)
+    public Map<String, BulkUpdateResult> updateCustomerStatuses(Collection<String> customerIds, UserStatus status) {
+        Map<String, UserStatus> currentStatuses = new HashMap<>();
+        customerRepository.findStatusesByCustomerIdIn(customerIds).forEach(row -> currentStatuses.put((String) row[0], (UserStatus) row[1]));
+        Map<String, BulkUpdateResult> results = BulkUpdateClassifier.classify(customerIds, currentStatuses, status);
+        List<String> updated = BulkUpdateClassifier.idsWith(results, BulkUpdateResult.UPDATED);
+        if (!updated.isEmpty()) {
+            customerRepository.updateCustomerStatuses(updated, LocalDateTime.now(), status);
+            cacheTagIndex.evict("customer", updated.stream().map(CustomerService::customerIdTag).toList());
+        }
+        return results;
+    }
+
+    /*
+     * Tag for cached lookups that resolved to the given customer ID.
+     */
+    private static String customerIdTag(String customerId) {
+        return "customer_id-" + customerId;
+    }
+
+    /*
+     * Tag for cached lookups by the given identifier, with phone numbers normalized to include the country code.
+     */
+    private static String identifierTag(String identifier) {
+        return "identifier-" + IdentifierClassifier.normalize(identifier);
     }
 }
\ No newline at end of file
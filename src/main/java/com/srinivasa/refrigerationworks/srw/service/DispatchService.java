@@ -0,0 +1,355 @@
+package com.srinivasa.refrigerationworks.srw.service;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.EmployeeInfoDTO;
+import com.srinivasa.refrigerationworks.srw.repository.ComplaintRepository;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintState;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintStatus;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserStatus;
+import com.srinivasa.refrigerationworks.srw.utility.event.ComplaintChange;
+import com.srinivasa.refrigerationworks.srw.utility.event.ComplaintChangedEvent;
+import com.srinivasa.refrigerationworks.srw.utility.event.EmployeeStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/*
+ * Service dispatching open complaints to technicians by workload, from an in-memory index.
+ * - Each technician's open complaints (active and not resolved) are kept ordered by creation time.
+ * - Active technicians are kept in a tree ordered by open count, then by the newest oldest-open complaint,
+ *   so the first entry is the least loaded technician not sitting on a stale complaint.
+ * - Picking and reserving a technician is O(log n) and never queries the complaint table; the index is patched from
+ *   complaint and employee events, and rebuilt periodically to pick up other nodes' writes.
+ * - Reservations made inside a transaction are released if it rolls back.
+ * - A rebuild reads the database without holding the index lock; every change made to the index meanwhile is
+ *   recorded and replayed onto the rebuilt index, so events and reservations are not lost to a read that missed them.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DispatchService {
+
+    /*
+     * Orders open complaints oldest first.
+     */
+    private static final Comparator<OpenComplaint> OLDEST_FIRST = Comparator
+            .comparing((OpenComplaint complaint) -> complaint.createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(complaint -> complaint.complaintId);
+
+    /*
+     * Orders technicians by open count, then by their oldest open complaint, newest first (technicians without open complaints first).
+     */
+    private static final Comparator<Workload> LEAST_LOADED_FIRST = Comparator
+            .comparingInt((Workload workload) -> workload.open.size())
+            .thenComparing(Workload::oldestOpen, Comparator.nullsFirst(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(workload -> workload.technicianId);
+
+    /*
+     * Repository for loading open complaints on rebuild.
+     */
+    private final ComplaintRepository complaintRepository;
+
+    /*
+     * Service for the list of technicians.
+     */
+    private final EmployeeService employeeService;
+
+    /*
+     * Workload of every technician holding open complaints or eligible for new ones.
+     */
+    private final Map<String, Workload> workloads = new HashMap<>();
+
+    /*
+     * Eligible (active) technicians, least loaded first.
+     */
+    private final TreeSet<Workload> eligible = new TreeSet<>(LEAST_LOADED_FIRST);
+
+    /*
+     * Open complaints by complaintId, assigned or not.
+     */
+    private final Map<String, OpenComplaint> openComplaints = new HashMap<>();
+
+    /*
+     * Open complaints without a technician, oldest first.
+     */
+    private final TreeSet<OpenComplaint> unassigned = new TreeSet<>(OLDEST_FIRST);
+
+    /*
+     * Serializes rebuilds, so concurrent callers wait for the running one.
+     */
+    private final Object rebuildLock = new Object();
+
+    /*
+     * Changes made to the index while a rebuild is reading the database, or null when no rebuild is running; guarded by this.
+     */
+    private List<Runnable> pendingChanges;
+
+    /*
+     * Picks the least loaded technician for a new complaint and reserves it; returns null when no technician is active.
+     */
+    public synchronized String assign(String complaintId, LocalDateTime createdAt) {
+        Workload workload = eligible.isEmpty() ? null : eligible.first();
+        if (workload == null) {
+            return null;
+        }
+        OpenComplaint complaint = new OpenComplaint(complaintId, createdAt, workload.technicianId);
+        record(() -> put(complaint));
+        releaseOnRollback(List.of(complaintId), false);
+        return workload.technicianId;
+    }
+
+    /*
+     * Assigns up to 'limit' unassigned open complaints, oldest first, each to the least loaded technician at that point.
+     * Returns technicianIds by complaintId; the caller persists them.
+     */
+    public synchronized Map<String, String> assignUnassigned(int limit) {
+        Map<String, String> assignments = new LinkedHashMap<>();
+        while (assignments.size() < limit && !unassigned.isEmpty() && !eligible.isEmpty()) {
+            OpenComplaint complaint = unassigned.first();
+            String technicianId = eligible.first().technicianId;
+            OpenComplaint assigned = new OpenComplaint(complaint.complaintId, complaint.createdAt, technicianId);
+            record(() -> put(assigned));
+            assignments.put(complaint.complaintId, technicianId);
+        }
+        releaseOnRollback(List.copyOf(assignments.keySet()), true);
+        return assignments;
+    }
+
+    /*
+     * Returns the number of open complaints per active technician, least loaded first.
+     */
+    public synchronized Map<String, Integer> getWorkloads() {
+        Map<String, Integer> loads = new LinkedHashMap<>();
+        eligible.forEach(workload -> loads.put(workload.technicianId, workload.open.size()));
+        return loads;
+    }
+
+    /*
+     * Returns the number of open complaints without a technician.
+     */
+    public synchronized int getUnassignedCount() {
+        return unassigned.size();
+    }
+
+    /*
+     * Applies committed complaint changes: each complaint is dropped from the index, then re-added if it is still open.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onComplaintChanged(ComplaintChangedEvent event) {
+        for (ComplaintChange change : event.getChanges()) {
+            ComplaintDTO current = change.getCurrent();
+            if (current == null) {
+                record(() -> remove(change.getPrevious().getComplaintId()));
+            } else if (current.getState() == ComplaintState.ACTIVE && current.getStatus() != ComplaintStatus.RESOLVED) {
+                OpenComplaint complaint = new OpenComplaint(current.getComplaintId(), current.getCreatedAt(), current.getTechnicianId());
+                record(() -> put(complaint));
+            } else {
+                record(() -> remove(current.getComplaintId()));
+            }
+        }
+    }
+
+    /*
+     * Adds newly active technicians to, and removes deactivated ones from, the eligible set.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onEmployeeStatusChanged(EmployeeStatusChangedEvent event) {
+        boolean active = event.getStatus() == UserStatus.ACTIVE;
+        record(() -> setEligible(event.getEmployeeId(), active));
+    }
+
+    /*
+     * Builds the index once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            rebuild();
+            log.info("Dispatch index loaded ({} technicians, {} unassigned complaints)", getWorkloads().size(), getUnassignedCount());
+        } catch (DataAccessException exception) {
+            log.warn("Dispatch index could not be loaded: {}", exception.getMessage());
+        }
+    }
+
+    /*
+     * Rebuilds the index from the open complaints and active technicians on the configured interval,
+     * then replays the changes made to the index while they were being read.
+     */
+    @Scheduled(fixedDelayString = "${srw.complaint.dispatch.rebuild-interval:PT15M}", initialDelayString = "${srw.complaint.dispatch.rebuild-interval:PT15M}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                pendingChanges = new ArrayList<>();
+            }
+            List<EmployeeInfoDTO> technicians;
+            List<Object[]> rows;
+            try {
+                technicians = employeeService.getEmployeesInfo();
+                rows = complaintRepository.findOpenComplaintAssignments(ComplaintState.ACTIVE, ComplaintStatus.RESOLVED);
+            } catch (RuntimeException exception) {
+                synchronized (this) {
+                    pendingChanges = null;
+                }
+                throw exception;
+            }
+            synchronized (this) {
+                workloads.clear();
+                eligible.clear();
+                openComplaints.clear();
+                unassigned.clear();
+                technicians.stream()
+                        .filter(technician -> technician.getStatus() == UserStatus.ACTIVE)
+                        .forEach(technician -> setEligible(technician.getEmployeeId(), true));
+                for (Object[] row : rows) {
+                    put(new OpenComplaint((String) row[0], (LocalDateTime) row[1], (String) row[2]));
+                }
+                pendingChanges.forEach(Runnable::run);
+                pendingChanges = null;
+            }
+        }
+    }
+
+    /*
+     * Applies a change to the index and records it for a rebuild in progress; caller holds the lock on this.
+     */
+    private void record(Runnable change) {
+        change.run();
+        if (pendingChanges != null) {
+            pendingChanges.add(change);
+        }
+    }
+
+    /*
+     * Adds or moves an open complaint, re-sorting the technicians whose workload changed.
+     */
+    private void put(OpenComplaint complaint) {
+        remove(complaint.complaintId);
+        openComplaints.put(complaint.complaintId, complaint);
+        if (complaint.technicianId == null) {
+            unassigned.add(complaint);
+        } else {
+            Workload workload = workloads.computeIfAbsent(complaint.technicianId, Workload::new);
+            update(workload, () -> workload.open.add(complaint));
+        }
+    }
+
+    /*
+     * Removes a complaint from the index if present.
+     */
+    private void remove(String complaintId) {
+        OpenComplaint complaint = openComplaints.remove(complaintId);
+        if (complaint == null) {
+            return;
+        }
+        if (complaint.technicianId == null) {
+            unassigned.remove(complaint);
+        } else {
+            Workload workload = workloads.get(complaint.technicianId);
+            update(workload, () -> workload.open.remove(complaint));
+        }
+    }
+
+    /*
+     * Changes a workload's open complaints, taking it out of the eligible tree while its sort key changes.
+     */
+    private void update(Workload workload, Runnable change) {
+        boolean wasEligible = eligible.remove(workload);
+        change.run();
+        if (wasEligible) {
+            eligible.add(workload);
+        }
+    }
+
+    /*
+     * Marks a technician as eligible for new complaints or not.
+     */
+    private void setEligible(String technicianId, boolean active) {
+        Workload workload = workloads.computeIfAbsent(technicianId, Workload::new);
+        if (active) {
+            eligible.add(workload);
+        } else {
+            eligible.remove(workload);
+        }
+    }
+
+    /*
+     * Registers a callback undoing reservations if the current transaction rolls back.
+     * Complaints that were already registered go back to the unassigned set; new ones are dropped.
+     */
+    private void releaseOnRollback(List<String> complaintIds, boolean registered) {
+        if (complaintIds.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    release(complaintIds, registered);
+                }
+            }
+        });
+    }
+
+    /*
+     * Undoes reservations of the given complaints.
+     */
+    private synchronized void release(List<String> complaintIds, boolean registered) {
+        for (String complaintId : complaintIds) {
+            OpenComplaint complaint = openComplaints.get(complaintId);
+            if (complaint != null) {
+                record(() -> remove(complaintId));
+                if (registered) {
+                    OpenComplaint released = new OpenComplaint(complaintId, complaint.createdAt, null);
+                    record(() -> put(released));
+                }
+            }
+        }
+    }
+
+    /*
+     * An open complaint and the technician it is assigned to (null if unassigned).
+     */
+    private static final class OpenComplaint {
+        private final String complaintId;
+        private final LocalDateTime createdAt;
+        private final String technicianId;
+
+        private OpenComplaint(String complaintId, LocalDateTime createdAt, String technicianId) {
+            this.complaintId = complaintId;
+            this.createdAt = createdAt;
+            this.technicianId = technicianId;
+        }
+    }
+
+    /*
+     * A technician's open complaints, oldest first.
+     */
+    private static final class Workload {
+        private final String technicianId;
+        private final TreeSet<OpenComplaint> open = new TreeSet<>(OLDEST_FIRST);
+
+        private Workload(String technicianId) {
+            this.technicianId = technicianId;
+        }
+
+        private LocalDateTime oldestOpen() {
+            return open.isEmpty() ? null : open.first().createdAt;
+        }
+    }
+}
\ No newline at end of file
@@ -4,12 +4,18 @@ import com.srinivasa.refrigerationworks.srw.entity.UserCredential;
 import com.srinivasa.refrigerationworks.srw.payload.dto.EmployeeCredentialDTO;
 import com.srinivasa.refrigerationworks.srw.payload.dto.EmployeeDTO;
 import com.srinivasa.refrigerationworks.srw.utility.common.PhoneNumberFormatter;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.BulkUpdateResult;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserStatus;
 import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserType;
 import com.srinivasa.refrigerationworks.srw.utility.mapper.UserCredentialMapper;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 /*
  * Service to handle EmployeeCredential-related operations.
  */
@@ -34,7 +40,9 @@ public class EmployeeCredentialService {
 
     /*
      * Adds user credential for the employee and saves it with the role "ROLE_EMPLOYEE".
+     * Runs in one transaction so a unique-key violation on the credential also rolls back the employee.
      */
+    @Transactional
     public void addEmployeeCredential(EmployeeCredentialDTO employeeCredentialDTO) {
         String employeeId = employeeService.addEmployee(employeeCredentialDTO.getEmployeeDTO());
         UserCredential userCredential = userCredentialMapper.toEntity(employeeCredentialDTO.getUserCredentialDTO());
@@ -78,6 +86,18 @@ public class EmployeeCredentialService {
         userCredentialService.updateUserStatus(employeeId, (byte) 0);
     }
 
+    /*
+     * Activates or deactivates a set of employees and their credentials, with one UPDATE per table in one transaction.
+     * Credentials of every employee found are updated, so they are brought in line even if the employee was unchanged.
+     */
+    @Transactional
+    public Map<String, BulkUpdateResult> updateEmployeeStatuses(Collection<String> employeeIds, UserStatus status) {
+        Map<String, BulkUpdateResult> results = employeeService.updateEmployeeStatuses(employeeIds, status);
+        List<String> found = results.entrySet().stream().filter(entry -> entry.getValue() != BulkUpdateResult.NOT_FOUND).map(Map.Entry::getKey).toList();
+        userCredentialService.updateUserStatuses(found, (byte) (status == UserStatus.ACTIVE ? 1 : 0));
+        return results;
+    }
+
     /*
      * Retrieves EmployeeDTO by employeeId.
      */
@@ -4,24 +4,40 @@ import com.srinivasa.refrigerationworks.srw.entity.Employee;
 import com.srinivasa.refrigerationworks.srw.payload.dto.EmployeeDTO;
 import com.srinivasa.refrigerationworks.srw.payload.dto.EmployeeInfoDTO;
 import com.srinivasa.refrigerationworks.srw.repository.EmployeeRepository;
+import com.srinivasa.refrigerationworks.srw.utility.cache.CacheTagIndex;
+import com.srinivasa.refrigerationworks.srw.utility.cache.TwoLevelCacheManager;
+import com.srinivasa.refrigerationworks.srw.utility.common.BulkUpdateClassifier;
+import com.srinivasa.refrigerationworks.srw.utility.common.IdentifierClassifier;
 import com.srinivasa.refrigerationworks.srw.utility.common.PhoneNumberFormatter;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.BulkUpdateResult;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.IdSequence;
 import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserStatus;
+import com.srinivasa.refrigerationworks.srw.utility.event.EmployeeStatusChangedEvent;
 import com.srinivasa.refrigerationworks.srw.utility.mapper.EmployeeMapper;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /*
  * Service to handle Employee-related operations.
+ * Each public method is timed in 'srw.service', tagged by class and method.
  */
 @Service
+@Timed("srw.service")
 @RequiredArgsConstructor
 public class EmployeeService {
 
@@ -35,26 +51,67 @@ public class EmployeeService {
      */
     private final EmployeeMapper employeeMapper;
 
+    /*
+     * Tag index for evicting every cached lookup of an employee, whichever identifier it was fetched by.
+     */
+    private final CacheTagIndex cacheTagIndex;
+
+    /*
+     * Allocator for employee IDs.
+     */
+    private final BusinessIdService businessIdService;
+
+    /*
+     * Bloom filter of registered phone numbers, emails, and national IDs used by the uniqueness validator.
+     */
+    private final UniqueValueFilterService uniqueValueFilterService;
+
+    /*
+     * Publisher for employee status change events.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /*
+     * CacheManager refreshing the employee lists and technician lookup ahead of their expiry.
+     */
+    private final TwoLevelCacheManager cacheManager;
+
+    /*
+     * Registers the list and lookup queries as refresh-ahead reloaders; called on this instance, they skip the cache.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerReloaders() {
+        cacheManager.registerReloader("employees", key -> switch (String.valueOf(key)) {
+            case "employee_list" -> getEmployeeList();
+            case "active_employee_list" -> getActiveEmployeeList();
+            default -> throw new IllegalArgumentException("No reloader for employees::" + key);
+        });
+        cacheManager.registerReloader("techniciansInfo", key -> getEmployeesInfo());
+    }
+
     /*
      * Adds a new employee, formats the phone number, saves the employee,
      * generates employee ID, and returns it.
      */
     @Transactional
-    @CacheEvict(cacheNames = "employees", allEntries = true)
+    @CacheEvict(cacheNames = {"employees", "techniciansInfo"}, allEntries = true)
     public String addEmployee(EmployeeDTO employeeDTO) {
         Employee employee = employeeMapper.toEntity(employeeDTO);
+        employee.setEmployeeReference(businessIdService.nextReference(IdSequence.EMPLOYEE));
+        employee.setEmployeeId(IdSequence.EMPLOYEE.format(employee.getEmployeeReference()));
         employee.setPhoneNumber(PhoneNumberFormatter.formatPhoneNumber(employee.getPhoneNumber()));
         employee.setStatus(UserStatus.ACTIVE);
-        employeeRepository.save(employee);
-        employee.setEmployeeId("SRW" + String.format("%04d", employee.getEmployeeReference()));
+        employeeRepository.persist(employee);
+        uniqueValueFilterService.add(employee.getPhoneNumber(), employee.getEmail(), employee.getNationalIdNumber());
         employeeDTO.setEmployeeId(employee.getEmployeeId());
+        eventPublisher.publishEvent(new EmployeeStatusChangedEvent(employee.getEmployeeId(), UserStatus.ACTIVE));
         return employee.getEmployeeId();
     }
 
     /*
      * Retrieves a list of all employees and returns them as EmployeeDTO objects.
      */
-    @Cacheable(value = "employees", key = "'employee_list'")
+    @Cacheable(value = "employees", key = "'employee_list'", sync = true)
     public List<EmployeeDTO> getEmployeeList() {
         return employeeRepository
                 .findAll()
@@ -66,7 +123,7 @@ public class EmployeeService {
     /*
      * Retrieves a list of active employees and returns them as EmployeeDTO objects.
      */
-    @Cacheable(value = "employees", key = "'active_employee_list'")
+    @Cacheable(value = "employees", key = "'active_employee_list'", sync = true)
     public List<EmployeeDTO> getActiveEmployeeList() {
         return employeeRepository
                 .findByStatus(UserStatus.ACTIVE)
@@ -79,11 +136,14 @@ public class EmployeeService {
      * Retrieves employee details by identifier (phone number, email, national ID, or employee ID).
      * Formats phone number if it's a 10-digit number and returns EmployeeDTO.
      */
-    @Cacheable(value = "employee", key = "'fetch-' + #identifier")
+    @Cacheable(value = "employee", key = "'fetch-' + #identifier", sync = true)
     public EmployeeDTO getEmployeeByIdentifier(String identifier) {
-        Employee employee = employeeRepository.findByIdentifier(
-                identifier.matches("\\d{10}") ? PhoneNumberFormatter.formatPhoneNumber(identifier) : identifier);
-        return employeeMapper.toDto(employee);
+        Employee employee = employeeRepository.findByIdentifier(identifier);
+        EmployeeDTO employeeDTO = employeeMapper.toDto(employee);
+        cacheTagIndex.tag("employee", "fetch-" + identifier, employeeDTO == null
+                ? List.of(identifierTag(identifier))
+                : List.of(identifierTag(identifier), employeeIdTag(employeeDTO.getEmployeeId())));
+        return employeeDTO;
     }
 
     /*
@@ -99,10 +159,13 @@ public class EmployeeService {
     public void updateEmployee(EmployeeDTO employeeDTO) {
         Employee employee = employeeMapper.toEntity(employeeDTO);
         employee.setEmployeeId(employeeDTO.getEmployeeId());
-        employee.setEmployeeReference(Long.parseLong(employeeDTO.getEmployeeId().substring(3, 7)));
+        employee.setEmployeeReference(IdSequence.EMPLOYEE.parseReference(employeeDTO.getEmployeeId()));
         employee.setPhoneNumber(PhoneNumberFormatter.formatPhoneNumber(employee.getPhoneNumber()));
         employee.setUpdatedAt(LocalDateTime.now());
         employeeRepository.save(employee);
+        uniqueValueFilterService.add(employee.getPhoneNumber(), employee.getEmail(), employee.getNationalIdNumber());
+        cacheTagIndex.evict("employee", List.of(employeeIdTag(employeeDTO.getEmployeeId()),
+                identifierTag(employeeDTO.getPhoneNumber()), identifierTag(employeeDTO.getEmail()), identifierTag(employeeDTO.getNationalIdNumber())));
     }
 
     /*
@@ -114,6 +177,8 @@ public class EmployeeService {
     )
     public void activateEmployee(String employeeId) {
         employeeRepository.updateEmployeeStatus(employeeId, LocalDateTime.now(), null, UserStatus.ACTIVE);
+        cacheTagIndex.evict("employee", List.of(employeeIdTag(employeeId)));
+        eventPublisher.publishEvent(new EmployeeStatusChangedEvent(employeeId, UserStatus.ACTIVE));
     }
 
     /*
@@ -125,12 +190,33 @@ public class EmployeeService {
     )
     public void deactivateEmployee(String employeeId) {
         employeeRepository.updateEmployeeStatus(employeeId, LocalDateTime.now(), LocalDateTime.now(), UserStatus.IN_ACTIVE);
+        cacheTagIndex.evict("employee", List.of(employeeIdTag(employeeId)));
+        eventPublisher.publishEvent(new EmployeeStatusChangedEvent(employeeId, UserStatus.IN_ACTIVE));
+    }
+
+    /*
+     * Sets the status of a set of employees with one UPDATE, evicting the employee and technician lists once and each changed employee's lookups.
+     * Deactivation records the exit date; activation clears it. Returns the result for each employeeId, in request order.
+     */
+    @CacheEvict(cacheNames = {"employees", "techniciansInfo"}, allEntries = true)
+    public Map<String, BulkUpdateResult> updateEmployeeStatuses(Collection<String> employeeIds, UserStatus status) {
+        Map<String, UserStatus> currentStatuses = new HashMap<>();
+        employeeRepository.findStatusesByEmployeeIdIn(employeeIds).forEach(row -> currentStatuses.put((String) row[0], (UserStatus) row[1]));
+        Map<String, BulkUpdateResult> results = BulkUpdateClassifier.classify(employeeIds, currentStatuses, status);
+        List<String> updated = BulkUpdateClassifier.idsWith(results, BulkUpdateResult.UPDATED);
+        if (!updated.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            employeeRepository.updateEmployeeStatuses(updated, now, status == UserStatus.IN_ACTIVE ? now : null, status);
+            cacheTagIndex.evict("employee", updated.stream().map(EmployeeService::employeeIdTag).toList());
+            updated.forEach(employeeId -> eventPublisher.publishEvent(new EmployeeStatusChangedEvent(employeeId, status)));
+        }
+        return results;
     }
 
     /*
      * Retrieves a list of EmployeeInfoDTOs for employees.
      */
-    @Cacheable(value = "techniciansInfo", key = "#status + '_technicians_info'")
+    @Cacheable(value = "techniciansInfo", key = "#status + '_technicians_info'", sync = true)
     public List<EmployeeInfoDTO> getEmployeesInfo() {
         return employeeRepository
                 .findAll()
@@ -143,4 +229,18 @@ public class EmployeeService {
                         employee.getStatus()))
                 .toList();
     }
+
+    /*
+     * Tag for cached lookups that resolved to the given employee ID.
+     */
+    private static String employeeIdTag(String employeeId) {
+        return "employee_id-" + employeeId;
+    }
+
+    /*
+     * Tag for cached lookups by the given identifier, with phone numbers normalized to include the country code.
+     */
+    private static String identifierTag(String identifier) {
+        return "identifier-" + IdentifierClassifier.normalize(identifier);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,207 @@
+package com.srinivasa.refrigerationworks.srw.service;
+
+import com.srinivasa.refrigerationworks.srw.entity.Complaint;
+import com.srinivasa.refrigerationworks.srw.entity.Customer;
+import com.srinivasa.refrigerationworks.srw.entity.Employee;
+import com.srinivasa.refrigerationworks.srw.repository.ComplaintRepository;
+import com.srinivasa.refrigerationworks.srw.repository.CustomerRepository;
+import com.srinivasa.refrigerationworks.srw.repository.EmployeeRepository;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintState;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintStatus;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ExportFormat;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserStatus;
+import com.srinivasa.refrigerationworks.srw.utility.export.ExportWriter;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/*
+ * Service for streaming complaints, customers and employees to owners as CSV or NDJSON.
+ * Rows are read in keyset chunks by reference, each in its own short read-only transaction, and written to the
+ * response between them, so heap use stays constant however many rows are exported and no connection or
+ * transaction is held while a slow client downloads.
+ */
+@Service
+public class ExportService {
+
+    /*
+     * Rows read per chunk, and written between flushes to the client.
+     */
+    private static final int CHUNK_SIZE = 1000;
+
+    /*
+     * Exported columns per entity, in output order.
+     */
+    private static final Map<String, Function<Complaint, Object>> COMPLAINT_COLUMNS = new LinkedHashMap<>();
+    private static final Map<String, Function<Customer, Object>> CUSTOMER_COLUMNS = new LinkedHashMap<>();
+    private static final Map<String, Function<Employee, Object>> EMPLOYEE_COLUMNS = new LinkedHashMap<>();
+
+    /*
+     * Free-text columns per entity, whose CSV values are neutralized against spreadsheet formulas.
+     * IDs, validated phone numbers, dates, statuses and amounts are left out so they export unchanged.
+     */
+    private static final Set<String> COMPLAINT_TEXT_COLUMNS = Set.of("customerName", "email", "address", "productType", "brand",
+            "productModel", "description", "customerFeedback");
+    private static final Set<String> CUSTOMER_TEXT_COLUMNS = Set.of("firstName", "lastName", "email", "address");
+    private static final Set<String> EMPLOYEE_TEXT_COLUMNS = Set.of("firstName", "lastName", "email", "address", "designation");
+
+    static {
+        COMPLAINT_COLUMNS.put("complaintId", Complaint::getComplaintId);
+        COMPLAINT_COLUMNS.put("bookedById", Complaint::getBookedById);
+        COMPLAINT_COLUMNS.put("customerName", Complaint::getCustomerName);
+        COMPLAINT_COLUMNS.put("contactNumber", Complaint::getContactNumber);
+        COMPLAINT_COLUMNS.put("email", Complaint::getEmail);
+        COMPLAINT_COLUMNS.put("address", Complaint::getAddress);
+        COMPLAINT_COLUMNS.put("productType", Complaint::getProductType);
+        COMPLAINT_COLUMNS.put("brand", Complaint::getBrand);
+        COMPLAINT_COLUMNS.put("productModel", Complaint::getProductModel);
+        COMPLAINT_COLUMNS.put("description", Complaint::getDescription);
+        COMPLAINT_COLUMNS.put("createdAt", Complaint::getCreatedAt);
+        COMPLAINT_COLUMNS.put("status", Complaint::getStatus);
+        COMPLAINT_COLUMNS.put("updatedAt", Complaint::getUpdatedAt);
+        COMPLAINT_COLUMNS.put("technicianId", Complaint::getTechnicianId);
+        COMPLAINT_COLUMNS.put("closedAt", Complaint::getClosedAt);
+        COMPLAINT_COLUMNS.put("customerFeedback", Complaint::getCustomerFeedback);
+        COMPLAINT_COLUMNS.put("state", Complaint::getState);
+
+        CUSTOMER_COLUMNS.put("customerId", Customer::getCustomerId);
+        CUSTOMER_COLUMNS.put("firstName", Customer::getFirstName);
+        CUSTOMER_COLUMNS.put("lastName", Customer::getLastName);
+        CUSTOMER_COLUMNS.put("dateOfBirth", Customer::getDateOfBirth);
+        CUSTOMER_COLUMNS.put("gender", Customer::getGender);
+        CUSTOMER_COLUMNS.put("phoneNumber", Customer::getPhoneNumber);
+        CUSTOMER_COLUMNS.put("email", Customer::getEmail);
+        CUSTOMER_COLUMNS.put("address", Customer::getAddress);
+        CUSTOMER_COLUMNS.put("createdAt", Customer::getCreatedAt);
+        CUSTOMER_COLUMNS.put("updatedAt", Customer::getUpdatedAt);
+        CUSTOMER_COLUMNS.put("status", Customer::getStatus);
+
+        EMPLOYEE_COLUMNS.put("employeeId", Employee::getEmployeeId);
+        EMPLOYEE_COLUMNS.put("firstName", Employee::getFirstName);
+        EMPLOYEE_COLUMNS.put("lastName", Employee::getLastName);
+        EMPLOYEE_COLUMNS.put("dateOfBirth", Employee::getDateOfBirth);
+        EMPLOYEE_COLUMNS.put("gender", Employee::getGender);
+        EMPLOYEE_COLUMNS.put("phoneNumber", Employee::getPhoneNumber);
+        EMPLOYEE_COLUMNS.put("email", Employee::getEmail);
+        EMPLOYEE_COLUMNS.put("address", Employee::getAddress);
+        EMPLOYEE_COLUMNS.put("designation", Employee::getDesignation);
+        EMPLOYEE_COLUMNS.put("dateOfHire", Employee::getDateOfHire);
+        EMPLOYEE_COLUMNS.put("salary", Employee::getSalary);
+        EMPLOYEE_COLUMNS.put("updatedAt", Employee::getUpdatedAt);
+        EMPLOYEE_COLUMNS.put("dateOfExit", Employee::getDateOfExit);
+        EMPLOYEE_COLUMNS.put("status", Employee::getStatus);
+    }
+
+    /*
+     * Repositories providing the streamed rows.
+     */
+    private final ComplaintRepository complaintRepository;
+    private final CustomerRepository customerRepository;
+    private final EmployeeRepository employeeRepository;
+
+    /*
+     * Entity manager, cleared after each chunk so the persistence context does not grow with the export.
+     */
+    private final EntityManager entityManager;
+
+    /*
+     * Read-only transaction around each chunk read.
+     */
+    private final TransactionTemplate readOnlyTransaction;
+
+    /*
+     * Constructs the service with a read-only transaction template over the given transaction manager.
+     */
+    public ExportService(ComplaintRepository complaintRepository, CustomerRepository customerRepository, EmployeeRepository employeeRepository,
+                         EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.complaintRepository = complaintRepository;
+        this.customerRepository = customerRepository;
+        this.employeeRepository = employeeRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /*
+     * Streams complaints created between the given dates (inclusive), filtered by the optional status, technician and state.
+     * Returns the number of rows written.
+     */
+    public long exportComplaints(ExportFormat format, LocalDate from, LocalDate to, ComplaintStatus status, String technicianId,
+                                 ComplaintState state, OutputStream outputStream) throws IOException {
+        return write((after, limit) -> complaintRepository.findForExport(after, startOf(from), endOf(to), status, technicianId, state, limit),
+                Complaint::getComplaintReference, COMPLAINT_COLUMNS, COMPLAINT_TEXT_COLUMNS, format, outputStream);
+    }
+
+    /*
+     * Streams customers registered between the given dates (inclusive), filtered by the optional status.
+     */
+    public long exportCustomers(ExportFormat format, LocalDate from, LocalDate to, UserStatus status, OutputStream outputStream) throws IOException {
+        return write((after, limit) -> customerRepository.findForExport(after, startOf(from), endOf(to), status, limit),
+                Customer::getCustomerReference, CUSTOMER_COLUMNS, CUSTOMER_TEXT_COLUMNS, format, outputStream);
+    }
+
+    /*
+     * Streams employees hired between the given dates (inclusive), filtered by the optional status.
+     */
+    public long exportEmployees(ExportFormat format, LocalDate from, LocalDate to, UserStatus status, OutputStream outputStream) throws IOException {
+        return write((after, limit) -> employeeRepository.findForExport(after, startOf(from), endOf(to), status, limit),
+                Employee::getEmployeeReference, EMPLOYEE_COLUMNS, EMPLOYEE_TEXT_COLUMNS, format, outputStream);
+    }
+
+    /*
+     * Writes the header, then every row chunk by chunk, flushing after each chunk.
+     * Each chunk is read after the reference of the last row written, in a transaction that ends before the rows are written.
+     */
+    private <T> long write(BiFunction<Long, Limit, List<T>> chunkReader, Function<T, Long> reference, Map<String, Function<T, Object>> columns,
+                           Set<String> textColumns, ExportFormat format, OutputStream outputStream) throws IOException {
+        ExportWriter<T> exportWriter = new ExportWriter<>(format, columns, textColumns, outputStream);
+        exportWriter.writeHeader();
+        long count = 0;
+        long after = 0L;
+        List<T> chunk;
+        do {
+            long chunkAfter = after;
+            chunk = readOnlyTransaction.execute(status -> {
+                List<T> rows = chunkReader.apply(chunkAfter, Limit.of(CHUNK_SIZE));
+                entityManager.clear();
+                return rows;
+            });
+            for (T row : chunk) {
+                exportWriter.write(row);
+            }
+            if (!chunk.isEmpty()) {
+                after = reference.apply(chunk.get(chunk.size() - 1));
+                count += chunk.size();
+            }
+            exportWriter.flush();
+        } while (chunk.size() == CHUNK_SIZE);
+        return count;
+    }
+
+    /*
+     * Start of the first day in range, or null for no lower bound.
+     */
+    private static LocalDateTime startOf(LocalDate from) {
+        return from == null ? null : from.atStartOfDay();
+    }
+
+    /*
+     * Start of the day after the last day in range, or null for no upper bound.
+     */
+    private static LocalDateTime endOf(LocalDate to) {
+        return to == null ? null : to.plusDays(1).atStartOfDay();
+    }
+}
\ No newline at end of file
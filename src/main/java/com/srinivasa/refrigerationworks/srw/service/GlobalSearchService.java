@@ -0,0 +1,76 @@
+package com.srinivasa.refrigerationworks.srw.service;
+
+import com.srinivasa.refrigerationworks.srw.entity.Employee;
+import com.srinivasa.refrigerationworks.srw.repository.EmployeeRepository;
+import com.srinivasa.refrigerationworks.srw.utility.common.IdentifierClassifier;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/*
+ * Service that resolves an identifier of any supported shape to the business ID of the record it names.
+ */
+@Service
+@RequiredArgsConstructor
+public class GlobalSearchService {
+
+    /*
+     * Looks up a phone number or email in all three user tables in one round trip.
+     * Each branch is an equality match on a uniquely indexed column.
+     */
+    private static final String USER_CONTACT_QUERY =
+            "SELECT owner_id FROM owners WHERE %1$s = :value " +
+            "UNION ALL SELECT employee_id FROM employees WHERE %1$s = :value " +
+            "UNION ALL SELECT customer_id FROM customers WHERE %1$s = :value";
+
+    /*
+     * EntityManager for the cross-table contact lookup.
+     */
+    private final EntityManager entityManager;
+
+    /*
+     * Repository for national ID lookups, which only employees have.
+     */
+    private final EmployeeRepository employeeRepository;
+
+    /*
+     * Returns the business ID (owner, employee, customer, or complaint ID) named by the identifier, or null if none matches.
+     * - IDs are returned as entered; their shape already tells which table they belong to.
+     * - Phone numbers and emails are resolved across users, owners first.
+     * - Anything else is tried as an employee's national ID.
+     */
+    public String resolveBusinessId(String identifier) {
+        return switch (IdentifierClassifier.classify(identifier)) {
+            case COMPLAINT_ID, CUSTOMER_ID, EMPLOYEE_ID, OWNER_ID -> identifier;
+            case PHONE_NUMBER -> {
+                String businessId = findUserIdByContact("phone_number", IdentifierClassifier.normalize(identifier));
+                yield businessId != null ? businessId : findEmployeeIdByNationalId(identifier);
+            }
+            case EMAIL -> findUserIdByContact("email", identifier);
+            case OTHER -> findEmployeeIdByNationalId(identifier);
+        };
+    }
+
+    /*
+     * Runs the contact lookup on the given column and returns the first matching user ID.
+     */
+    @SuppressWarnings("unchecked")
+    private String findUserIdByContact(String column, String value) {
+        List<String> userIds = entityManager
+                .createNativeQuery(String.format(USER_CONTACT_QUERY, column))
+                .setParameter("value", value)
+                .setMaxResults(1)
+                .getResultList();
+        return userIds.isEmpty() ? null : userIds.get(0);
+    }
+
+    /*
+     * Returns the ID of the employee with the given national ID number, or null.
+     */
+    private String findEmployeeIdByNationalId(String nationalIdNumber) {
+        Employee employee = employeeRepository.findByNationalIdNumber(nationalIdNumber);
+        return employee == null ? null : employee.getEmployeeId();
+    }
+}
\ No newline at end of file
@@ -34,7 +34,9 @@ public class OwnerCredentialService {
 
     /*
      * Adds user credential for the owner and saves them with the role "ROLE_OWNER".
+     * Runs in one transaction so a unique-key violation on the credential also rolls back the owner.
      */
+    @Transactional
     public void addOwnerCredential(OwnerCredentialDTO ownerCredentialDTO) {
         String ownerId = ownerService.addOwner(ownerCredentialDTO.getOwnerDTO());
         UserCredential userCredential = userCredentialMapper.toEntity(ownerCredentialDTO.getUserCredentialDTO());
@@ -3,15 +3,19 @@ package com.srinivasa.refrigerationworks.srw.service;
 import com.srinivasa.refrigerationworks.srw.entity.Owner;
 import com.srinivasa.refrigerationworks.srw.payload.dto.OwnerDTO;
 import com.srinivasa.refrigerationworks.srw.repository.OwnerRepository;
+import com.srinivasa.refrigerationworks.srw.utility.cache.TwoLevelCacheManager;
 import com.srinivasa.refrigerationworks.srw.utility.common.PhoneNumberFormatter;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.IdSequence;
 import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserStatus;
 import com.srinivasa.refrigerationworks.srw.utility.mapper.OwnerMapper;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -34,6 +38,33 @@ public class OwnerService {
      */
     private final OwnerMapper ownerMapper;
 
+    /*
+     * Allocator for owner IDs.
+     */
+    private final BusinessIdService businessIdService;
+
+    /*
+     * Bloom filter of registered phone numbers, emails, and national IDs used by the uniqueness validator.
+     */
+    private final UniqueValueFilterService uniqueValueFilterService;
+
+    /*
+     * CacheManager refreshing the owner lists ahead of their expiry.
+     */
+    private final TwoLevelCacheManager cacheManager;
+
+    /*
+     * Registers the list queries as refresh-ahead reloaders of the 'owners' cache; called on this instance, they skip the cache.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerReloaders() {
+        cacheManager.registerReloader("owners", key -> switch (String.valueOf(key)) {
+            case "owner_list" -> getOwnerList();
+            case "active_owner_list" -> getActiveOwnerList();
+            default -> throw new IllegalArgumentException("No reloader for owners::" + key);
+        });
+    }
+
     /*
      * Adds a new owner, formats phone number, saves it, and generates an owner ID.
      */
@@ -41,10 +72,12 @@ public class OwnerService {
     @CacheEvict(cacheNames = "owners", allEntries = true)
     public String addOwner(OwnerDTO ownerDTO) {
         Owner owner = ownerMapper.toEntity(ownerDTO);
+        owner.setOwnerReference(businessIdService.nextReference(IdSequence.OWNER));
+        owner.setOwnerId(IdSequence.OWNER.format(owner.getOwnerReference()));
         owner.setPhoneNumber(PhoneNumberFormatter.formatPhoneNumber(owner.getPhoneNumber()));
         owner.setStatus(UserStatus.ACTIVE);
-        ownerRepository.save(owner);
-        owner.setOwnerId("SRW" + String.format("%03d", owner.getOwnerReference()));
+        ownerRepository.persist(owner);
+        uniqueValueFilterService.add(owner.getPhoneNumber(), owner.getEmail(), null);
         ownerDTO.setOwnerId(owner.getOwnerId());
         return owner.getOwnerId();
     }
@@ -52,7 +85,7 @@ public class OwnerService {
     /*
      * Retrieves a list of all owners, mapped to OwnerDTO objects.
      */
-    @Cacheable(value = "owners", key = "'owner_list'")
+    @Cacheable(value = "owners", key = "'owner_list'", sync = true)
     public List<OwnerDTO> getOwnerList() {
         return ownerRepository
                 .findAll()
@@ -64,7 +97,7 @@ public class OwnerService {
     /*
      * Retrieves a list of active owners, mapped to OwnerDTO objects.
      */
-    @Cacheable(value = "owners", key = "'active_owner_list'")
+    @Cacheable(value = "owners", key = "'active_owner_list'", sync = true)
     public List<OwnerDTO> getActiveOwnerList() {
         return ownerRepository
                 .findByStatus(UserStatus.ACTIVE)
@@ -79,8 +112,7 @@ public class OwnerService {
      */
     @Cacheable(value = "owner", key = "'fetch-' + #identifier")
     public OwnerDTO getOwnerByIdentifier(String identifier) {
-        Owner owner = ownerRepository.findByIdentifier(
-                identifier.matches("\\d{10}") ? PhoneNumberFormatter.formatPhoneNumber(identifier) : identifier);
+        Owner owner = ownerRepository.findByIdentifier(identifier);
         return ownerMapper.toDto(owner);
     }
 
@@ -97,10 +129,11 @@ public class OwnerService {
     public void updateOwner(OwnerDTO ownerDTO) {
         Owner owner = ownerMapper.toEntity(ownerDTO);
         owner.setOwnerId(ownerDTO.getOwnerId());
-        owner.setOwnerReference(Long.parseLong(ownerDTO.getOwnerId().substring(3, 6)));
+        owner.setOwnerReference(IdSequence.OWNER.parseReference(ownerDTO.getOwnerId()));
         owner.setPhoneNumber(PhoneNumberFormatter.formatPhoneNumber(owner.getPhoneNumber()));
         owner.setUpdatedAt(LocalDateTime.now());
         ownerRepository.save(owner);
+        uniqueValueFilterService.add(owner.getPhoneNumber(), owner.getEmail(), null);
     }
 
     /*
@@ -0,0 +1,87 @@
+package com.srinivasa.refrigerationworks.srw.service;
+
+import com.srinivasa.refrigerationworks.srw.utility.common.IdentifierClassifier;
+import com.srinivasa.refrigerationworks.srw.validation.UniqueValue;
+import com.srinivasa.refrigerationworks.srw.validation.UniquenessCheck;
+import jakarta.validation.Validator;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * Service deciding how registration forms enforce uniqueness, selected by 'srw.registration.uniqueness'.
+ * - pre-check: the UniquenessCheck group is validated with SELECTs before the insert.
+ * - insert-first: the insert is attempted directly and a unique-key violation is reported on the form field holding the duplicate value.
+ */
+@Service
+public class RegistrationUniquenessService {
+
+    /*
+     * MySQL's message for a unique-key violation, capturing the duplicate value.
+     */
+    private static final Pattern DUPLICATE_ENTRY = Pattern.compile("Duplicate entry '(.*)' for key");
+
+    /*
+     * Validator used to run the UniquenessCheck group in 'pre-check' mode.
+     */
+    private final SmartValidator validator;
+
+    /*
+     * Whether registrations are inserted without pre-checking uniqueness.
+     */
+    private final boolean insertFirst;
+
+    /*
+     * Constructs the service for the configured mode.
+     */
+    public RegistrationUniquenessService(Validator validator, @Value("${srw.registration.uniqueness:insert-first}") String mode) {
+        this.validator = new SpringValidatorAdapter(validator);
+        this.insertFirst = switch (mode) {
+            case "insert-first" -> true;
+            case "pre-check" -> false;
+            default -> throw new IllegalArgumentException("Unknown registration uniqueness mode: " + mode);
+        };
+    }
+
+    /*
+     * Validates the UniquenessCheck group of the registration form in 'pre-check' mode; does nothing in 'insert-first' mode.
+     */
+    public void preCheck(Object registrationForm, BindingResult bindingResult) {
+        if (!insertFirst) {
+            validator.validate(registrationForm, bindingResult, UniquenessCheck.class);
+        }
+    }
+
+    /*
+     * Reports a unique-key violation from the registration insert as an error on the form field holding the duplicate value.
+     * - Candidate fields are the @UniqueValue fields of the given nested DTOs, keyed by their path on the form.
+     * - Rethrows the exception if it is not a duplicate of any submitted value.
+     */
+    public void rejectDuplicate(DataIntegrityViolationException exception, BindingResult bindingResult, Map<String, Object> nestedForms) {
+        Matcher matcher = DUPLICATE_ENTRY.matcher(String.valueOf(NestedExceptionUtils.getMostSpecificCause(exception).getMessage()));
+        if (matcher.find()) {
+            String duplicateValue = matcher.group(1);
+            for (Map.Entry<String, Object> nestedForm : nestedForms.entrySet()) {
+                BeanWrapperImpl beanWrapper = new BeanWrapperImpl(nestedForm.getValue());
+                for (UniqueValue uniqueValue : nestedForm.getValue().getClass().getAnnotationsByType(UniqueValue.class)) {
+                    Object fieldValue = beanWrapper.getPropertyValue(uniqueValue.fieldName());
+                    if (fieldValue != null && (fieldValue.toString().equalsIgnoreCase(duplicateValue)
+                            || IdentifierClassifier.normalize(fieldValue.toString()).equalsIgnoreCase(duplicateValue))) {
+                        bindingResult.rejectValue(nestedForm.getKey() + "." + uniqueValue.fieldName(), "UniqueValue", uniqueValue.message());
+                        return;
+                    }
+                }
+            }
+        }
+        throw exception;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,333 @@
+package com.srinivasa.refrigerationworks.srw.service;
+
+import com.srinivasa.refrigerationworks.srw.utility.common.IdentifierClassifier;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands.BitOperation;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/*
+ * Service keeping a bloom filter of every registered phone number, email, and national ID number.
+ * - A definite miss lets the uniqueness validator skip the database; a possible hit falls through to the exact check.
+ * - Values are only ever added, so values a user has since changed only cost an extra database check.
+ * - Mode 'redis' (the default) shares the bits as a Redis bitmap; 'off' always falls through. Mode 'local' keeps them in
+ *   memory and is only correct on a single node: values registered through another node never reach its bits, so it
+ *   would report them as definitely new.
+ * - Until the filter is populated, or while Redis is unavailable, every value is reported as a possible hit.
+ */
+@Slf4j
+@Service
+public class UniqueValueFilterService {
+
+    /*
+     * Fields whose values are tracked, named as on the user DTOs.
+     */
+    public static final String PHONE_NUMBER = "phoneNumber";
+    public static final String EMAIL = "email";
+    public static final String NATIONAL_ID_NUMBER = "nationalIdNumber";
+    private static final Set<String> TRACKED_FIELDS = Set.of(PHONE_NUMBER, EMAIL, NATIONAL_ID_NUMBER);
+
+    /*
+     * Redis keys of the shared bitmap, the marker set once it is fully populated, and the scratch key used to populate it.
+     */
+    private static final String BITMAP_KEY = "unique-values::bloom";
+    private static final String READY_KEY = "unique-values::bloom-ready";
+    private static final String REBUILD_KEY = "unique-values::bloom-rebuild";
+
+    /*
+     * Every tracked value of every user, as (phone number, email, national ID number) rows.
+     */
+    private static final String TRACKED_VALUES_QUERY =
+            "SELECT phone_number, email, NULL FROM owners " +
+            "UNION ALL SELECT phone_number, email, national_id_number FROM employees " +
+            "UNION ALL SELECT phone_number, email, NULL FROM customers";
+
+    /*
+     * EntityManager for reading every tracked value when populating the filter.
+     */
+    private final EntityManager entityManager;
+
+    /*
+     * Template for the shared bitmap in 'redis' mode.
+     */
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /*
+     * Read-only transaction for streaming the tracked values.
+     */
+    private final TransactionTemplate readOnlyTransaction;
+
+    /*
+     * Filter mode: local, redis, or off.
+     */
+    private final String mode;
+
+    /*
+     * Number of bits in the filter and number of bits set per value.
+     */
+    private final int bitCount;
+    private final int hashCount;
+
+    /*
+     * In-memory bits for 'local' mode.
+     */
+    private final AtomicLongArray localBits;
+
+    /*
+     * Whether the in-memory bits hold every registered value.
+     */
+    private volatile boolean localReady;
+
+    /*
+     * Guards against concurrent repopulation of the shared bitmap from this node.
+     */
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    /*
+     * Sizes the filter for the expected number of values at the given false-positive probability.
+     */
+    public UniqueValueFilterService(EntityManager entityManager, StringRedisTemplate stringRedisTemplate, PlatformTransactionManager transactionManager,
+                                    @Value("${srw.unique-value.bloom.mode:redis}") String mode,
+                                    @Value("${srw.unique-value.bloom.expected-values:100000}") long expectedValues,
+                                    @Value("${srw.unique-value.bloom.false-positive-probability:0.01}") double falsePositiveProbability) {
+        if (!Set.of("local", "redis", "off").contains(mode)) {
+            throw new IllegalArgumentException("Unknown unique value filter mode: " + mode);
+        }
+        this.entityManager = entityManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.mode = mode;
+        long bits = (long) Math.ceil(-expectedValues * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Math.max(bits, Long.SIZE), Integer.MAX_VALUE - Long.SIZE);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedValues * Math.log(2)));
+        this.localBits = mode.equals("local") ? new AtomicLongArray((bitCount + Long.SIZE - 1) / Long.SIZE) : null;
+    }
+
+    /*
+     * Whether the filter tracks values of the given field.
+     */
+    public boolean tracks(String fieldName) {
+        return !mode.equals("off") && TRACKED_FIELDS.contains(fieldName);
+    }
+
+    /*
+     * Returns false only if the value has definitely never been registered for the field.
+     */
+    public boolean mightContain(String fieldName, String value) {
+        if (!tracks(fieldName) || value == null) {
+            return true;
+        }
+        int[] positions = positions(fieldName, value);
+        if (localBits != null) {
+            if (!localReady) {
+                return true;
+            }
+            for (int position : positions) {
+                if ((localBits.get(position / Long.SIZE) & (1L << (position % Long.SIZE))) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        try {
+            List<Object> replies = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                stringConnection.exists(READY_KEY);
+                for (int position : positions) {
+                    stringConnection.getBit(BITMAP_KEY, position);
+                }
+                return null;
+            });
+            if (!Boolean.TRUE.equals(replies.get(0))) {
+                rebuildSharedAsync();
+                return true;
+            }
+            return replies.stream().skip(1).allMatch(Boolean.TRUE::equals);
+        } catch (DataAccessException exception) {
+            log.warn("Unique value filter unavailable, checking {} in the database: {}", fieldName, exception.getMessage());
+            return true;
+        }
+    }
+
+    /*
+     * Records the given user's phone number, email, and national ID number (null for owners and customers).
+     */
+    public void add(String phoneNumber, String email, String nationalIdNumber) {
+        if (mode.equals("off")) {
+            return;
+        }
+        List<int[]> positions = Stream.of(
+                        phoneNumber == null ? null : positions(PHONE_NUMBER, phoneNumber),
+                        email == null ? null : positions(EMAIL, email),
+                        nationalIdNumber == null ? null : positions(NATIONAL_ID_NUMBER, nationalIdNumber))
+                .filter(Objects::nonNull)
+                .toList();
+        if (localBits != null) {
+            positions.forEach(valuePositions -> setLocalBits(localBits, valuePositions));
+            return;
+        }
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (int[] valuePositions : positions) {
+                    for (int position : valuePositions) {
+                        stringConnection.setBit(BITMAP_KEY, position, true);
+                    }
+                }
+                return null;
+            });
+        } catch (DataAccessException exception) {
+            /*
+             * The shared bitmap is now missing a value, so it must be repopulated before it is trusted again.
+             */
+            log.warn("Unique value filter unavailable, marking it for repopulation: {}", exception.getMessage());
+            try {
+                stringRedisTemplate.delete(READY_KEY);
+            } catch (DataAccessException ignored) {
+                log.warn("Unique value filter could not be marked for repopulation: {}", ignored.getMessage());
+            }
+        }
+    }
+
+    /*
+     * Populates the filter once the application is up.
+     * - local: from the database into memory.
+     * - redis: only if no node has populated the shared bitmap yet.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void populate() {
+        if (localBits != null) {
+            loadTrackedValues(positions -> setLocalBits(localBits, positions));
+            localReady = true;
+            log.info("Unique value filter populated in memory ({} bits, {} hashes)", bitCount, hashCount);
+        } else if (mode.equals("redis")) {
+            try {
+                if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(READY_KEY))) {
+                    rebuildShared();
+                }
+            } catch (DataAccessException exception) {
+                log.warn("Unique value filter could not be populated in Redis: {}", exception.getMessage());
+            }
+        }
+    }
+
+    /*
+     * Repopulates the shared bitmap in the background, at most once at a time per node.
+     */
+    private void rebuildSharedAsync() {
+        if (rebuilding.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    rebuildShared();
+                } catch (RuntimeException exception) {
+                    log.warn("Unique value filter could not be repopulated in Redis: {}", exception.getMessage());
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        }
+    }
+
+    /*
+     * Builds the bitmap from the database locally, then ORs it into the shared bitmap so bits added meanwhile are kept.
+     * Redis bitmaps number bits from the most significant bit of the first byte.
+     */
+    private void rebuildShared() {
+        byte[] bitmap = new byte[(bitCount + Byte.SIZE - 1) / Byte.SIZE];
+        loadTrackedValues(positions -> {
+            for (int position : positions) {
+                bitmap[position / Byte.SIZE] |= (byte) (0x80 >>> (position % Byte.SIZE));
+            }
+        });
+        byte[] rebuildKey = REBUILD_KEY.getBytes(StandardCharsets.UTF_8);
+        byte[] bitmapKey = BITMAP_KEY.getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.stringCommands().set(rebuildKey, bitmap);
+            connection.stringCommands().bitOp(BitOperation.OR, bitmapKey, bitmapKey, rebuildKey);
+            connection.keyCommands().del(rebuildKey);
+            connection.stringCommands().set(READY_KEY.getBytes(StandardCharsets.UTF_8), new byte[] {1});
+            return null;
+        });
+        log.info("Unique value filter populated in Redis ({} bits, {} hashes)", bitCount, hashCount);
+    }
+
+    /*
+     * Streams every tracked value from the database and hands its bit positions to the consumer.
+     */
+    private void loadTrackedValues(Consumer<int[]> consumer) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<?> rows = entityManager.createNativeQuery(TRACKED_VALUES_QUERY).getResultStream()) {
+                rows.forEach(row -> {
+                    Object[] values = (Object[]) row;
+                    if (values[0] != null) consumer.accept(positions(PHONE_NUMBER, (String) values[0]));
+                    if (values[1] != null) consumer.accept(positions(EMAIL, (String) values[1]));
+                    if (values[2] != null) consumer.accept(positions(NATIONAL_ID_NUMBER, (String) values[2]));
+                });
+            }
+        });
+    }
+
+    /*
+     * Sets the given bits in the in-memory filter.
+     */
+    private static void setLocalBits(AtomicLongArray bits, int[] positions) {
+        for (int position : positions) {
+            long mask = 1L << (position % Long.SIZE);
+            int index = position / Long.SIZE;
+            long word = bits.get(index);
+            while ((word & mask) == 0 && !bits.compareAndSet(index, word, word | mask)) {
+                word = bits.get(index);
+            }
+        }
+    }
+
+    /*
+     * Bit positions of a field value, by double hashing two 64-bit hashes of 'field:value'.
+     * Values are normalized the way the validator normalizes them (phone numbers gain the country code), then lower-cased,
+     * since the unique columns compare emails and usernames case-insensitively.
+     */
+    private int[] positions(String fieldName, String value) {
+        byte[] bytes = (fieldName + ':' + IdentifierClassifier.normalize(value).toLowerCase(Locale.ROOT)).getBytes(StandardCharsets.UTF_8);
+        long hash = 0xcbf29ce484222325L;
+        for (byte character : bytes) {
+            hash = (hash ^ (character & 0xff)) * 0x100000001b3L;
+        }
+        long firstHash = mix(hash);
+        long secondHash = mix(hash ^ 0x9e3779b97f4a7c15L) | 1;
+        int[] positions = new int[hashCount];
+        for (int index = 0; index < hashCount; index++) {
+            positions[index] = (int) Math.floorMod(firstHash + index * secondHash, (long) bitCount);
+        }
+        return positions;
+    }
+
+    /*
+     * Finalization step of MurmurHash3, spreading every input bit over the whole hash.
+     */
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb93e7f4a7c15L;
+        return hash ^ (hash >>> 33);
+    }
+}
\ No newline at end of file
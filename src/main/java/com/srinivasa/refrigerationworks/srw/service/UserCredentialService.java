@@ -13,6 +13,8 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+
 /*
  * Service to handle UserCredential-related operations.
  */
@@ -30,8 +32,14 @@ public class UserCredentialService {
      */
     private final PasswordEncoder passwordEncoder;
 
+    /*
+     * UserDetailsService whose cached entries must follow credential updates.
+     */
+    private final CachedUserDetailsService cachedUserDetailsService;
+
     /*
      * Saves user credentials, encodes the password, and associates user roles.
+     * Flushes the insert so a duplicate username or phone number fails here, inside the caller's registration transaction.
      */
     @Transactional
     public void saveCredential(UserCredential userCredential, UserType userType, String role) {
@@ -40,7 +48,8 @@ public class UserCredentialService {
         UserRole userRole = new UserRole(userCredential.getUsername(), role);
         userRole.setUserCredential(userCredential);
         userCredential.addUserRole(userRole);
-        userCredentialRepository.save(userCredential);
+        userCredentialRepository.persist(userCredential);
+        userCredentialRepository.flush();
     }
 
     /*
@@ -65,30 +74,36 @@ public class UserCredentialService {
 
     /*
      * Updates the user's password by encoding the new password before updating.
+     * Password hashes are not cached, so the next login reads the new one.
      */
     public void updatePassword(PasswordResetDTO passwordResetDTO) {
         userCredentialRepository.updatePassword(passwordResetDTO.getUsername(), passwordEncoder.encode(passwordResetDTO.getPassword()));
     }
 
     /*
-     * Retrieves the user ID associated with the given username.
-     */
-    @Cacheable(value = "user-credential", key = "'user-' + #username")
-    public String getUserIdByUsername(String username) {
-        return userCredentialRepository.findUserIdByUsername(username);
-    }
-
-    /*
-     * Updates the user's phone number by delegating to the repository.
+     * Updates the user's phone number by delegating to the repository, and evicts the cached user details.
      */
     public void updateUserPhoneNumber(String userId, String phoneNumber) {
         userCredentialRepository.updateUserPhoneNumber(userId, phoneNumber);
+        cachedUserDetailsService.evictByUserId(userId);
     }
 
     /*
-     * Activates or deactivates a user's credentials by updating the 'enabled' status.
+     * Activates or deactivates a user's credentials by updating the 'enabled' status, and evicts the cached user details.
      */
     public void updateUserStatus(String userId, byte enabled) {
         userCredentialRepository.updateUserStatus(userId, enabled);
+        cachedUserDetailsService.evictByUserId(userId);
+    }
+
+    /*
+     * Activates or deactivates the credentials of a set of users with one UPDATE, and evicts their cached user details at once.
+     */
+    public void updateUserStatuses(Collection<String> userIds, byte enabled) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        userCredentialRepository.updateUserStatuses(userIds, enabled);
+        cachedUserDetailsService.evictByUserIds(userIds);
     }
 }
\ No newline at end of file
@@ -0,0 +1,202 @@
+package com.srinivasa.refrigerationworks.srw.utility;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/*
+ * BCrypt PasswordEncoder that hashes on a dedicated, bounded pool instead of the calling request thread.
+ * - At most 'threads' hashes run at once, so bursts of signups and logins cannot take every CPU from other pages.
+ * - Requests beyond the queue capacity are rejected rather than piling up: a login fails with AuthenticationServiceException,
+ *   and a signup or password reset gets 503, so the user is asked to try again instead of seeing a server error.
+ * - Stored hashes with a lower cost than the current one are reported for upgrade, which Spring Security applies on login.
+ *   The current cost never exceeds the configured maximum, so upgrades never go past it either.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    /*
+     * BCrypt encoder at the configured cost.
+     */
+    private final BCryptPasswordEncoder delegate;
+
+    /*
+     * BCrypt cost factor (log2 of the number of rounds).
+     */
+    private final int cost;
+
+    /*
+     * Pool running the hashes.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /*
+     * Counters for completed and rejected hashes, and the time spent queued and hashing.
+     */
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder queuedNanos = new LongAdder();
+    private final LongAdder hashingNanos = new LongAdder();
+
+    /*
+     * Number of timed hashes whose median sets the calibrated cost.
+     */
+    private static final int CALIBRATION_SAMPLES = 5;
+
+    /*
+     * Constructs the encoder with the given cost (clamped to the maximum cost), pool size and queue capacity.
+     */
+    public BoundedPasswordEncoder(int cost, int maximumCost, int threads, int queueCapacity) {
+        this.cost = Math.min(cost, maximumCost);
+        this.delegate = new BCryptPasswordEncoder(this.cost);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /*
+     * Hashes a new password; answers 503 when the hashing queue is full.
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hash(() -> delegate.encode(rawPassword),
+                cause -> new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many password changes in progress, please try again shortly", cause));
+    }
+
+    /*
+     * Checks a password at login; fails the login with AuthenticationServiceException when the hashing queue is full.
+     */
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hash(() -> delegate.matches(rawPassword, encodedPassword),
+                cause -> new AuthenticationServiceException("Too many logins in progress, please try again shortly", cause));
+    }
+
+    /*
+     * Reports hashes with a lower cost than the current one, so they are re-encoded on the next successful login.
+     * Hashes are never downgraded, so nodes calibrated to different costs do not rehash each other's hashes back and forth,
+     * and never upgraded past the current cost, which is itself clamped to the configured maximum.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) < cost;
+        } catch (NumberFormatException exception) {
+            return false;
+        }
+    }
+
+    /*
+     * Returns the BCrypt cost factor in use.
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /*
+     * Returns the pool's queue depth, activity and timing.
+     */
+    public Map<String, Object> getStatistics() {
+        long completedCount = completed.sum();
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("cost", cost);
+        statistics.put("threads", executor.getMaximumPoolSize());
+        statistics.put("active", executor.getActiveCount());
+        statistics.put("queueDepth", executor.getQueue().size());
+        statistics.put("queueRemainingCapacity", executor.getQueue().remainingCapacity());
+        statistics.put("completed", completedCount);
+        statistics.put("rejected", rejected.sum());
+        statistics.put("averageQueuedMillis", completedCount == 0 ? 0.0 : queuedNanos.sum() / 1e6 / completedCount);
+        statistics.put("averageHashingMillis", completedCount == 0 ? 0.0 : hashingNanos.sum() / 1e6 / completedCount);
+        return statistics;
+    }
+
+    /*
+     * Stops the pool; called when the application context closes.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /*
+     * Runs the hash on the pool and waits for it.
+     * Throws the exception from 'rejection' when the queue is full.
+     */
+    private <T> T hash(Callable<T> task, Function<RejectedExecutionException, RuntimeException> rejection) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queuedNanos.add(startedAt - submittedAt);
+                try {
+                    return task.call();
+                } finally {
+                    hashingNanos.add(System.nanoTime() - startedAt);
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            rejected.increment();
+            throw rejection.apply(exception);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", exception.getCause());
+        }
+    }
+
+    /*
+     * Picks the highest BCrypt cost whose hash time stays within the target latency on this machine.
+     * - The minimum cost is timed several times after a warm-up hash, and the median is used, so one hash slowed by
+     *   startup work (JIT, class loading, other beans) does not skew the result; each extra cost level doubles the work.
+     * - The result is clamped to [minimumCost, maximumCost], so slow machines never go below the security floor.
+     */
+    public static int calibrateCost(Duration targetLatency, int minimumCost, int maximumCost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minimumCost);
+        encoder.encode("calibration");
+        long[] samples = new long[CALIBRATION_SAMPLES];
+        for (int index = 0; index < samples.length; index++) {
+            long startedAt = System.nanoTime();
+            encoder.encode("calibration");
+            samples[index] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(samples);
+        long minimumCostNanos = Math.max(1, samples[samples.length / 2]);
+        int cost = minimumCost;
+        while (cost < maximumCost && minimumCostNanos << (cost + 1 - minimumCost) <= targetLatency.toNanos()) {
+            cost++;
+        }
+        return cost;
+    }
+}
\ No newline at end of file
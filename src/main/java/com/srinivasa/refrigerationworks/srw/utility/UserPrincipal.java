@@ -0,0 +1,44 @@
+package com.srinivasa.refrigerationworks.srw.utility;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.UserDetailsDTO;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserType;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.io.Serial;
+
+/*
+ * Authenticated user, carrying the user ID and type so they need not be looked up after login.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class UserPrincipal extends User {
+
+    /*
+     * Unique ID for serialization compatibility.
+     */
+    @Serial
+    private static final long serialVersionUID = 13L;
+
+    /*
+     * User's unique Id (owner, employee, or customer ID).
+     */
+    private final String userId;
+
+    /*
+     * Kind of user the account belongs to.
+     */
+    private final UserType userType;
+
+    /*
+     * Builds the principal from the cached user details and the password hash read from the database.
+     */
+    public UserPrincipal(UserDetailsDTO userDetailsDTO, String password) {
+        super(userDetailsDTO.getUsername(), password, userDetailsDTO.isEnabled(), true, true, true,
+                userDetailsDTO.getRoles().stream().map(SimpleGrantedAuthority::new).toList());
+        this.userId = userDetailsDTO.getUserId();
+        this.userType = userDetailsDTO.getUserType();
+    }
+}
\ No newline at end of file
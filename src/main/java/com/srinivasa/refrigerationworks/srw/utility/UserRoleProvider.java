@@ -6,7 +6,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 /*
- * Utility class for fetching authenticated user's role.
+ * Utility class for fetching authenticated user's role and user ID.
  */
 public class UserRoleProvider {
 
@@ -25,4 +25,16 @@ public class UserRoleProvider {
         }
         return "No User Found";
     }
+
+    /*
+     * Returns the user ID of the authenticated user from the principal.
+     * Falls back to the session for sessions authenticated before principals carried the user ID.
+     */
+    public static String fetchUserId(HttpSession session) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal userPrincipal) {
+            return userPrincipal.getUserId();
+        }
+        return session != null ? (String) session.getAttribute("userId") : null;
+    }
 }
\ No newline at end of file
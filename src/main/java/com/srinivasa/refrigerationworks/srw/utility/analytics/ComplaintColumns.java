@@ -0,0 +1,494 @@
+package com.srinivasa.refrigerationworks.srw.utility.analytics;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintGroupDTO;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintDimension;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintState;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * Columnar, in-memory snapshot of the complaints table for ad-hoc analytics.
+ * - Each attribute is a primitive array indexed by row: enum ordinals as bytes, timestamps as epoch seconds (UTC),
+ *   and brand, product type, model and technician as codes into per-column string dictionaries.
+ * - Rows are upserted by complaint reference, so the snapshot is patched in place from complaint writes; references
+ *   map to rows through an open-addressing table of primitive longs and ints, so no boxed entry is kept per complaint.
+ * - Group-by queries split the rows into ranges scanned by fork/join tasks, each filling per-group counters that are summed on join.
+ * - Queries hold the read lock and writes the write lock, so a query never sees a half-applied write.
+ */
+public class ComplaintColumns {
+
+    /*
+     * Rows scanned by one task before it stops splitting.
+     */
+    private static final int SPLIT_THRESHOLD = 16 * 1024;
+
+    /*
+     * Marker for a missing value in the code, ordinal and month columns.
+     */
+    private static final int NONE = -1;
+
+    /*
+     * Marker for a missing timestamp.
+     */
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    /*
+     * Row of each complaint reference.
+     */
+    private final RowTable rowByReference;
+
+    /*
+     * Dictionaries of the string columns.
+     */
+    private final Dictionary brands = new Dictionary();
+    private final Dictionary productTypes = new Dictionary();
+    private final Dictionary productModels = new Dictionary();
+    private final Dictionary technicians = new Dictionary();
+
+    /*
+     * Rows removed from the complaints table; their slots are kept but skipped.
+     */
+    private final BitSet removed = new BitSet();
+
+    /*
+     * Guards the columns: queries read, upserts and removals write.
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /*
+     * Number of rows in use.
+     */
+    private int size;
+
+    /*
+     * Enum ordinals, or NONE.
+     */
+    private byte[] status;
+    private byte[] state;
+
+    /*
+     * Creation and closure times in epoch seconds, or NO_TIME.
+     */
+    private long[] createdAt;
+    private long[] closedAt;
+
+    /*
+     * Creation month as year * 12 + (month - 1), or NONE.
+     */
+    private int[] createdMonth;
+
+    /*
+     * Dictionary codes, or NONE.
+     */
+    private int[] brand;
+    private int[] productType;
+    private int[] productModel;
+    private int[] technician;
+
+    /*
+     * Constructs an empty snapshot sized for the expected number of complaints.
+     */
+    public ComplaintColumns(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        rowByReference = new RowTable(capacity);
+        status = new byte[capacity];
+        state = new byte[capacity];
+        createdAt = new long[capacity];
+        closedAt = new long[capacity];
+        createdMonth = new int[capacity];
+        brand = new int[capacity];
+        productType = new int[capacity];
+        productModel = new int[capacity];
+        technician = new int[capacity];
+    }
+
+    /*
+     * Inserts the complaint with the given reference, or overwrites its row if it is already present.
+     */
+    public void upsert(long reference, ComplaintStatus complaintStatus, ComplaintState complaintState, LocalDateTime created, LocalDateTime closed,
+                       String brandName, String productTypeName, String productModelName, String technicianId) {
+        lock.writeLock().lock();
+        try {
+            int existing = rowByReference.get(reference);
+            int row;
+            if (existing != NONE) {
+                row = existing;
+                removed.clear(row);
+            } else {
+                row = size++;
+                ensureCapacity(size);
+                rowByReference.put(reference, row);
+            }
+            status[row] = (byte) (complaintStatus == null ? NONE : complaintStatus.ordinal());
+            state[row] = (byte) (complaintState == null ? NONE : complaintState.ordinal());
+            createdAt[row] = created == null ? NO_TIME : created.toEpochSecond(ZoneOffset.UTC);
+            closedAt[row] = closed == null ? NO_TIME : closed.toEpochSecond(ZoneOffset.UTC);
+            createdMonth[row] = created == null ? NONE : created.getYear() * 12 + created.getMonthValue() - 1;
+            brand[row] = brands.encode(brandName);
+            productType[row] = productTypes.encode(productTypeName);
+            productModel[row] = productModels.encode(productModelName);
+            technician[row] = technicians.encode(technicianId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /*
+     * Removes the complaint with the given reference, if present.
+     */
+    public void remove(long reference) {
+        lock.writeLock().lock();
+        try {
+            int row = rowByReference.get(reference);
+            if (row != NONE) {
+                removed.set(row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /*
+     * Returns the number of complaints in the snapshot.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size - removed.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * Counts the complaints matching the filter per group of the given dimension, largest group first (months in calendar order).
+     * Runs on the given fork/join pool.
+     */
+    public List<ComplaintGroupDTO> groupBy(ComplaintDimension dimension, Filter filter, ForkJoinPool pool) {
+        lock.readLock().lock();
+        try {
+            Predicate predicate = compile(filter);
+            if (predicate == null) {
+                return List.of();
+            }
+            int minimumMonth = Integer.MAX_VALUE;
+            int maximumMonth = Integer.MIN_VALUE;
+            if (dimension == ComplaintDimension.MONTH) {
+                for (int row = 0; row < size; row++) {
+                    if (createdMonth[row] != NONE) {
+                        minimumMonth = Math.min(minimumMonth, createdMonth[row]);
+                        maximumMonth = Math.max(maximumMonth, createdMonth[row]);
+                    }
+                }
+            }
+            int[] keys = switch (dimension) {
+                case BRAND -> brand;
+                case PRODUCT_TYPE -> productType;
+                case PRODUCT_MODEL -> productModel;
+                case TECHNICIAN -> technician;
+                case MONTH -> createdMonth;
+                case STATUS, STATE -> null;
+            };
+            byte[] ordinals = dimension == ComplaintDimension.STATUS ? status : dimension == ComplaintDimension.STATE ? state : null;
+            int keyOffset = dimension == ComplaintDimension.MONTH && minimumMonth != Integer.MAX_VALUE ? minimumMonth : 0;
+            int groupCount = switch (dimension) {
+                case BRAND -> brands.size();
+                case PRODUCT_TYPE -> productTypes.size();
+                case PRODUCT_MODEL -> productModels.size();
+                case TECHNICIAN -> technicians.size();
+                case STATUS -> ComplaintStatus.values().length;
+                case STATE -> ComplaintState.values().length;
+                case MONTH -> minimumMonth == Integer.MAX_VALUE ? 0 : maximumMonth - minimumMonth + 1;
+            };
+            Totals totals = pool.invoke(new GroupTask(0, size, keys, ordinals, keyOffset, groupCount, predicate));
+            return toGroups(dimension, totals, keyOffset);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * Builds the result rows from the per-group totals; the last slot holds complaints missing the value.
+     */
+    private List<ComplaintGroupDTO> toGroups(ComplaintDimension dimension, Totals totals, int keyOffset) {
+        List<ComplaintGroupDTO> groups = new ArrayList<>();
+        for (int group = 0; group < totals.counts.length; group++) {
+            if (totals.counts[group] == 0) {
+                continue;
+            }
+            boolean missing = group == totals.counts.length - 1;
+            String name = missing ? null : switch (dimension) {
+                case BRAND -> brands.decode(group);
+                case PRODUCT_TYPE -> productTypes.decode(group);
+                case PRODUCT_MODEL -> productModels.decode(group);
+                case TECHNICIAN -> technicians.decode(group);
+                case STATUS -> ComplaintStatus.values()[group].name();
+                case STATE -> ComplaintState.values()[group].name();
+                case MONTH -> YearMonth.of((group + keyOffset) / 12, (group + keyOffset) % 12 + 1).toString();
+            };
+            long resolved = totals.resolvedCounts[group];
+            groups.add(new ComplaintGroupDTO(name, totals.counts[group], resolved, resolved == 0 ? 0 : totals.resolvedSeconds[group] / 3600.0 / resolved));
+        }
+        groups.sort(dimension == ComplaintDimension.MONTH
+                ? Comparator.comparing(ComplaintGroupDTO::getGroup, Comparator.nullsLast(Comparator.naturalOrder()))
+                : Comparator.comparingLong(ComplaintGroupDTO::getCount).reversed());
+        return groups;
+    }
+
+    /*
+     * Resolves the filter's values to codes; returns null if a value was never seen, so nothing can match.
+     */
+    private Predicate compile(Filter filter) {
+        if (filter == null) {
+            return new Predicate(NONE, NONE, NONE, NONE, NONE, NO_TIME, NO_TIME);
+        }
+        int brandCode = filter.getBrand() == null ? NONE : brands.find(filter.getBrand());
+        int productTypeCode = filter.getProductType() == null ? NONE : productTypes.find(filter.getProductType());
+        int technicianCode = filter.getTechnicianId() == null ? NONE : technicians.find(filter.getTechnicianId());
+        if ((filter.getBrand() != null && brandCode == NONE) || (filter.getProductType() != null && productTypeCode == NONE)
+                || (filter.getTechnicianId() != null && technicianCode == NONE)) {
+            return null;
+        }
+        return new Predicate(
+                filter.getStatus() == null ? NONE : filter.getStatus().ordinal(),
+                filter.getState() == null ? NONE : filter.getState().ordinal(),
+                brandCode, productTypeCode, technicianCode,
+                filter.getFrom() == null ? NO_TIME : filter.getFrom().toEpochSecond(ZoneOffset.UTC),
+                filter.getTo() == null ? NO_TIME : filter.getTo().toEpochSecond(ZoneOffset.UTC));
+    }
+
+    /*
+     * Grows every column to hold at least the given number of rows.
+     */
+    private void ensureCapacity(int required) {
+        if (required <= status.length) {
+            return;
+        }
+        int capacity = Math.max(required, status.length * 2);
+        status = Arrays.copyOf(status, capacity);
+        state = Arrays.copyOf(state, capacity);
+        createdAt = Arrays.copyOf(createdAt, capacity);
+        closedAt = Arrays.copyOf(closedAt, capacity);
+        createdMonth = Arrays.copyOf(createdMonth, capacity);
+        brand = Arrays.copyOf(brand, capacity);
+        productType = Arrays.copyOf(productType, capacity);
+        productModel = Arrays.copyOf(productModel, capacity);
+        technician = Arrays.copyOf(technician, capacity);
+    }
+
+    /*
+     * Optional filter of a group-by query; null fields are not applied.
+     * Creation times are matched within [from, to).
+     */
+    @Getter
+    @Builder
+    public static class Filter {
+        private final ComplaintStatus status;
+        private final ComplaintState state;
+        private final String brand;
+        private final String productType;
+        private final String technicianId;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+    }
+
+    /*
+     * Filter resolved to ordinals, dictionary codes and epoch seconds; NONE and NO_TIME match anything.
+     */
+    private record Predicate(int status, int state, int brand, int productType, int technician, long from, long to) {
+    }
+
+    /*
+     * Per-group counters of one scanned range; index groupCount holds rows missing the grouped value.
+     */
+    private static final class Totals {
+        private final long[] counts;
+        private final long[] resolvedCounts;
+        private final long[] resolvedSeconds;
+
+        private Totals(int groupCount) {
+            counts = new long[groupCount + 1];
+            resolvedCounts = new long[groupCount + 1];
+            resolvedSeconds = new long[groupCount + 1];
+        }
+
+        private Totals add(Totals other) {
+            for (int group = 0; group < counts.length; group++) {
+                counts[group] += other.counts[group];
+                resolvedCounts[group] += other.resolvedCounts[group];
+                resolvedSeconds[group] += other.resolvedSeconds[group];
+            }
+            return this;
+        }
+    }
+
+    /*
+     * Fork/join task scanning rows [from, to): splits in half above the threshold, otherwise filters and counts each row.
+     */
+    private final class GroupTask extends RecursiveTask<Totals> {
+        private final int from;
+        private final int to;
+        private final int[] keys;
+        private final byte[] ordinals;
+        private final int keyOffset;
+        private final int groupCount;
+        private final Predicate predicate;
+
+        private GroupTask(int from, int to, int[] keys, byte[] ordinals, int keyOffset, int groupCount, Predicate predicate) {
+            this.from = from;
+            this.to = to;
+            this.keys = keys;
+            this.ordinals = ordinals;
+            this.keyOffset = keyOffset;
+            this.groupCount = groupCount;
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                GroupTask left = new GroupTask(from, middle, keys, ordinals, keyOffset, groupCount, predicate);
+                left.fork();
+                Totals right = new GroupTask(middle, to, keys, ordinals, keyOffset, groupCount, predicate).compute();
+                return right.add(left.join());
+            }
+            Totals totals = new Totals(groupCount);
+            for (int row = from; row < to; row++) {
+                if (!matches(row)) {
+                    continue;
+                }
+                int key = keys != null ? keys[row] : ordinals[row];
+                int group = key == NONE ? groupCount : key - keyOffset;
+                totals.counts[group]++;
+                if (closedAt[row] != NO_TIME && createdAt[row] != NO_TIME) {
+                    totals.resolvedCounts[group]++;
+                    totals.resolvedSeconds[group] += closedAt[row] - createdAt[row];
+                }
+            }
+            return totals;
+        }
+
+        private boolean matches(int row) {
+            return !removed.get(row)
+                    && (predicate.status() == NONE || status[row] == predicate.status())
+                    && (predicate.state() == NONE || state[row] == predicate.state())
+                    && (predicate.brand() == NONE || brand[row] == predicate.brand())
+                    && (predicate.productType() == NONE || productType[row] == predicate.productType())
+                    && (predicate.technician() == NONE || technician[row] == predicate.technician())
+                    && (predicate.from() == NO_TIME || (createdAt[row] != NO_TIME && createdAt[row] >= predicate.from()))
+                    && (predicate.to() == NO_TIME || (createdAt[row] != NO_TIME && createdAt[row] < predicate.to()));
+        }
+    }
+
+    /*
+     * Open-addressing hash table from complaint reference to row, with linear probing.
+     * Entries are never removed (removed rows keep their slot), so probing needs no tombstones.
+     */
+    private static final class RowTable {
+        private long[] references;
+        private int[] rows;
+        private int count;
+
+        private RowTable(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(16, expected * 2) - 1) << 1;
+            references = new long[capacity];
+            rows = new int[capacity];
+            Arrays.fill(rows, NONE);
+        }
+
+        /*
+         * Returns the row of the reference, or NONE.
+         */
+        private int get(long reference) {
+            int mask = rows.length - 1;
+            for (int slot = slot(reference, mask); rows[slot] != NONE; slot = (slot + 1) & mask) {
+                if (references[slot] == reference) {
+                    return rows[slot];
+                }
+            }
+            return NONE;
+        }
+
+        /*
+         * Maps a reference not yet in the table to a row, growing the table past half full.
+         */
+        private void put(long reference, int row) {
+            if (++count * 2 > rows.length) {
+                long[] oldReferences = references;
+                int[] oldRows = rows;
+                references = new long[oldRows.length * 2];
+                rows = new int[oldRows.length * 2];
+                Arrays.fill(rows, NONE);
+                for (int slot = 0; slot < oldRows.length; slot++) {
+                    if (oldRows[slot] != NONE) {
+                        insert(oldReferences[slot], oldRows[slot]);
+                    }
+                }
+            }
+            insert(reference, row);
+        }
+
+        private void insert(long reference, int row) {
+            int mask = rows.length - 1;
+            int slot = slot(reference, mask);
+            while (rows[slot] != NONE) {
+                slot = (slot + 1) & mask;
+            }
+            references[slot] = reference;
+            rows[slot] = row;
+        }
+
+        /*
+         * Spreads sequential references over the table (Fibonacci hashing).
+         */
+        private static int slot(long reference, int mask) {
+            return (int) ((reference * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        }
+    }
+
+    /*
+     * Dictionary encoding distinct strings of a column as dense codes.
+     */
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        private int encode(String value) {
+            if (value == null) {
+                return NONE;
+            }
+            return codes.computeIfAbsent(value, key -> {
+                values.add(key);
+                return values.size() - 1;
+            });
+        }
+
+        private int find(String value) {
+            return codes.getOrDefault(value, NONE);
+        }
+
+        private String decode(int code) {
+            return values.get(code);
+        }
+
+        private int size() {
+            return values.size();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,505 @@
+package com.srinivasa.refrigerationworks.srw.utility.cache;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintPageDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.CustomerDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.EmployeeDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.EmployeeInfoDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.OwnerDTO;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/*
+ * Compact, schema-versioned binary RedisSerializer for cached values.
+ * - Values start with a 3-byte header: magic byte, format version and flags (GZIP).
+ * - Every value is tagged; registered DTOs are written as a type ID, a field count and their field values in schema order.
+ * - Repeated strings within a value (IDs, enum names) are written once and then referenced by index.
+ * - Bodies at or above the compression threshold are GZIP-compressed.
+ * - Unregistered types fall back to JDK serialization, and existing JDK-serialized entries are still read.
+ * - Values written with an unknown format version or type ID read as cache misses instead of failing.
+ */
+public class BinaryCacheSerializer implements RedisSerializer<Object> {
+
+    /*
+     * First byte of every value written by this serializer; JDK streams start with 0xAC.
+     */
+    private static final byte MAGIC = (byte) 0xB5;
+
+    /*
+     * Version of the encoding itself; bump when tags or header layout change.
+     */
+    private static final byte FORMAT_VERSION = 1;
+
+    /*
+     * Header flag marking a GZIP-compressed body.
+     */
+    private static final byte FLAG_GZIP = 1;
+
+    /*
+     * Value tags.
+     */
+    private static final int TAG_NULL = 0;
+    private static final int TAG_NULL_VALUE = 1;
+    private static final int TAG_TRUE = 2;
+    private static final int TAG_FALSE = 3;
+    private static final int TAG_INT = 4;
+    private static final int TAG_LONG = 5;
+    private static final int TAG_DOUBLE = 6;
+    private static final int TAG_STRING = 7;
+    private static final int TAG_STRING_REF = 8;
+    private static final int TAG_LOCAL_DATE = 9;
+    private static final int TAG_LOCAL_DATE_TIME = 10;
+    private static final int TAG_ENUM = 11;
+    private static final int TAG_LIST = 12;
+    private static final int TAG_SET = 13;
+    private static final int TAG_MAP = 14;
+    private static final int TAG_BEAN = 15;
+    private static final int TAG_JDK = 16;
+
+    /*
+     * Registered bean schemas; the list index is the type ID written to Redis.
+     * Append-only: never reorder, remove or retype entries or their fields. New fields go at the end of a schema,
+     * so a field count read back from Redis identifies the schema version it was written with.
+     * A DTO field missing from its schema fails class initialization, so it cannot be silently dropped from cached values.
+     */
+    private static final List<BeanSchema> SCHEMAS = List.of(
+            new BeanSchema(ComplaintDTO.class, "complaintId", "bookedById", "customerName", "contactNumber", "email",
+                    "address", "productType", "brand", "productModel", "description", "createdAt", "status", "updatedAt",
+                    "technicianId", "closedAt", "customerFeedback", "state", "archivedAt"),
+            new BeanSchema(ComplaintPageDTO.class, "complaints", "previousCursor", "nextCursor"),
+            new BeanSchema(EmployeeDTO.class, "employeeId", "firstName", "lastName", "dateOfBirth", "gender", "phoneNumber",
+                    "email", "address", "nationalIdNumber", "dateOfHire", "designation", "salary", "dateOfExit", "status"),
+            new BeanSchema(EmployeeInfoDTO.class, "employeeId", "fullName", "phoneNumber", "designation", "status"),
+            new BeanSchema(CustomerDTO.class, "customerId", "firstName", "lastName", "dateOfBirth", "gender", "phoneNumber",
+                    "email", "address", "status"),
+            new BeanSchema(OwnerDTO.class, "ownerId", "firstName", "lastName", "dateOfBirth", "gender", "phoneNumber",
+                    "email", "address", "status")
+    );
+
+    /*
+     * Type IDs of the registered bean classes.
+     */
+    private static final Map<Class<?>, Integer> TYPE_IDS = new HashMap<>();
+
+    static {
+        for (int typeId = 0; typeId < SCHEMAS.size(); typeId++) {
+            TYPE_IDS.put(SCHEMAS.get(typeId).type, typeId);
+        }
+    }
+
+    /*
+     * Serializer for unregistered types and for entries written before this codec.
+     */
+    private final JdkSerializationRedisSerializer jdkSerializer;
+
+    /*
+     * Body size in bytes from which values are GZIP-compressed; zero or less disables compression.
+     */
+    private final int compressionThreshold;
+
+    /*
+     * Constructs the serializer with the class loader used by the JDK fallback.
+     */
+    public BinaryCacheSerializer(ClassLoader classLoader, int compressionThreshold) {
+        this.jdkSerializer = new JdkSerializationRedisSerializer(classLoader);
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        Writer writer = new Writer();
+        writer.writeValue(value);
+        byte[] body = writer.toByteArray();
+        byte flags = 0;
+        if (compressionThreshold > 0 && body.length >= compressionThreshold) {
+            body = gzip(body);
+            flags |= FLAG_GZIP;
+        }
+        byte[] bytes = new byte[body.length + 3];
+        bytes[0] = MAGIC;
+        bytes[1] = FORMAT_VERSION;
+        bytes[2] = flags;
+        System.arraycopy(body, 0, bytes, 3, body.length);
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return jdkSerializer.deserialize(bytes);
+        }
+        if (bytes.length < 3 || bytes[1] != FORMAT_VERSION) {
+            return null;
+        }
+        byte[] body = (bytes[2] & FLAG_GZIP) != 0 ? gunzip(bytes, 3) : Arrays.copyOfRange(bytes, 3, bytes.length);
+        try {
+            return new Reader(body).readValue();
+        } catch (UnknownSchemaException exception) {
+            return null;
+        } catch (RuntimeException exception) {
+            throw new SerializationException("Cannot deserialize cached value", exception);
+        }
+    }
+
+    /*
+     * GZIP-compresses a body.
+     */
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        } catch (IOException exception) {
+            throw new SerializationException("Cannot compress cached value", exception);
+        }
+        return compressed.toByteArray();
+    }
+
+    /*
+     * Decompresses a GZIP body starting at the given offset.
+     */
+    private static byte[] gunzip(byte[] bytes, int offset) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes, offset, bytes.length - offset))) {
+            return gzip.readAllBytes();
+        } catch (IOException exception) {
+            throw new SerializationException("Cannot decompress cached value", exception);
+        }
+    }
+
+    /*
+     * Field layout of a registered bean type.
+     */
+    private static final class BeanSchema {
+
+        /*
+         * Registered bean class.
+         */
+        private final Class<?> type;
+
+        /*
+         * No-argument constructor used when reading.
+         */
+        private final Constructor<?> constructor;
+
+        /*
+         * Fields in schema order.
+         */
+        private final Field[] fields;
+
+        private BeanSchema(Class<?> type, String... fieldNames) {
+            try {
+                this.type = type;
+                this.constructor = type.getDeclaredConstructor();
+                this.constructor.setAccessible(true);
+                this.fields = new Field[fieldNames.length];
+                for (int index = 0; index < fieldNames.length; index++) {
+                    fields[index] = type.getDeclaredField(fieldNames[index]);
+                    fields[index].setAccessible(true);
+                }
+            } catch (ReflectiveOperationException exception) {
+                throw new IllegalStateException("Invalid cache schema for " + type.getName(), exception);
+            }
+            List<String> missing = Arrays.stream(type.getDeclaredFields())
+                    .filter(field -> !Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()))
+                    .map(Field::getName)
+                    .filter(name -> !Arrays.asList(fieldNames).contains(name))
+                    .toList();
+            if (!missing.isEmpty()) {
+                throw new IllegalStateException("Cache schema for " + type.getName() + " misses field(s) " + missing);
+            }
+        }
+    }
+
+    /*
+     * Thrown when a value references a format or type ID this node does not know, e.g. written by a newer release.
+     */
+    private static final class UnknownSchemaException extends RuntimeException {
+
+        private UnknownSchemaException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    /*
+     * Encoder for a single value.
+     */
+    private final class Writer {
+
+        /*
+         * Encoded bytes.
+         */
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+
+        /*
+         * Index of each string already written in this value.
+         */
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        private byte[] toByteArray() {
+            return out.toByteArray();
+        }
+
+        private void writeValue(Object value) {
+            if (value == null) {
+                out.write(TAG_NULL);
+            } else if (value instanceof NullValue) {
+                out.write(TAG_NULL_VALUE);
+            } else if (value instanceof String string) {
+                writeString(string);
+            } else if (value instanceof Boolean bool) {
+                out.write(bool ? TAG_TRUE : TAG_FALSE);
+            } else if (value instanceof Integer number) {
+                out.write(TAG_INT);
+                writeVarLong(zigZag(number));
+            } else if (value instanceof Long number) {
+                out.write(TAG_LONG);
+                writeVarLong(zigZag(number));
+            } else if (value instanceof Double number) {
+                out.write(TAG_DOUBLE);
+                long bits = Double.doubleToLongBits(number);
+                for (int shift = 56; shift >= 0; shift -= 8) {
+                    out.write((int) (bits >>> shift));
+                }
+            } else if (value instanceof LocalDate date) {
+                out.write(TAG_LOCAL_DATE);
+                writeVarLong(zigZag(date.toEpochDay()));
+            } else if (value instanceof LocalDateTime dateTime) {
+                out.write(TAG_LOCAL_DATE_TIME);
+                writeVarLong(zigZag(dateTime.toLocalDate().toEpochDay()));
+                writeVarLong(dateTime.toLocalTime().toNanoOfDay());
+            } else if (value instanceof List<?> list) {
+                writeCollection(TAG_LIST, list);
+            } else if (value instanceof Set<?> set) {
+                writeCollection(TAG_SET, set);
+            } else if (value instanceof Map<?, ?> map) {
+                out.write(TAG_MAP);
+                writeVarLong(map.size());
+                map.forEach((key, entry) -> {
+                    writeValue(key);
+                    writeValue(entry);
+                });
+            } else if (TYPE_IDS.containsKey(value.getClass())) {
+                writeBean(TYPE_IDS.get(value.getClass()), value);
+            } else {
+                byte[] bytes = jdkSerializer.serialize(value);
+                out.write(TAG_JDK);
+                writeVarLong(bytes.length);
+                out.writeBytes(bytes);
+            }
+        }
+
+        private void writeBean(int typeId, Object bean) {
+            BeanSchema schema = SCHEMAS.get(typeId);
+            out.write(TAG_BEAN);
+            writeVarLong(typeId);
+            writeVarLong(schema.fields.length);
+            try {
+                for (Field field : schema.fields) {
+                    Object value = field.get(bean);
+                    if (value instanceof Enum<?> constant) {
+                        out.write(TAG_ENUM);
+                        writeString(constant.name());
+                    } else {
+                        writeValue(value);
+                    }
+                }
+            } catch (IllegalAccessException exception) {
+                throw new SerializationException("Cannot read " + schema.type.getName(), exception);
+            }
+        }
+
+        private void writeCollection(int tag, Collection<?> values) {
+            out.write(tag);
+            writeVarLong(values.size());
+            values.forEach(this::writeValue);
+        }
+
+        private void writeString(String value) {
+            Integer index = strings.get(value);
+            if (index != null) {
+                out.write(TAG_STRING_REF);
+                writeVarLong(index);
+                return;
+            }
+            strings.put(value, strings.size());
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.write(TAG_STRING);
+            writeVarLong(bytes.length);
+            out.writeBytes(bytes);
+        }
+
+        private void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        private static long zigZag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+
+    /*
+     * Decoder for a single value.
+     */
+    private final class Reader {
+
+        /*
+         * Encoded bytes.
+         */
+        private final byte[] bytes;
+
+        /*
+         * Read position.
+         */
+        private int position;
+
+        /*
+         * Strings read so far in this value, by index.
+         */
+        private final List<String> strings = new ArrayList<>();
+
+        private Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private Object readValue() {
+            int tag = bytes[position++];
+            return switch (tag) {
+                case TAG_NULL -> null;
+                case TAG_NULL_VALUE -> NullValue.INSTANCE;
+                case TAG_TRUE -> Boolean.TRUE;
+                case TAG_FALSE -> Boolean.FALSE;
+                case TAG_INT -> (int) unZigZag(readVarLong());
+                case TAG_LONG -> unZigZag(readVarLong());
+                case TAG_DOUBLE -> {
+                    long bits = 0;
+                    for (int index = 0; index < 8; index++) {
+                        bits = (bits << 8) | (bytes[position++] & 0xFF);
+                    }
+                    yield Double.longBitsToDouble(bits);
+                }
+                case TAG_STRING -> {
+                    int length = (int) readVarLong();
+                    String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+                    position += length;
+                    strings.add(value);
+                    yield value;
+                }
+                case TAG_STRING_REF -> strings.get((int) readVarLong());
+                case TAG_LOCAL_DATE -> LocalDate.ofEpochDay(unZigZag(readVarLong()));
+                case TAG_LOCAL_DATE_TIME -> LocalDateTime.of(LocalDate.ofEpochDay(unZigZag(readVarLong())),
+                        LocalTime.ofNanoOfDay(readVarLong()));
+                case TAG_ENUM -> readValue();
+                case TAG_LIST -> readCollection(new ArrayList<>());
+                case TAG_SET -> readCollection(new LinkedHashSet<>());
+                case TAG_MAP -> {
+                    int size = (int) readVarLong();
+                    Map<Object, Object> map = new LinkedHashMap<>();
+                    for (int index = 0; index < size; index++) {
+                        map.put(readValue(), readValue());
+                    }
+                    yield map;
+                }
+                case TAG_BEAN -> readBean();
+                case TAG_JDK -> {
+                    int length = (int) readVarLong();
+                    byte[] serialized = Arrays.copyOfRange(bytes, position, position + length);
+                    position += length;
+                    yield jdkSerializer.deserialize(serialized);
+                }
+                default -> throw new UnknownSchemaException("Unknown tag " + tag);
+            };
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Object readBean() {
+            int typeId = (int) readVarLong();
+            if (typeId >= SCHEMAS.size()) {
+                throw new UnknownSchemaException("Unknown type ID " + typeId);
+            }
+            BeanSchema schema = SCHEMAS.get(typeId);
+            int fieldCount = (int) readVarLong();
+            try {
+                Object bean = schema.constructor.newInstance();
+                for (int index = 0; index < fieldCount; index++) {
+                    Object value = readValue();
+                    if (index < schema.fields.length) {
+                        Field field = schema.fields[index];
+                        if (value instanceof String name && field.getType().isEnum()) {
+                            value = enumConstant((Class<Enum>) field.getType(), name);
+                        }
+                        field.set(bean, value);
+                    }
+                }
+                return bean;
+            } catch (ReflectiveOperationException exception) {
+                throw new SerializationException("Cannot create " + schema.type.getName(), exception);
+            }
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Object enumConstant(Class<Enum> type, String name) {
+            try {
+                return Enum.valueOf(type, name);
+            } catch (IllegalArgumentException exception) {
+                throw new UnknownSchemaException("Unknown constant " + type.getName() + "." + name);
+            }
+        }
+
+        private <C extends Collection<Object>> C readCollection(C collection) {
+            int size = (int) readVarLong();
+            for (int index = 0; index < size; index++) {
+                collection.add(readValue());
+            }
+            return collection;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte current;
+            do {
+                current = bytes[position++];
+                value |= (long) (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+            return value;
+        }
+
+        private static long unZigZag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,158 @@
+package com.srinivasa.refrigerationworks.srw.utility.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+ * Secondary index of Redis cache keys by tag.
+ * - Cached entries are recorded in one Redis set per tag when they are loaded. Tags given while a TwoLevelCache loads the
+ *   key are recorded by the cache right after it stores the value, and the value is dropped if one of its tags was
+ *   evicted during the load, so an entry is never left stored but untagged.
+ * - Evicting a tag stamps the tag's eviction marker, then reads its set and deletes every recorded entry, avoiding KEYS
+ *   scans over the keyspace.
+ * - Evicted entries are also dropped from the in-process tier of the cache on every node.
+ * - While Redis is unavailable, tagging is skipped and an eviction clears the cache once Redis is reachable again,
+ *   since the tagged keys cannot be read; callers never see Redis failures.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheTagIndex {
+
+    /*
+     * StringRedisTemplate for maintaining the tag sets.
+     */
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /*
+     * CacheManager whose in-process tier must forget evicted entries.
+     */
+    private final CacheManager cacheManager;
+
+    /*
+     * Circuit breaker guarding the tag set reads and writes.
+     */
+    private final RedisCircuitBreaker circuitBreaker;
+
+    /*
+     * Default time-to-live of cache entries; tag sets expire with their newest member.
+     */
+    @Value("${spring.cache.redis.time-to-live:0}")
+    private Duration timeToLive;
+
+    /*
+     * Records the entry cached under 'cacheName::key' in the set of every given tag.
+     * Called from the loader of a TwoLevelCache, the tags are handed to the cache and recorded after its put.
+     */
+    public void tag(String cacheName, Object key, Collection<String> tags) {
+        TwoLevelCache cache = cacheManager.getCache(cacheName) instanceof TwoLevelCache twoLevelCache ? twoLevelCache : null;
+        if (cache != null && cache.tagOnPut(key, tags)) {
+            return;
+        }
+        Duration setTimeToLive = cache != null ? cache.getTimeToLive() : timeToLive;
+        try {
+            circuitBreaker.run(() -> recordTags(stringRedisTemplate, cacheName, key, tags, setTimeToLive));
+        } catch (DataAccessException exception) {
+            log.debug("Tags of {} not recorded, Redis unavailable: {}", cacheKey(cacheName, key), exception.getMessage());
+        }
+    }
+
+    /*
+     * Adds the entry's key to the set of every given tag in one pipeline; throws DataAccessException when Redis fails.
+     */
+    static void recordTags(StringRedisTemplate stringRedisTemplate, String cacheName, Object key, Collection<String> tags, Duration timeToLive) {
+        String cacheKey = cacheKey(cacheName, key);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redisConnection = (StringRedisConnection) connection;
+            for (String tag : tags) {
+                String tagKey = tagKey(cacheName, tag);
+                redisConnection.sAdd(tagKey, cacheKey);
+                if (timeToLive != null && !timeToLive.isZero()) {
+                    redisConnection.pExpire(tagKey, timeToLive.toMillis());
+                }
+            }
+            return null;
+        });
+    }
+
+    /*
+     * Evicts every entry recorded under the given tags, along with the tag sets themselves.
+     * Tag sets are read in one pipeline and all keys are removed with a single DEL.
+     */
+    public void evict(String cacheName, Collection<String> tags) {
+        try {
+            circuitBreaker.run(() -> evictTagged(cacheName, tags));
+        } catch (DataAccessException exception) {
+            log.warn("Tag eviction from {} failed, cache cleared once Redis is reachable: {}", cacheName, exception.getMessage());
+            if (cacheManager.getCache(cacheName) instanceof TwoLevelCache cache) {
+                cache.clearWhileUnavailable();
+            }
+        }
+    }
+
+    /*
+     * Marks the tags evicted, then reads the tag sets and deletes the tagged entries; throws DataAccessException when Redis fails.
+     * A load tagging one of them after the sets were read sees the mark and drops its value.
+     */
+    private void evictTagged(String cacheName, Collection<String> tags) {
+        List<String> tagKeys = tags.stream().map(tag -> tagKey(cacheName, tag)).toList();
+        if (cacheManager.getCache(cacheName) instanceof TwoLevelCache cache) {
+            cache.markEvicted(tagKeys.stream().map(CacheTagIndex::evictionMarkerKey).toList());
+        }
+        List<Object> taggedKeys = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redisConnection = (StringRedisConnection) connection;
+            tagKeys.forEach(redisConnection::sMembers);
+            return null;
+        });
+        Set<String> evictKeys = new HashSet<>(tagKeys);
+        Set<String> cacheKeys = new HashSet<>();
+        String cacheKeyPrefix = cacheKey(cacheName, "");
+        for (Object keys : taggedKeys) {
+            if (keys instanceof Collection<?> members) {
+                members.forEach(member -> {
+                    evictKeys.add(member.toString());
+                    cacheKeys.add(member.toString().substring(cacheKeyPrefix.length()));
+                });
+            }
+        }
+        stringRedisTemplate.delete(new ArrayList<>(evictKeys));
+        if (!cacheKeys.isEmpty() && cacheManager.getCache(cacheName) instanceof TwoLevelCache cache) {
+            cache.evictLocal(cacheKeys);
+        }
+    }
+
+    /*
+     * Builds the Redis key of a cache entry, matching RedisCacheManager's default 'cacheName::' prefix.
+     */
+    private static String cacheKey(String cacheName, Object key) {
+        return cacheName + "::" + key;
+    }
+
+    /*
+     * Builds the Redis key of a tag set, kept outside the cache's own key prefix.
+     */
+    static String tagKey(String cacheName, String tag) {
+        return "tag:" + cacheName + ":" + tag;
+    }
+
+    /*
+     * Builds the Redis key of the marker stamped when a tag set is evicted.
+     */
+    static String evictionMarkerKey(String tagKey) {
+        return "evicted:" + tagKey;
+    }
+}
\ No newline at end of file
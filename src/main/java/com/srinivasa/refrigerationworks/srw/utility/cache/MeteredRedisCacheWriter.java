@@ -0,0 +1,145 @@
+package com.srinivasa.refrigerationworks.srw.utility.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/*
+ * RedisCacheWriter that records the size of every cached value read from or written to Redis.
+ * - Sizes are those of the encoded (and possibly compressed) bytes, in 'cache.payload.size' tagged by cache and operation.
+ * - Every call is delegated unchanged.
+ */
+public class MeteredRedisCacheWriter implements RedisCacheWriter {
+
+    /*
+     * Writer doing the Redis calls.
+     */
+    private final RedisCacheWriter delegate;
+
+    /*
+     * Registry the payload size summaries are registered with.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /*
+     * Payload size summaries, keyed by 'operation|cacheName'.
+     */
+    private final ConcurrentMap<String, DistributionSummary> payloadSizes = new ConcurrentHashMap<>();
+
+    /*
+     * Constructs the writer over the given one.
+     */
+    public MeteredRedisCacheWriter(RedisCacheWriter delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        return read(name, delegate.get(name, key));
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key, Duration ttl) {
+        return read(name, delegate.get(name, key, ttl));
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key, Supplier<byte[]> valueLoader, Duration ttl, boolean timeToIdleEnabled) {
+        return read(name, delegate.get(name, key, valueLoader, ttl, timeToIdleEnabled));
+    }
+
+    @Override
+    public boolean supportsAsyncRetrieve() {
+        return delegate.supportsAsyncRetrieve();
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(String name, byte[] key) {
+        return delegate.retrieve(name, key).thenApply(value -> read(name, value));
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(String name, byte[] key, Duration ttl) {
+        return delegate.retrieve(name, key, ttl).thenApply(value -> read(name, value));
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, Duration ttl) {
+        write(name, value);
+        delegate.put(name, key, value, ttl);
+    }
+
+    @Override
+    public CompletableFuture<Void> store(String name, byte[] key, byte[] value, Duration ttl) {
+        write(name, value);
+        return delegate.store(name, key, value, ttl);
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+        write(name, value);
+        return delegate.putIfAbsent(name, key, value, ttl);
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        delegate.remove(name, key);
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        delegate.clean(name, pattern);
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        delegate.clearStatistics(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return new MeteredRedisCacheWriter(delegate.withStatisticsCollector(cacheStatisticsCollector), meterRegistry);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return delegate.getCacheStatistics(cacheName);
+    }
+
+    /*
+     * Records the size of a value read from Redis; misses are not recorded.
+     */
+    private byte[] read(String name, byte[] value) {
+        if (value != null) {
+            payloadSize("read", name).record(value.length);
+        }
+        return value;
+    }
+
+    /*
+     * Records the size of a value written to Redis.
+     */
+    private void write(String name, byte[] value) {
+        payloadSize("write", name).record(value.length);
+    }
+
+    /*
+     * Returns the payload size summary of the cache and operation, registering it on first use.
+     */
+    private DistributionSummary payloadSize(String operation, String name) {
+        return payloadSizes.computeIfAbsent(operation + "|" + name, key -> DistributionSummary.builder("cache.payload.size")
+                .baseUnit("bytes")
+                .description("Encoded size of cached values read from or written to Redis")
+                .tags("cache", name, "operation", operation)
+                .register(meterRegistry));
+    }
+}
\ No newline at end of file
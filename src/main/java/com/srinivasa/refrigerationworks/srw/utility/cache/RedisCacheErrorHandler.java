@@ -0,0 +1,101 @@
+package com.srinivasa.refrigerationworks.srw.utility.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.dao.DataAccessException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * CacheErrorHandler that logs and counts cache errors instead of failing the annotated call.
+ * - A failed get is treated as a miss, so the method runs and reads the database.
+ * - A failed put leaves the value uncached; a failed evict or clear clears the cache once Redis is reachable again.
+ * - Redis failures are recorded on the circuit breaker, so repeated ones open it.
+ * TwoLevelCache already falls back on Redis failures itself; this covers errors escaping it, e.g. values that cannot be decoded.
+ */
+@Slf4j
+public class RedisCacheErrorHandler implements CacheErrorHandler {
+
+    /*
+     * Circuit breaker shared with the cache manager.
+     */
+    private final RedisCircuitBreaker circuitBreaker;
+
+    /*
+     * Counters for errors per cache operation.
+     */
+    private final LongAdder getErrors = new LongAdder();
+    private final LongAdder putErrors = new LongAdder();
+    private final LongAdder evictErrors = new LongAdder();
+    private final LongAdder clearErrors = new LongAdder();
+
+    /*
+     * Constructs the handler over the given circuit breaker.
+     */
+    public RedisCacheErrorHandler(RedisCircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public void handleCacheGetError(RuntimeException exception, Cache cache, Object key) {
+        getErrors.increment();
+        record(exception);
+        log.warn("Cache get of {}::{} failed, reading through: {}", cache.getName(), key, exception.getMessage());
+    }
+
+    @Override
+    public void handleCachePutError(RuntimeException exception, Cache cache, Object key, Object value) {
+        putErrors.increment();
+        record(exception);
+        log.warn("Cache put of {}::{} failed, value not cached: {}", cache.getName(), key, exception.getMessage());
+    }
+
+    @Override
+    public void handleCacheEvictError(RuntimeException exception, Cache cache, Object key) {
+        evictErrors.increment();
+        record(exception);
+        clearWhileUnavailable(cache);
+        log.warn("Cache evict of {}::{} failed, cache cleared once Redis is reachable: {}", cache.getName(), key, exception.getMessage());
+    }
+
+    @Override
+    public void handleCacheClearError(RuntimeException exception, Cache cache) {
+        clearErrors.increment();
+        record(exception);
+        clearWhileUnavailable(cache);
+        log.warn("Cache clear of {} failed, cache cleared once Redis is reachable: {}", cache.getName(), exception.getMessage());
+    }
+
+    /*
+     * Returns error counts per cache operation.
+     */
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("getErrors", getErrors.sum());
+        statistics.put("putErrors", putErrors.sum());
+        statistics.put("evictErrors", evictErrors.sum());
+        statistics.put("clearErrors", clearErrors.sum());
+        return statistics;
+    }
+
+    /*
+     * Records Redis failures on the circuit breaker; other errors say nothing about Redis health.
+     */
+    private void record(RuntimeException exception) {
+        if (exception instanceof DataAccessException dataAccessException && !(exception instanceof RedisCircuitOpenException)) {
+            circuitBreaker.recordFailure(dataAccessException);
+        }
+    }
+
+    /*
+     * Makes sure entries that could not be evicted are not served from Redis later.
+     */
+    private static void clearWhileUnavailable(Cache cache) {
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.clearWhileUnavailable();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,268 @@
+package com.srinivasa.refrigerationworks.srw.utility.cache;
+
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.CircuitBreakerState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/*
+ * Circuit breaker shared by every component that calls Redis.
+ * - Closed: calls go through; 'failureThreshold' consecutive DataAccessExceptions open the circuit.
+ * - Open: calls fail at once with RedisCircuitOpenException, so callers take their fallback without waiting on timeouts.
+ * - Half-open: after 'openDuration', one probe call goes through. If it succeeds, recovery listeners run on a background
+ *   thread, so the probing request returns at once, while the circuit stays half-open and other callers keep using their
+ *   fallbacks; then the circuit closes. If the probe or a listener fails, the circuit reopens.
+ * - The closed path reads one volatile field and takes no lock.
+ */
+@Slf4j
+public class RedisCircuitBreaker {
+
+    /*
+     * Consecutive failures that open the circuit.
+     */
+    private final int failureThreshold;
+
+    /*
+     * Time the circuit stays open before a probe, and the longest a probe may run before another one is allowed.
+     */
+    private final long openDurationNanos;
+
+    /*
+     * Current state; changed only while holding the breaker's lock.
+     */
+    private volatile CircuitBreakerState state = CircuitBreakerState.CLOSED;
+
+    /*
+     * Time (System.nanoTime) the circuit last opened, and the current probe started.
+     */
+    private long openedAt;
+    private long probeStartedAt;
+
+    /*
+     * Failures since the last success.
+     */
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    /*
+     * Counters for failed calls, short-circuited calls, and times the circuit opened and closed.
+     */
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder shortCircuited = new LongAdder();
+    private final LongAdder timesOpened = new LongAdder();
+    private final LongAdder timesClosed = new LongAdder();
+
+    /*
+     * Actions run when a probe succeeds, before the circuit closes.
+     */
+    private final List<Runnable> recoveryListeners = new CopyOnWriteArrayList<>();
+
+    /*
+     * Whether recovery listeners are running; no further probe is let through meanwhile.
+     */
+    private final AtomicBoolean recovering = new AtomicBoolean();
+
+    /*
+     * Background thread running the recovery listeners, started on the first recovery and stopped when idle.
+     */
+    private final ThreadPoolExecutor recoveryExecutor = new ThreadPoolExecutor(1, 1, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(), runnable -> {
+        Thread thread = new Thread(runnable, "redis-recovery");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /*
+     * Constructs a closed circuit breaker.
+     */
+    public RedisCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationNanos = openDuration.toNanos();
+        this.recoveryExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /*
+     * Stops the recovery thread; called when the application context closes.
+     */
+    public void shutdown() {
+        recoveryExecutor.shutdown();
+    }
+
+    /*
+     * Runs the Redis operation through the breaker and returns its result.
+     * Throws RedisCircuitOpenException without running it while the circuit is open.
+     */
+    public <T> T execute(Supplier<T> operation) {
+        if (!tryAcquire()) {
+            throw new RedisCircuitOpenException("Redis circuit breaker is open");
+        }
+        try {
+            T result = operation.get();
+            recordSuccess();
+            return result;
+        } catch (DataAccessException exception) {
+            recordFailure(exception);
+            throw exception;
+        }
+    }
+
+    /*
+     * Runs the Redis operation through the breaker.
+     */
+    public void run(Runnable operation) {
+        execute(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /*
+     * Returns whether a call may go through, making it the probe when the open duration has passed and no recovery is running.
+     */
+    public boolean tryAcquire() {
+        if (state == CircuitBreakerState.CLOSED) {
+            return true;
+        }
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (state == CircuitBreakerState.CLOSED) {
+                return true;
+            }
+            if (recovering.get()) {
+                shortCircuited.increment();
+                return false;
+            }
+            if (state == CircuitBreakerState.OPEN && now - openedAt >= openDurationNanos
+                    || state == CircuitBreakerState.HALF_OPEN && now - probeStartedAt >= openDurationNanos) {
+                state = CircuitBreakerState.HALF_OPEN;
+                probeStartedAt = now;
+                return true;
+            }
+        }
+        shortCircuited.increment();
+        return false;
+    }
+
+    /*
+     * Records a successful call; a successful probe hands the recovery listeners to the background thread, which
+     * closes the circuit once they succeed. Without listeners the circuit closes at once.
+     */
+    public void recordSuccess() {
+        if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+        }
+        if (state != CircuitBreakerState.HALF_OPEN) {
+            return;
+        }
+        if (recoveryListeners.isEmpty()) {
+            close();
+            return;
+        }
+        if (!recovering.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            recoveryExecutor.execute(this::recover);
+        } catch (RejectedExecutionException exception) {
+            recovering.set(false);
+            log.debug("Redis recovery not started, breaker shut down");
+        }
+    }
+
+    /*
+     * Runs the recovery listeners, then closes the circuit; a failing listener reopens it.
+     */
+    private void recover() {
+        try {
+            recoveryListeners.forEach(Runnable::run);
+            close();
+        } catch (DataAccessException exception) {
+            recordFailure(exception);
+        } finally {
+            recovering.set(false);
+        }
+    }
+
+    /*
+     * Closes the circuit if it is still half-open.
+     */
+    private void close() {
+        synchronized (this) {
+            if (state != CircuitBreakerState.HALF_OPEN) {
+                return;
+            }
+            state = CircuitBreakerState.CLOSED;
+        }
+        timesClosed.increment();
+        log.info("Redis reachable again, circuit closed");
+    }
+
+    /*
+     * Records a failed call; opens the circuit after enough consecutive failures, or at once when the probe failed.
+     */
+    public void recordFailure(DataAccessException exception) {
+        failures.increment();
+        int failureCount = consecutiveFailures.incrementAndGet();
+        CircuitBreakerState current = state;
+        if (current == CircuitBreakerState.OPEN || current == CircuitBreakerState.CLOSED && failureCount < failureThreshold) {
+            return;
+        }
+        synchronized (this) {
+            if (state == CircuitBreakerState.OPEN) {
+                return;
+            }
+            state = CircuitBreakerState.OPEN;
+            openedAt = System.nanoTime();
+        }
+        timesOpened.increment();
+        log.warn("Redis unavailable after {} consecutive failure(s), circuit open for {} ms: {}",
+                failureCount, openDurationNanos / 1_000_000, exception.getMessage());
+    }
+
+    /*
+     * Registers an action run when Redis is found reachable again, before other callers use it.
+     * The action calls Redis directly and throws DataAccessException to keep the circuit open.
+     */
+    public void addRecoveryListener(Runnable listener) {
+        recoveryListeners.add(listener);
+    }
+
+    /*
+     * Returns whether calls are currently short-circuited (other than a probe).
+     */
+    public boolean isOpen() {
+        return state == CircuitBreakerState.OPEN;
+    }
+
+    /*
+     * Returns the current state.
+     */
+    public CircuitBreakerState getState() {
+        return state;
+    }
+
+    /*
+     * Returns the state, failure and short-circuit counts.
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("state", state);
+        statistics.put("consecutiveFailures", consecutiveFailures.get());
+        statistics.put("failures", failures.sum());
+        statistics.put("shortCircuited", shortCircuited.sum());
+        statistics.put("timesOpened", timesOpened.sum());
+        statistics.put("timesClosed", timesClosed.sum());
+        return statistics;
+    }
+}
\ No newline at end of file
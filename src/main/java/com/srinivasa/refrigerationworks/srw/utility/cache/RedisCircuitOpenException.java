@@ -0,0 +1,17 @@
+package com.srinivasa.refrigerationworks.srw.utility.cache;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+
+/*
+ * Thrown instead of calling Redis while the circuit breaker is open.
+ * It is a DataAccessException, so callers handle it with the same fallback as a failed Redis call.
+ */
+public class RedisCircuitOpenException extends DataAccessResourceFailureException {
+
+    /*
+     * Constructs the exception with the given message.
+     */
+    public RedisCircuitOpenException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
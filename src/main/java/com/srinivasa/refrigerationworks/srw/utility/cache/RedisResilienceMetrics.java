@@ -0,0 +1,66 @@
+package com.srinivasa.refrigerationworks.srw.utility.cache;
+
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.CircuitBreakerState;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Locale;
+import java.util.Map;
+
+/*
+ * Micrometer meters of the Redis circuit breaker and the cache error handler.
+ * - 'redis.circuit.state' is 1 for the current state and 0 for the others.
+ * - 'redis.circuit.calls' counts failed and short-circuited calls, 'redis.circuit.transitions' openings and closings.
+ * - 'cache.errors' counts errors escaping the caches, by operation.
+ */
+public class RedisResilienceMetrics implements MeterBinder {
+
+    /*
+     * Circuit breaker shared by every Redis caller.
+     */
+    private final RedisCircuitBreaker circuitBreaker;
+
+    /*
+     * Handler counting errors escaping the caches.
+     */
+    private final RedisCacheErrorHandler cacheErrorHandler;
+
+    /*
+     * Constructs the binder for the breaker and error handler.
+     */
+    public RedisResilienceMetrics(RedisCircuitBreaker circuitBreaker, RedisCacheErrorHandler cacheErrorHandler) {
+        this.circuitBreaker = circuitBreaker;
+        this.cacheErrorHandler = cacheErrorHandler;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (CircuitBreakerState state : CircuitBreakerState.values()) {
+            Gauge.builder("redis.circuit.state", circuitBreaker, breaker -> breaker.getState() == state ? 1 : 0)
+                    .tag("state", state.name().toLowerCase(Locale.ROOT))
+                    .description("Whether the Redis circuit breaker is in this state")
+                    .register(registry);
+        }
+        breakerCounter(registry, "redis.circuit.calls", "result", "failed", "failures");
+        breakerCounter(registry, "redis.circuit.calls", "result", "short-circuited", "shortCircuited");
+        breakerCounter(registry, "redis.circuit.transitions", "to", "open", "timesOpened");
+        breakerCounter(registry, "redis.circuit.transitions", "to", "closed", "timesClosed");
+        for (String operation : new String[]{"get", "put", "evict", "clear"}) {
+            FunctionCounter.builder("cache.errors", cacheErrorHandler, handler -> handler.getStatistics().get(operation + "Errors"))
+                    .tag("operation", operation)
+                    .description("Cache errors handled without failing the annotated call")
+                    .register(registry);
+        }
+    }
+
+    /*
+     * Registers a counter reading one of the breaker's statistics.
+     */
+    private void breakerCounter(MeterRegistry registry, String name, String tagKey, String tagValue, String statistic) {
+        FunctionCounter.builder(name, circuitBreaker, breaker -> breaker.getStatistics().get(statistic) instanceof Number number ? number.doubleValue() : 0)
+                .tag(tagKey, tagValue)
+                .register(registry);
+    }
+}
\ No newline at end of file
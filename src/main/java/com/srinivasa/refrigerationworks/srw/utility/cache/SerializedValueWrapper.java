@@ -0,0 +1,37 @@
+package com.srinivasa.refrigerationworks.srw.utility.cache;
+
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.nio.ByteBuffer;
+
+/*
+ * Value wrapper kept by the in-process tiers, holding the value in its cache encoding.
+ * Every get() decodes a fresh copy, so a caller changing the value it was given never changes what others read.
+ */
+final class SerializedValueWrapper implements ValueWrapper {
+
+    /*
+     * Encoding shared with the Redis tier.
+     */
+    private final SerializationPair<Object> serializationPair;
+
+    /*
+     * Encoded value, or null for a cached null.
+     */
+    private final byte[] bytes;
+
+    /*
+     * Encodes the value with the given serialization pair.
+     */
+    SerializedValueWrapper(SerializationPair<Object> serializationPair, Object value) {
+        this.serializationPair = serializationPair;
+        this.bytes = value == null ? null : ByteUtils.getBytes(serializationPair.write(value));
+    }
+
+    @Override
+    public Object get() {
+        return bytes == null ? null : serializationPair.read(ByteBuffer.wrap(bytes));
+    }
+}
\ No newline at end of file
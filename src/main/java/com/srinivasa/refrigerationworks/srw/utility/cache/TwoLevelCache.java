@@ -0,0 +1,960 @@
+package com.srinivasa.refrigerationworks.srw.utility.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.srinivasa.refrigerationworks.srw.configuration.CacheLoadingProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/*
+ * Cache with an optional bounded in-process tier (L1) in front of a Redis cache (L2).
+ * - Reads try L1 first and copy L2 hits into L1.
+ * - Writes and evictions go to L2, then drop the L1 entry here and, through the manager, on every other node.
+ * - Hits and misses are counted per tier.
+ * - Loads through get(key, valueLoader), used by @Cacheable(sync = true), are single-flight: concurrent misses for a key
+ *   wait on one load per node and, with the distributed lock enabled, on one load across nodes.
+ * - Hits on entries near the end of their Redis time-to-live schedule a background reload, so readers keep getting
+ *   the current value instead of all missing together when it expires. Only caches with a reloader registered on the
+ *   manager are refreshed; the loader a caller passed on its miss is never run again off its thread.
+ * - Loaded values do not outlive evictions made while they were loading: puts, evictions and clears stamp a marker key
+ *   with the Redis server time before changing Redis, and a load that finds a marker newer than its start evicts what
+ *   it wrote. In-process copies are guarded the same way by eviction counters striped by key.
+ * - Redis calls go through the shared circuit breaker. While Redis fails or the circuit is open, reads and writes use a
+ *   small in-process fallback cache (misses run the loader), and evictions are remembered and replayed on Redis when
+ *   it is reachable again. Puts are not replayed: a Redis copy older than the put is only stale if an eviction was made.
+ * - L1 and the fallback cache keep values in their Redis encoding and decode a copy on every hit, so no two callers
+ *   share an instance and a caller changing its copy never changes the cached value.
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    /*
+     * Deletes a loading lock only if it still holds this loader's token.
+     */
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    /*
+     * Sets every marker key to the Redis server time in microseconds, expiring after ARGV[1] milliseconds.
+     * The time is built as a string, since Lua numbers would round it.
+     */
+    private static final RedisScript<Long> MARK_EVICTED_SCRIPT = new DefaultRedisScript<>(
+            "local time = redis.call('time') local now = time[1] .. string.rep('0', 6 - #time[2]) .. time[2] "
+                    + "for _, key in ipairs(KEYS) do redis.call('set', key, now, 'px', ARGV[1]) end return 1", Long.class);
+
+    /*
+     * Number of stripes of the in-process eviction counters.
+     */
+    private static final int EVICTION_STRIPES = 64;
+
+    /*
+     * Minimum time between two expiry checks of one key, while a reload is pending or Redis is unreachable.
+     */
+    private static final long EXPIRY_CHECK_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /*
+     * Redis-backed cache shared by every node.
+     */
+    private final Cache redisCache;
+
+    /*
+     * In-process cache of L2 value wrappers, or null when the cache has opted out of L1.
+     */
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> localCache;
+
+    /*
+     * Bounded in-process cache read and written instead of Redis while Redis is unavailable.
+     */
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> fallbackCache;
+
+    /*
+     * Encoding of values kept in L1 and the fallback cache: the Redis cache's own, or JDK serialization without one.
+     */
+    private final SerializationPair<Object> serializationPair;
+
+    /*
+     * Manager used to broadcast invalidations to other nodes.
+     */
+    private final TwoLevelCacheManager cacheManager;
+
+    /*
+     * Circuit breaker guarding every Redis call.
+     */
+    private final RedisCircuitBreaker circuitBreaker;
+
+    /*
+     * Counters for lookups answered (or not) by Redis.
+     */
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+
+    /*
+     * Counters for values written and keys evicted through this cache, including evictions by the tag index.
+     */
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /*
+     * Counters for loads run, misses that waited on another caller's load, waits on another node's lock, and background reloads.
+     */
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder sharedLoads = new LongAdder();
+    private final LongAdder lockWaits = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    /*
+     * Counter for loaded values dropped because the key was evicted while they were loading.
+     */
+    private final LongAdder staleLoads = new LongAdder();
+
+    /*
+     * Counters for lookups answered (or not) by the fallback cache while Redis was unavailable.
+     */
+    private final LongAdder fallbackHits = new LongAdder();
+    private final LongAdder fallbackMisses = new LongAdder();
+
+    /*
+     * Keys evicted while Redis was unavailable, to be evicted from Redis once it is reachable again.
+     */
+    private final Set<Object> pendingEvictions = ConcurrentHashMap.newKeySet();
+
+    /*
+     * Whether the whole Redis cache must be cleared once reachable, after a clear, an unresolved tag eviction,
+     * or more pending evictions than the limit.
+     */
+    private volatile boolean pendingClear;
+
+    /*
+     * Loads of missing keys in progress on this node, keyed by L1 key.
+     */
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+    /*
+     * L1 keys with a background reload queued or running on this node.
+     */
+    private final Set<String> inFlightRefreshes = ConcurrentHashMap.newKeySet();
+
+    /*
+     * Time (System.nanoTime) from which each loaded key's Redis expiry is next checked, keyed by L1 key.
+     */
+    private final ConcurrentMap<String, Long> expiryChecks = new ConcurrentHashMap<>();
+
+    /*
+     * In-process evictions per key stripe and in-process clears, including invalidations received from other nodes.
+     * A value read or loaded is kept in L1 or the fallback cache only if neither changed since it was fetched.
+     */
+    private final AtomicLongArray localEvictions = new AtomicLongArray(EVICTION_STRIPES);
+    private final AtomicLong localClears = new AtomicLong();
+
+    /*
+     * Load running on the current thread, collecting the tags to record once its value is stored.
+     */
+    private final ThreadLocal<LoadStart> currentLoad = new ThreadLocal<>();
+
+    /*
+     * Constructs the cache over the given Redis cache, optional in-process cache and fallback cache.
+     */
+    public TwoLevelCache(Cache redisCache, com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> localCache,
+                         com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> fallbackCache, TwoLevelCacheManager cacheManager) {
+        this.redisCache = redisCache;
+        this.localCache = localCache;
+        this.fallbackCache = fallbackCache;
+        this.serializationPair = redisCache instanceof RedisCache cache ? cache.getCacheConfiguration().getValueSerializationPair()
+                : SerializationPair.fromSerializer(RedisSerializer.java());
+        this.cacheManager = cacheManager;
+        this.circuitBreaker = cacheManager.getCircuitBreaker();
+    }
+
+    @Override
+    public String getName() {
+        return redisCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    /*
+     * Looks the key up in L1, then in L2, keeping L2 hits in L1.
+     * While Redis is unavailable, the fallback cache is looked up instead of L2.
+     */
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        if (localCache != null) {
+            ValueWrapper localValue = localCache.getIfPresent(localKey);
+            if (localValue != null) {
+                return localValue;
+            }
+        }
+        Generation generation = localGeneration(localKey);
+        ValueWrapper redisValue;
+        try {
+            redisValue = circuitBreaker.execute(() -> redisCache.get(key));
+        } catch (DataAccessException exception) {
+            ValueWrapper fallbackValue = fallbackCache.getIfPresent(localKey(key));
+            (fallbackValue != null ? fallbackHits : fallbackMisses).increment();
+            return fallbackValue;
+        }
+        if (redisValue != null) {
+            redisHits.increment();
+            putLocal(localKey, redisValue.get(), generation);
+        } else {
+            redisMisses.increment();
+        }
+        return redisValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper valueWrapper = get(key);
+        Object value = valueWrapper != null ? valueWrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    /*
+     * Returns the cached value, scheduling a background reload if it is near expiry.
+     * On a miss, joins the load already running for the key on this node, or runs it.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper valueWrapper = get(key);
+        if (valueWrapper != null) {
+            refreshIfDue(key);
+            return (T) valueWrapper.get();
+        }
+        try {
+            return (T) load(key, valueLoader).join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ValueRetrievalException(key, valueLoader, exception.getCause());
+        }
+    }
+
+    /*
+     * Writes the value to Redis and invalidates L1 copies on other nodes before keeping it locally.
+     * The key's marker is stamped first, so a load that started earlier does not overwrite the value.
+     * While Redis is unavailable, the value is kept in the fallback cache only.
+     */
+    @Override
+    public void put(Object key, Object value) {
+        puts.increment();
+        try {
+            circuitBreaker.run(() -> {
+                markEvicted(List.of(evictionMarkerKey(key)));
+                redisCache.put(key, value);
+            });
+        } catch (DataAccessException exception) {
+            putFallback(key, value);
+            return;
+        }
+        if (localCache != null) {
+            cacheManager.publishEvict(getName(), localKey(key));
+            localCache.put(localKey(key), new SerializedValueWrapper(serializationPair, value));
+        }
+        retryPendingEvictions();
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        puts.increment();
+        ValueWrapper existingValue;
+        try {
+            existingValue = circuitBreaker.execute(() -> redisCache.putIfAbsent(key, value));
+        } catch (DataAccessException exception) {
+            existingValue = fallbackCache.getIfPresent(localKey(key));
+            if (existingValue == null) {
+                putFallback(key, value);
+            }
+            return existingValue;
+        }
+        evictLocalKey(key);
+        retryPendingEvictions();
+        return existingValue;
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictions.increment();
+        try {
+            circuitBreaker.run(() -> {
+                markEvicted(List.of(evictionMarkerKey(key)));
+                redisCache.evict(key);
+            });
+        } catch (DataAccessException exception) {
+            evictWhileUnavailable(key);
+            return;
+        }
+        evictLocalKey(key);
+        retryPendingEvictions();
+    }
+
+    /*
+     * Runs the load of a missing key unless one is already running on this node, in which case that load is shared.
+     * The returned future is complete unless it belongs to another caller's load.
+     */
+    private CompletableFuture<Object> load(Object key, Callable<?> valueLoader) {
+        String localKey = localKey(key);
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> runningLoad = inFlightLoads.putIfAbsent(localKey, load);
+        if (runningLoad != null) {
+            sharedLoads.increment();
+            return runningLoad;
+        }
+        try {
+            load.complete(loadAcrossNodes(key, valueLoader));
+        } catch (Throwable throwable) {
+            load.completeExceptionally(throwable);
+        } finally {
+            inFlightLoads.remove(localKey, load);
+        }
+        return load;
+    }
+
+    /*
+     * Loads the value on a miss, first taking the per-key Redis lock when enabled.
+     * A node that loses the lock polls Redis for the winner's value, and loads it itself if none appears in time.
+     */
+    private Object loadAcrossNodes(Object key, Callable<?> valueLoader) {
+        CacheLoadingProperties properties = cacheManager.getLoadingProperties();
+        if (!properties.isDistributedLock()) {
+            return loadValue(key, valueLoader);
+        }
+        String lockKey = lockKey(key);
+        String token = UUID.randomUUID().toString();
+        if (tryLock(lockKey, token)) {
+            try {
+                return loadValue(key, valueLoader);
+            } finally {
+                unlock(lockKey, token);
+            }
+        }
+        lockWaits.increment();
+        Generation generation = localGeneration(localKey(key));
+        long deadline = System.nanoTime() + properties.getLockWaitTime().toNanos();
+        try {
+            while (System.nanoTime() < deadline) {
+                Thread.sleep(properties.getLockPollInterval().toMillis());
+                ValueWrapper valueWrapper = circuitBreaker.execute(() -> redisCache.get(key));
+                if (valueWrapper != null) {
+                    putLocal(localKey(key), valueWrapper.get(), generation);
+                    return valueWrapper.get();
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (DataAccessException exception) {
+            log.debug("Stopped waiting for {}::{}, Redis unavailable: {}", getName(), key, exception.getMessage());
+        }
+        return loadValue(key, valueLoader);
+    }
+
+    /*
+     * Reloads the value in the background with the cache's registered reloader; skipped when the distributed lock shows
+     * another node already reloading it.
+     */
+    private void refresh(Object key, Function<Object, ?> reloader) {
+        Callable<?> valueLoader = () -> reloader.apply(key);
+        if (!cacheManager.getLoadingProperties().isDistributedLock()) {
+            loadValue(key, valueLoader);
+            return;
+        }
+        String lockKey = lockKey(key);
+        String token = UUID.randomUUID().toString();
+        if (!tryLock(lockKey, token)) {
+            return;
+        }
+        try {
+            loadValue(key, valueLoader);
+        } finally {
+            unlock(lockKey, token);
+        }
+    }
+
+    /*
+     * Calls the loader, stores the value unless the key was evicted meanwhile, and schedules the next expiry check of the key.
+     */
+    private Object loadValue(Object key, Callable<?> valueLoader) {
+        LoadStart start = startLoad(key);
+        LoadStart enclosingLoad = currentLoad.get();
+        currentLoad.set(start);
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception exception) {
+            throw new ValueRetrievalException(key, valueLoader, exception);
+        } finally {
+            currentLoad.set(enclosingLoad);
+        }
+        loads.increment();
+        if (!putLoaded(key, value, start)) {
+            return value;
+        }
+        Long refreshAheadNanos = refreshAheadNanos();
+        if (refreshAheadNanos != null) {
+            expiryChecks.put(localKey(key), System.nanoTime() + getTimeToLive().toNanos() - refreshAheadNanos);
+        }
+        return value;
+    }
+
+    /*
+     * Records the Redis server time and the in-process eviction counters before a value is loaded.
+     * The Redis time is null when Redis cannot be reached; the value is then kept in the fallback cache only.
+     */
+    private LoadStart startLoad(Object key) {
+        Generation generation = localGeneration(localKey(key));
+        Long redisTime;
+        try {
+            redisTime = circuitBreaker.execute(() -> cacheManager.getStringRedisTemplate()
+                    .execute((RedisCallback<Long>) connection -> connection.serverCommands().time(TimeUnit.MICROSECONDS)));
+        } catch (DataAccessException exception) {
+            redisTime = null;
+        }
+        return new LoadStart(localKey(key), redisTime, generation, new ArrayList<>());
+    }
+
+    /*
+     * Hands tags of the key to the load of that key running on this thread, to be recorded once its value is stored;
+     * returns false when no such load is running.
+     */
+    boolean tagOnPut(Object key, Collection<String> tags) {
+        LoadStart load = currentLoad.get();
+        if (load == null || !load.localKey().equals(localKey(key))) {
+            return false;
+        }
+        load.tags().addAll(tags);
+        return true;
+    }
+
+    /*
+     * Stores a loaded value, unless the key, the cache or one of the value's tags was evicted or put since the load
+     * started; returns whether it was kept.
+     * - The value is written to Redis and its tags recorded first, then the markers are read: an eviction marked before the
+     *   read is seen here and the value is evicted again, while one marked after it deletes the value itself.
+     * - If the markers cannot be read, the value is evicted again, or the eviction is remembered for recovery.
+     * - The L1 copy is dropped again if an in-process eviction of the key arrived while it was being stored.
+     */
+    private boolean putLoaded(Object key, Object value, LoadStart start) {
+        puts.increment();
+        String localKey = localKey(key);
+        if (start.redisTime() == null) {
+            return putFallbackUnlessEvicted(localKey, value, start.generation());
+        }
+        try {
+            circuitBreaker.run(() -> {
+                redisCache.put(key, value);
+                if (!start.tags().isEmpty()) {
+                    CacheTagIndex.recordTags(cacheManager.getStringRedisTemplate(), getName(), key, start.tags(), getTimeToLive());
+                }
+            });
+        } catch (DataAccessException exception) {
+            return putFallbackUnlessEvicted(localKey, value, start.generation());
+        }
+        if (evictedSince(key, start)) {
+            staleLoads.increment();
+            try {
+                circuitBreaker.run(() -> redisCache.evict(key));
+            } catch (DataAccessException exception) {
+                evictWhileUnavailable(key);
+            }
+            return false;
+        }
+        if (localCache != null) {
+            cacheManager.publishEvict(getName(), localKey);
+            putLocal(localKey, value, start.generation());
+        }
+        retryPendingEvictions();
+        return true;
+    }
+
+    /*
+     * Checks whether the key, the whole cache, or one of the load's tags was evicted or put since the load started.
+     * Unreadable markers count as an eviction.
+     */
+    private boolean evictedSince(Object key, LoadStart start) {
+        List<String> markerKeys = new ArrayList<>(List.of(evictionMarkerKey(key), clearMarkerKey()));
+        start.tags().forEach(tag -> markerKeys.add(CacheTagIndex.evictionMarkerKey(CacheTagIndex.tagKey(getName(), tag))));
+        List<String> markers;
+        try {
+            markers = circuitBreaker.execute(() -> cacheManager.getStringRedisTemplate().opsForValue().multiGet(markerKeys));
+        } catch (DataAccessException exception) {
+            return true;
+        }
+        return markers == null || markers.stream().anyMatch(marker -> marker != null && Long.parseLong(marker) >= start.redisTime());
+    }
+
+    /*
+     * Stamps the given marker keys with the Redis server time; throws DataAccessException when Redis fails.
+     * Also used by the tag index to mark evicted tags.
+     */
+    void markEvicted(List<String> markerKeys) {
+        cacheManager.getStringRedisTemplate().execute(MARK_EVICTED_SCRIPT, markerKeys,
+                String.valueOf(cacheManager.getLoadingProperties().getEvictionMarkerTimeToLive().toMillis()));
+    }
+
+    /*
+     * Schedules a background reload if the entry's remaining Redis time-to-live is within the refresh-ahead window.
+     * - Only caches with a registered reloader are refreshed.
+     * - Redis is asked for the remaining time only when the key's local check time has passed, not on every hit.
+     * - A reader claims the check by moving the check time forward, so concurrent readers do not all ask.
+     */
+    private void refreshIfDue(Object key) {
+        Long refreshAheadNanos = refreshAheadNanos();
+        Function<Object, ?> reloader = cacheManager.getReloader(getName());
+        if (refreshAheadNanos == null || reloader == null || circuitBreaker.isOpen()) {
+            return;
+        }
+        String localKey = localKey(key);
+        long now = System.nanoTime();
+        Long checkAt = expiryChecks.get(localKey);
+        if (checkAt != null && now < checkAt) {
+            return;
+        }
+        long backoff = now + EXPIRY_CHECK_BACKOFF_NANOS;
+        boolean claimed = checkAt == null ? expiryChecks.putIfAbsent(localKey, backoff) == null : expiryChecks.replace(localKey, checkAt, backoff);
+        if (!claimed) {
+            return;
+        }
+        Long remainingMillis;
+        try {
+            remainingMillis = circuitBreaker.execute(() -> cacheManager.getStringRedisTemplate().getExpire(redisKey(key), TimeUnit.MILLISECONDS));
+        } catch (DataAccessException exception) {
+            return;
+        }
+        if (remainingMillis == null || remainingMillis < 0) {
+            return;
+        }
+        long untilRefreshNanos = TimeUnit.MILLISECONDS.toNanos(remainingMillis) - refreshAheadNanos;
+        if (untilRefreshNanos > 0) {
+            expiryChecks.put(localKey, now + untilRefreshNanos);
+            return;
+        }
+        if (!inFlightRefreshes.add(localKey)) {
+            return;
+        }
+        try {
+            cacheManager.getRefreshExecutor().execute(() -> {
+                try {
+                    refreshes.increment();
+                    refresh(key, reloader);
+                } catch (RuntimeException exception) {
+                    log.warn("Refresh-ahead of {}::{} failed: {}", getName(), key, exception.getMessage());
+                } finally {
+                    inFlightRefreshes.remove(localKey);
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            inFlightRefreshes.remove(localKey);
+            log.debug("Refresh-ahead of {}::{} dropped, refresh queue is full", getName(), key);
+        }
+    }
+
+    /*
+     * Length of the refresh-ahead window in nanoseconds, or null when refresh-ahead is off or entries do not expire.
+     */
+    private Long refreshAheadNanos() {
+        Duration timeToLive = getTimeToLive();
+        double fraction = cacheManager.getLoadingProperties().getRefreshAheadFraction();
+        if (timeToLive == null || timeToLive.isZero() || timeToLive.isNegative() || fraction <= 0) {
+            return null;
+        }
+        return (long) (timeToLive.toNanos() * Math.min(fraction, 1.0));
+    }
+
+    /*
+     * Time-to-live of this cache's Redis entries, or null when they do not expire.
+     * A Redis cache's own configuration wins over the manager's default, so per-cache lifetimes apply.
+     */
+    Duration getTimeToLive() {
+        if (redisCache instanceof RedisCache cache) {
+            Duration timeToLive = cache.getCacheConfiguration().getTtlFunction().getTimeToLive(null, null);
+            return timeToLive.isZero() ? null : timeToLive;
+        }
+        return cacheManager.getTimeToLive();
+    }
+
+    /*
+     * Takes the per-key loading lock; if Redis cannot be reached, proceeds as if it were taken.
+     */
+    private boolean tryLock(String lockKey, String token) {
+        try {
+            return Boolean.TRUE.equals(circuitBreaker.execute(() -> cacheManager.getStringRedisTemplate().opsForValue()
+                    .setIfAbsent(lockKey, token, cacheManager.getLoadingProperties().getLockLeaseTime())));
+        } catch (DataAccessException exception) {
+            return true;
+        }
+    }
+
+    /*
+     * Releases the per-key loading lock if this loader still holds it.
+     */
+    private void unlock(String lockKey, String token) {
+        if (circuitBreaker.isOpen()) {
+            return;
+        }
+        try {
+            cacheManager.getStringRedisTemplate().execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), token);
+        } catch (DataAccessException exception) {
+            log.debug("Loading lock {} not released, it expires on its own: {}", lockKey, exception.getMessage());
+        }
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        evictions.increment();
+        boolean evicted;
+        try {
+            evicted = circuitBreaker.execute(() -> {
+                markEvicted(List.of(evictionMarkerKey(key)));
+                return redisCache.evictIfPresent(key);
+            });
+        } catch (DataAccessException exception) {
+            evictWhileUnavailable(key);
+            return false;
+        }
+        evictLocalKey(key);
+        retryPendingEvictions();
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        try {
+            circuitBreaker.run(() -> {
+                markEvicted(List.of(clearMarkerKey()));
+                redisCache.clear();
+            });
+        } catch (DataAccessException exception) {
+            clearWhileUnavailable();
+            return;
+        }
+        clearLocal();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated;
+        try {
+            invalidated = circuitBreaker.execute(() -> {
+                markEvicted(List.of(clearMarkerKey()));
+                return redisCache.invalidate();
+            });
+        } catch (DataAccessException exception) {
+            clearWhileUnavailable();
+            return false;
+        }
+        clearLocal();
+        return invalidated;
+    }
+
+    /*
+     * Clears the cache while Redis cannot be reached: local and fallback copies are dropped now, Redis once it is back.
+     * Used when the keys to evict are unknown, e.g. for a tag eviction that could not read its tag sets.
+     */
+    public void clearWhileUnavailable() {
+        localClears.incrementAndGet();
+        pendingClear = true;
+        pendingEvictions.clear();
+        fallbackCache.invalidateAll();
+        expiryChecks.clear();
+        if (localCache != null) {
+            localCache.invalidateAll();
+        }
+    }
+
+    /*
+     * Keeps a value loaded or put while Redis is unavailable in the fallback cache, replacing any L1 copy.
+     */
+    private void putFallback(Object key, Object value) {
+        String localKey = localKey(key);
+        fallbackCache.put(localKey, new SerializedValueWrapper(serializationPair, value));
+        expiryChecks.remove(localKey);
+        if (localCache != null) {
+            localCache.invalidate(localKey);
+        }
+    }
+
+    /*
+     * Keeps a value loaded while Redis is unavailable in the fallback cache, unless the key was evicted in-process since
+     * the load started; returns whether it was kept.
+     */
+    private boolean putFallbackUnlessEvicted(String localKey, Object value, Generation generation) {
+        putFallback(localKey, value);
+        if (!generation.equals(localGeneration(localKey))) {
+            fallbackCache.invalidate(localKey);
+            staleLoads.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /*
+     * Keeps a value read or loaded in L1, dropping it again if the key was evicted in-process since it was fetched.
+     */
+    private void putLocal(String localKey, Object value, Generation generation) {
+        if (localCache == null) {
+            return;
+        }
+        localCache.put(localKey, new SerializedValueWrapper(serializationPair, value));
+        if (!generation.equals(localGeneration(localKey))) {
+            localCache.invalidate(localKey);
+        }
+    }
+
+    /*
+     * Returns the in-process eviction counters covering the key.
+     */
+    private Generation localGeneration(String localKey) {
+        return new Generation(localEvictions.get(stripe(localKey)), localClears.get());
+    }
+
+    /*
+     * Counts an in-process eviction of the key, so values fetched before it are not kept.
+     */
+    private void markEvictedLocally(String localKey) {
+        localEvictions.incrementAndGet(stripe(localKey));
+    }
+
+    /*
+     * Evicts the key locally while Redis is unavailable and remembers it for eviction from Redis.
+     * Past the pending eviction limit, the whole Redis cache is cleared instead.
+     */
+    private void evictWhileUnavailable(Object key) {
+        String localKey = localKey(key);
+        markEvictedLocally(localKey);
+        fallbackCache.invalidate(localKey);
+        expiryChecks.remove(localKey);
+        if (localCache != null) {
+            localCache.invalidate(localKey);
+        }
+        if (pendingClear) {
+            return;
+        }
+        pendingEvictions.add(key);
+        if (pendingEvictions.size() > cacheManager.getResilienceProperties().getPendingEvictionLimit()) {
+            clearWhileUnavailable();
+        }
+    }
+
+    /*
+     * Applies the evictions made while Redis was unavailable and drops the fallback cache.
+     * Other nodes are told to drop their L1 copies, which may predate those evictions.
+     * Calls Redis directly, so it can run as a recovery listener while the breaker is half-open; throws DataAccessException.
+     */
+    void recover() {
+        boolean evicted = false;
+        if (pendingClear) {
+            pendingClear = false;
+            try {
+                markEvicted(List.of(clearMarkerKey()));
+                redisCache.clear();
+            } catch (DataAccessException exception) {
+                pendingClear = true;
+                throw exception;
+            }
+            pendingEvictions.clear();
+            evicted = true;
+        } else if (!pendingEvictions.isEmpty()) {
+            for (Object key : List.copyOf(pendingEvictions)) {
+                markEvicted(List.of(evictionMarkerKey(key)));
+                redisCache.evict(key);
+                pendingEvictions.remove(key);
+            }
+            evicted = true;
+        }
+        fallbackCache.invalidateAll();
+        if (evicted && localCache != null) {
+            cacheManager.publishClear(getName());
+        }
+    }
+
+    /*
+     * Applies pending evictions left by failures that did not open the circuit, once a Redis write succeeds again.
+     */
+    private void retryPendingEvictions() {
+        if (!pendingClear && pendingEvictions.isEmpty()) {
+            return;
+        }
+        try {
+            circuitBreaker.run(this::recover);
+        } catch (DataAccessException exception) {
+            log.debug("Pending evictions of {} not applied yet: {}", getName(), exception.getMessage());
+        }
+    }
+
+    /*
+     * Drops the L1 entries of keys already removed from Redis by other means (e.g. the tag index), on every node.
+     */
+    public void evictLocal(Collection<?> keys) {
+        evictions.add(keys.size());
+        keys.forEach(this::evictLocalKey);
+    }
+
+    /*
+     * Drops the L1 entry of the key on this node and on every other node.
+     */
+    private void evictLocalKey(Object key) {
+        markEvictedLocally(localKey(key));
+        expiryChecks.remove(localKey(key));
+        if (localCache != null) {
+            localCache.invalidate(localKey(key));
+            cacheManager.publishEvict(getName(), localKey(key));
+        }
+    }
+
+    /*
+     * Drops every L1 entry on this node and on every other node.
+     */
+    private void clearLocal() {
+        localClears.incrementAndGet();
+        expiryChecks.clear();
+        if (localCache != null) {
+            localCache.invalidateAll();
+            cacheManager.publishClear(getName());
+        }
+    }
+
+    /*
+     * Applies an invalidation received from another node to L1 only.
+     */
+    void invalidateLocal(String localKey) {
+        if (localKey == null) {
+            localClears.incrementAndGet();
+        } else {
+            markEvictedLocally(localKey);
+        }
+        if (localCache != null) {
+            if (localKey == null) {
+                localCache.invalidateAll();
+            } else {
+                localCache.invalidate(localKey);
+            }
+        }
+    }
+
+    /*
+     * Returns hit and miss counts per tier, with hit ratios, and fallback cache use while Redis was unavailable.
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("l1Enabled", localCache != null);
+        if (localCache != null) {
+            CacheStats localStats = localCache.stats();
+            statistics.put("l1Size", localCache.estimatedSize());
+            statistics.put("l1Hits", localStats.hitCount());
+            statistics.put("l1Misses", localStats.missCount());
+            statistics.put("l1HitRatio", localStats.hitRate());
+            statistics.put("l1Evictions", localStats.evictionCount());
+        }
+        long hits = redisHits.sum();
+        long misses = redisMisses.sum();
+        statistics.put("l2Hits", hits);
+        statistics.put("l2Misses", misses);
+        statistics.put("l2HitRatio", hits + misses == 0 ? 1.0 : (double) hits / (hits + misses));
+        statistics.put("puts", puts.sum());
+        statistics.put("evictions", evictions.sum());
+        statistics.put("loads", loads.sum());
+        statistics.put("sharedLoads", sharedLoads.sum());
+        statistics.put("lockWaits", lockWaits.sum());
+        statistics.put("refreshes", refreshes.sum());
+        statistics.put("staleLoads", staleLoads.sum());
+        statistics.put("fallbackSize", fallbackCache.estimatedSize());
+        statistics.put("fallbackHits", fallbackHits.sum());
+        statistics.put("fallbackMisses", fallbackMisses.sum());
+        statistics.put("pendingEvictions", pendingEvictions.size());
+        statistics.put("pendingClear", pendingClear);
+        return statistics;
+    }
+
+    /*
+     * L1 key for a cache key; string form so keys received over pub/sub match local ones.
+     */
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    /*
+     * Redis key under which the Redis cache stores the entry, as 'prefix + key' when the cache uses a prefix.
+     */
+    private String redisKey(Object key) {
+        if (redisCache instanceof RedisCache cache && cache.getCacheConfiguration().usePrefix()) {
+            return cache.getCacheConfiguration().getKeyPrefixFor(getName()) + key;
+        }
+        return String.valueOf(key);
+    }
+
+    /*
+     * Redis key of the loading lock of an entry.
+     */
+    private String lockKey(Object key) {
+        return redisKey(key) + "::loading";
+    }
+
+    /*
+     * Redis key of the eviction marker of an entry, kept outside the cache's prefix so clearing the cache keeps it.
+     */
+    private String evictionMarkerKey(Object key) {
+        return "evicted:" + redisKey(key);
+    }
+
+    /*
+     * Redis key of the marker stamped when the whole cache is cleared.
+     */
+    private String clearMarkerKey() {
+        return "evicted:" + getName();
+    }
+
+    /*
+     * Stripe of the in-process eviction counters covering an L1 key.
+     */
+    private static int stripe(String localKey) {
+        return Math.floorMod(localKey.hashCode(), EVICTION_STRIPES);
+    }
+
+    /*
+     * In-process eviction counters of a key's stripe and of whole-cache clears, read before a value is fetched.
+     */
+    private record Generation(long evictions, long clears) {
+    }
+
+    /*
+     * Key being loaded, Redis server time in microseconds (null when unreachable) and in-process eviction counters read
+     * before the load, and the tags the loader gave for the value.
+     */
+    private record LoadStart(String localKey, Long redisTime, Generation generation, List<String> tags) {
+    }
+}
\ No newline at end of file
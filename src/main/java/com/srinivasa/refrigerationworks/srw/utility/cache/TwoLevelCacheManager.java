@@ -0,0 +1,293 @@
+package com.srinivasa.refrigerationworks.srw.utility.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.srinivasa.refrigerationworks.srw.configuration.CacheLoadingProperties;
+import com.srinivasa.refrigerationworks.srw.configuration.CacheResilienceProperties;
+import com.srinivasa.refrigerationworks.srw.configuration.NearCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/*
+ * CacheManager that wraps every Redis cache in a TwoLevelCache.
+ * - Caches opt in or out of the in-process tier through NearCacheProperties.
+ * - Loading settings and the pool running refresh-ahead reloads are shared by every cache.
+ * - Refresh-ahead reloads a cache only through the reloader its owner registered here.
+ * - L1 invalidations are published on a Redis channel as 'nodeId|op|cacheName|key' and applied by every other node.
+ * - Each cache's meters are registered with the MeterRegistry when the cache is created.
+ * - Every cache shares one Redis circuit breaker; when it finds Redis reachable again, each cache applies the evictions
+ *   it made meanwhile before the circuit closes.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    /*
+     * Identifier of this node, used to ignore its own invalidation messages.
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /*
+     * Manager of the Redis caches (L2).
+     */
+    private final CacheManager redisCacheManager;
+
+    /*
+     * In-process tier settings per cache name.
+     */
+    private final NearCacheProperties nearCacheProperties;
+
+    /*
+     * Single-flight, lock and refresh-ahead settings.
+     */
+    private final CacheLoadingProperties loadingProperties;
+
+    /*
+     * Circuit breaker, fallback cache and pending eviction settings.
+     */
+    private final CacheResilienceProperties resilienceProperties;
+
+    /*
+     * Default time-to-live of Redis entries, or null when they do not expire.
+     */
+    private final Duration timeToLive;
+
+    /*
+     * Pool running refresh-ahead reloads.
+     */
+    private final ThreadPoolExecutor refreshExecutor;
+
+    /*
+     * Template for publishing invalidation messages, loading locks and entry expiry checks.
+     */
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /*
+     * Circuit breaker guarding every Redis call of the caches.
+     */
+    private final RedisCircuitBreaker circuitBreaker;
+
+    /*
+     * Registry the meters of every cache are registered with.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /*
+     * Two-level caches created so far, keyed by cache name.
+     */
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    /*
+     * Functions reloading a key for refresh-ahead, keyed by cache name.
+     */
+    private final ConcurrentMap<String, Function<Object, ?>> reloaders = new ConcurrentHashMap<>();
+
+    /*
+     * Constructs the manager over the given Redis cache manager.
+     */
+    public TwoLevelCacheManager(CacheManager redisCacheManager, NearCacheProperties nearCacheProperties, CacheLoadingProperties loadingProperties,
+                                CacheResilienceProperties resilienceProperties, Duration timeToLive, StringRedisTemplate stringRedisTemplate,
+                                RedisCircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+        this.redisCacheManager = redisCacheManager;
+        this.nearCacheProperties = nearCacheProperties;
+        this.loadingProperties = loadingProperties;
+        this.resilienceProperties = resilienceProperties;
+        this.timeToLive = timeToLive;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+        circuitBreaker.addRecoveryListener(() -> caches.values().forEach(TwoLevelCache::recover));
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(loadingProperties.getRefreshThreads(), loadingProperties.getRefreshThreads(), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(loadingProperties.getRefreshQueueCapacity()), runnable -> {
+            Thread thread = new Thread(runnable, "cache-refresh-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache redisCache = redisCacheManager.getCache(cacheName);
+            if (redisCache == null) {
+                return null;
+            }
+            TwoLevelCache cache = new TwoLevelCache(redisCache, createLocalCache(cacheName), createFallbackCache(), this);
+            new TwoLevelCacheMetrics(cache, Tags.empty()).bindTo(meterRegistry);
+            return cache;
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /*
+     * Returns per-tier statistics of every cache created so far, keyed by cache name.
+     */
+    public Map<String, Map<String, Object>> getStatistics() {
+        Map<String, Map<String, Object>> statistics = new LinkedHashMap<>();
+        caches.keySet().stream().sorted().forEach(cacheName -> statistics.put(cacheName, caches.get(cacheName).getStatistics()));
+        return statistics;
+    }
+
+    /*
+     * Registers the function reloading keys of the given cache ahead of their expiry.
+     * Contract: the reloader runs on a refresh-ahead thread, outside the request, security context and transaction of any
+     * caller, possibly while callers read the same key. It must load from the source of truth (not through the cached
+     * proxy), need nothing from the calling thread, and throw for keys it does not know.
+     * Caches without a reloader are not refreshed ahead; their entries are loaded again on the first miss after expiry.
+     */
+    public void registerReloader(String cacheName, Function<Object, ?> reloader) {
+        reloaders.put(cacheName, reloader);
+    }
+
+    /*
+     * Stops the refresh pool; called when the application context closes.
+     */
+    public void shutdown() {
+        refreshExecutor.shutdown();
+    }
+
+    /*
+     * Returns the single-flight, lock and refresh-ahead settings.
+     */
+    CacheLoadingProperties getLoadingProperties() {
+        return loadingProperties;
+    }
+
+    /*
+     * Returns the circuit breaker, fallback cache and pending eviction settings.
+     */
+    CacheResilienceProperties getResilienceProperties() {
+        return resilienceProperties;
+    }
+
+    /*
+     * Returns the circuit breaker guarding every Redis call of the caches.
+     */
+    RedisCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /*
+     * Returns the default time-to-live of Redis entries, or null when they do not expire; caches may override it.
+     */
+    Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    /*
+     * Returns the refresh-ahead reloader registered for the cache, or null when it has none.
+     */
+    Function<Object, ?> getReloader(String cacheName) {
+        return reloaders.get(cacheName);
+    }
+
+    /*
+     * Returns the pool running refresh-ahead reloads.
+     */
+    Executor getRefreshExecutor() {
+        return refreshExecutor;
+    }
+
+    /*
+     * Returns the template used for loading locks and entry expiry checks.
+     */
+    StringRedisTemplate getStringRedisTemplate() {
+        return stringRedisTemplate;
+    }
+
+    /*
+     * Applies an invalidation message published by another node.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+        if (parts.length < 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(parts[2]);
+        if (cache != null) {
+            cache.invalidateLocal(parts[1].equals("clear") ? null : parts[3]);
+        }
+    }
+
+    /*
+     * Tells other nodes to drop an L1 entry.
+     */
+    void publishEvict(String cacheName, String localKey) {
+        publish("evict|" + cacheName + "|" + localKey);
+    }
+
+    /*
+     * Tells other nodes to drop every L1 entry of a cache.
+     */
+    void publishClear(String cacheName) {
+        publish("clear|" + cacheName + "|");
+    }
+
+    /*
+     * Publishes an invalidation message tagged with this node's identifier.
+     * Skipped while the circuit is open; other nodes then drop the entry when its L1 time-to-live ends, or on recovery.
+     * Not routed through the breaker, so recovery listeners can publish while the breaker is half-open.
+     */
+    private void publish(String invalidation) {
+        if (circuitBreaker.isOpen()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(nearCacheProperties.getInvalidationChannel(), nodeId + "|" + invalidation);
+        } catch (DataAccessException exception) {
+            circuitBreaker.recordFailure(exception);
+            log.debug("L1 invalidation not published: {}", exception.getMessage());
+        }
+    }
+
+    /*
+     * Creates the bounded, time-limited L1 of a cache, or returns null when the cache opted out.
+     */
+    private com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> createLocalCache(String cacheName) {
+        if (!nearCacheProperties.isEnabled(cacheName)) {
+            return null;
+        }
+        return Caffeine.newBuilder()
+                .maximumSize(nearCacheProperties.getMaximumSize(cacheName))
+                .expireAfterWrite(nearCacheProperties.getTimeToLive(cacheName))
+                .recordStats()
+                .build();
+    }
+
+    /*
+     * Creates the bounded, time-limited cache used in place of Redis while it is unavailable.
+     */
+    private com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> createFallbackCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(resilienceProperties.getFallbackMaximumSize())
+                .expireAfterWrite(resilienceProperties.getFallbackTimeToLive())
+                .build();
+    }
+}
\ No newline at end of file
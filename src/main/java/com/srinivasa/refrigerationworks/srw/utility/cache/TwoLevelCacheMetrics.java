@@ -0,0 +1,139 @@
+package com.srinivasa.refrigerationworks.srw.utility.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+import java.util.Map;
+
+/*
+ * Micrometer meters of a TwoLevelCache, read from its statistics when scraped.
+ * - Standard cache meters: 'cache.gets' (hit/miss over all tiers), 'cache.puts', 'cache.evictions', 'cache.size' (L1 entries).
+ * - 'cache.tier.gets' splits hits and misses by tier: l1, l2 (Redis) and fallback (while Redis is unavailable).
+ * - 'cache.loads' counts loader calls by type, 'cache.pending.evictions' the evictions waiting for Redis.
+ */
+public class TwoLevelCacheMetrics extends CacheMeterBinder<TwoLevelCache> {
+
+    /*
+     * Constructs the binder for the cache.
+     */
+    public TwoLevelCacheMetrics(TwoLevelCache cache, Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+    }
+
+    /*
+     * Entries in the in-process tier; the Redis tier's size is not tracked.
+     */
+    @Override
+    protected Long size() {
+        return sum("l1Size");
+    }
+
+    /*
+     * Lookups answered by any tier.
+     */
+    @Override
+    protected long hitCount() {
+        return sum("l1Hits", "l2Hits", "fallbackHits");
+    }
+
+    /*
+     * Lookups no tier could answer.
+     */
+    @Override
+    protected Long missCount() {
+        return sum("l2Misses", "fallbackMisses");
+    }
+
+    /*
+     * Keys evicted through the cache or by the tag index.
+     */
+    @Override
+    protected Long evictionCount() {
+        return sum("evictions");
+    }
+
+    @Override
+    protected long putCount() {
+        return sum("puts");
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        tierCounter(registry, "l1", "hit", "l1Hits");
+        tierCounter(registry, "l1", "miss", "l1Misses");
+        tierCounter(registry, "l2", "hit", "l2Hits");
+        tierCounter(registry, "l2", "miss", "l2Misses");
+        tierCounter(registry, "fallback", "hit", "fallbackHits");
+        tierCounter(registry, "fallback", "miss", "fallbackMisses");
+        loadCounter(registry, "load", "loads");
+        loadCounter(registry, "shared", "sharedLoads");
+        loadCounter(registry, "lock-wait", "lockWaits");
+        loadCounter(registry, "refresh", "refreshes");
+        Gauge.builder("cache.pending.evictions", getCache(), cache -> orZero(statistic(cache, "pendingEvictions")))
+                .tags(getTagsWithCacheName())
+                .description("Evictions made while Redis was unavailable, replayed when it is reachable again")
+                .register(registry);
+    }
+
+    /*
+     * Registers the hit or miss counter of one tier.
+     */
+    private void tierCounter(MeterRegistry registry, String tier, String result, String statistic) {
+        FunctionCounter.builder("cache.tier.gets", getCache(), cache -> orZero(statistic(cache, statistic)))
+                .tags(getTagsWithCacheName())
+                .tags("tier", tier, "result", result)
+                .description("Cache lookups answered (or not) by one tier")
+                .register(registry);
+    }
+
+    /*
+     * Registers the counter of one type of load.
+     */
+    private void loadCounter(MeterRegistry registry, String type, String statistic) {
+        FunctionCounter.builder("cache.loads", getCache(), cache -> orZero(statistic(cache, statistic)))
+                .tags(getTagsWithCacheName())
+                .tag("type", type)
+                .description("Loader calls on misses, misses sharing another caller's load, waits on another node's lock, and background reloads")
+                .register(registry);
+    }
+
+    /*
+     * Reads one numeric statistic of the cache, or null if the cache is gone or does not report it.
+     * Meters are registered against the cache itself, which the manager keeps, since Micrometer holds them weakly.
+     */
+    private static Long statistic(TwoLevelCache cache, String name) {
+        if (cache == null) {
+            return null;
+        }
+        Object value = cache.getStatistics().get(name);
+        return value instanceof Number number ? number.longValue() : null;
+    }
+
+    /*
+     * Sums numeric statistics of the cache, read once; missing ones count as zero.
+     */
+    private long sum(String... names) {
+        TwoLevelCache cache = getCache();
+        if (cache == null) {
+            return 0L;
+        }
+        Map<String, Object> statistics = cache.getStatistics();
+        long sum = 0;
+        for (String name : names) {
+            if (statistics.get(name) instanceof Number number) {
+                sum += number.longValue();
+            }
+        }
+        return sum;
+    }
+
+    /*
+     * Treats a missing statistic as zero.
+     */
+    private static long orZero(Long value) {
+        return value == null ? 0L : value;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.srinivasa.refrigerationworks.srw.utility.common;
+
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.BulkUpdateResult;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/*
+ * Utility class for bulk status updates: parsing requested IDs and deciding which records need the update.
+ */
+public class BulkUpdateClassifier {
+
+    /*
+     * Splits IDs separated by commas, spaces or line breaks, dropping blanks and duplicates while keeping their order.
+     */
+    public static Set<String> parseIds(String ids) {
+        Set<String> parsed = new LinkedHashSet<>();
+        if (ids != null) {
+            Arrays.stream(ids.split("[\\s,]+")).filter(id -> !id.isBlank()).forEach(parsed::add);
+        }
+        return parsed;
+    }
+
+    /*
+     * Classifies each requested ID against the current values of the records found:
+     * NOT_FOUND if absent, UNCHANGED if it already has the target value, UPDATED otherwise.
+     */
+    public static Map<String, BulkUpdateResult> classify(Collection<String> ids, Map<String, ?> currentValues, Object target) {
+        Map<String, BulkUpdateResult> results = new LinkedHashMap<>();
+        for (String id : ids) {
+            if (!currentValues.containsKey(id)) {
+                results.put(id, BulkUpdateResult.NOT_FOUND);
+            } else {
+                results.put(id, Objects.equals(currentValues.get(id), target) ? BulkUpdateResult.UNCHANGED : BulkUpdateResult.UPDATED);
+            }
+        }
+        return results;
+    }
+
+    /*
+     * Returns the IDs with the given result, in request order.
+     */
+    public static List<String> idsWith(Map<String, BulkUpdateResult> results, BulkUpdateResult result) {
+        return results.entrySet().stream().filter(entry -> entry.getValue() == result).map(Map.Entry::getKey).toList();
+    }
+}
\ No newline at end of file
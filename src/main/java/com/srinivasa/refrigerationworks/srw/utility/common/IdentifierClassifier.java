@@ -0,0 +1,57 @@
+package com.srinivasa.refrigerationworks.srw.utility.common;
+
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.IdentifierType;
+
+/*
+ * Utility class for classifying search identifiers by shape, so lookups can use a single-column index.
+ */
+public class IdentifierClassifier {
+
+    /*
+     * Classifies the identifier as a phone number, email, business ID or other value.
+     */
+    public static IdentifierType classify(String identifier) {
+        int length = identifier.length();
+        if ((length == 10 && isDigits(identifier, 0)) || (length == 13 && identifier.startsWith("+91") && isDigits(identifier, 3))) {
+            return IdentifierType.PHONE_NUMBER;
+        }
+        if (identifier.indexOf('@') > 0) {
+            return IdentifierType.EMAIL;
+        }
+        if (identifier.startsWith("SRWC") && length == 12 && isDigits(identifier, 4)) {
+            return IdentifierType.COMPLAINT_ID;
+        }
+        if (identifier.startsWith("SRW") && isDigits(identifier, 3)) {
+            switch (length) {
+                case 10: return IdentifierType.CUSTOMER_ID;
+                case 7: return IdentifierType.EMPLOYEE_ID;
+                case 6: return IdentifierType.OWNER_ID;
+                default: break;
+            }
+        }
+        return IdentifierType.OTHER;
+    }
+
+    /*
+     * Normalizes phone numbers to their stored form (+91 prefix); other identifiers are returned unchanged.
+     */
+    public static String normalize(String identifier) {
+        return identifier.length() == 10 && isDigits(identifier, 0) ? PhoneNumberFormatter.formatPhoneNumber(identifier) : identifier;
+    }
+
+    /*
+     * Checks whether every character from the given index is an ASCII digit.
+     */
+    private static boolean isDigits(String value, int from) {
+        if (from >= value.length()) {
+            return false;
+        }
+        for (int index = from; index < value.length(); index++) {
+            char character = value.charAt(index);
+            if (character < '0' || character > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.srinivasa.refrigerationworks.srw.utility.common.enums;
+
+/*
+ * Enum for defining the records a bulk status update applies to
+ * COMPLAINTS - Complaint states
+ * CUSTOMERS - Customer statuses and their credentials
+ * EMPLOYEES - Employee statuses and their credentials
+ */
+public enum BulkStatusTarget {
+    COMPLAINTS, CUSTOMERS, EMPLOYEES;
+}
\ No newline at end of file
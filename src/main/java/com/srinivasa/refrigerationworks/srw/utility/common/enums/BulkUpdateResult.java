@@ -0,0 +1,11 @@
+package com.srinivasa.refrigerationworks.srw.utility.common.enums;
+
+/*
+ * Enum for defining the outcome of a bulk update for a single ID
+ * UPDATED - The record was changed
+ * UNCHANGED - The record already had the requested status or state
+ * NOT_FOUND - No record has the ID
+ */
+public enum BulkUpdateResult {
+    UPDATED, UNCHANGED, NOT_FOUND;
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.srinivasa.refrigerationworks.srw.utility.common.enums;
+
+/*
+ * Enum for defining the state of a circuit breaker
+ * CLOSED - Calls go through; consecutive failures are counted
+ * OPEN - Calls are short-circuited to their fallback until the open duration has passed
+ * HALF_OPEN - A single probe call goes through; its outcome closes or reopens the circuit
+ */
+public enum CircuitBreakerState {
+    CLOSED, OPEN, HALF_OPEN;
+}
\ No newline at end of file
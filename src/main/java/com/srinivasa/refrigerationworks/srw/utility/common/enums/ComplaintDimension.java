@@ -0,0 +1,34 @@
+package com.srinivasa.refrigerationworks.srw.utility.common.enums;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
+
+import java.time.YearMonth;
+
+/*
+ * Enum for defining the dimensions complaint analytics can be grouped by
+ * BRAND - Product brand
+ * PRODUCT_TYPE - Product type
+ * PRODUCT_MODEL - Product model
+ * TECHNICIAN - Assigned technician's employee ID
+ * STATUS - Complaint status
+ * STATE - Complaint state
+ * MONTH - Month the complaint was created in (yyyy-MM)
+ */
+public enum ComplaintDimension {
+    BRAND, PRODUCT_TYPE, PRODUCT_MODEL, TECHNICIAN, STATUS, STATE, MONTH;
+
+    /*
+     * Returns the group the complaint falls into for this dimension, or null if the value is missing.
+     */
+    public String groupOf(ComplaintDTO complaint) {
+        return switch (this) {
+            case BRAND -> complaint.getBrand();
+            case PRODUCT_TYPE -> complaint.getProductType();
+            case PRODUCT_MODEL -> complaint.getProductModel();
+            case TECHNICIAN -> complaint.getTechnicianId();
+            case STATUS -> complaint.getStatus() == null ? null : complaint.getStatus().name();
+            case STATE -> complaint.getState() == null ? null : complaint.getState().name();
+            case MONTH -> complaint.getCreatedAt() == null ? null : YearMonth.from(complaint.getCreatedAt()).toString();
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.srinivasa.refrigerationworks.srw.utility.common.enums;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
+
+/*
+ * Enum for defining the scopes complaint lists are paginated over
+ * ALL - Every complaint
+ * ACTIVE - Complaints in the ACTIVE state
+ * BOOKED_BY - Complaints booked by a given user
+ * ASSIGNED_TO - Complaints assigned to a given technician
+ */
+public enum ComplaintListScope {
+    ALL("all"), ACTIVE("active"), BOOKED_BY("booked_by"), ASSIGNED_TO("assigned_to");
+
+    /*
+     * Label used when building cache keys for the scope.
+     */
+    private final String label;
+
+    ComplaintListScope(String label) {
+        this.label = label;
+    }
+
+    /*
+     * Returns the label used when building cache keys for the scope.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /*
+     * Returns the user the scope is keyed by for the given complaint (bookedById or technicianId), or null for global scopes.
+     */
+    public String scopeIdOf(ComplaintDTO complaint) {
+        return switch (this) {
+            case ALL, ACTIVE -> null;
+            case BOOKED_BY -> complaint.getBookedById();
+            case ASSIGNED_TO -> complaint.getTechnicianId();
+        };
+    }
+
+    /*
+     * Checks whether the complaint belongs to any list of this scope.
+     */
+    public boolean includes(ComplaintDTO complaint) {
+        return switch (this) {
+            case ALL -> true;
+            case ACTIVE -> complaint.getState() == ComplaintState.ACTIVE;
+            case BOOKED_BY -> complaint.getBookedById() != null;
+            case ASSIGNED_TO -> complaint.getTechnicianId() != null;
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.srinivasa.refrigerationworks.srw.utility.common.enums;
+
+/*
+ * Enum for defining export file formats
+ * CSV - Comma-separated values with a header row, as described by RFC 4180
+ * NDJSON - One JSON object per line
+ */
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    /*
+     * Response content type and file extension.
+     */
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
\ No newline at end of file
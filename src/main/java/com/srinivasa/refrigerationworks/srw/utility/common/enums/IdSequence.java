@@ -0,0 +1,73 @@
+package com.srinivasa.refrigerationworks.srw.utility.common.enums;
+
+/*
+ * Enum for defining the business ID sequences and their formats
+ * COMPLAINT - 'SRWC' followed by an 8-digit reference
+ * CUSTOMER - 'SRW' followed by a 7-digit reference
+ * EMPLOYEE - 'SRW' followed by a 4-digit reference
+ * OWNER - 'SRW' followed by a 3-digit reference
+ * Block sizes are kept small for the short formats, since unused IDs of a block are skipped after a restart.
+ */
+public enum IdSequence {
+    COMPLAINT("SRWC", 8, 50, "Complaint", "complaintReference"),
+    CUSTOMER("SRW", 7, 20, "Customer", "customerReference"),
+    EMPLOYEE("SRW", 4, 5, "Employee", "employeeReference"),
+    OWNER("SRW", 3, 1, "Owner", "ownerReference");
+
+    /*
+     * Prefix of the formatted ID.
+     */
+    private final String prefix;
+
+    /*
+     * Number of zero-padded digits after the prefix.
+     */
+    private final int digits;
+
+    /*
+     * Number of references reserved per database round trip.
+     */
+    private final int blockSize;
+
+    /*
+     * JPA entity name and reference attribute the sequence is seeded from.
+     */
+    private final String entityName;
+    private final String referenceAttribute;
+
+    IdSequence(String prefix, int digits, int blockSize, String entityName, String referenceAttribute) {
+        this.prefix = prefix;
+        this.digits = digits;
+        this.blockSize = blockSize;
+        this.entityName = entityName;
+        this.referenceAttribute = referenceAttribute;
+    }
+
+    /*
+     * Returns the number of references reserved per database round trip.
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /*
+     * Returns the JPQL query for the highest reference already in use.
+     */
+    public String maxReferenceQuery() {
+        return "SELECT COALESCE(MAX(e." + referenceAttribute + "), 0) FROM " + entityName + " e";
+    }
+
+    /*
+     * Formats a reference as a business ID, e.g. COMPLAINT.format(42) returns 'SRWC00000042'.
+     */
+    public String format(long reference) {
+        return prefix + String.format("%0" + digits + "d", reference);
+    }
+
+    /*
+     * Extracts the reference from a business ID produced by format.
+     */
+    public long parseReference(String id) {
+        return Long.parseLong(id.substring(prefix.length()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.srinivasa.refrigerationworks.srw.utility.common.enums;
+
+/*
+ * Enum for defining the shapes of identifiers accepted by search forms
+ * PHONE_NUMBER - 10 digits, optionally prefixed with +91
+ * EMAIL - Contains '@'
+ * COMPLAINT_ID - 'SRWC' followed by 8 digits
+ * CUSTOMER_ID - 'SRW' followed by 7 digits
+ * EMPLOYEE_ID - 'SRW' followed by 4 digits
+ * OWNER_ID - 'SRW' followed by 3 digits
+ * OTHER - Anything else (e.g. an employee's national ID number)
+ */
+public enum IdentifierType {
+    PHONE_NUMBER, EMAIL, COMPLAINT_ID, CUSTOMER_ID, EMPLOYEE_ID, OWNER_ID, OTHER;
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.srinivasa.refrigerationworks.srw.utility.event;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * Before and after snapshots of a single complaint write.
+ * - previous is null for a newly registered complaint.
+ * - current is null when the complaint leaves the complaints table.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ComplaintChange {
+
+    /*
+     * Complaint as it was before the write.
+     */
+    private final ComplaintDTO previous;
+
+    /*
+     * Complaint as it is after the write.
+     */
+    private final ComplaintDTO current;
+}
\ No newline at end of file
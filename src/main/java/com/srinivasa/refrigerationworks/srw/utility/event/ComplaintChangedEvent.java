@@ -0,0 +1,28 @@
+package com.srinivasa.refrigerationworks.srw.utility.event;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/*
+ * Application event published by ComplaintService after complaints are written.
+ * Carries one or more changes so batch writes are applied by listeners in one pass.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ComplaintChangedEvent {
+
+    /*
+     * Changes made by the write, in the order they were applied.
+     */
+    private final List<ComplaintChange> changes;
+
+    /*
+     * Creates an event for a single complaint change.
+     */
+    public static ComplaintChangedEvent of(ComplaintDTO previous, ComplaintDTO current) {
+        return new ComplaintChangedEvent(List.of(new ComplaintChange(previous, current)));
+    }
+}
\ No newline at end of file
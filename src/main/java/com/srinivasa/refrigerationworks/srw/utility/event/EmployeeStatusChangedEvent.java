@@ -0,0 +1,23 @@
+package com.srinivasa.refrigerationworks.srw.utility.event;
+
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * Application event published by EmployeeService when an employee is added, activated, or deactivated.
+ */
+@Getter
+@RequiredArgsConstructor
+public class EmployeeStatusChangedEvent {
+
+    /*
+     * Employee whose status changed.
+     */
+    private final String employeeId;
+
+    /*
+     * Status after the change.
+     */
+    private final UserStatus status;
+}
\ No newline at end of file
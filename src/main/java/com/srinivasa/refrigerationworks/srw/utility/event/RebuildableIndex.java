@@ -0,0 +1,128 @@
+package com.srinivasa.refrigerationworks.srw.utility.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/*
+ * Holder of an in-memory complaint index that is loaded from the database and patched from committed complaint changes.
+ * - Changes are applied to the current index as they are committed.
+ * - A rebuild loads a new index without blocking writers, then replays the changes committed while it was loading
+ *   before the new index replaces the old one, so no change is lost to a load that read the row before it was written.
+ * - A refresh runs an incremental load into the current index in place and replays the same way, so a row read
+ *   before a concurrent write does not overwrite that write.
+ * - Rebuilds and refreshes are serialized; callers arriving during one wait for it.
+ * - Applying a change must be idempotent, since a change can reach the new index both by the load and by the replay.
+ */
+public class RebuildableIndex<T> {
+
+    /*
+     * Loads a new index from the database, given the current one (null before the first load) for sizing.
+     */
+    private final UnaryOperator<T> loader;
+
+    /*
+     * Applies one committed change to an index.
+     */
+    private final BiConsumer<T, ComplaintChange> applier;
+
+    /*
+     * Current index, or null until the first load completes.
+     */
+    private volatile T current;
+
+    /*
+     * Serializes rebuilds, so concurrent callers wait for the running one.
+     */
+    private final Object rebuildLock = new Object();
+
+    /*
+     * Guards pendingChanges; held only briefly, so writers are never blocked by a loading rebuild.
+     */
+    private final Object pendingLock = new Object();
+
+    /*
+     * Changes committed while a rebuild is loading, or null when no rebuild is running.
+     */
+    private List<ComplaintChange> pendingChanges;
+
+    /*
+     * Constructs a holder with no index loaded yet.
+     */
+    public RebuildableIndex(UnaryOperator<T> loader, BiConsumer<T, ComplaintChange> applier) {
+        this.loader = loader;
+        this.applier = applier;
+    }
+
+    /*
+     * Returns the current index, loading it first if no load has completed yet.
+     */
+    public T get() {
+        T snapshot = current;
+        return snapshot == null ? rebuild() : snapshot;
+    }
+
+    /*
+     * Applies committed changes to the current index, and records them for a rebuild in progress.
+     */
+    public void apply(List<ComplaintChange> changes) {
+        synchronized (pendingLock) {
+            if (pendingChanges != null) {
+                pendingChanges.addAll(changes);
+            }
+        }
+        T snapshot = current;
+        if (snapshot != null) {
+            changes.forEach(change -> applier.accept(snapshot, change));
+        }
+    }
+
+    /*
+     * Loads a new index, replays changes committed meanwhile, and swaps it in.
+     */
+    public T rebuild() {
+        return load(loader);
+    }
+
+    /*
+     * Loads recent changes into the current index in place, replays changes committed meanwhile, and returns it;
+     * rebuilds instead if no load has completed yet.
+     */
+    public T refresh(Consumer<T> incrementalLoader) {
+        return load(previous -> {
+            if (previous == null) {
+                return loader.apply(null);
+            }
+            incrementalLoader.accept(previous);
+            return previous;
+        });
+    }
+
+    /*
+     * Runs the load while recording committed changes, replays them onto its result and makes it current.
+     */
+    private T load(UnaryOperator<T> load) {
+        synchronized (rebuildLock) {
+            synchronized (pendingLock) {
+                pendingChanges = new ArrayList<>();
+            }
+            T snapshot;
+            try {
+                snapshot = load.apply(current);
+            } catch (RuntimeException exception) {
+                synchronized (pendingLock) {
+                    pendingChanges = null;
+                }
+                throw exception;
+            }
+            synchronized (pendingLock) {
+                pendingChanges.forEach(change -> applier.accept(snapshot, change));
+                pendingChanges = null;
+                current = snapshot;
+            }
+            return snapshot;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,177 @@
+package com.srinivasa.refrigerationworks.srw.utility.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ExportFormat;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/*
+ * Writes rows one at a time as CSV or NDJSON, so an export never holds more than one row and a write buffer.
+ * - Columns map a header name to the value extracted from a row; values are written with toString(), nulls as empty (CSV) or null (NDJSON).
+ * - CSV fields containing a comma, quote or line break are quoted, with quotes doubled.
+ * - In free-text columns, CSV text starting with '=', '+', '-', '@', tab or carriage return is prefixed with an apostrophe,
+ *   so spreadsheets opening the export read customer-entered text as text instead of running it as a formula.
+ *   Other columns (IDs, validated phone numbers, dates, statuses) are written as they are, so '+91' numbers stay intact.
+ */
+public class ExportWriter<T> {
+
+    /*
+     * Shared factory for NDJSON generators.
+     */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /*
+     * Output format.
+     */
+    private final ExportFormat format;
+
+    /*
+     * Column names and value extractors, in output order.
+     */
+    private final Map<String, Function<T, Object>> columns;
+
+    /*
+     * Whether each column, by position, holds free text to neutralize in CSV.
+     */
+    private final boolean[] textColumns;
+
+    /*
+     * Buffered CSV output, or null for NDJSON.
+     */
+    private final Writer writer;
+
+    /*
+     * NDJSON output, or null for CSV.
+     */
+    private final JsonGenerator generator;
+
+    /*
+     * Constructs a writer for the given format and columns over the response stream; the stream is not closed.
+     * Text columns name the free-text columns whose CSV values are neutralized.
+     */
+    public ExportWriter(ExportFormat format, Map<String, Function<T, Object>> columns, Set<String> textColumns,
+                        OutputStream outputStream) throws IOException {
+        this.format = format;
+        this.columns = columns;
+        this.textColumns = new boolean[columns.size()];
+        int index = 0;
+        for (String column : columns.keySet()) {
+            this.textColumns[index++] = textColumns.contains(column);
+        }
+        if (format == ExportFormat.CSV) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+            this.generator = null;
+        } else {
+            this.writer = null;
+            this.generator = JSON_FACTORY.createGenerator(outputStream, JsonEncoding.UTF8)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        }
+    }
+
+    /*
+     * Writes the CSV header row; NDJSON has no header.
+     */
+    public void writeHeader() throws IOException {
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(columns.keySet().toArray(), new boolean[columns.size()]);
+        }
+    }
+
+    /*
+     * Writes one row.
+     */
+    public void write(T row) throws IOException {
+        if (format == ExportFormat.CSV) {
+            Object[] values = new Object[columns.size()];
+            int index = 0;
+            for (Function<T, Object> column : columns.values()) {
+                values[index++] = column.apply(row);
+            }
+            writeCsvLine(values, textColumns);
+        } else {
+            generator.writeStartObject();
+            for (Map.Entry<String, Function<T, Object>> column : columns.entrySet()) {
+                Object value = column.getValue().apply(row);
+                generator.writeFieldName(column.getKey());
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof Number number) {
+                    generator.writeNumber(number.toString());
+                } else {
+                    generator.writeString(value.toString());
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+    }
+
+    /*
+     * Flushes buffered output to the response, sending it to the client as a chunk.
+     */
+    public void flush() throws IOException {
+        if (format == ExportFormat.CSV) {
+            writer.flush();
+        } else {
+            generator.flush();
+        }
+    }
+
+    /*
+     * Writes one CSV line terminated by CRLF, neutralizing the values of the flagged columns.
+     */
+    private void writeCsvLine(Object[] values, boolean[] neutralize) throws IOException {
+        for (int index = 0; index < values.length; index++) {
+            if (index > 0) {
+                writer.write(',');
+            }
+            if (values[index] instanceof Number number) {
+                writeCsvField(number.toString());
+            } else if (values[index] != null) {
+                String value = values[index].toString();
+                writeCsvField(neutralize[index] ? neutralizeFormula(value) : value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /*
+     * Prefixes text a spreadsheet would read as a formula with an apostrophe.
+     */
+    private static String neutralizeFormula(String value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r' ? "'" + value : value;
+    }
+
+    /*
+     * Writes one CSV field, quoting it only when needed.
+     */
+    private void writeCsvField(String value) throws IOException {
+        boolean quote = false;
+        for (int index = 0; index < value.length() && !quote; index++) {
+            char character = value.charAt(index);
+            quote = character == ',' || character == '"' || character == '\n' || character == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
\ No newline at end of file
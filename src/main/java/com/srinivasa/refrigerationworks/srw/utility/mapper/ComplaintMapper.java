@@ -1,5 +1,6 @@
 package com.srinivasa.refrigerationworks.srw.utility.mapper;
 
+import com.srinivasa.refrigerationworks.srw.entity.ArchivedComplaint;
 import com.srinivasa.refrigerationworks.srw.entity.Complaint;
 import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
 import org.mapstruct.Mapper;
@@ -25,5 +26,16 @@ public interface ComplaintMapper {
     /*
      * Converts Complaint entity to ComplaintDTO
      */
+    @Mapping(target = "archivedAt", ignore = true)
     ComplaintDTO toDto(Complaint complaint);
+
+    /*
+     * Converts ArchivedComplaint entity to ComplaintDTO
+     */
+    ComplaintDTO toDto(ArchivedComplaint archivedComplaint);
+
+    /*
+     * Creates a copy of ComplaintDTO
+     */
+    ComplaintDTO copy(ComplaintDTO complaintDTO);
 }
\ No newline at end of file
@@ -0,0 +1,118 @@
+package com.srinivasa.refrigerationworks.srw.utility.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+ * SQL statements run while handling one request, grouped by fingerprint.
+ * - Statements are counted when Hibernate prepares them; execution time is added to the most recently prepared one.
+ * - Used only by the thread handling the request.
+ */
+public class RequestSqlProfile {
+
+    /*
+     * Executions and time of each fingerprint, in order of first use.
+     */
+    private final Map<String, Statement> statements = new LinkedHashMap<>();
+
+    /*
+     * Statements prepared, and time spent executing them.
+     */
+    private int statementCount;
+    private long sqlNanos;
+
+    /*
+     * Statement the next execution belongs to, and when that execution started (System.nanoTime), or 0 when none runs.
+     */
+    private Statement currentStatement;
+    private long executionStartedAt;
+
+    /*
+     * Records a statement prepared with the given fingerprint.
+     */
+    void statementPrepared(String fingerprint) {
+        statementCount++;
+        currentStatement = statements.computeIfAbsent(fingerprint, Statement::new);
+        currentStatement.count++;
+    }
+
+    /*
+     * Records the start of a statement or batch execution.
+     */
+    void executionStarted() {
+        executionStartedAt = System.nanoTime();
+    }
+
+    /*
+     * Records the end of a statement or batch execution, adding its time to the current statement.
+     */
+    void executionEnded() {
+        if (executionStartedAt == 0) {
+            return;
+        }
+        long nanos = System.nanoTime() - executionStartedAt;
+        executionStartedAt = 0;
+        sqlNanos += nanos;
+        if (currentStatement != null) {
+            currentStatement.nanos += nanos;
+        }
+    }
+
+    /*
+     * Returns the number of statements prepared.
+     */
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    /*
+     * Returns the time spent executing statements, in nanoseconds.
+     */
+    public long getSqlNanos() {
+        return sqlNanos;
+    }
+
+    /*
+     * Returns the statements by fingerprint.
+     */
+    public Map<String, Statement> getStatements() {
+        return Collections.unmodifiableMap(statements);
+    }
+
+    /*
+     * Executions and time of one fingerprint within the request.
+     */
+    public static class Statement {
+
+        /*
+         * Normalized SQL.
+         */
+        private final String fingerprint;
+
+        /*
+         * Times the statement was prepared, and time spent executing it in nanoseconds.
+         */
+        private int count;
+        private long nanos;
+
+        /*
+         * Constructs the entry for the fingerprint.
+         */
+        Statement(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.srinivasa.refrigerationworks.srw.utility.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/*
+ * Hibernate StatementInspector recording the SQL statements prepared on the current thread while a request is profiled.
+ * - StatementMetricsFilter starts and stops the profile around each request.
+ * - Statements are fingerprinted and returned unchanged; outside a profiled request they are not recorded.
+ */
+public class RequestStatementInspector implements StatementInspector {
+
+    /*
+     * Profile of the request running on this thread, or null when none is profiled.
+     */
+    private static final ThreadLocal<RequestSqlProfile> PROFILE = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        RequestSqlProfile profile = PROFILE.get();
+        if (profile != null) {
+            profile.statementPrepared(SqlFingerprint.of(sql));
+        }
+        return sql;
+    }
+
+    /*
+     * Starts profiling statements on this thread.
+     */
+    public void begin() {
+        PROFILE.set(new RequestSqlProfile());
+    }
+
+    /*
+     * Stops profiling statements on this thread and returns the profile.
+     */
+    public RequestSqlProfile end() {
+        RequestSqlProfile profile = PROFILE.get();
+        PROFILE.remove();
+        return profile == null ? new RequestSqlProfile() : profile;
+    }
+
+    /*
+     * Returns the profile of the request running on this thread, or null when none is profiled.
+     */
+    static RequestSqlProfile current() {
+        return PROFILE.get();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.srinivasa.refrigerationworks.srw.utility.metrics;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/*
+ * Utility class normalizing SQL into fingerprints, so statements differing only in literals group together.
+ * - String and numeric literals become '?', runs of placeholders in parentheses become '(?...)', whitespace is collapsed.
+ * - Identifiers such as Hibernate's 'c1_0' aliases are kept.
+ */
+public class SqlFingerprint {
+
+    /*
+     * Quoted string literals, with doubled quotes inside.
+     */
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+
+    /*
+     * Numeric literals not part of an identifier.
+     */
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+
+    /*
+     * Parenthesized lists of placeholders, e.g. IN lists and VALUES rows.
+     */
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    /*
+     * Repeated placeholder lists, e.g. multi-row VALUES.
+     */
+    private static final Pattern REPEATED_LISTS = Pattern.compile("\\(\\?\\.\\.\\.\\)(?:\\s*,\\s*\\(\\?\\.\\.\\.\\))+");
+
+    /*
+     * Runs of whitespace.
+     */
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /*
+     * Returns the fingerprint of the statement.
+     */
+    public static String of(String sql) {
+        String fingerprint = sql.toLowerCase(Locale.ROOT);
+        fingerprint = STRING_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = NUMERIC_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = WHITESPACE.matcher(fingerprint).replaceAll(" ").trim();
+        fingerprint = PLACEHOLDER_LIST.matcher(fingerprint).replaceAll("(?...)");
+        return REPEATED_LISTS.matcher(fingerprint).replaceAll("(?...)...");
+    }
+
+    /*
+     * Returns whether the fingerprint is a SELECT from a table with no WHERE clause or row limit, which reads the whole table.
+     * Any WHERE in the statement, including in a subquery, counts as bounded.
+     */
+    public static boolean isUnboundedSelect(String fingerprint) {
+        return fingerprint.startsWith("select ")
+                && fingerprint.contains(" from ")
+                && !fingerprint.contains(" where ")
+                && !fingerprint.contains(" limit ")
+                && !fingerprint.contains(" fetch first ")
+                && !fingerprint.contains(" offset ");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,279 @@
+package com.srinivasa.refrigerationworks.srw.utility.metrics;
+
+import com.srinivasa.refrigerationworks.srw.configuration.SqlProfilerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * Analyzes the SQL profile of each request and keeps what owners need to find slow or wasteful queries.
+ * - Every request records its statement count and SQL time per method and URI pattern.
+ * - Statements are aggregated per fingerprint across requests; the ones with the most total time form the slow query table.
+ * - Requests over the statement budget, repeating a fingerprint past the N+1 threshold, or running unbounded SELECTs are
+ *   logged as structured warnings, counted in 'sql.profiler.flags', and the most recent are kept.
+ */
+@Slf4j
+public class SqlProfiler {
+
+    /*
+     * Statement counts per histogram bucket boundary.
+     */
+    private static final double[] STATEMENT_BUCKETS = {1, 2, 5, 10, 25, 50, 100};
+
+    /*
+     * Flag reasons.
+     */
+    private static final String STATEMENT_BUDGET = "statement-budget";
+    private static final String REPEATED_STATEMENT = "repeated-statement";
+    private static final String UNBOUNDED_SELECT = "unbounded-select";
+
+    /*
+     * Budget, thresholds and table sizes.
+     */
+    private final SqlProfilerProperties properties;
+
+    /*
+     * Registry the per-request meters are recorded in.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /*
+     * Statistics per fingerprint across requests.
+     */
+    private final ConcurrentMap<String, StatementStatistics> statements = new ConcurrentHashMap<>();
+
+    /*
+     * Statements not tracked per fingerprint because 'maximumFingerprints' was reached.
+     */
+    private final LongAdder untrackedStatements = new LongAdder();
+
+    /*
+     * Most recent flagged requests, newest first; guarded by itself.
+     */
+    private final Deque<Map<String, Object>> flaggedRequests = new ArrayDeque<>();
+
+    /*
+     * Constructs the profiler with the given properties and registry.
+     */
+    public SqlProfiler(SqlProfilerProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /*
+     * Returns whether request profiles are analyzed.
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /*
+     * Records the profile of a finished request.
+     */
+    public void record(String method, String uri, RequestSqlProfile profile) {
+        DistributionSummary.builder("http.server.requests.statements")
+                .description("SQL statements run per request")
+                .tags("method", method, "uri", uri)
+                .serviceLevelObjectives(STATEMENT_BUCKETS)
+                .register(meterRegistry)
+                .record(profile.getStatementCount());
+        if (!properties.isEnabled() || profile.getStatementCount() == 0) {
+            return;
+        }
+        Timer.builder("http.server.requests.sql")
+                .description("Time spent executing SQL per request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(profile.getSqlNanos(), TimeUnit.NANOSECONDS);
+
+        List<String> reasons = new ArrayList<>();
+        List<String> repeated = new ArrayList<>();
+        List<String> unbounded = new ArrayList<>();
+        if (profile.getStatementCount() > properties.getStatementBudget()) {
+            reasons.add(STATEMENT_BUDGET);
+        }
+        for (RequestSqlProfile.Statement statement : profile.getStatements().values()) {
+            boolean unboundedSelect = properties.isFlagUnboundedSelects() && SqlFingerprint.isUnboundedSelect(statement.getFingerprint());
+            aggregate(statement, uri, unboundedSelect);
+            if (statement.getCount() > properties.getRepeatedStatementThreshold()) {
+                repeated.add(statement.getCount() + "x " + statement.getFingerprint());
+            }
+            if (unboundedSelect) {
+                unbounded.add(statement.getFingerprint());
+            }
+        }
+        if (!repeated.isEmpty()) {
+            reasons.add(REPEATED_STATEMENT);
+        }
+        if (!unbounded.isEmpty()) {
+            reasons.add(UNBOUNDED_SELECT);
+        }
+        if (!reasons.isEmpty()) {
+            flag(method, uri, profile, reasons, repeated, unbounded);
+        }
+    }
+
+    /*
+     * Returns the statements with the most total execution time, with their counts and the URI that last ran them.
+     */
+    public Map<String, Object> getTopStatements() {
+        // Totals are read once, so concurrent updates cannot reorder entries while sorting
+        List<Map<String, Object>> top = statements.values().stream()
+                .map(statistics -> Map.entry(statistics.totalNanos(), statistics))
+                .sorted(Map.Entry.<Long, StatementStatistics>comparingByKey().reversed())
+                .limit(properties.getTopSize())
+                .map(entry -> entry.getValue().toMap())
+                .toList();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("trackedFingerprints", statements.size());
+        result.put("untrackedStatements", untrackedStatements.sum());
+        result.put("statements", top);
+        return result;
+    }
+
+    /*
+     * Returns the most recent flagged requests, newest first.
+     */
+    public List<Map<String, Object>> getFlaggedRequests() {
+        synchronized (flaggedRequests) {
+            return new ArrayList<>(flaggedRequests);
+        }
+    }
+
+    /*
+     * Adds a request's executions of one fingerprint to the statistics across requests.
+     */
+    private void aggregate(RequestSqlProfile.Statement statement, String uri, boolean unboundedSelect) {
+        StatementStatistics statistics = statements.get(statement.getFingerprint());
+        if (statistics == null) {
+            if (statements.size() >= properties.getMaximumFingerprints()) {
+                untrackedStatements.add(statement.getCount());
+                return;
+            }
+            statistics = statements.computeIfAbsent(statement.getFingerprint(), fingerprint -> new StatementStatistics(fingerprint, unboundedSelect));
+        }
+        statistics.add(statement, uri);
+    }
+
+    /*
+     * Logs the flagged request as a structured warning, counts it per reason, and keeps it for owners.
+     */
+    private void flag(String method, String uri, RequestSqlProfile profile, List<String> reasons,
+                      List<String> repeated, List<String> unbounded) {
+        long sqlMillis = TimeUnit.NANOSECONDS.toMillis(profile.getSqlNanos());
+        log.atWarn()
+                .addKeyValue("method", method)
+                .addKeyValue("uri", uri)
+                .addKeyValue("reasons", reasons)
+                .addKeyValue("statements", profile.getStatementCount())
+                .addKeyValue("sqlMillis", sqlMillis)
+                .addKeyValue("repeated", repeated)
+                .addKeyValue("unbounded", unbounded)
+                .log("SQL profile flagged {} {}: {} statement(s) in {} ms, {}", method, uri, profile.getStatementCount(), sqlMillis, reasons);
+        reasons.forEach(reason -> Counter.builder("sql.profiler.flags")
+                .description("Requests flagged by the SQL profiler")
+                .tags("reason", reason, "uri", uri)
+                .register(meterRegistry)
+                .increment());
+
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("time", Instant.now());
+        request.put("method", method);
+        request.put("uri", uri);
+        request.put("reasons", reasons);
+        request.put("statements", profile.getStatementCount());
+        request.put("sqlMillis", sqlMillis);
+        request.put("repeated", repeated);
+        request.put("unbounded", unbounded);
+        synchronized (flaggedRequests) {
+            flaggedRequests.addFirst(request);
+            while (flaggedRequests.size() > properties.getFlaggedRequests()) {
+                flaggedRequests.removeLast();
+            }
+        }
+    }
+
+    /*
+     * Executions and time of one fingerprint across requests.
+     */
+    private static class StatementStatistics {
+
+        /*
+         * Normalized SQL, and whether it reads whole tables.
+         */
+        private final String fingerprint;
+        private final boolean unboundedSelect;
+
+        /*
+         * Executions, total and largest per-request execution time in nanoseconds, and requests that ran it.
+         */
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maximumRequestNanos = new AtomicLong();
+        private final LongAdder requests = new LongAdder();
+
+        /*
+         * URI pattern of the request that last ran the statement.
+         */
+        private volatile String lastUri;
+
+        /*
+         * Constructs empty statistics for the fingerprint.
+         */
+        StatementStatistics(String fingerprint, boolean unboundedSelect) {
+            this.fingerprint = fingerprint;
+            this.unboundedSelect = unboundedSelect;
+        }
+
+        /*
+         * Adds one request's executions.
+         */
+        void add(RequestSqlProfile.Statement statement, String uri) {
+            count.add(statement.getCount());
+            totalNanos.add(statement.getNanos());
+            maximumRequestNanos.accumulateAndGet(statement.getNanos(), Math::max);
+            requests.increment();
+            lastUri = uri;
+        }
+
+        /*
+         * Returns the total execution time in nanoseconds.
+         */
+        long totalNanos() {
+            return totalNanos.sum();
+        }
+
+        /*
+         * Returns the statistics as a row of the slow query table.
+         */
+        Map<String, Object> toMap() {
+            long executions = count.sum();
+            long total = totalNanos.sum();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("fingerprint", fingerprint);
+            row.put("executions", executions);
+            row.put("requests", requests.sum());
+            row.put("totalMillis", TimeUnit.NANOSECONDS.toMillis(total));
+            row.put("averageMicros", executions == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(total / executions));
+            row.put("maximumRequestMillis", TimeUnit.NANOSECONDS.toMillis(maximumRequestNanos.get()));
+            row.put("unboundedSelect", unboundedSelect);
+            row.put("lastUri", lastUri);
+            return row;
+        }
+    }
+}
\ No newline at end of file
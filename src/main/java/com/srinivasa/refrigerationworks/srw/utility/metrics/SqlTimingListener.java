@@ -0,0 +1,51 @@
+package com.srinivasa.refrigerationworks.srw.utility.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+
+/*
+ * Hibernate session listener timing JDBC executions for the request profiled on the current thread.
+ * - Registered through 'hibernate.session.events.auto', so Hibernate creates one per session.
+ * - Does nothing outside a profiled request.
+ */
+public class SqlTimingListener extends BaseSessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStarted();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        executionEnded();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStarted();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        executionEnded();
+    }
+
+    /*
+     * Marks the start of an execution on the current profile.
+     */
+    private static void executionStarted() {
+        RequestSqlProfile profile = RequestStatementInspector.current();
+        if (profile != null) {
+            profile.executionStarted();
+        }
+    }
+
+    /*
+     * Adds the finished execution's time to the current profile.
+     */
+    private static void executionEnded() {
+        RequestSqlProfile profile = RequestStatementInspector.current();
+        if (profile != null) {
+            profile.executionEnded();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.srinivasa.refrigerationworks.srw.utility.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/*
+ * Servlet filter profiling the SQL statements each request ran, and handing the profile to SqlProfiler.
+ * - Statement counts are recorded in 'http.server.requests.statements', tagged by method and URI pattern like
+ *   'http.server.requests', so N+1 queries show up per endpoint.
+ * - Runs ahead of Spring Security, so statements run during authentication are counted too.
+ */
+public class StatementMetricsFilter extends OncePerRequestFilter {
+
+    /*
+     * Inspector profiling the statements of the current request.
+     */
+    private final RequestStatementInspector statementInspector;
+
+    /*
+     * Profiler analyzing finished requests.
+     */
+    private final SqlProfiler sqlProfiler;
+
+    /*
+     * Constructs the filter over the given inspector and profiler.
+     */
+    public StatementMetricsFilter(RequestStatementInspector statementInspector, SqlProfiler sqlProfiler) {
+        this.statementInspector = statementInspector;
+        this.sqlProfiler = sqlProfiler;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        statementInspector.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlProfile profile = statementInspector.end();
+            Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            sqlProfiler.record(request.getMethod(), uri != null ? uri.toString() : "UNKNOWN", profile);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,185 @@
+package com.srinivasa.refrigerationworks.srw.utility.ratelimit;
+
+import com.srinivasa.refrigerationworks.srw.configuration.RateLimitProperties;
+import com.srinivasa.refrigerationworks.srw.utility.cache.RedisCircuitBreaker;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * Servlet filter limiting POST requests to the configured endpoint groups, before Spring Security or any controller runs.
+ * - Each request takes a token for its client IP and for the value of every configured form parameter (e.g. username).
+ * - The client IP is the request's remote address, which Tomcat's RemoteIpValve resolves from X-Forwarded-For
+ *   ('server.forward-headers-strategy: native') trusting only entries appended by 'server.tomcat.remoteip.internal-proxies'.
+ * - 'local' mode uses striped in-process token buckets; 'redis' mode counts fixed windows shared by every node.
+ * - Over-limit requests get 429 with Retry-After, without touching the database.
+ * - If Redis is unavailable, or the shared circuit breaker is open, in-process buckets are used instead.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    /*
+     * Prefix of Redis window counters.
+     */
+    private static final String REDIS_KEY_PREFIX = "rate-limit::";
+
+    /*
+     * Rate limit configuration.
+     */
+    private final RateLimitProperties rateLimitProperties;
+
+    /*
+     * Group of each limited path.
+     */
+    private final Map<String, String> groupsByPath = new HashMap<>();
+
+    /*
+     * In-process buckets, also the fallback when Redis is unavailable.
+     */
+    private final StripedTokenBuckets tokenBuckets;
+
+    /*
+     * Template for window counters in 'redis' mode, or null in 'local' mode.
+     */
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /*
+     * Circuit breaker guarding the window counters.
+     */
+    private final RedisCircuitBreaker circuitBreaker;
+
+    /*
+     * Requests allowed and rejected, per group.
+     */
+    private final Map<String, LongAdder> allowed = new LinkedHashMap<>();
+    private final Map<String, LongAdder> rejected = new LinkedHashMap<>();
+
+    /*
+     * Constructs the filter; the template is only used in 'redis' mode.
+     */
+    public RateLimitFilter(RateLimitProperties rateLimitProperties, StringRedisTemplate stringRedisTemplate, RedisCircuitBreaker circuitBreaker) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.circuitBreaker = circuitBreaker;
+        this.tokenBuckets = new StripedTokenBuckets(rateLimitProperties.getStripes(), rateLimitProperties.getMaximumBucketsPerStripe());
+        this.stringRedisTemplate = switch (rateLimitProperties.getMode()) {
+            case "local" -> null;
+            case "redis" -> stringRedisTemplate;
+            default -> throw new IllegalArgumentException("Unknown rate limit mode: " + rateLimitProperties.getMode());
+        };
+        rateLimitProperties.getGroups().forEach((groupName, group) -> {
+            group.getPaths().forEach(path -> groupsByPath.put(path, groupName));
+            allowed.put(groupName, new LongAdder());
+            rejected.put(groupName, new LongAdder());
+        });
+    }
+
+    /*
+     * Skips everything but POST requests to a limited path.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimitProperties.isEnabled()
+                || !"POST".equals(request.getMethod())
+                || !groupsByPath.containsKey(pathOf(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String groupName = groupsByPath.get(pathOf(request));
+        RateLimitProperties.Group group = rateLimitProperties.getGroups().get(groupName);
+        List<String> keys = new ArrayList<>();
+        keys.add(groupName + ":ip:" + request.getRemoteAddr());
+        for (String parameter : group.getKeyParameters()) {
+            String value = request.getParameter(parameter);
+            if (value != null && !value.isBlank()) {
+                keys.add(groupName + ":" + parameter + ":" + value.trim().toLowerCase());
+            }
+        }
+        long retryAfterNanos = stringRedisTemplate != null ? acquireShared(keys, group) : acquireLocal(keys, group);
+        if (retryAfterNanos > 0) {
+            rejected.get(groupName).increment();
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader("Retry-After", String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos))));
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("Too many requests. Please try again later.");
+            return;
+        }
+        allowed.get(groupName).increment();
+        filterChain.doFilter(request, response);
+    }
+
+    /*
+     * Returns allowed and rejected request counts per group.
+     */
+    public Map<String, Map<String, Long>> getStatistics() {
+        Map<String, Map<String, Long>> statistics = new LinkedHashMap<>();
+        allowed.forEach((groupName, count) -> statistics.put(groupName, Map.of("allowed", count.sum(), "rejected", rejected.get(groupName).sum())));
+        return statistics;
+    }
+
+    /*
+     * Takes a token for every key from the in-process buckets; returns the longest wait if any bucket is empty.
+     */
+    private long acquireLocal(List<String> keys, RateLimitProperties.Group group) {
+        long refillPeriodNanos = group.getRefillPeriod().toNanos();
+        long retryAfterNanos = 0;
+        for (String key : keys) {
+            retryAfterNanos = Math.max(retryAfterNanos, tokenBuckets.tryAcquire(key, group.getCapacity(), refillPeriodNanos));
+        }
+        return retryAfterNanos;
+    }
+
+    /*
+     * Counts the request in the current Redis window of every key, in one pipelined round trip.
+     * Returns the time left in the window if any key is over the limit.
+     */
+    private long acquireShared(List<String> keys, RateLimitProperties.Group group) {
+        long windowMillis = group.getRefillPeriod().toMillis();
+        long now = System.currentTimeMillis();
+        long window = now / windowMillis;
+        try {
+            List<Object> counts = circuitBreaker.execute(() -> stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (String key : keys) {
+                    String windowKey = REDIS_KEY_PREFIX + key + ":" + window;
+                    stringConnection.incr(windowKey);
+                    stringConnection.pExpire(windowKey, windowMillis);
+                }
+                return null;
+            }));
+            for (int index = 0; index < counts.size(); index += 2) {
+                if (counts.get(index) instanceof Long count && count > group.getCapacity()) {
+                    return TimeUnit.MILLISECONDS.toNanos((window + 1) * windowMillis - now);
+                }
+            }
+            return 0;
+        } catch (DataAccessException exception) {
+            log.warn("Rate limit store unavailable, limiting in-process: {}", exception.getMessage());
+            return acquireLocal(keys, group);
+        }
+    }
+
+    /*
+     * Request path without the context path.
+     */
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.srinivasa.refrigerationworks.srw.utility.ratelimit;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/*
+ * In-process token buckets, keyed by string and guarded by a fixed set of lock stripes.
+ * - A key always maps to the same stripe, so requests for unrelated keys rarely contend.
+ * - Buckets refill continuously; a full bucket is indistinguishable from a new one, so full buckets are pruned when a stripe grows too large.
+ */
+public class StripedTokenBuckets {
+
+    /*
+     * Buckets per stripe; each map is only touched while holding its own monitor.
+     */
+    private final Map<String, Bucket>[] stripes;
+
+    /*
+     * Buckets a stripe may hold before full buckets are pruned.
+     */
+    private final int maximumBucketsPerStripe;
+
+    /*
+     * Constructs the buckets with the given number of stripes (rounded up to a power of two).
+     */
+    @SuppressWarnings("unchecked")
+    public StripedTokenBuckets(int stripeCount, int maximumBucketsPerStripe) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new Map[size];
+        for (int index = 0; index < size; index++) {
+            stripes[index] = new HashMap<>();
+        }
+        this.maximumBucketsPerStripe = maximumBucketsPerStripe;
+    }
+
+    /*
+     * Takes a token from the key's bucket.
+     * Returns 0 if one was available, otherwise the nanoseconds until the next token.
+     */
+    public long tryAcquire(String key, int capacity, long refillPeriodNanos) {
+        Map<String, Bucket> stripe = stripes[spread(key.hashCode()) & (stripes.length - 1)];
+        synchronized (stripe) {
+            long now = System.nanoTime();
+            Bucket bucket = stripe.get(key);
+            if (bucket == null) {
+                if (stripe.size() >= maximumBucketsPerStripe) {
+                    prune(stripe, now);
+                }
+                bucket = new Bucket(capacity, (double) refillPeriodNanos / capacity, now);
+                stripe.put(key, bucket);
+            }
+            bucket.refill(now);
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - bucket.tokens) * bucket.nanosPerToken);
+        }
+    }
+
+    /*
+     * Drops buckets that have refilled completely; if that is not enough, drops half the stripe to bound memory.
+     */
+    private void prune(Map<String, Bucket> stripe, long now) {
+        stripe.values().removeIf(bucket -> {
+            bucket.refill(now);
+            return bucket.tokens >= bucket.capacity;
+        });
+        if (stripe.size() >= maximumBucketsPerStripe) {
+            Iterator<Bucket> iterator = stripe.values().iterator();
+            for (int removed = stripe.size() / 2; removed > 0 && iterator.hasNext(); removed--) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    /*
+     * Spreads hash bits so keys differing only in high bits land on different stripes.
+     */
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /*
+     * Token count of one key, refilled lazily when touched.
+     */
+    private static final class Bucket {
+
+        /*
+         * Maximum tokens, and time to earn one token.
+         */
+        private final int capacity;
+        private final double nanosPerToken;
+
+        /*
+         * Tokens currently available, possibly fractional.
+         */
+        private double tokens;
+
+        /*
+         * Time of the last refill, from System.nanoTime().
+         */
+        private long refilledAt;
+
+        /*
+         * Constructs a full bucket.
+         */
+        private Bucket(int capacity, double nanosPerToken, long now) {
+            this.capacity = capacity;
+            this.nanosPerToken = nanosPerToken;
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        /*
+         * Adds the tokens earned since the last refill, up to the capacity.
+         */
+        private void refill(long now) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) / nanosPerToken);
+            refilledAt = now;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,302 @@
+package com.srinivasa.refrigerationworks.srw.utility.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/*
+ * In-memory inverted index over complaint free text, matching whole and partial words.
+ * - Text is lower-cased and split into letter/digit tokens; each token is indexed by its trigrams, padded with a boundary
+ *   marker so '_da' and 'in_' record where a word starts and ends ("daik" still matches "daikin", whole words rank higher).
+ * - Each trigram maps to an append-only posting list of document numbers. Re-indexing a complaint gives it a new number
+ *   and marks the old one removed; rebuilding the index drops the removed postings.
+ * - A query scores each document by the IDF-weighted share of the query's trigrams it contains, so rare trigrams
+ *   ("kin" of "daikin") count more than common ones; the best documents are kept in a bounded heap.
+ * - Posting lists are sorted, so a query merges its grams' lists and scores each matching document in one step,
+ *   allocating per query gram rather than per document number (removed documents included).
+ * - Queries hold the read lock and writes the write lock.
+ */
+public class ComplaintTextIndex {
+
+    /*
+     * Characters per gram.
+     */
+    private static final int GRAM_LENGTH = 3;
+
+    /*
+     * Marks the start and end of a token; never part of a token, since tokens are letters and digits only.
+     */
+    private static final char BOUNDARY = '_';
+
+    /*
+     * Separators between tokens.
+     */
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /*
+     * Posting list of each gram.
+     */
+    private final Map<String, Postings> postings = new HashMap<>();
+
+    /*
+     * Current document number of each complaintId.
+     */
+    private final Map<String, Integer> documentByComplaintId = new HashMap<>();
+
+    /*
+     * Documents replaced or removed; their postings are skipped.
+     */
+    private final BitSet removed = new BitSet();
+
+    /*
+     * Guards the index: queries read, upserts and removals write.
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /*
+     * Number of document numbers allocated, and of those not removed.
+     */
+    private int size;
+    private int liveSize;
+
+    /*
+     * ComplaintId and creation time (epoch seconds, UTC) of each document.
+     */
+    private String[] complaintIds;
+    private long[] createdAt;
+
+    /*
+     * Constructs an empty index sized for the expected number of complaints.
+     */
+    public ComplaintTextIndex(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        complaintIds = new String[capacity];
+        createdAt = new long[capacity];
+    }
+
+    /*
+     * Indexes the complaint's text fields, replacing any earlier version of the complaint.
+     */
+    public void upsert(String complaintId, LocalDateTime created, String... fields) {
+        Set<String> grams = grams(fields);
+        lock.writeLock().lock();
+        try {
+            removeDocument(complaintId);
+            int document = size++;
+            if (size > complaintIds.length) {
+                int capacity = complaintIds.length * 2;
+                complaintIds = Arrays.copyOf(complaintIds, capacity);
+                createdAt = Arrays.copyOf(createdAt, capacity);
+            }
+            complaintIds[document] = complaintId;
+            createdAt[document] = created == null ? Long.MIN_VALUE : created.toEpochSecond(ZoneOffset.UTC);
+            documentByComplaintId.put(complaintId, document);
+            liveSize++;
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, key -> new Postings()).add(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /*
+     * Removes the complaint from the index.
+     */
+    public void remove(String complaintId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(complaintId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /*
+     * Returns the number of complaints indexed.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveSize;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * Returns up to 'limit' complaints best matching the query, highest score first and newest first on ties.
+     * - Only complaints created within [from, to) are considered; null bounds are open.
+     * - Scores are in (0, 1]; complaints scoring below minimumScore are dropped.
+     */
+    public List<Hit> search(String query, LocalDateTime from, LocalDateTime to, int limit, double minimumScore) {
+        Set<String> queryGrams = grams(query);
+        if (queryGrams.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        long fromSeconds = from == null ? Long.MIN_VALUE : from.toEpochSecond(ZoneOffset.UTC);
+        long toSeconds = to == null ? Long.MAX_VALUE : to.toEpochSecond(ZoneOffset.UTC);
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[queryGrams.size()];
+            float[] weights = new float[lists.length];
+            int[] cursors = new int[lists.length];
+            int listCount = 0;
+            double totalWeight = 0;
+            for (String gram : queryGrams) {
+                Postings gramPostings = postings.get(gram);
+                double weight = Math.log(1 + (double) Math.max(1, liveSize) / (gramPostings == null ? 1 : gramPostings.size));
+                totalWeight += weight;
+                if (gramPostings != null) {
+                    lists[listCount] = gramPostings;
+                    weights[listCount++] = (float) weight;
+                }
+            }
+            PriorityQueue<Candidate> best = new PriorityQueue<>(limit + 1, Candidate.WORST_FIRST);
+            float threshold = (float) (minimumScore * totalWeight);
+            while (true) {
+                int document = Integer.MAX_VALUE;
+                for (int list = 0; list < listCount; list++) {
+                    if (cursors[list] < lists[list].size) {
+                        document = Math.min(document, lists[list].documents[cursors[list]]);
+                    }
+                }
+                if (document == Integer.MAX_VALUE) {
+                    break;
+                }
+                float score = 0;
+                for (int list = 0; list < listCount; list++) {
+                    if (cursors[list] < lists[list].size && lists[list].documents[cursors[list]] == document) {
+                        score += weights[list];
+                        cursors[list]++;
+                    }
+                }
+                if (score < threshold || removed.get(document) || createdAt[document] < fromSeconds || createdAt[document] >= toSeconds) {
+                    continue;
+                }
+                best.offer(new Candidate(document, score, createdAt[document]));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+            List<Hit> hits = new ArrayList<>(best.size());
+            while (!best.isEmpty()) {
+                Candidate candidate = best.poll();
+                hits.add(new Hit(complaintIds[candidate.document()], candidate.score() / totalWeight));
+            }
+            Collections.reverse(hits);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * Returns the distinct boundary-padded trigrams of the tokens in the texts; null texts are skipped.
+     * Tokens shorter than a trigram are indexed as a single padded gram.
+     */
+    public static Set<String> grams(String... texts) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            for (String token : SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+                if (token.isEmpty()) {
+                    continue;
+                }
+                String padded = BOUNDARY + token + BOUNDARY;
+                if (padded.length() <= GRAM_LENGTH) {
+                    grams.add(padded);
+                    continue;
+                }
+                for (int start = 0; start + GRAM_LENGTH <= padded.length(); start++) {
+                    grams.add(padded.substring(start, start + GRAM_LENGTH));
+                }
+            }
+        }
+        return grams;
+    }
+
+    /*
+     * Marks the complaint's current document removed, if it has one; caller holds the write lock.
+     */
+    private void removeDocument(String complaintId) {
+        Integer document = documentByComplaintId.remove(complaintId);
+        if (document != null) {
+            removed.set(document);
+            liveSize--;
+        }
+    }
+
+    /*
+     * A matching complaint and its score.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Hit {
+
+        /*
+         * ComplaintId of the match.
+         */
+        private final String complaintId;
+
+        /*
+         * Weighted share of the query matched, in (0, 1].
+         */
+        private final double score;
+    }
+
+    /*
+     * A document kept in the bounded heap of a query, with its score and creation time.
+     */
+    private record Candidate(int document, float score, long createdAt) {
+
+        /*
+         * Orders candidates lowest score first, oldest first on ties, so the heap evicts the worst.
+         */
+        private static final Comparator<Candidate> WORST_FIRST = Comparator.comparingDouble(Candidate::score).thenComparingLong(Candidate::createdAt);
+    }
+
+    /*
+     * Growable list of document numbers, in increasing order since numbers are allocated in sequence.
+     */
+    private static class Postings {
+
+        /*
+         * Document numbers; the first 'size' entries are in use.
+         */
+        private int[] documents = new int[4];
+
+        /*
+         * Number of entries in use.
+         */
+        private int size;
+
+        /*
+         * Appends a document number.
+         */
+        private void add(int document) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+            }
+            documents[size++] = document;
+        }
+    }
+}
\ No newline at end of file
@@ -6,6 +6,8 @@ import com.srinivasa.refrigerationworks.srw.entity.Owner;
 import com.srinivasa.refrigerationworks.srw.repository.CustomerRepository;
 import com.srinivasa.refrigerationworks.srw.repository.EmployeeRepository;
 import com.srinivasa.refrigerationworks.srw.repository.OwnerRepository;
+import com.srinivasa.refrigerationworks.srw.service.UniqueValueFilterService;
+import com.srinivasa.refrigerationworks.srw.utility.common.IdentifierClassifier;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.validation.ConstraintValidator;
@@ -60,6 +62,11 @@ public class UniqueValueConstraintValidator implements ConstraintValidator<Uniqu
     private final EmployeeRepository employeeRepository;
     private final CustomerRepository customerRepository;
 
+    /*
+     * Bloom filter of registered values, letting definitely new values skip the database.
+     */
+    private final UniqueValueFilterService uniqueValueFilterService;
+
     @Override
     public void initialize(UniqueValue uniqueValue) {
         this.fieldName = uniqueValue.fieldName();
@@ -89,7 +96,14 @@ public class UniqueValueConstraintValidator implements ConstraintValidator<Uniqu
         /*
          * Normalize phone numbers by appending country code if necessary.
          */
-        fieldValue = fieldValue.matches("\\d{10}") ? "+91" + fieldValue : fieldValue;
+        fieldValue = IdentifierClassifier.normalize(fieldValue);
+
+        /*
+         * A value the filter has never seen is unique without asking the database.
+         */
+        if (!uniqueValueFilterService.mightContain(fieldName, fieldValue)) {
+            return true;
+        }
 
         boolean isUnique = false;
 
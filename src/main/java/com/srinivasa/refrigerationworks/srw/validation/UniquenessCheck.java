@@ -0,0 +1,9 @@
+package com.srinivasa.refrigerationworks.srw.validation;
+
+/*
+ * Validation group for @UniqueValue checks that a database unique key also enforces.
+ * - Always validated on updates.
+ * - Validated on registration only in 'pre-check' mode; in 'insert-first' mode the unique key decides and its violation is reported on the form field.
+ */
+public interface UniquenessCheck {
+}
\ No newline at end of file
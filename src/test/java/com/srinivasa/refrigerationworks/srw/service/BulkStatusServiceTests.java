@@ -0,0 +1,63 @@
+package com.srinivasa.refrigerationworks.srw.service;
+
+import com.srinivasa.refrigerationworks.srw.payload.response.BulkUpdateResponseBody;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.BulkStatusTarget;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.BulkUpdateResult;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ResponseBodyStatus;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/*
+ * Tests that the page and the API get the same bulk update: bounded ID lists are rejected before any update and
+ * accepted ones are applied to the chosen target and summarised.
+ */
+class BulkStatusServiceTests {
+
+    private final ComplaintService complaintService = mock(ComplaintService.class);
+    private final CustomerCredentialService customerCredentialService = mock(CustomerCredentialService.class);
+    private final EmployeeCredentialService employeeCredentialService = mock(EmployeeCredentialService.class);
+
+    private BulkStatusService bulkStatusService;
+
+    @BeforeEach
+    void setUp() {
+        bulkStatusService = new BulkStatusService(complaintService, customerCredentialService, employeeCredentialService);
+        ReflectionTestUtils.setField(bulkStatusService, "maximumIds", 2);
+    }
+
+    @Test
+    void rejectsEmptyAndOversizedIdListsWithoutUpdating() {
+        assertThat(bulkStatusService.updateStatuses(BulkStatusTarget.CUSTOMERS, true, " , ").getStatus()).isEqualTo(ResponseBodyStatus.FAILURE);
+        assertThat(bulkStatusService.updateStatuses(BulkStatusTarget.CUSTOMERS, true, "a b c").getStatus()).isEqualTo(ResponseBodyStatus.FAILURE);
+        verifyNoInteractions(complaintService, customerCredentialService, employeeCredentialService);
+    }
+
+    @Test
+    void appliesToTargetAndSummarises() {
+        Map<String, BulkUpdateResult> results = new LinkedHashMap<>();
+        results.put("CUS1", BulkUpdateResult.UPDATED);
+        results.put("CUS2", BulkUpdateResult.NOT_FOUND);
+        when(customerCredentialService.updateCustomerStatuses(any(), any())).thenReturn(results);
+
+        BulkUpdateResponseBody body = bulkStatusService.updateStatuses(BulkStatusTarget.CUSTOMERS, false, "CUS1\nCUS2,CUS1");
+
+        verify(customerCredentialService).updateCustomerStatuses(Set.of("CUS1", "CUS2"), UserStatus.IN_ACTIVE);
+        verifyNoInteractions(complaintService, employeeCredentialService);
+        assertThat(body.getStatus()).isEqualTo(ResponseBodyStatus.SUCCESS);
+        assertThat(body.getMessage()).isEqualTo("1 updated, 0 unchanged, 1 not found");
+        assertThat(body.getResults()).isEqualTo(results);
+    }
+}
\ No newline at end of file
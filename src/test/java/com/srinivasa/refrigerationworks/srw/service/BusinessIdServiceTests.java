@@ -0,0 +1,88 @@
+package com.srinivasa.refrigerationworks.srw.service;
+
+import com.srinivasa.refrigerationworks.srw.entity.IdBlock;
+import com.srinivasa.refrigerationworks.srw.repository.IdBlockRepository;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.IdSequence;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/*
+ * Tests that references stay unique under concurrency and that reserving a block for one sequence does not
+ * block callers of another.
+ */
+class BusinessIdServiceTests {
+
+    private final IdBlockRepository idBlockRepository = mock(IdBlockRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final Map<String, IdBlock> rows = new ConcurrentHashMap<>();
+
+    private BusinessIdService businessIdService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(idBlockRepository.findForUpdate(anyString())).thenAnswer(invocation -> rows.computeIfAbsent(invocation.getArgument(0), name -> new IdBlock(name, 1L)));
+        businessIdService = new BusinessIdService(idBlockRepository, mock(EntityManager.class), transactionManager);
+    }
+
+    @Test
+    void referencesAreUniqueUnderConcurrency() throws Exception {
+        Set<Long> references = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int task = 0; task < 8; task++) {
+                executor.submit(() -> {
+                    for (int call = 0; call < 500; call++) {
+                        references.add(businessIdService.nextReference(IdSequence.EMPLOYEE));
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(references).hasSize(4000);
+    }
+
+    @Test
+    void reservationDoesNotBlockOtherSequences() throws Exception {
+        CountDownLatch reserving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(idBlockRepository.findForUpdate(IdSequence.COMPLAINT.name())).thenAnswer(invocation -> {
+            reserving.countDown();
+            release.await();
+            return rows.computeIfAbsent(IdSequence.COMPLAINT.name(), name -> new IdBlock(name, 1L));
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> complaint = executor.submit(() -> businessIdService.nextReference(IdSequence.COMPLAINT));
+            assertThat(reserving.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(businessIdService.nextReference(IdSequence.CUSTOMER)).isEqualTo(1L);
+
+            release.countDown();
+            assertThat(complaint.get(5, TimeUnit.SECONDS)).isEqualTo(1L);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.srinivasa.refrigerationworks.srw.service;
+
+import com.srinivasa.refrigerationworks.srw.entity.UserCredential;
+import com.srinivasa.refrigerationworks.srw.entity.UserRole;
+import com.srinivasa.refrigerationworks.srw.entity.UserRoleId;
+import com.srinivasa.refrigerationworks.srw.repository.UserCredentialRepository;
+import com.srinivasa.refrigerationworks.srw.utility.cache.CacheTagIndex;
+import com.srinivasa.refrigerationworks.srw.utility.cache.InMemoryRedis;
+import com.srinivasa.refrigerationworks.srw.utility.cache.RedisCircuitBreaker;
+import com.srinivasa.refrigerationworks.srw.utility.cache.TwoLevelCacheManager;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserType;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/*
+ * Tests that a status change made while a login loads the user is not overwritten in the cache by the status read
+ * before it, and that password hashes are read from the database on every login instead of being cached.
+ */
+class CachedUserDetailsServiceTests {
+
+    private final InMemoryRedis redis = new InMemoryRedis();
+
+    private final TwoLevelCacheManager cacheManager = redis.newNode(Duration.ofMinutes(5), 0);
+
+    private final UserCredentialRepository userCredentialRepository = mock(UserCredentialRepository.class);
+
+    private final CacheTagIndex cacheTagIndex = cacheTagIndex();
+
+    private final CachedUserDetailsService service = new CachedUserDetailsService(userCredentialRepository, cacheManager, cacheTagIndex);
+
+    @Test
+    void deactivationDuringLoadIsNotOverwrittenByStaleStatus() {
+        when(userCredentialRepository.fetchPasswordByUsername("ravi")).thenReturn("hash");
+        AtomicBoolean deactivated = new AtomicBoolean();
+        when(userCredentialRepository.findWithRolesByUsername("ravi")).thenAnswer(invocation -> {
+            UserCredential userCredential = userCredential(!deactivated.get());
+            if (!deactivated.getAndSet(true)) {
+                service.evictByUserId("EMP1");
+            }
+            return userCredential;
+        });
+
+        assertThat(service.loadUserByUsername("ravi").isEnabled()).isTrue();
+        assertThat(service.loadUserByUsername("ravi").isEnabled()).isFalse();
+    }
+
+    @Test
+    void cachedStatusAndRolesAreReused() {
+        when(userCredentialRepository.fetchPasswordByUsername("ravi")).thenReturn("hash");
+        AtomicBoolean loaded = new AtomicBoolean();
+        when(userCredentialRepository.findWithRolesByUsername("ravi")).thenAnswer(invocation -> {
+            assertThat(loaded.getAndSet(true)).isFalse();
+            return userCredential(true);
+        });
+
+        service.loadUserByUsername("ravi");
+        UserDetails userDetails = service.loadUserByUsername("ravi");
+        assertThat(userDetails.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_EMPLOYEE");
+    }
+
+    @Test
+    void passwordHashIsReadOnEveryLogin() {
+        when(userCredentialRepository.findWithRolesByUsername("ravi")).thenReturn(userCredential(true));
+        when(userCredentialRepository.fetchPasswordByUsername("ravi")).thenReturn("old-hash", "new-hash");
+
+        assertThat(service.loadUserByUsername("ravi").getPassword()).isEqualTo("old-hash");
+        assertThat(service.loadUserByUsername("ravi").getPassword()).isEqualTo("new-hash");
+    }
+
+    /*
+     * Tag index over the in-memory Redis and the service's cache manager.
+     */
+    private CacheTagIndex cacheTagIndex() {
+        CacheTagIndex cacheTagIndex = new CacheTagIndex(redis.getStringRedisTemplate(), cacheManager, new RedisCircuitBreaker(5, Duration.ofSeconds(30)));
+        ReflectionTestUtils.setField(cacheTagIndex, "timeToLive", Duration.ZERO);
+        return cacheTagIndex;
+    }
+
+    /*
+     * Credential of employee EMP1 as read from the database, with the given status.
+     */
+    private static UserCredential userCredential(boolean enabled) {
+        UserCredential userCredential = new UserCredential();
+        userCredential.setUserId("EMP1");
+        userCredential.setUsername("ravi");
+        userCredential.setPassword("hash");
+        userCredential.setEnabled((short) (enabled ? 1 : 0));
+        userCredential.setUserType(UserType.EMPLOYEE);
+        UserRoleId userRoleId = new UserRoleId();
+        userRoleId.setUserCredential("EMP1");
+        userRoleId.setRole("ROLE_EMPLOYEE");
+        UserRole userRole = new UserRole();
+        userRole.setUserId(userRoleId);
+        userCredential.setUserRoles(List.of(userRole));
+        return userCredential;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.srinivasa.refrigerationworks.srw.service;
+
+import com.srinivasa.refrigerationworks.srw.entity.Complaint;
+import com.srinivasa.refrigerationworks.srw.repository.ArchivedComplaintRepository;
+import com.srinivasa.refrigerationworks.srw.repository.ComplaintRepository;
+import com.srinivasa.refrigerationworks.srw.utility.mapper.ComplaintMapperImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/*
+ * Tests that archiving moves complaints without losing any: a batch is deleted only after all of it was copied.
+ */
+class ComplaintArchiveServiceTests {
+
+    private final ComplaintRepository complaintRepository = mock(ComplaintRepository.class);
+    private final ArchivedComplaintRepository archivedComplaintRepository = mock(ArchivedComplaintRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private ComplaintArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        archiveService = new ComplaintArchiveService(complaintRepository, archivedComplaintRepository, new ComplaintMapperImpl(),
+                mock(ComplaintService.class), eventPublisher, new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(archiveService, "batchSize", 3);
+        ReflectionTestUtils.setField(archiveService, "maxRunTime", Duration.ofMinutes(1));
+    }
+
+    @Test
+    void movesBatchWhenEveryRowIsCopied() {
+        when(complaintRepository.lockArchivableAfter(anyLong(), any(), anyInt()))
+                .thenReturn(complaints(1, 2, 3))
+                .thenReturn(List.of());
+        when(archivedComplaintRepository.copyFromComplaints(anyCollection(), any())).thenReturn(3);
+
+        assertThat(archiveService.archive(LocalDateTime.now())).isEqualTo(3);
+        verify(complaintRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    @Test
+    void rollsBackWithoutDeletingWhenRowsAreNotCopied() {
+        when(complaintRepository.lockArchivableAfter(anyLong(), any(), anyInt())).thenReturn(complaints(1, 2, 3));
+        when(archivedComplaintRepository.copyFromComplaints(anyCollection(), any())).thenReturn(2);
+
+        assertThatThrownBy(() -> archiveService.archive(LocalDateTime.now()))
+                .isInstanceOf(IncorrectUpdateSemanticsDataAccessException.class);
+        verify(complaintRepository, never()).deleteAllByIdInBatch(any());
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    /*
+     * Builds archivable complaints with the given references.
+     */
+    private static List<Complaint> complaints(long... references) {
+        return Arrays.stream(references).mapToObj(reference -> {
+            Complaint complaint = new Complaint();
+            complaint.setComplaintReference(reference);
+            complaint.setComplaintId(String.format("SRWC%08d", reference));
+            return complaint;
+        }).toList();
+    }
+}
\ No newline at end of file
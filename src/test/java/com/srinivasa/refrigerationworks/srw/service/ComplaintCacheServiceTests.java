@@ -0,0 +1,240 @@
+package com.srinivasa.refrigerationworks.srw.service;
+
+import com.srinivasa.refrigerationworks.srw.entity.Complaint;
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintPageDTO;
+import com.srinivasa.refrigerationworks.srw.repository.ComplaintRepository;
+import com.srinivasa.refrigerationworks.srw.utility.cache.RedisCircuitBreaker;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintListScope;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintState;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.IdSequence;
+import com.srinivasa.refrigerationworks.srw.utility.event.ComplaintChangedEvent;
+import com.srinivasa.refrigerationworks.srw.utility.mapper.ComplaintMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/*
+ * Tests that a complaint snapshot loaded on a cache miss never replaces the entry written by a change, or the
+ * tombstone left by a removal, committed while it was loading; and that a page read while a change is patching
+ * the scope indexes never drops a member that belongs to the scope.
+ * Cached values live in a map and scope indexes in in-memory sorted sets, behind mocked templates whose pipelines
+ * run the service's own callbacks.
+ */
+class ComplaintCacheServiceTests {
+
+    private static final String COMPLAINT_ID = IdSequence.COMPLAINT.format(1);
+
+    private final Map<String, Object> values = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String, Double>> sortedSets = new ConcurrentHashMap<>();
+
+    private final Set<String> readyKeys = ConcurrentHashMap.newKeySet();
+
+    /*
+     * Runs once right after the next ZADD to the given index key, standing in for a reader on another thread.
+     */
+    private final Map<String, Runnable> afterIndexAdd = new ConcurrentHashMap<>();
+
+    private final ComplaintRepository complaintRepository = mock(ComplaintRepository.class);
+
+    private final ComplaintMapper complaintMapper = mock(ComplaintMapper.class);
+
+    private final ComplaintCacheService service = complaintCacheService();
+
+    @Test
+    void changeDuringLoadIsNotOverwrittenByLoadedSnapshot() {
+        Complaint stale = complaint(COMPLAINT_ID);
+        when(complaintMapper.toDto(stale)).thenReturn(complaintDTO("stale", null));
+        AtomicBoolean changed = new AtomicBoolean();
+        when(complaintRepository.findByComplaintIdIn(anyCollection())).thenAnswer(invocation -> {
+            if (!changed.getAndSet(true)) {
+                service.onComplaintChanged(ComplaintChangedEvent.of(complaintDTO("stale", null), complaintDTO("updated", null)));
+            }
+            return List.of(stale);
+        });
+
+        assertThat(service.getComplaint(COMPLAINT_ID).getDescription()).isEqualTo("stale");
+        assertThat(service.getComplaint(COMPLAINT_ID).getDescription()).isEqualTo("updated");
+    }
+
+    @Test
+    void removalDuringLoadIsNotUndoneByLoadedSnapshot() {
+        Complaint stale = complaint(COMPLAINT_ID);
+        when(complaintMapper.toDto(stale)).thenReturn(complaintDTO("stale", null));
+        AtomicBoolean removed = new AtomicBoolean();
+        when(complaintRepository.findByComplaintIdIn(anyCollection())).thenAnswer(invocation -> {
+            if (removed.getAndSet(true)) {
+                return List.of();
+            }
+            service.onComplaintChanged(ComplaintChangedEvent.of(complaintDTO("stale", null), null));
+            return List.of(stale);
+        });
+
+        assertThat(service.getComplaint(COMPLAINT_ID).getDescription()).isEqualTo("stale");
+        assertThat(service.getComplaint(COMPLAINT_ID)).isNull();
+    }
+
+    @Test
+    void pageReadDuringIndexPatchKeepsValidMember() {
+        ComplaintDTO previous = complaintDTO("no cooling", "EMP1");
+        ComplaintDTO current = complaintDTO("no cooling", "EMP2");
+        values.put("complaint::entity-" + COMPLAINT_ID, previous);
+        sortedSets.put("complaints::index-assigned_to-EMP1", new ConcurrentHashMap<>(Map.of(COMPLAINT_ID, 1.0)));
+        readyKeys.add("complaints::ready-assigned_to-EMP1");
+        readyKeys.add("complaints::ready-assigned_to-EMP2");
+        AtomicReference<ComplaintPageDTO> pageDuringPatch = new AtomicReference<>();
+        afterIndexAdd.put("complaints::index-assigned_to-EMP2",
+                () -> pageDuringPatch.set(service.getPage(ComplaintListScope.ASSIGNED_TO, "EMP2", null, null, 10).orElseThrow()));
+
+        service.onComplaintChanged(ComplaintChangedEvent.of(previous, current));
+
+        assertThat(pageDuringPatch.get().getComplaints()).extracting(ComplaintDTO::getComplaintId).containsExactly(COMPLAINT_ID);
+        assertThat(sortedSets.get("complaints::index-assigned_to-EMP2")).containsOnlyKeys(COMPLAINT_ID);
+        assertThat(sortedSets.get("complaints::index-assigned_to-EMP1")).isEmpty();
+        assertThat(service.getPage(ComplaintListScope.ASSIGNED_TO, "EMP2", null, null, 10).orElseThrow().getComplaints())
+                .extracting(ComplaintDTO::getTechnicianId).containsExactly("EMP2");
+        assertThat(service.getPage(ComplaintListScope.ASSIGNED_TO, "EMP1", null, null, 10).orElseThrow().getComplaints()).isEmpty();
+    }
+
+    /*
+     * Service over the map-backed templates, with a one-hour entry time-to-live.
+     */
+    private ComplaintCacheService complaintCacheService() {
+        ComplaintCacheService complaintCacheService = new ComplaintCacheService(complaintRepository, complaintMapper, cacheRedisTemplate(),
+                stringRedisTemplate(), new RedisCircuitBreaker(5, Duration.ofSeconds(30)), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(complaintCacheService, "timeToLive", Duration.ofHours(1));
+        ReflectionTestUtils.setField(complaintCacheService, "tombstoneTimeToLive", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(complaintCacheService, "pendingEvictionLimit", 1000);
+        return complaintCacheService;
+    }
+
+    /*
+     * Value template reading and writing the map; pipelines run their callback against the template itself.
+     */
+    @SuppressWarnings("unchecked")
+    private RedisTemplate<String, Object> cacheRedisTemplate() {
+        RedisTemplate<String, Object> template = mock(RedisTemplate.class);
+        ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+        when(template.opsForValue()).thenReturn(valueOperations);
+        when(template.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            invocation.<SessionCallback<Object>>getArgument(0).execute(template);
+            return List.of();
+        });
+        when(valueOperations.multiGet(anyCollection())).thenAnswer(invocation -> ((Collection<String>) invocation.getArgument(0))
+                .stream().map(values::get).toList());
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenAnswer(invocation ->
+                values.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        doAnswer(invocation -> values.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), any(), any(Duration.class));
+        return template;
+    }
+
+    /*
+     * String template over the sorted sets and ready markers; pipelines run their callback against a connection
+     * answering the commands the service uses, and return the results in command order.
+     */
+    @SuppressWarnings("unchecked")
+    private StringRedisTemplate stringRedisTemplate() {
+        StringRedisTemplate template = mock(StringRedisTemplate.class);
+        when(template.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            List<Object> results = new ArrayList<>();
+            invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection(results));
+            return results;
+        });
+        ZSetOperations<String, String> zSetOperations = (ZSetOperations<String, String>) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{ZSetOperations.class}, (proxy, method, arguments) -> {
+                    if (!method.getName().equals("remove")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    Map<String, Double> members = sortedSets.computeIfAbsent((String) arguments[0], name -> new ConcurrentHashMap<>());
+                    long removed = 0;
+                    for (Object member : (Object[]) arguments[1]) {
+                        removed += members.remove(member) == null ? 0 : 1;
+                    }
+                    return removed;
+                });
+        when(template.opsForZSet()).thenReturn(zSetOperations);
+        return template;
+    }
+
+    /*
+     * Pipelined connection answering EXISTS, ZADD, ZREM and ZRANGEBYSCORE / ZREVRANGEBYSCORE with offset and count.
+     */
+    private StringRedisConnection connection(List<Object> results) {
+        return (StringRedisConnection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{StringRedisConnection.class},
+                (proxy, method, arguments) -> {
+                    String key = (String) arguments[0];
+                    switch (method.getName()) {
+                        case "exists" -> results.add(readyKeys.contains(key));
+                        case "zAdd" -> {
+                            results.add(sortedSets.computeIfAbsent(key, name -> new ConcurrentHashMap<>()).put((String) arguments[2], (Double) arguments[1]) == null);
+                            Runnable reader = afterIndexAdd.remove(key);
+                            if (reader != null) {
+                                reader.run();
+                            }
+                        }
+                        case "zRem" -> {
+                            Map<String, Double> members = sortedSets.computeIfAbsent(key, name -> new ConcurrentHashMap<>());
+                            results.add(List.of((String[]) arguments[1]).stream().filter(member -> members.remove(member) != null).count());
+                        }
+                        case "zRangeByScore", "zRevRangeByScore" -> {
+                            Comparator<Map.Entry<String, Double>> order = Map.Entry.comparingByValue();
+                            results.add(sortedSets.getOrDefault(key, Map.of()).entrySet().stream()
+                                    .filter(entry -> entry.getValue() >= (Double) arguments[1] && entry.getValue() <= (Double) arguments[2])
+                                    .sorted(method.getName().equals("zRangeByScore") ? order : order.reversed())
+                                    .skip((Long) arguments[3])
+                                    .limit((Long) arguments[4])
+                                    .map(Map.Entry::getKey)
+                                    .collect(LinkedHashSet::new, Set::add, Set::addAll));
+                        }
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    }
+                    return null;
+                });
+    }
+
+    /*
+     * Complaint entity as read from the database.
+     */
+    private static Complaint complaint(String complaintId) {
+        Complaint complaint = new Complaint();
+        complaint.setComplaintId(complaintId);
+        return complaint;
+    }
+
+    /*
+     * Active complaint snapshot with the given description and technician.
+     */
+    private static ComplaintDTO complaintDTO(String description, String technicianId) {
+        return ComplaintDTO.builder().complaintId(COMPLAINT_ID).description(description).technicianId(technicianId).state(ComplaintState.ACTIVE).build();
+    }
+}
\ No newline at end of file
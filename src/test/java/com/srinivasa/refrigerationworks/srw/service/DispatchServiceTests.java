@@ -0,0 +1,78 @@
+package com.srinivasa.refrigerationworks.srw.service;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.EmployeeInfoDTO;
+import com.srinivasa.refrigerationworks.srw.repository.ComplaintRepository;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintState;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintStatus;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.UserStatus;
+import com.srinivasa.refrigerationworks.srw.utility.event.ComplaintChangedEvent;
+import com.srinivasa.refrigerationworks.srw.utility.event.EmployeeStatusChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/*
+ * Tests that complaint and employee changes made while a rebuild reads the database survive the rebuild.
+ */
+class DispatchServiceTests {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 6, 1, 10, 0);
+
+    private final ComplaintRepository complaintRepository = mock(ComplaintRepository.class);
+    private final EmployeeService employeeService = mock(EmployeeService.class);
+    private final DispatchService dispatchService = new DispatchService(complaintRepository, employeeService);
+
+    @Test
+    void changesDuringRebuildAreReplayed() {
+        when(employeeService.getEmployeesInfo()).thenReturn(List.of(new EmployeeInfoDTO("EMP1", "Ravi", "+919000000001", "Technician", UserStatus.ACTIVE)));
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{"CMP1", CREATED, "EMP1"});
+        when(complaintRepository.findOpenComplaintAssignments(any(), any())).thenAnswer(invocation -> {
+            dispatchService.onComplaintChanged(ComplaintChangedEvent.of(null, complaint("CMP2", CREATED.plusHours(1), null)));
+            dispatchService.onEmployeeStatusChanged(new EmployeeStatusChangedEvent("EMP2", UserStatus.ACTIVE));
+            return rows;
+        });
+
+        dispatchService.rebuild();
+
+        assertThat(dispatchService.getWorkloads()).containsExactly(entry("EMP2", 0), entry("EMP1", 1));
+        assertThat(dispatchService.getUnassignedCount()).isEqualTo(1);
+        assertThat(dispatchService.assignUnassigned(10)).containsExactlyEntriesOf(Map.of("CMP2", "EMP2"));
+    }
+
+    @Test
+    void failedRebuildKeepsIndexAndStopsRecording() {
+        when(employeeService.getEmployeesInfo()).thenReturn(List.of(new EmployeeInfoDTO("EMP1", "Ravi", "+919000000001", "Technician", UserStatus.ACTIVE)));
+        when(complaintRepository.findOpenComplaintAssignments(any(), any())).thenReturn(List.of()).thenThrow(new IllegalStateException("database unavailable"));
+        dispatchService.rebuild();
+
+        assertThatThrownBy(dispatchService::rebuild).isInstanceOf(IllegalStateException.class);
+        dispatchService.onComplaintChanged(ComplaintChangedEvent.of(null, complaint("CMP1", CREATED, "EMP1")));
+
+        assertThat(dispatchService.getWorkloads()).containsExactlyEntriesOf(Map.of("EMP1", 1));
+    }
+
+    /*
+     * Active, open complaint.
+     */
+    private static ComplaintDTO complaint(String complaintId, LocalDateTime createdAt, String technicianId) {
+        ComplaintDTO complaint = new ComplaintDTO();
+        complaint.setComplaintId(complaintId);
+        complaint.setCreatedAt(createdAt);
+        complaint.setTechnicianId(technicianId);
+        complaint.setState(ComplaintState.ACTIVE);
+        complaint.setStatus(ComplaintStatus.OPEN);
+        return complaint;
+    }
+}
\ No newline at end of file
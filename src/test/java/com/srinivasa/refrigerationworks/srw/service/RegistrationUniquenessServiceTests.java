@@ -0,0 +1,75 @@
+package com.srinivasa.refrigerationworks.srw.service;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.CustomerCredentialDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.CustomerDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.UserCredentialDTO;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/*
+ * Tests that a MySQL duplicate-entry error from a registration insert is reported on the form field holding the
+ * duplicate value, matching phone numbers in their stored +91 form, and that any other violation is rethrown.
+ */
+class RegistrationUniquenessServiceTests {
+
+    private final RegistrationUniquenessService service = new RegistrationUniquenessService(mock(Validator.class), "insert-first");
+
+    private final CustomerCredentialDTO form = CustomerCredentialDTO.builder()
+            .customerDTO(CustomerDTO.builder().phoneNumber("9876543210").email("ravi.kumar@example.com").build())
+            .userCredentialDTO(UserCredentialDTO.builder().username("ravikumar").build())
+            .build();
+
+    private final BindingResult bindingResult = new BeanPropertyBindingResult(form, "customerCredentialDTO");
+
+    @Test
+    void duplicatePhoneNumberIsReportedOnPhoneField() {
+        service.rejectDuplicate(violation("Duplicate entry '+919876543210' for key 'user_credentials.phone_number'"), bindingResult, nestedForms());
+        assertThat(bindingResult.getFieldErrorCount()).isEqualTo(1);
+        assertThat(bindingResult.getFieldError("customerDTO.phoneNumber").getDefaultMessage()).isEqualTo("This phone number is already registered");
+    }
+
+    @Test
+    void duplicateUsernameIsReportedOnUsernameFieldInAnyCase() {
+        service.rejectDuplicate(violation("Duplicate entry 'RaviKumar' for key 'user_credentials.username'"), bindingResult, nestedForms());
+        assertThat(bindingResult.getFieldErrorCount()).isEqualTo(1);
+        assertThat(bindingResult.getFieldError("userCredentialDTO.username").getDefaultMessage()).isEqualTo("Username already taken.");
+    }
+
+    @Test
+    void duplicateOfUnsubmittedValueIsRethrown() {
+        DataIntegrityViolationException exception = violation("Duplicate entry '+910000000000' for key 'user_credentials.phone_number'");
+        assertThatThrownBy(() -> service.rejectDuplicate(exception, bindingResult, nestedForms())).isSameAs(exception);
+        assertThat(bindingResult.hasErrors()).isFalse();
+    }
+
+    @Test
+    void otherViolationIsRethrown() {
+        DataIntegrityViolationException exception = violation("Column 'first_name' cannot be null");
+        assertThatThrownBy(() -> service.rejectDuplicate(exception, bindingResult, nestedForms())).isSameAs(exception);
+        assertThat(bindingResult.hasErrors()).isFalse();
+    }
+
+    /*
+     * Nested DTOs of the form, keyed by their path, as the controller passes them.
+     */
+    private Map<String, Object> nestedForms() {
+        return Map.of("customerDTO", form.getCustomerDTO(), "userCredentialDTO", form.getUserCredentialDTO());
+    }
+
+    /*
+     * Violation wrapping a driver exception with the given message, as Spring translates it.
+     */
+    private static DataIntegrityViolationException violation(String message) {
+        return new DataIntegrityViolationException("could not execute statement", new SQLIntegrityConstraintViolationException(message));
+    }
+}
\ No newline at end of file
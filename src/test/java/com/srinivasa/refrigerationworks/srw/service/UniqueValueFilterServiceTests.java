@@ -0,0 +1,57 @@
+package com.srinivasa.refrigerationworks.srw.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/*
+ * Tests that values registered in one form are found in every form the database treats as equal:
+ * emails in any letter case, and phone numbers with or without the country code.
+ * Uses the in-memory filter over an empty database.
+ */
+class UniqueValueFilterServiceTests {
+
+    private final UniqueValueFilterService service = uniqueValueFilterService();
+
+    @Test
+    void emailsMatchInAnyCase() {
+        service.add(null, "Ravi.Kumar@Example.com", null);
+        assertThat(service.mightContain(UniqueValueFilterService.EMAIL, "ravi.kumar@example.com")).isTrue();
+        assertThat(service.mightContain(UniqueValueFilterService.EMAIL, "RAVI.KUMAR@EXAMPLE.COM")).isTrue();
+    }
+
+    @Test
+    void phoneNumbersMatchWithOrWithoutCountryCode() {
+        service.add("+919876543210", null, null);
+        assertThat(service.mightContain(UniqueValueFilterService.PHONE_NUMBER, "9876543210")).isTrue();
+    }
+
+    @Test
+    void unregisteredValueIsDefinitelyNew() {
+        service.add("+919876543210", "ravi.kumar@example.com", null);
+        assertThat(service.mightContain(UniqueValueFilterService.EMAIL, "someone.else@example.com")).isFalse();
+    }
+
+    /*
+     * In-memory filter populated from a database with no users.
+     */
+    private static UniqueValueFilterService uniqueValueFilterService() {
+        EntityManager entityManager = mock(EntityManager.class);
+        Query query = mock(Query.class);
+        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+        when(query.getResultStream()).thenReturn(Stream.empty());
+        UniqueValueFilterService service = new UniqueValueFilterService(entityManager, mock(StringRedisTemplate.class),
+                mock(PlatformTransactionManager.class), "local", 1000, 0.01);
+        service.populate();
+        return service;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.srinivasa.refrigerationworks.srw.utility;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ * Tests that rejected hashes surface as a failed login or a 503 instead of a server error, that the cost is clamped
+ * to the maximum and upgrades never go past it, and that calibration stays within its bounds.
+ */
+class BoundedPasswordEncoderTests {
+
+    @Test
+    void rejectedHashesAreTranslated() {
+        BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(4, 4, 1, 1);
+        String hash = passwordEncoder.encode("secret");
+        passwordEncoder.shutdown();
+
+        assertThatThrownBy(() -> passwordEncoder.matches("secret", hash)).isInstanceOf(AuthenticationServiceException.class);
+        assertThatThrownBy(() -> passwordEncoder.encode("secret")).isInstanceOfSatisfying(ResponseStatusException.class,
+                exception -> assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    @Test
+    void costIsClampedToMaximumAndUpgradesStopThere() {
+        BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(6, 5, 1, 1);
+        assertThat(passwordEncoder.getCost()).isEqualTo(5);
+        assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("secret"))).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("secret"))).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding("not-a-hash")).isFalse();
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    void calibrationStaysWithinBounds() {
+        assertThat(BoundedPasswordEncoder.calibrateCost(Duration.ofNanos(1), 4, 6)).isEqualTo(4);
+        assertThat(BoundedPasswordEncoder.calibrateCost(Duration.ofHours(1), 4, 6)).isEqualTo(6);
+    }
+}
\ No newline at end of file
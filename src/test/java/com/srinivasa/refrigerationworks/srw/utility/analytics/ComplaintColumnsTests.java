@@ -0,0 +1,62 @@
+package com.srinivasa.refrigerationworks.srw.utility.analytics;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintGroupDTO;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintDimension;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintState;
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ComplaintStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Tests that rows are found again by reference after the reference table grows, so upserts overwrite and removals
+ * hide the right row, and that removed complaints come back when upserted again.
+ */
+class ComplaintColumnsTests {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 6, 1, 10, 0);
+
+    @Test
+    void upsertsAndRemovalsFindRowsAfterGrowth() {
+        ComplaintColumns columns = new ComplaintColumns(1);
+        for (long reference = 1; reference <= 1000; reference++) {
+            columns.upsert(reference * 7919, ComplaintStatus.OPEN, ComplaintState.ACTIVE, CREATED, null, "Daikin", "AC", "FTKF", null);
+        }
+        for (long reference = 1; reference <= 100; reference++) {
+            columns.upsert(reference * 7919, ComplaintStatus.RESOLVED, ComplaintState.ACTIVE, CREATED, CREATED.plusHours(2), "Daikin", "AC", "FTKF", null);
+        }
+        for (long reference = 101; reference <= 150; reference++) {
+            columns.remove(reference * 7919);
+        }
+        columns.remove(-1);
+
+        assertThat(columns.size()).isEqualTo(950);
+        assertThat(countsByStatus(columns)).containsExactlyInAnyOrderEntriesOf(Map.of("OPEN", 850L, "RESOLVED", 100L));
+    }
+
+    @Test
+    void removedComplaintReturnsWhenUpsertedAgain() {
+        ComplaintColumns columns = new ComplaintColumns(16);
+        columns.upsert(42, ComplaintStatus.OPEN, ComplaintState.ACTIVE, CREATED, null, null, null, null, null);
+        columns.remove(42);
+        assertThat(columns.size()).isZero();
+
+        columns.upsert(42, ComplaintStatus.IN_PROGRESS, ComplaintState.ACTIVE, CREATED, null, null, null, null, null);
+        assertThat(columns.size()).isEqualTo(1);
+        assertThat(countsByStatus(columns)).containsExactlyEntriesOf(Map.of("IN_PROGRESS", 1L));
+    }
+
+    /*
+     * Complaint counts per status, leaving out empty groups.
+     */
+    private static Map<String, Long> countsByStatus(ComplaintColumns columns) {
+        return columns.groupBy(ComplaintDimension.STATUS, ComplaintColumns.Filter.builder().build(), ForkJoinPool.commonPool()).stream()
+                .filter(group -> group.getCount() > 0)
+                .collect(Collectors.toMap(ComplaintGroupDTO::getGroup, ComplaintGroupDTO::getCount));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.srinivasa.refrigerationworks.srw.utility.cache;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintPageDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.CustomerDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.EmployeeDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.EmployeeInfoDTO;
+import com.srinivasa.refrigerationworks.srw.payload.dto.OwnerDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Tests that every cached DTO, and the lists and pages they are cached in, read back equal to what was written,
+ * compressed or not. DTOs are filled by reflection with a distinct value in every field, so a field left out of
+ * its schema is caught here as well as by the schema check at class initialization.
+ */
+class BinaryCacheSerializerTests {
+
+    private final BinaryCacheSerializer serializer = new BinaryCacheSerializer(getClass().getClassLoader(), 1024);
+
+    private final BinaryCacheSerializer compressingSerializer = new BinaryCacheSerializer(getClass().getClassLoader(), 1);
+
+    @Test
+    void cachedDtosRoundTrip() {
+        for (Class<?> type : List.of(ComplaintDTO.class, ComplaintPageDTO.class, EmployeeDTO.class, EmployeeInfoDTO.class,
+                CustomerDTO.class, OwnerDTO.class)) {
+            Object dto = filled(type);
+            assertThat(roundTrip(serializer, dto)).as(type.getSimpleName()).isEqualTo(dto);
+            assertThat(roundTrip(compressingSerializer, dto)).as(type.getSimpleName()).isEqualTo(dto);
+        }
+    }
+
+    @Test
+    void cachedListsRoundTrip() {
+        for (Object list : List.of(List.of(filled(ComplaintDTO.class), filled(ComplaintDTO.class)), List.of(filled(EmployeeDTO.class)),
+                List.of(filled(EmployeeInfoDTO.class)), List.of(filled(CustomerDTO.class)), List.of(filled(OwnerDTO.class)), List.of())) {
+            assertThat(roundTrip(serializer, list)).isEqualTo(list);
+            assertThat(roundTrip(compressingSerializer, list)).isEqualTo(list);
+        }
+    }
+
+    @Test
+    void scalarsAndContainersRoundTrip() {
+        for (Object value : List.of("username", true, 42, -7L, 2.5, LocalDate.of(2024, 2, 29), Set.of("a"), Map.of("key", 1L), NullValue.INSTANCE)) {
+            assertThat(roundTrip(serializer, value)).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void jdkSerializedEntriesAreStillRead() {
+        CustomerDTO customer = filled(CustomerDTO.class);
+        byte[] bytes = RedisSerializer.java(getClass().getClassLoader()).serialize(customer);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(customer);
+    }
+
+    /*
+     * Writes and reads the value back.
+     */
+    private static Object roundTrip(BinaryCacheSerializer serializer, Object value) {
+        return serializer.deserialize(serializer.serialize(value));
+    }
+
+    /*
+     * Instance of the DTO with every instance field set to a non-default value derived from the field name.
+     */
+    private static <T> T filled(Class<T> type) {
+        try {
+            T dto = type.getDeclaredConstructor().newInstance();
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                field.set(dto, valueFor(field));
+            }
+            return dto;
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /*
+     * Non-default value for a DTO field of any type the cached DTOs use.
+     */
+    private static Object valueFor(Field field) {
+        Class<?> type = field.getType();
+        int seed = field.getName().length();
+        if (type == String.class) {
+            return field.getName() + "-value";
+        } else if (type == Long.class || type == long.class) {
+            return 1_000_000_000_000L + seed;
+        } else if (type == Integer.class || type == int.class) {
+            return seed;
+        } else if (type == LocalDate.class) {
+            return LocalDate.of(1990, 1, 1).plusDays(seed);
+        } else if (type == LocalDateTime.class) {
+            return LocalDateTime.of(2024, 5, 17, 10, 30, 15, 123_456_789).plusMinutes(seed);
+        } else if (type.isEnum()) {
+            Object[] constants = type.getEnumConstants();
+            return constants[constants.length - 1];
+        } else if (type == List.class) {
+            return List.of(filled(ComplaintDTO.class));
+        }
+        throw new IllegalStateException("No test value for " + field);
+    }
+}
\ No newline at end of file
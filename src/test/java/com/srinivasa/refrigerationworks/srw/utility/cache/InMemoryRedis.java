@@ -0,0 +1,115 @@
+package com.srinivasa.refrigerationworks.srw.utility.cache;
+
+import com.srinivasa.refrigerationworks.srw.configuration.CacheLoadingProperties;
+import com.srinivasa.refrigerationworks.srw.configuration.CacheResilienceProperties;
+import com.srinivasa.refrigerationworks.srw.configuration.NearCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/*
+ * In-memory stand-in for the Redis server shared by cache nodes in tests.
+ * - Cache entries live in map caches; eviction markers in a map stamped from a counter standing in for the server clock.
+ * - Invalidations published by one node are delivered to every node.
+ * - Tag sets are never populated, as if read before a concurrent load tagged its entry; expiry checks report one second left.
+ */
+public class InMemoryRedis {
+
+    /*
+     * Stand-in for the Redis server clock, advanced by every call reading or stamping it.
+     */
+    private final AtomicLong clock = new AtomicLong();
+
+    /*
+     * Eviction markers by key.
+     */
+    private final Map<String, String> markers = new ConcurrentHashMap<>();
+
+    /*
+     * Cache entries shared by every node.
+     */
+    private final CacheManager redisCacheManager = new ConcurrentMapCacheManager();
+
+    /*
+     * Nodes receiving published invalidations.
+     */
+    private final List<TwoLevelCacheManager> nodes = new CopyOnWriteArrayList<>();
+
+    /*
+     * Template answering from the in-memory state.
+     */
+    private final StringRedisTemplate stringRedisTemplate = stringRedisTemplate();
+
+    /*
+     * Creates a node with an L1 for every cache, the given entry time-to-live and share of it refreshed ahead.
+     */
+    public TwoLevelCacheManager newNode(Duration timeToLive, double refreshAheadFraction) {
+        NearCacheProperties nearCacheProperties = new NearCacheProperties();
+        nearCacheProperties.setEnabled(true);
+        CacheLoadingProperties loadingProperties = new CacheLoadingProperties();
+        loadingProperties.setRefreshAheadFraction(refreshAheadFraction);
+        TwoLevelCacheManager node = new TwoLevelCacheManager(redisCacheManager, nearCacheProperties, loadingProperties, new CacheResilienceProperties(),
+                timeToLive, stringRedisTemplate, new RedisCircuitBreaker(5, Duration.ofSeconds(30)), new SimpleMeterRegistry());
+        nodes.add(node);
+        return node;
+    }
+
+    /*
+     * Returns the template shared by every node.
+     */
+    public StringRedisTemplate getStringRedisTemplate() {
+        return stringRedisTemplate;
+    }
+
+    /*
+     * Builds the template: server time, eviction marker writes and reads, tag pipelines, expiry checks and invalidations.
+     */
+    @SuppressWarnings("unchecked")
+    private StringRedisTemplate stringRedisTemplate() {
+        StringRedisTemplate template = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(template.opsForValue()).thenReturn(valueOperations);
+        when(template.execute(any(RedisCallback.class))).thenAnswer(invocation -> clock.incrementAndGet());
+        when(template.execute(any(RedisScript.class), anyList(), any())).thenAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(1);
+            String now = String.valueOf(clock.incrementAndGet());
+            keys.forEach(key -> markers.put(key, now));
+            return 1L;
+        });
+        when(valueOperations.multiGet(anyCollection())).thenAnswer(invocation -> ((Collection<String>) invocation.getArgument(0))
+                .stream().map(markers::get).toList());
+        when(template.executePipelined(any(RedisCallback.class))).thenReturn(List.of());
+        when(template.getExpire(anyString(), eq(TimeUnit.MILLISECONDS))).thenReturn(1000L);
+        when(template.convertAndSend(anyString(), anyString())).thenAnswer(invocation -> {
+            Message message = new DefaultMessage(invocation.<String>getArgument(0).getBytes(StandardCharsets.UTF_8),
+                    invocation.<String>getArgument(1).getBytes(StandardCharsets.UTF_8));
+            nodes.forEach(node -> node.onMessage(message, null));
+            return 1L;
+        });
+        return template;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.srinivasa.refrigerationworks.srw.utility.cache;
+
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.CircuitBreakerState;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Tests that a successful probe returns without waiting on the recovery listeners, and that the circuit stays
+ * half-open, letting no other call through, until they have run.
+ */
+class RedisCircuitBreakerTests {
+
+    private final RedisCircuitBreaker circuitBreaker = new RedisCircuitBreaker(1, Duration.ZERO);
+
+    @Test
+    void recoveryRunsOffTheProbingThread() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        circuitBreaker.addRecoveryListener(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        circuitBreaker.recordFailure(new DataAccessResourceFailureException("down"));
+
+        assertThat(circuitBreaker.execute(() -> "probe")).isEqualTo("probe");
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerState.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (circuitBreaker.getState() != CircuitBreakerState.CLOSED && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerState.CLOSED);
+        circuitBreaker.shutdown();
+    }
+}
\ No newline at end of file
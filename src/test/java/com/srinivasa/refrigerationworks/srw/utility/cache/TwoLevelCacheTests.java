@@ -0,0 +1,153 @@
+package com.srinivasa.refrigerationworks.srw.utility.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/*
+ * Tests that loaded and refreshed values never outlive an eviction of their key, cache or tags made while they were
+ * loading, on this or another node, that tags are recorded after the value is stored, and that refresh-ahead only runs
+ * registered reloaders, and that L1 hands every caller its own copy of a value.
+ * Two nodes share one in-memory Redis; refresh-ahead covers the whole time-to-live, so every hit is due.
+ */
+class TwoLevelCacheTests {
+
+    private final InMemoryRedis redis = new InMemoryRedis();
+
+    private final TwoLevelCacheManager node = redis.newNode(Duration.ofMinutes(10), 1.0);
+
+    private final TwoLevelCacheManager otherNode = redis.newNode(Duration.ofMinutes(10), 1.0);
+
+    @Test
+    void loadIsKeptWithoutEviction() {
+        TwoLevelCache cache = (TwoLevelCache) node.getCache("customers");
+        assertThat(cache.get("customer_list", () -> "fresh")).isEqualTo("fresh");
+        assertThat(cache.get("customer_list").get()).isEqualTo("fresh");
+        assertThat(otherNode.getCache("customers").get("customer_list").get()).isEqualTo("fresh");
+    }
+
+    @Test
+    void evictionDuringLoadDropsLoadedValue() {
+        TwoLevelCache cache = (TwoLevelCache) node.getCache("customers");
+        assertThat(cache.get("customer_list", () -> {
+            cache.evict("customer_list");
+            return "stale";
+        })).isEqualTo("stale");
+        assertThat(cache.get("customer_list")).isNull();
+        assertThat(cache.getStatistics()).containsEntry("staleLoads", 1L);
+    }
+
+    @Test
+    void evictionOnAnotherNodeDuringLoadDropsLoadedValue() {
+        TwoLevelCache cache = (TwoLevelCache) node.getCache("customers");
+        cache.get("customer_list", () -> {
+            otherNode.getCache("customers").evict("customer_list");
+            return "stale";
+        });
+        assertThat(cache.get("customer_list")).isNull();
+        assertThat(otherNode.getCache("customers").get("customer_list")).isNull();
+    }
+
+    @Test
+    void clearDuringLoadDropsLoadedValue() {
+        TwoLevelCache cache = (TwoLevelCache) node.getCache("customers");
+        cache.get("customer_list", () -> {
+            otherNode.getCache("customers").clear();
+            return "stale";
+        });
+        assertThat(cache.get("customer_list")).isNull();
+    }
+
+    @Test
+    void tagsGivenByLoaderAreRecordedAfterPut() {
+        TwoLevelCache cache = (TwoLevelCache) node.getCache("customers");
+        assertThat(cache.tagOnPut("fetch-C1", List.of("customer_id-C1"))).isFalse();
+        cache.get("fetch-C1", () -> {
+            assertThat(cache.tagOnPut("fetch-C1", List.of("customer_id-C1"))).isTrue();
+            assertThat(cache.tagOnPut("fetch-C2", List.of("customer_id-C2"))).isFalse();
+            verify(redis.getStringRedisTemplate(), never()).executePipelined(any(RedisCallback.class));
+            return "customer";
+        });
+        verify(redis.getStringRedisTemplate()).executePipelined(any(RedisCallback.class));
+        assertThat(cache.get("fetch-C1").get()).isEqualTo("customer");
+    }
+
+    @Test
+    void tagEvictionDuringLoadDropsLoadedValue() {
+        TwoLevelCache cache = (TwoLevelCache) node.getCache("customers");
+        cache.get("fetch-C1", () -> {
+            cache.tagOnPut("fetch-C1", List.of("customer_id-C1"));
+            cache.markEvicted(List.of(CacheTagIndex.evictionMarkerKey(CacheTagIndex.tagKey("customers", "customer_id-C1"))));
+            return "stale";
+        });
+        assertThat(cache.get("fetch-C1")).isNull();
+    }
+
+    @Test
+    void localHitsReturnIndependentCopies() {
+        TwoLevelCache cache = (TwoLevelCache) node.getCache("customers");
+        cache.put("customer_list", new ArrayList<>(List.of("C1")));
+        List<String> first = getStringList(cache, "customer_list");
+        first.add("C2");
+        List<String> second = getStringList(cache, "customer_list");
+        assertThat(second).isNotSameAs(first).containsExactly("C1");
+    }
+
+    @Test
+    void hitsRefreshOnlyThroughRegisteredReloader() throws InterruptedException {
+        TwoLevelCache cache = (TwoLevelCache) node.getCache("customers");
+        AtomicInteger loaderCalls = new AtomicInteger();
+        cache.get("customer_list", () -> "loaded-" + loaderCalls.incrementAndGet());
+        cache.get("customer_list", () -> "loaded-" + loaderCalls.incrementAndGet());
+        assertThat(loaderCalls).hasValue(1);
+        assertThat(cache.getStatistics()).containsEntry("refreshes", 0L);
+
+        node.registerReloader("customers", key -> "reloaded");
+        cache.get("customer_list", () -> "loaded-" + loaderCalls.incrementAndGet());
+        awaitStatistic(cache, "loads", 2L);
+        assertThat(loaderCalls).hasValue(1);
+        assertThat(cache.get("customer_list").get()).isEqualTo("reloaded");
+    }
+
+    @Test
+    void evictionDuringRefreshDropsReloadedValue() throws InterruptedException {
+        TwoLevelCache cache = (TwoLevelCache) node.getCache("customers");
+        cache.get("customer_list", () -> "loaded");
+        node.registerReloader("customers", key -> {
+            otherNode.getCache("customers").evict(key);
+            return "stale";
+        });
+        cache.get("customer_list", () -> "loaded");
+        awaitStatistic(cache, "staleLoads", 1L);
+        assertThat(cache.get("customer_list")).isNull();
+    }
+
+    /*
+     * Reads a cached list of strings.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<String> getStringList(TwoLevelCache cache, String key) {
+        return (List<String>) cache.get(key, List.class);
+    }
+
+    /*
+     * Waits up to five seconds for a background reload to bring a statistic to the expected value.
+     */
+    private static void awaitStatistic(TwoLevelCache cache, String name, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!Long.valueOf(expected).equals(cache.getStatistics().get(name)) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(cache.getStatistics()).containsEntry(name, expected);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.srinivasa.refrigerationworks.srw.utility.common;
+
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.IdentifierType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Tests that each identifier shape is classified to the lookup that can use its index, that values one character or
+ * prefix away from a shape fall through to OTHER, and that only bare 10-digit phone numbers are normalized.
+ */
+class IdentifierClassifierTests {
+
+    @Test
+    void phoneNumbersWithOrWithoutCountryCode() {
+        assertThat(IdentifierClassifier.classify("9876543210")).isEqualTo(IdentifierType.PHONE_NUMBER);
+        assertThat(IdentifierClassifier.classify("+919876543210")).isEqualTo(IdentifierType.PHONE_NUMBER);
+    }
+
+    @Test
+    void nearPhoneNumbersAreOther() {
+        assertThat(IdentifierClassifier.classify("987654321")).isEqualTo(IdentifierType.OTHER);
+        assertThat(IdentifierClassifier.classify("98765432101")).isEqualTo(IdentifierType.OTHER);
+        assertThat(IdentifierClassifier.classify("+91987654321")).isEqualTo(IdentifierType.OTHER);
+        assertThat(IdentifierClassifier.classify("+929876543210")).isEqualTo(IdentifierType.OTHER);
+        assertThat(IdentifierClassifier.classify("919876543210")).isEqualTo(IdentifierType.OTHER);
+        assertThat(IdentifierClassifier.classify("98765 4321")).isEqualTo(IdentifierType.OTHER);
+        assertThat(IdentifierClassifier.classify("+91")).isEqualTo(IdentifierType.OTHER);
+    }
+
+    @Test
+    void emailsNeedTextBeforeTheAt() {
+        assertThat(IdentifierClassifier.classify("ravi.kumar@example.com")).isEqualTo(IdentifierType.EMAIL);
+        assertThat(IdentifierClassifier.classify("SRWC00000001@example.com")).isEqualTo(IdentifierType.EMAIL);
+        assertThat(IdentifierClassifier.classify("@example.com")).isEqualTo(IdentifierType.OTHER);
+    }
+
+    @Test
+    void businessIdsByPrefixAndLength() {
+        assertThat(IdentifierClassifier.classify("SRWC00000001")).isEqualTo(IdentifierType.COMPLAINT_ID);
+        assertThat(IdentifierClassifier.classify("SRW0000001")).isEqualTo(IdentifierType.CUSTOMER_ID);
+        assertThat(IdentifierClassifier.classify("SRW0001")).isEqualTo(IdentifierType.EMPLOYEE_ID);
+        assertThat(IdentifierClassifier.classify("SRW001")).isEqualTo(IdentifierType.OWNER_ID);
+    }
+
+    @Test
+    void nearBusinessIdsAreOther() {
+        assertThat(IdentifierClassifier.classify("SRWC0000001")).isEqualTo(IdentifierType.OTHER);
+        assertThat(IdentifierClassifier.classify("SRWC000000001")).isEqualTo(IdentifierType.OTHER);
+        assertThat(IdentifierClassifier.classify("SRWC0000000A")).isEqualTo(IdentifierType.OTHER);
+        assertThat(IdentifierClassifier.classify("SRW00001")).isEqualTo(IdentifierType.OTHER);
+        assertThat(IdentifierClassifier.classify("SRW00000001")).isEqualTo(IdentifierType.OTHER);
+        assertThat(IdentifierClassifier.classify("srw0001")).isEqualTo(IdentifierType.OTHER);
+        assertThat(IdentifierClassifier.classify("SRW")).isEqualTo(IdentifierType.OTHER);
+    }
+
+    @Test
+    void usernamesAndNationalIdsAreOther() {
+        assertThat(IdentifierClassifier.classify("ravi_k")).isEqualTo(IdentifierType.OTHER);
+        assertThat(IdentifierClassifier.classify("ravikum")).isEqualTo(IdentifierType.OTHER);
+        assertThat(IdentifierClassifier.classify("ravikumar1")).isEqualTo(IdentifierType.OTHER);
+        assertThat(IdentifierClassifier.classify("ravi.kumar.1")).isEqualTo(IdentifierType.OTHER);
+        assertThat(IdentifierClassifier.classify("SRWtechnician")).isEqualTo(IdentifierType.OTHER);
+        assertThat(IdentifierClassifier.classify("123456789012")).isEqualTo(IdentifierType.OTHER);
+    }
+
+    @Test
+    void onlyBarePhoneNumbersAreNormalized() {
+        assertThat(IdentifierClassifier.normalize("9876543210")).isEqualTo("+919876543210");
+        assertThat(IdentifierClassifier.normalize("+919876543210")).isEqualTo("+919876543210");
+        assertThat(IdentifierClassifier.normalize("SRW0000001")).isEqualTo("SRW0000001");
+        assertThat(IdentifierClassifier.normalize("123456789012")).isEqualTo("123456789012");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.srinivasa.refrigerationworks.srw.utility.event;
+
+import com.srinivasa.refrigerationworks.srw.payload.dto.ComplaintDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ * Tests that changes committed while a rebuild is loading reach the new index, and that a failed load keeps the old one.
+ */
+class RebuildableIndexTests {
+
+    @Test
+    void changeCommittedDuringLoadIsReplayed() {
+        AtomicReference<RebuildableIndex<Map<String, String>>> holder = new AtomicReference<>();
+        RebuildableIndex<Map<String, String>> index = new RebuildableIndex<>(previous -> {
+            Map<String, String> loaded = new ConcurrentHashMap<>(Map.of("CMP1", "old"));
+            if (previous != null) {
+                holder.get().apply(List.of(change("CMP1", "new")));
+            }
+            return loaded;
+        }, RebuildableIndexTests::apply);
+        holder.set(index);
+
+        assertThat(index.get()).containsEntry("CMP1", "old");
+        assertThat(index.rebuild()).containsEntry("CMP1", "new");
+        assertThat(index.get()).containsEntry("CMP1", "new");
+    }
+
+    @Test
+    void failedLoadKeepsCurrentIndex() {
+        AtomicReference<Map<String, String>> loaded = new AtomicReference<>(new ConcurrentHashMap<>());
+        RebuildableIndex<Map<String, String>> index = new RebuildableIndex<>(previous -> {
+            if (previous != null) {
+                throw new IllegalStateException("database unavailable");
+            }
+            return loaded.get();
+        }, RebuildableIndexTests::apply);
+
+        Map<String, String> first = index.get();
+        assertThatThrownBy(index::rebuild).isInstanceOf(IllegalStateException.class);
+        index.apply(List.of(change("CMP2", "later")));
+
+        assertThat(index.get()).isSameAs(first).containsEntry("CMP2", "later");
+    }
+
+    /*
+     * Change setting the complaint's description.
+     */
+    private static ComplaintChange change(String complaintId, String description) {
+        ComplaintDTO complaint = new ComplaintDTO();
+        complaint.setComplaintId(complaintId);
+        complaint.setDescription(description);
+        return new ComplaintChange(null, complaint);
+    }
+
+    /*
+     * Stores the current description of the changed complaint.
+     */
+    private static void apply(Map<String, String> index, ComplaintChange change) {
+        index.put(change.getCurrent().getComplaintId(), change.getCurrent().getDescription());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.srinivasa.refrigerationworks.srw.utility.export;
+
+import com.srinivasa.refrigerationworks.srw.utility.common.enums.ExportFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Tests that CSV text a spreadsheet would run as a formula is written as text in free-text columns, while numbers,
+ * plain text and non-text columns such as phone numbers are written unchanged and quoting still applies.
+ */
+class ExportWriterTests {
+
+    @Test
+    void formulaTextIsPrefixedWithApostrophe() throws IOException {
+        assertThat(csvRow("=HYPERLINK(\"http://x\")", true)).isEqualTo("\"'=HYPERLINK(\"\"http://x\"\")\"\r\n");
+        assertThat(csvRow("+SUM(A1)", true)).isEqualTo("'+SUM(A1)\r\n");
+        assertThat(csvRow("-2+3", true)).isEqualTo("'-2+3\r\n");
+        assertThat(csvRow("@SUM(A1)", true)).isEqualTo("'@SUM(A1)\r\n");
+        assertThat(csvRow("\tcmd", true)).isEqualTo("'\tcmd\r\n");
+        assertThat(csvRow("\rcmd", true)).isEqualTo("\"'\rcmd\"\r\n");
+    }
+
+    @Test
+    void nonTextColumnsAreUnchanged() throws IOException {
+        assertThat(csvRow("+91 98765", false)).isEqualTo("+91 98765\r\n");
+        assertThat(csvRow("-", false)).isEqualTo("-\r\n");
+    }
+
+    @Test
+    void numbersAndPlainTextAreUnchanged() throws IOException {
+        assertThat(csvRow(-1500, true)).isEqualTo("-1500\r\n");
+        assertThat(csvRow("Split AC, 1.5 ton", true)).isEqualTo("\"Split AC, 1.5 ton\"\r\n");
+        assertThat(csvRow("a-b", true)).isEqualTo("a-b\r\n");
+    }
+
+    /*
+     * Writes a single-column CSV row holding the value, in a free-text column or not, and returns the output.
+     */
+    private static String csvRow(Object value, boolean text) throws IOException {
+        Map<String, Function<Object, Object>> columns = new LinkedHashMap<>();
+        columns.put("value", Function.identity());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ExportWriter<Object> exportWriter = new ExportWriter<>(ExportFormat.CSV, columns, text ? Set.of("value") : Set.of(), outputStream);
+        exportWriter.write(value);
+        exportWriter.flush();
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.srinivasa.refrigerationworks.srw.utility.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Tests that statements differing only in literals, IN-list length or VALUES row count share a fingerprint, that
+ * Hibernate's aliases survive normalization, and that only SELECTs reading a whole table count as unbounded.
+ */
+class SqlFingerprintTests {
+
+    @Test
+    void stringAndNumericLiteralsBecomePlaceholders() {
+        assertThat(SqlFingerprint.of("select * from customers where email = 'ravi@example.com' and status = 'O''Brien'"))
+                .isEqualTo("select * from customers where email = ? and status = ?");
+        assertThat(SqlFingerprint.of("select * from employees where salary > -1500.50 and salary < 90000"))
+                .isEqualTo("select * from employees where salary > ? and salary < ?");
+    }
+
+    @Test
+    void caseAndWhitespaceAreNormalized() {
+        assertThat(SqlFingerprint.of("SELECT *\n  FROM   complaints\tWHERE complaint_id = 'SRWC00000001' "))
+                .isEqualTo("select * from complaints where complaint_id = ?");
+    }
+
+    @Test
+    void hibernateAliasesAreKept() {
+        assertThat(SqlFingerprint.of("select c1_0.customer_id,c1_0.email from customers c1_0 where c1_0.customer_reference>12 limit 25"))
+                .isEqualTo("select c1_0.customer_id,c1_0.email from customers c1_0 where c1_0.customer_reference>? limit ?");
+        assertThat(SqlFingerprint.of("select t2_0.complaint_id from complaint t2_0 join employees e10_1 on e10_1.employee_id=t2_0.technician_id"))
+                .isEqualTo("select t2_0.complaint_id from complaint t2_0 join employees e10_1 on e10_1.employee_id=t2_0.technician_id");
+    }
+
+    @Test
+    void inListsCollapseRegardlessOfLength() {
+        String single = SqlFingerprint.of("select * from customers where customer_id in ('SRW0000001')");
+        assertThat(single).isEqualTo("select * from customers where customer_id in (?...)");
+        assertThat(SqlFingerprint.of("select * from customers where customer_id in ('SRW0000001', 'SRW0000002','SRW0000003')")).isEqualTo(single);
+        assertThat(SqlFingerprint.of("select * from customers where customer_reference in ( 1 , 2 )"))
+                .isEqualTo("select * from customers where customer_reference in (?...)");
+    }
+
+    @Test
+    void multiRowValuesCollapseRegardlessOfRowCount() {
+        String twoRows = SqlFingerprint.of("insert into complaint_audit (complaint_id,status) values ('SRWC00000001','PENDING'),('SRWC00000002','RESOLVED')");
+        assertThat(twoRows).isEqualTo("insert into complaint_audit (complaint_id,status) values (?...)...");
+        assertThat(SqlFingerprint.of("insert into complaint_audit (complaint_id,status) values ('SRWC00000001','PENDING'), ('SRWC00000002','RESOLVED'), "
+                + "('SRWC00000003','IN_PROGRESS')")).isEqualTo(twoRows);
+        assertThat(SqlFingerprint.of("insert into complaint_audit (complaint_id,status) values ('SRWC00000001','PENDING')"))
+                .isEqualTo("insert into complaint_audit (complaint_id,status) values (?...)");
+    }
+
+    @Test
+    void selectWithoutWhereOrLimitIsUnbounded() {
+        assertThat(SqlFingerprint.isUnboundedSelect(SqlFingerprint.of("select c1_0.customer_id from customers c1_0"))).isTrue();
+        assertThat(SqlFingerprint.isUnboundedSelect(SqlFingerprint.of("select c1_0.complaint_id from complaint c1_0 order by c1_0.created_at desc")))
+                .isTrue();
+    }
+
+    @Test
+    void selectWithWhereOrLimitIsBounded() {
+        assertThat(SqlFingerprint.isUnboundedSelect(SqlFingerprint.of("select * from customers where customer_id = 'SRW0000001'"))).isFalse();
+        assertThat(SqlFingerprint.isUnboundedSelect(SqlFingerprint.of("select * from customers order by customer_reference limit 25"))).isFalse();
+        assertThat(SqlFingerprint.isUnboundedSelect(SqlFingerprint.of("select * from customers limit 25 offset 50"))).isFalse();
+        assertThat(SqlFingerprint.isUnboundedSelect(SqlFingerprint.of("select * from customers fetch first 25 rows only"))).isFalse();
+    }
+
+    @Test
+    void otherStatementsAreNotUnboundedSelects() {
+        assertThat(SqlFingerprint.isUnboundedSelect(SqlFingerprint.of("select 1"))).isFalse();
+        assertThat(SqlFingerprint.isUnboundedSelect(SqlFingerprint.of("delete from customer_sessions"))).isFalse();
+        assertThat(SqlFingerprint.isUnboundedSelect(SqlFingerprint.of("insert into complaint_audit (complaint_id) select complaint_id from complaint")))
+                .isFalse();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.srinivasa.refrigerationworks.srw.utility.ratelimit;
+
+import com.srinivasa.refrigerationworks.srw.configuration.RateLimitProperties;
+import com.srinivasa.refrigerationworks.srw.utility.cache.RedisCircuitBreaker;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Tests which keys a request is limited by: its remote address and configured form parameters, never client-written headers.
+ */
+class RateLimitFilterTests {
+
+    private final RateLimitFilter filter = new RateLimitFilter(properties(), null, new RedisCircuitBreaker(5, Duration.ofSeconds(30)));
+
+    @Test
+    void forwardedHeaderDoesNotGiveFreshBuckets() throws Exception {
+        assertThat(post("203.0.113.7", "198.51.100.1", null)).isEqualTo(200);
+        assertThat(post("203.0.113.7", "198.51.100.2", null)).isEqualTo(200);
+        assertThat(post("203.0.113.7", "198.51.100.3", null)).isEqualTo(429);
+    }
+
+    @Test
+    void remoteAddressesHaveSeparateBuckets() throws Exception {
+        assertThat(post("203.0.113.7", null, null)).isEqualTo(200);
+        assertThat(post("203.0.113.7", null, null)).isEqualTo(200);
+        assertThat(post("203.0.113.8", null, null)).isEqualTo(200);
+    }
+
+    @Test
+    void usernameIsLimitedAcrossAddressesIgnoringCase() throws Exception {
+        assertThat(post("203.0.113.7", null, "RaviKumar")).isEqualTo(200);
+        assertThat(post("203.0.113.8", null, " ravikumar")).isEqualTo(200);
+        assertThat(post("203.0.113.9", null, "RAVIKUMAR")).isEqualTo(429);
+    }
+
+    /*
+     * Posts a login from the given remote address, with an optional X-Forwarded-For header and username; returns the status.
+     */
+    private int post(String remoteAddress, String forwardedFor, String username) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/authenticateUser");
+        request.setRemoteAddr(remoteAddress);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        if (username != null) {
+            request.setParameter("username", username);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+
+    /*
+     * Local limits of two logins per key per hour.
+     */
+    private static RateLimitProperties properties() {
+        RateLimitProperties.Group login = new RateLimitProperties.Group();
+        login.setPaths(List.of("/authenticateUser"));
+        login.setCapacity(2);
+        login.setRefillPeriod(Duration.ofHours(1));
+        login.setKeyParameters(List.of("username"));
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setGroups(Map.of("login", login));
+        return properties;
+    }
+}
\ No newline at end of file
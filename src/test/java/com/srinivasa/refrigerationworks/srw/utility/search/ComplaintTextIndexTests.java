@@ -0,0 +1,58 @@
+package com.srinivasa.refrigerationworks.srw.utility.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Tests that queries rank whole-word and partial matches, skip replaced and removed complaints, and honour the time range.
+ */
+class ComplaintTextIndexTests {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 10, 0);
+
+    @Test
+    void ranksBestMatchFirstAndNewestOnTies() {
+        ComplaintTextIndex index = new ComplaintTextIndex(4);
+        index.upsert("CMP1", NOW.minusDays(2), "Daikin split AC not cooling");
+        index.upsert("CMP2", NOW.minusDays(1), "Daikin split AC not cooling");
+        index.upsert("CMP3", NOW, "Whirlpool fridge noisy");
+
+        assertThat(complaintIds(index.search("daikin", null, null, 10, 0.3))).containsExactly("CMP2", "CMP1");
+        assertThat(complaintIds(index.search("daik", null, null, 10, 0.3))).containsExactly("CMP2", "CMP1");
+        assertThat(complaintIds(index.search("daikin", null, null, 1, 0.3))).containsExactly("CMP2");
+    }
+
+    @Test
+    void skipsReplacedAndRemovedComplaints() {
+        ComplaintTextIndex index = new ComplaintTextIndex(4);
+        index.upsert("CMP1", NOW, "Daikin split AC");
+        index.upsert("CMP2", NOW, "Daikin window AC");
+        index.upsert("CMP1", NOW, "Voltas split AC");
+        index.remove("CMP2");
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("daikin", null, null, 10, 0.3)).isEmpty();
+        assertThat(complaintIds(index.search("voltas", null, null, 10, 0.3))).containsExactly("CMP1");
+    }
+
+    @Test
+    void filtersByCreationTime() {
+        ComplaintTextIndex index = new ComplaintTextIndex(4);
+        index.upsert("CMP1", NOW.minusDays(10), "Godrej fridge");
+        index.upsert("CMP2", NOW, "Godrej fridge");
+
+        assertThat(complaintIds(index.search("godrej", NOW.minusDays(1), null, 10, 0.3))).containsExactly("CMP2");
+        assertThat(complaintIds(index.search("godrej", null, NOW, 10, 0.3))).containsExactly("CMP1");
+    }
+
+    /*
+     * ComplaintIds of the hits, in rank order.
+     */
+    private static List<String> complaintIds(List<ComplaintTextIndex.Hit> hits) {
+        return hits.stream().map(ComplaintTextIndex.Hit::getComplaintId).toList();
+    }
+}
\ No newline at end of file